@@ -0,0 +1,56 @@
+package org.asf.centuria.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.asf.centuria.networking.chatserver.networking.SendMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 
+ * Chat filter applied to each recipient of a chat message, uses the filter
+ * lists bundled with the server
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatFilterBenchmark {
+
+	private String cleanMessage = "hey does anyone want to trade their wings for my new hat, meet me at the lodge";
+	private String filteredMessage;
+
+	@Setup
+	public void setup() {
+		String[] words = SendMessage.getInvalidWords();
+		filteredMessage = "hey " + (words.length == 0 ? "word" : words[0]) + " what are you doing "
+				+ (words.length == 0 ? "word" : words[words.length / 2]) + " over there";
+	}
+
+	@Benchmark
+	public String filterClean() {
+		return SendMessage.filterMessage(cleanMessage, true);
+	}
+
+	@Benchmark
+	public String filterCleanAlwaysOnly() {
+		return SendMessage.filterMessage(cleanMessage, false);
+	}
+
+	@Benchmark
+	public String filterFlagged() {
+		return SendMessage.filterMessage(filteredMessage, true);
+	}
+
+}
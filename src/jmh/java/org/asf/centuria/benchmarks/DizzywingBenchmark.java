@@ -0,0 +1,52 @@
+package org.asf.centuria.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.asf.centuria.Centuria;
+import org.asf.centuria.tools.DizzywingReplay;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 
+ * Dizzywing Dispatch moves, plays the seeded games of the replay harness,
+ * results are reported per move, run with -prof gc for the allocation rate and
+ * use DizzywingReplay verify to check the checksums
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DizzywingBenchmark {
+
+	private static final int MOVES = 500;
+
+	private int seed;
+
+	@Setup
+	public void setup() {
+		// The engine logs level-ups
+		if (Centuria.logger == null)
+			Centuria.logger = LogManager.getLogger("CENTURIA");
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MOVES)
+	public long playGame() {
+		return DizzywingReplay.replay(seed++ % 200, MOVES, null);
+	}
+
+}
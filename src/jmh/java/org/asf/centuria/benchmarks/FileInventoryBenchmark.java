@@ -0,0 +1,83 @@
+package org.asf.centuria.benchmarks;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.asf.centuria.accounts.impl.FileBasedPlayerInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * 
+ * File-based inventory reads and writes, inventories are created in the
+ * working directory and removed afterwards
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileInventoryBenchmark {
+
+	@Param({ "100", "1000" })
+	public int size;
+
+	private String userID = "benchmark-" + UUID.randomUUID();
+	private FileBasedPlayerInventory inventory;
+	private JsonArray items = new JsonArray();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		for (int i = 0; i < size; i++) {
+			JsonObject itm = new JsonObject();
+			itm.addProperty("defId", 1000 + i);
+			itm.add("components", new JsonObject());
+			itm.addProperty("id", UUID.randomUUID().toString());
+			itm.addProperty("type", 100);
+			items.add(itm);
+		}
+		inventory = new FileBasedPlayerInventory(userID, "1");
+		inventory.setItem("100", items);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		inventory.delete();
+		new File("inventories/" + userID).delete();
+	}
+
+	@Benchmark
+	public void writeItem() {
+		inventory.setItem("100", items);
+	}
+
+	@Benchmark
+	public JsonElement readItem() {
+		// New instance so the item is read from disk instead of the cache
+		return new FileBasedPlayerInventory(userID, "1").getItem("100");
+	}
+
+	@Benchmark
+	public JsonElement readCachedItem() {
+		return inventory.getItem("100");
+	}
+
+}
@@ -0,0 +1,122 @@
+package org.asf.centuria.benchmarks;
+
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.asf.centuria.accounts.PlayerInventory;
+import org.asf.centuria.accounts.SaveSettings;
+import org.asf.centuria.accounts.highlevel.InventoryAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * 
+ * Inventory object lookups on large inventories, the target object is in the
+ * middle of the inventory
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryAccessorBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	public int size;
+
+	private InventoryAccessor accessor;
+	private String targetId;
+	private int targetDefId;
+
+	// In-memory inventory so lookups are not affected by disk access
+	private static class MemoryInventory extends PlayerInventory {
+		private HashMap<String, JsonElement> items = new HashMap<String, JsonElement>();
+		private SaveSettings settings = new SaveSettings();
+
+		@Override
+		public JsonElement getItem(String itemID) {
+			return items.get(itemID);
+		}
+
+		@Override
+		public void setItem(String itemID, JsonElement itemData) {
+			items.put(itemID, itemData);
+		}
+
+		@Override
+		public void deleteItem(String itemID) {
+			items.remove(itemID);
+		}
+
+		@Override
+		public boolean containsItem(String itemID) {
+			return items.containsKey(itemID);
+		}
+
+		@Override
+		public SaveSettings getSaveSettings() {
+			return settings;
+		}
+
+		@Override
+		public void writeSaveSettings() {
+		}
+	}
+
+	@Setup
+	public void setup() {
+		MemoryInventory inv = new MemoryInventory();
+		JsonArray items = new JsonArray();
+		for (int i = 0; i < size; i++) {
+			JsonObject itm = new JsonObject();
+			itm.addProperty("defId", 1000 + i);
+			itm.add("components", new JsonObject());
+			itm.addProperty("id", UUID.randomUUID().toString());
+			itm.addProperty("type", 100);
+			items.add(itm);
+			if (i == size / 2) {
+				targetId = itm.get("id").getAsString();
+				targetDefId = 1000 + i;
+			}
+		}
+		inv.setItem("100", items);
+		accessor = inv.getAccessor();
+	}
+
+	@Benchmark
+	public JsonObject findById() {
+		return accessor.findInventoryObject("100", targetId);
+	}
+
+	@Benchmark
+	public JsonObject findByDefId() {
+		return accessor.findInventoryObject("100", targetDefId);
+	}
+
+	@Benchmark
+	public boolean hasByDefId() {
+		return accessor.hasInventoryObject("100", targetDefId);
+	}
+
+	@Benchmark
+	public HashMap<Integer, Integer> countDefIds() {
+		return accessor.getDefIDCounts("100");
+	}
+
+}
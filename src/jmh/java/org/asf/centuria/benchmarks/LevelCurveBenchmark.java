@@ -0,0 +1,75 @@
+package org.asf.centuria.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.asf.centuria.accounts.impl.leveltypes.LevelCurve;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+
+/**
+ * 
+ * Level-up xp lookup on each level-up, compares evaluating the curve
+ * expression every time to the compiled curve table
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LevelCurveBenchmark {
+
+	private static final String CURVE = "(450 + ((level - 1) * 107) + ((totalxp / 100) - ((level - 1) * 32.83662)))";
+	private static final int MAX_LEVEL = 101;
+
+	private LevelCurve curve;
+	private int level;
+	private int totalXp;
+
+	@Setup
+	public void setup() {
+		curve = new LevelCurve(CURVE, MAX_LEVEL);
+	}
+
+	// Advances to the next level, starting over after the max level
+	private void nextLevel(int levelUpXp) {
+		totalXp += levelUpXp;
+		if (++level > MAX_LEVEL) {
+			level = 1;
+			totalXp = 0;
+		}
+	}
+
+	@Benchmark
+	public int evaluateEachLevelUp() {
+		ExpressionBuilder builder = new ExpressionBuilder(CURVE);
+		builder.variables("level", "lastlevel", "totalxp");
+		Expression exp = builder.build();
+		exp.setVariable("level", level);
+		exp.setVariable("lastlevel", level - 1);
+		exp.setVariable("totalxp", totalXp);
+		int levelUpXp = Math.min((int) exp.evaluate(), LevelCurve.MAX_LEVELUP_XP);
+		nextLevel(levelUpXp);
+		return levelUpXp;
+	}
+
+	@Benchmark
+	public int compiledCurve() {
+		int levelUpXp = curve.getLevelupXP(level);
+		nextLevel(levelUpXp);
+		return levelUpXp;
+	}
+
+}
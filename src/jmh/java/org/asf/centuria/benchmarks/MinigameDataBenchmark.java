@@ -0,0 +1,87 @@
+package org.asf.centuria.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.asf.centuria.enums.minigames.CodeColor;
+import org.asf.centuria.minigames.games.GameDoOrDye;
+import org.asf.centuria.minigames.games.entities.doordye.DoDLevelInfo;
+import org.asf.centuria.util.CombinationSum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * 
+ * Do Or Dye level starts by many players at once, compares reading the level
+ * json on every start to the cached level list
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+public class MinigameDataBenchmark {
+
+	private int levels;
+
+	@Setup
+	public void setup() {
+		levels = GameDoOrDye.getLevels().size();
+	}
+
+	@Benchmark
+	public List<CodeColor> startReadingJson() throws IOException {
+		ThreadLocalRandom rnd = ThreadLocalRandom.current();
+		InputStream strm = getClass().getClassLoader().getResourceAsStream("minigames/doordye.json");
+		JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject()
+				.get("Levels").getAsJsonArray().get(rnd.nextInt(levels)).getAsJsonObject();
+		strm.close();
+
+		int codeLength = helper.get("length").getAsInt();
+		int colors = helper.get("colors").getAsInt();
+		int[] arr = { 1, 2, 4, 8, 16, 32, 64, 128, 256 };
+		ArrayList<CodeColor> availableDyes = new ArrayList<CodeColor>();
+		for (int color : CombinationSum.Sum(arr, colors).get(0))
+			availableDyes.add(CodeColor.valueOf(color));
+		return generateSolution(availableDyes, codeLength, helper.get("allowRepeat").getAsBoolean(), rnd);
+	}
+
+	@Benchmark
+	public List<CodeColor> startCached() {
+		ThreadLocalRandom rnd = ThreadLocalRandom.current();
+		DoDLevelInfo info = GameDoOrDye.getLevels().get(rnd.nextInt(levels));
+		return generateSolution(new ArrayList<CodeColor>(info.availableDyes), info.codeLength,
+				info.allowRepeatColors, rnd);
+	}
+
+	private static List<CodeColor> generateSolution(List<CodeColor> availableDyes, int codeLength,
+			boolean allowRepeatColors, ThreadLocalRandom rnd) {
+		ArrayList<CodeColor> solution = new ArrayList<CodeColor>();
+		while (solution.size() < codeLength) {
+			CodeColor color = availableDyes.get(rnd.nextInt(availableDyes.size()));
+			if (allowRepeatColors || !solution.contains(color))
+				solution.add(color);
+		}
+		return solution;
+	}
+
+}
@@ -0,0 +1,101 @@
+package org.asf.centuria.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.asf.centuria.networking.gameserver.GameServer;
+import org.asf.centuria.networking.smartfox.BaseSmartfoxServer;
+import org.asf.centuria.networking.smartfox.SmartfoxClient;
+import org.asf.centuria.packets.smartfox.ISmartfoxPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 
+ * Packet dispatch of the game server, measures finding the handler of a
+ * keep-alive packet and of a packet no handler accepts
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PacketDispatchBenchmark {
+
+	private GameServer server;
+	private SmartfoxClient client;
+
+	@Setup
+	public void setup() {
+		server = new GameServer(null);
+		client = new SmartfoxClient() {
+
+			@Override
+			public String getAddress() {
+				return "127.0.0.1";
+			}
+
+			@Override
+			protected void stop() {
+			}
+
+			@Override
+			public boolean isConnected() {
+				return true;
+			}
+
+			@Override
+			public void disconnect() {
+			}
+
+			@Override
+			public void sendPacket(ISmartfoxPacket packet) {
+			}
+
+			@Override
+			public void sendPacket(String packet) {
+			}
+
+			@Override
+			public <T extends ISmartfoxPacket> T readPacket(Class<T> packetType) throws IOException {
+				return null;
+			}
+
+			@Override
+			public String readRawPacket() throws IOException {
+				return null;
+			}
+
+			@Override
+			public BaseSmartfoxServer getServer() {
+				return server;
+			}
+
+			@Override
+			protected void closeClient() {
+			}
+
+		};
+	}
+
+	@Benchmark
+	public boolean dispatchKeepAlive() throws IOException {
+		return server.handlePacket("%xt%o%ka%-1%", client);
+	}
+
+	@Benchmark
+	public boolean dispatchUnknown() throws IOException {
+		return server.handlePacket("%xt%o%unknown%-1%1%2%3%", client);
+	}
+
+}
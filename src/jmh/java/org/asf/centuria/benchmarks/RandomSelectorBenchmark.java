@@ -0,0 +1,65 @@
+package org.asf.centuria.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.asf.centuria.util.RandomSelectorUtil;
+import org.asf.centuria.util.WeightedSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 
+ * Random and weighted selection as used by loot tables and resource spawns
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomSelectorBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int size;
+
+	private HashMap<String, Integer> weights = new HashMap<String, Integer>();
+	private ArrayList<String> items = new ArrayList<String>();
+	private WeightedSelector<String> selector;
+
+	@Setup
+	public void setup() {
+		for (int i = 0; i < size; i++) {
+			weights.put("item" + i, 1 + (i % 50));
+			items.add("item" + i);
+		}
+		selector = new WeightedSelector<String>(weights);
+	}
+
+	@Benchmark
+	public String selectWeighted() {
+		return RandomSelectorUtil.selectWeighted(weights);
+	}
+
+	@Benchmark
+	public String selectPrecompiled() {
+		return selector.select();
+	}
+
+	@Benchmark
+	public String selectRandom() {
+		return RandomSelectorUtil.selectRandom(items);
+	}
+
+}
@@ -0,0 +1,95 @@
+package org.asf.centuria.benchmarks;
+
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Field;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.asf.centuria.Centuria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * 
+ * JWT signing and verification as done by the API request handlers, keys are
+ * generated in memory instead of being loaded from the server directory
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+	private String token;
+	private byte[] signedData;
+
+	@Setup
+	public void setup() throws Exception {
+		// Install keys
+		KeyPair pair = KeyPairGenerator.getInstance("RSA").generateKeyPair();
+		Field privateKey = Centuria.class.getDeclaredField("privateKey");
+		privateKey.setAccessible(true);
+		privateKey.set(null, pair.getPrivate());
+		Field publicKey = Centuria.class.getDeclaredField("publicKey");
+		publicKey.setAccessible(true);
+		publicKey.set(null, pair.getPublic());
+
+		// Build token
+		JsonObject headers = new JsonObject();
+		headers.addProperty("alg", "RS256");
+		headers.addProperty("typ", "JWT");
+		JsonObject payload = new JsonObject();
+		payload.addProperty("iat", System.currentTimeMillis() / 1000);
+		payload.addProperty("exp", (System.currentTimeMillis() / 1000) + (2 * 24 * 60 * 60));
+		payload.addProperty("jti", UUID.randomUUID().toString());
+		payload.addProperty("iss", "Centuria");
+		payload.addProperty("sub", "Centuria");
+		payload.addProperty("uuid", UUID.randomUUID().toString());
+		payload.addProperty("acs", "gameplay");
+		String headerD = Base64.getUrlEncoder().withoutPadding().encodeToString(headers.toString().getBytes("UTF-8"));
+		String payloadD = Base64.getUrlEncoder().withoutPadding().encodeToString(payload.toString().getBytes("UTF-8"));
+		signedData = (headerD + "." + payloadD).getBytes("UTF-8");
+		token = headerD + "." + payloadD + "."
+				+ Base64.getUrlEncoder().withoutPadding().encodeToString(Centuria.sign(signedData));
+	}
+
+	@Benchmark
+	public byte[] sign() {
+		return Centuria.sign(signedData);
+	}
+
+	@Benchmark
+	public String verify() throws UnsupportedEncodingException {
+		// Verify signature
+		String verifyD = token.split("\\.")[0] + "." + token.split("\\.")[1];
+		String sig = token.split("\\.")[2];
+		if (!Centuria.verify(verifyD.getBytes("UTF-8"), Base64.getUrlDecoder().decode(sig)))
+			throw new IllegalStateException("Invalid signature");
+
+		// Verify expiry
+		JsonObject jwtPl = JsonParser
+				.parseString(new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), "UTF-8"))
+				.getAsJsonObject();
+		if (!jwtPl.has("exp") || jwtPl.get("exp").getAsLong() < System.currentTimeMillis() / 1000)
+			throw new IllegalStateException("Expired");
+		return jwtPl.get("uuid").getAsString();
+	}
+
+}
@@ -0,0 +1,67 @@
+package org.asf.centuria.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.asf.centuria.data.XtReader;
+import org.asf.centuria.data.XtWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 
+ * XT packet encoding and decoding, uses a movement update as it is the most
+ * common packet
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XtPacketBenchmark {
+
+	private String movementPacket = "%xt%o%ou%-1%2%12.52734%8.125%-102.0625%0%0%1%0%0.7071068%0%0.7071068%4.0%";
+
+	@Benchmark
+	public void readMovement(Blackhole bh) {
+		XtReader rd = new XtReader(movementPacket);
+		bh.consume(rd.read());
+		bh.consume(rd.read());
+		bh.consume(rd.readInt());
+		for (int i = 0; i < 10; i++)
+			bh.consume(rd.readDouble());
+		bh.consume(rd.readFloat());
+	}
+
+	@Benchmark
+	public String writeMovement() {
+		XtWriter wr = new XtWriter();
+		wr.writeString("ou");
+		wr.writeInt(-1);
+		wr.writeString("6b1f2c5e-0a3d-4c7b-9e1f-3a5b7c9d1e2f");
+		wr.writeInt(2);
+		wr.writeDouble(12.52734);
+		wr.writeDouble(8.125);
+		wr.writeDouble(-102.0625);
+		wr.writeDouble(0);
+		wr.writeDouble(0);
+		wr.writeDouble(1);
+		wr.writeDouble(0);
+		wr.writeDouble(0.7071068);
+		wr.writeDouble(0);
+		wr.writeDouble(0.7071068);
+		wr.writeFloat(4.0f);
+		wr.writeString("");
+		return wr.encode();
+	}
+
+}
@@ -40,9 +40,25 @@ import javax.net.ssl.SSLContext;
 import org.asf.connective.ConnectiveHttpServer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.asf.centuria.accounts.highlevel.ItemAccessor;
+import org.asf.centuria.accounts.highlevel.impl.ClothingItemAccessorImpl;
+import org.asf.centuria.accounts.highlevel.impl.FurnitureItemAccessorImpl;
+import org.asf.centuria.accounts.highlevel.itemdata.item.CreativeItemBundle;
+import org.asf.centuria.accounts.impl.LevelManager;
+import org.asf.centuria.cluster.ClusterManager;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.entities.components.ComponentManager;
 import org.asf.centuria.entities.inventoryitems.InventoryItemManager;
 import org.asf.centuria.entities.players.Player;
+import org.asf.centuria.interactions.InteractionManager;
+import org.asf.centuria.interactions.NetworkedObjects;
+import org.asf.centuria.interactions.modules.QuestManager;
+import org.asf.centuria.interactions.modules.ResourceCollectionModule;
+import org.asf.centuria.metrics.MetricsRegistry;
+import org.asf.centuria.metrics.ServerMetrics;
+import org.asf.centuria.minigames.games.GameDizzywingDispatch;
+import org.asf.centuria.minigames.games.GameDoOrDye;
+import org.asf.centuria.minigames.games.GameWhatTheHex;
 import org.asf.centuria.modules.ICenturiaModule;
 import org.asf.centuria.modules.ModuleManager;
 import org.asf.centuria.modules.eventbus.EventBus;
@@ -55,6 +71,7 @@ import org.asf.centuria.modules.events.updates.ServerUpdateEvent;
 import org.asf.centuria.modules.events.updates.UpdateCancelEvent;
 import org.asf.centuria.networking.chatserver.ChatClient;
 import org.asf.centuria.networking.chatserver.ChatServer;
+import org.asf.centuria.networking.chatserver.networking.SendMessage;
 import org.asf.centuria.networking.gameserver.GameServer;
 import org.asf.centuria.networking.http.api.FallbackAPIProcessor;
 import org.asf.centuria.networking.http.api.GameRegistrationHandler;
@@ -72,12 +89,14 @@ import org.asf.centuria.networking.http.api.custom.ChangePasswordHandler;
 import org.asf.centuria.networking.http.api.custom.DeleteAccountHandler;
 import org.asf.centuria.networking.http.api.custom.ListPlayersHandler;
 import org.asf.centuria.networking.http.api.custom.LoginRefreshHandler;
+import org.asf.centuria.networking.http.api.custom.MetricsHandler;
 import org.asf.centuria.networking.http.api.custom.PlayerDataDownloadHandler;
 import org.asf.centuria.networking.http.api.custom.RegistrationHandler;
 import org.asf.centuria.networking.http.api.custom.SaveManagerHandler;
 import org.asf.centuria.networking.http.api.custom.UserDetailsHandler;
 import org.asf.centuria.networking.http.director.GameServerRequestHandler;
 import org.asf.centuria.seasonpasses.SeasonPassManager;
+import org.asf.centuria.shops.ShopManager;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
@@ -399,6 +418,7 @@ public class Centuria {
 							+ "server-spawn-behaviour=random\ndefault-save-behaviour=single\n"
 							+ "discovery-server-address=localhost\n" + "encrypt-api=false\n" + "encrypt-chat=true\n"
 							+ "encrypt-game=false\nencrypt-director=false\n" + "debug-mode=false\n"
+							+ "game-data-snapshot=false\n"
 							+ "\nvpn-user-whitelist=vpn-whitelist\n" + "vpn-ipv4-banlist=\n" + "vpn-ipv6-banlist=");
 		}
 
@@ -414,6 +434,9 @@ public class Centuria {
 			properties.put(key, value);
 		}
 
+		// Metrics configuration
+		MetricsRegistry.loadConfig();
+
 		// Load or generate keys for JWT signatures
 		File publicKey = new File("publickey.pem");
 		File privateKey = new File("privatekey.pem");
@@ -507,6 +530,16 @@ public class Centuria {
 			}
 		}
 
+		// Load game data
+		GameDataRegistry gameData = GameDataRegistry.getInstance();
+		gameData.loadAll(properties.getOrDefault("game-data-snapshot", "false").equals("true"));
+		gameData.initialize(ItemAccessor.class, ClothingItemAccessorImpl.class, FurnitureItemAccessorImpl.class,
+				CreativeItemBundle.class, QuestManager.class, ShopManager.class, ResourceCollectionModule.class,
+				LevelManager.class, GameDoOrDye.class, GameWhatTheHex.class, GameDizzywingDispatch.class);
+		NetworkedObjects.init();
+		gameData.releaseDocuments();
+		InteractionManager.getActiveSpawnBehaviour().prepare();
+
 		// Load season passes
 		SeasonPassManager.getCurrentPass();
 
@@ -690,9 +723,16 @@ public class Centuria {
 				break;
 		}
 		if (chatServer == null)
-			chatServer = new ChatServer(sock);
+			chatServer = new ChatServer(sock, Integer.parseInt(properties.getOrDefault("chat-shards",
+					Integer.toString(Runtime.getRuntime().availableProcessors()))));
 		chatServer.start();
 
+		// Register this node in the player directory
+		ClusterManager cluster = ClusterManager.getInstance();
+		cluster.registerMessageHandler("chat.dm", t -> SendMessage.deliverForwardedMessage(chatServer, t));
+		cluster.start();
+		ServerMetrics.start();
+
 		// Post-initialize modules
 		Centuria.logger.info("Post-initializing Centuria modules...");
 		for (ICenturiaModule module : ModuleManager.getInstance().getAllModules()) {
@@ -730,6 +770,7 @@ public class Centuria {
 		apiServer.registerProcessor(new RegistrationHandler());
 		apiServer.registerProcessor(new PlayerDataDownloadHandler());
 		apiServer.registerProcessor(new SaveManagerHandler());
+		apiServer.registerProcessor(new MetricsHandler());
 
 		// Fallback
 		apiServer.registerProcessor(new FallbackAPIProcessor());
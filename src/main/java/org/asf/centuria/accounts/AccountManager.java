@@ -1,5 +1,8 @@
 package org.asf.centuria.accounts;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.asf.centuria.accounts.impl.FileBasedAccountManager;
@@ -125,6 +128,31 @@ public abstract class AccountManager {
 	 */
 	public abstract CenturiaAccount getAccount(String userID);
 
+	/**
+	 * Checks if a account exists without loading it
+	 * 
+	 * @param userID Account ID
+	 * @return True if the account exists, false otherwise
+	 */
+	public boolean accountExists(String userID) {
+		return getAccount(userID) != null;
+	}
+
+	/**
+	 * Checks which accounts of a collection exist without loading them
+	 * 
+	 * @param userIDs Account IDs to check
+	 * @return Set of the IDs of all accounts that exist
+	 */
+	public Set<String> findExistingAccounts(Collection<String> userIDs) {
+		HashSet<String> existing = new HashSet<String>();
+		for (String id : new HashSet<String>(userIDs)) {
+			if (accountExists(id))
+				existing.add(id);
+		}
+		return existing;
+	}
+
 	/**
 	 * Runs a action for all accounts
 	 * 
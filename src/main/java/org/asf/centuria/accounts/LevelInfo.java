@@ -79,4 +79,18 @@ public abstract class LevelInfo {
 	 */
 	public abstract void resetLevelXP();
 
+	/**
+	 * Starts a xp update batch, xp changes made until the matching
+	 * {@link #endXPBatch()} call are sent as a single update
+	 */
+	public void beginXPBatch() {
+	}
+
+	/**
+	 * Ends a xp update batch, sends the merged update once the outermost batch
+	 * ends
+	 */
+	public void endXPBatch() {
+	}
+
 }
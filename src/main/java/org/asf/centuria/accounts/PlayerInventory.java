@@ -39,6 +39,25 @@ public abstract class PlayerInventory {
 	protected UserVarAccessor uAccessor = new UserVarAccessorImpl(this);
 	protected TwiggleAccessor tAccessor = new TwiggleAccessorImpl(this);
 
+	private volatile long changeCount;
+
+	/**
+	 * Retrieves the change counter of this inventory, increases each time a item
+	 * is saved or deleted (used to invalidate caches)
+	 * 
+	 * @return Change count
+	 */
+	public long getChangeCount() {
+		return changeCount;
+	}
+
+	/**
+	 * Called by implementations after a item has been saved or deleted
+	 */
+	protected void onItemChanged() {
+		changeCount++;
+	}
+
 	/**
 	 * Retrieves the high-level inventory accessor
 	 * 
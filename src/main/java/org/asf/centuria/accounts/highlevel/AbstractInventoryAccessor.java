@@ -35,4 +35,24 @@ public abstract class AbstractInventoryAccessor {
 			inventory.getAccessor().itemsToSave.add(item);
 	}
 
+	/**
+	 * Marks a inventory object as added or changed for the next change sync
+	 * 
+	 * @param inventoryId Inventory ID
+	 * @param objectId    Object UUID
+	 */
+	protected void markObjectChanged(String inventoryId, String objectId) {
+		inventory.getAccessor().markObjectChanged(inventoryId, objectId);
+	}
+
+	/**
+	 * Marks a inventory object as removed for the next change sync
+	 * 
+	 * @param inventoryId Inventory ID
+	 * @param objectId    Object UUID
+	 */
+	protected void markObjectRemoved(String inventoryId, String objectId) {
+		inventory.getAccessor().markObjectRemoved(inventoryId, objectId);
+	}
+
 }
@@ -1,6 +1,7 @@
 package org.asf.centuria.accounts.highlevel;
 
 import org.asf.centuria.accounts.PlayerInventory;
+import org.asf.centuria.accounts.highlevel.itemdata.item.CreativeItemBundle;
 import com.google.gson.JsonObject;
 
 public abstract class ClothingItemAccessor extends AbstractInventoryAccessor {
@@ -57,4 +58,13 @@ public abstract class ClothingItemAccessor extends AbstractInventoryAccessor {
 	 */
 	public abstract JsonObject getDefaultClothingChannelHSV(int defID, int channel);
 
+	/**
+	 * Adds the clothing items of a bundle the player is missing, existing item
+	 * counts are collected in a single pass over the inventory
+	 * 
+	 * @param bundle Item bundle to grant
+	 * @return Amount of items added
+	 */
+	public abstract int addMissingClothing(CreativeItemBundle bundle);
+
 }
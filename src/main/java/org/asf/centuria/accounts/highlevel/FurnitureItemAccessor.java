@@ -1,6 +1,7 @@
 package org.asf.centuria.accounts.highlevel;
 
 import org.asf.centuria.accounts.PlayerInventory;
+import org.asf.centuria.accounts.highlevel.itemdata.item.CreativeItemBundle;
 import com.google.gson.JsonObject;
 
 public abstract class FurnitureItemAccessor extends AbstractInventoryAccessor {
@@ -64,4 +65,14 @@ public abstract class FurnitureItemAccessor extends AbstractInventoryAccessor {
 	 * @return The DefId for the object.
 	 */
 	public abstract int getDefIDFromUUID(String placeableUUID);
+
+	/**
+	 * Adds the furniture items of a bundle the player is missing, existing item
+	 * counts are collected in a single pass over the inventory
+	 * 
+	 * @param bundle Item bundle to grant
+	 * @return Amount of items added
+	 */
+	public abstract int addMissingFurniture(CreativeItemBundle bundle);
+
 }
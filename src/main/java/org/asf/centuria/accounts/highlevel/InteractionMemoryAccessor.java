@@ -123,4 +123,10 @@ public abstract class InteractionMemoryAccessor extends AbstractInventoryAccesso
 	 */
 	public abstract void saveTo(SmartfoxClient client);
 
+	/**
+	 * Writes pending interaction memory changes to disk without waiting for the
+	 * next batched save
+	 */
+	public abstract void flush();
+
 }
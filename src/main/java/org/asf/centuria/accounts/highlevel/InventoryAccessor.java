@@ -2,10 +2,14 @@ package org.asf.centuria.accounts.highlevel;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.UUID;
 
 import org.asf.centuria.accounts.PlayerInventory;
 import org.asf.centuria.accounts.highlevel.itemdata.item.ItemComponent;
+import org.asf.centuria.entities.players.Player;
+import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
+import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemRemovedPacket;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -16,6 +20,9 @@ public class InventoryAccessor {
 	private HashMap<String, String> typeCache = new HashMap<String, String>();
 	ArrayList<String> itemsToSave = new ArrayList<String>();
 
+	private HashMap<String, LinkedHashSet<String>> changedObjects = new HashMap<String, LinkedHashSet<String>>();
+	private HashMap<String, LinkedHashSet<String>> removedObjects = new HashMap<String, LinkedHashSet<String>>();
+
 	public InventoryAccessor(PlayerInventory inventory) {
 		this.inventory = inventory;
 	}
@@ -123,6 +130,31 @@ public class InventoryAccessor {
 		return false;
 	}
 
+	/**
+	 * Counts the objects of each defID in a inventory in a single pass
+	 * 
+	 * @param inventoryId Inventory ID
+	 * @return Map of object defIDs to object counts
+	 */
+	public HashMap<Integer, Integer> getDefIDCounts(String inventoryId) {
+		HashMap<Integer, Integer> counts = new HashMap<Integer, Integer>();
+
+		// Load the inventory object
+		if (!inventory.containsItem(inventoryId))
+			inventory.setItem(inventoryId, new JsonArray());
+		JsonArray items = inventory.getItem(inventoryId).getAsJsonArray();
+
+		// Count objects
+		for (JsonElement ele : items) {
+			JsonObject itm = ele.getAsJsonObject();
+			if (!itm.has("defId"))
+				continue;
+			counts.merge(itm.get("defId").getAsInt(), 1, Integer::sum);
+		}
+
+		return counts;
+	}
+
 	/**
 	 * Retrieves inventory objects by ID
 	 * 
@@ -334,4 +366,132 @@ public class InventoryAccessor {
 	public void removeItemFromCache(String itemUUID) {
 		typeCache.remove(itemUUID);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Marks a inventory object as added or changed so that it is included in the
+	 * next change sync of its inventory
+	 * 
+	 * @param inventoryId Inventory ID
+	 * @param objectId    Object UUID
+	 */
+	public void markObjectChanged(String inventoryId, String objectId) {
+		synchronized (changedObjects) {
+			if (removedObjects.containsKey(inventoryId))
+				removedObjects.get(inventoryId).remove(objectId);
+			changedObjects.computeIfAbsent(inventoryId, t -> new LinkedHashSet<String>()).add(objectId);
+		}
+	}
+
+	/**
+	 * Marks a inventory object as removed so that its removal is included in the
+	 * next change sync of its inventory
+	 * 
+	 * @param inventoryId Inventory ID
+	 * @param objectId    Object UUID
+	 */
+	public void markObjectRemoved(String inventoryId, String objectId) {
+		synchronized (changedObjects) {
+			if (changedObjects.containsKey(inventoryId))
+				changedObjects.get(inventoryId).remove(objectId);
+			removedObjects.computeIfAbsent(inventoryId, t -> new LinkedHashSet<String>()).add(objectId);
+		}
+	}
+
+	/**
+	 * Checks if a inventory has changes that have not yet been synced
+	 * 
+	 * @param inventoryId Inventory ID
+	 * @return True if there are pending changes, false otherwise
+	 */
+	public boolean hasPendingChanges(String inventoryId) {
+		synchronized (changedObjects) {
+			return (changedObjects.containsKey(inventoryId) && !changedObjects.get(inventoryId).isEmpty())
+					|| (removedObjects.containsKey(inventoryId) && !removedObjects.get(inventoryId).isEmpty());
+		}
+	}
+
+	/**
+	 * Retrieves the added and changed objects of a inventory since the last sync
+	 * 
+	 * @param inventoryId Inventory ID
+	 * @return JsonArray containing the current data of the changed objects
+	 */
+	public JsonArray getChangedObjects(String inventoryId) {
+		JsonArray changes = new JsonArray();
+		LinkedHashSet<String> ids;
+		synchronized (changedObjects) {
+			if (!changedObjects.containsKey(inventoryId) || changedObjects.get(inventoryId).isEmpty())
+				return changes;
+			ids = new LinkedHashSet<String>(changedObjects.get(inventoryId));
+		}
+
+		// Find the objects in a single pass
+		if (!inventory.containsItem(inventoryId))
+			return changes;
+		for (JsonElement ele : inventory.getItem(inventoryId).getAsJsonArray()) {
+			JsonObject itm = ele.getAsJsonObject();
+			if (itm.has("id") && ids.contains(itm.get("id").getAsString()))
+				changes.add(itm);
+		}
+		return changes;
+	}
+
+	/**
+	 * Retrieves the UUIDs of the objects removed from a inventory since the last
+	 * sync
+	 * 
+	 * @param inventoryId Inventory ID
+	 * @return Array of object UUIDs
+	 */
+	public String[] getRemovedObjects(String inventoryId) {
+		synchronized (changedObjects) {
+			if (!removedObjects.containsKey(inventoryId))
+				return new String[0];
+			return removedObjects.get(inventoryId).toArray(t -> new String[t]);
+		}
+	}
+
+	/**
+	 * Call this after the changes of a inventory have been sent to the client
+	 * 
+	 * @param inventoryId Inventory ID
+	 */
+	public void completedSync(String inventoryId) {
+		synchronized (changedObjects) {
+			changedObjects.remove(inventoryId);
+			removedObjects.remove(inventoryId);
+		}
+	}
+
+	/**
+	 * Sends the pending changes of the given inventories to the player, only
+	 * changed and removed objects are sent instead of the full inventories
+	 * 
+	 * @param player       Player to send the changes to
+	 * @param inventoryIds Inventory IDs to sync
+	 */
+	public void syncChanges(Player player, String... inventoryIds) {
+		for (String inventoryId : inventoryIds) {
+			if (!hasPendingChanges(inventoryId))
+				continue;
+
+			// Send changed objects
+			JsonArray changes = getChangedObjects(inventoryId);
+			if (changes.size() != 0) {
+				InventoryItemPacket pk = new InventoryItemPacket();
+				pk.item = changes;
+				player.client.sendPacket(pk);
+			}
+
+			// Send removals
+			String[] removed = getRemovedObjects(inventoryId);
+			if (removed.length != 0) {
+				InventoryItemRemovedPacket pk = new InventoryItemRemovedPacket();
+				pk.items = removed;
+				player.client.sendPacket(pk);
+			}
+
+			completedSync(inventoryId);
+		}
+	}
+}
@@ -1,7 +1,6 @@
 package org.asf.centuria.accounts.highlevel;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -24,20 +23,19 @@ import org.asf.centuria.accounts.highlevel.itemdata.inventory.impl.SanctuaryIsla
 import org.asf.centuria.accounts.highlevel.itemdata.item.ItemBundleEntry;
 import org.asf.centuria.accounts.highlevel.itemdata.item.ItemComponent;
 import org.asf.centuria.accounts.highlevel.itemdata.item.ItemInfo;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.entities.components.generic.TradeableComponent;
 import org.asf.centuria.entities.inventoryitems.InventoryItem;
 import org.asf.centuria.entities.inventoryitems.InventoryItemManager;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.enums.inventory.InventoryStorageType;
 import org.asf.centuria.enums.inventory.InventoryType;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemRemovedPacket;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class ItemAccessor {
 
@@ -110,11 +108,9 @@ public class ItemAccessor {
 	static {
 		try {
 			// Load the helper
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("itemdefinitions.json");
-			JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject()
-					.get("Definitions").getAsJsonObject();
-			strm.close();
+			GameDataRegistry registry = GameDataRegistry.getInstance();
+			JsonObject helper = registry.getResource("itemdefinitions.json").getAsJsonObject().get("Definitions")
+					.getAsJsonObject();
 
 			// Load all items
 			final JsonObject helperFinal = helper;
@@ -129,10 +125,7 @@ public class ItemAccessor {
 			});
 
 			// Load bundles
-			strm = InventoryItemDownloadPacket.class.getClassLoader().getResourceAsStream("bundles.json");
-			helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject().get("bundles")
-					.getAsJsonObject();
-			strm.close();
+			helper = registry.getResource("bundles.json").getAsJsonObject().get("bundles").getAsJsonObject();
 
 			// Load all bundles
 			final JsonObject helperFinal2 = helper;
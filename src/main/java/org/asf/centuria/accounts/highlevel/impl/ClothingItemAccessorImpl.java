@@ -1,27 +1,24 @@
 package org.asf.centuria.accounts.highlevel.impl;
 
-import java.io.InputStream;
+import java.util.HashMap;
 
 import org.asf.centuria.accounts.PlayerInventory;
 import org.asf.centuria.accounts.highlevel.ClothingItemAccessor;
+import org.asf.centuria.accounts.highlevel.itemdata.item.CreativeItemBundle;
 import org.asf.centuria.accounts.highlevel.itemdata.item.ItemComponent;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
+import org.asf.centuria.data.GameDataRegistry;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class ClothingItemAccessorImpl extends ClothingItemAccessor {
 	private static JsonObject helper;
 	static {
 		try {
 			// Load helper
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("defaultitems/clothinghelper.json");
-			helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject().get("Clothing")
-					.getAsJsonObject();
-			strm.close();
+			helper = GameDataRegistry.getInstance().getResource("defaultitems/clothinghelper.json").getAsJsonObject()
+					.get("Clothing").getAsJsonObject();
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -87,6 +84,25 @@ public class ClothingItemAccessorImpl extends ClothingItemAccessor {
 		return cID;
 	}
 
+	@Override
+	public int addMissingClothing(CreativeItemBundle bundle) {
+		// Count existing items
+		HashMap<Integer, Integer> counts = inventory.getAccessor().getDefIDCounts("100");
+
+		// Add missing items
+		int added = 0;
+		for (int i = 0; i < bundle.size(); i++) {
+			int defID = bundle.getDefID(i);
+			for (int c = counts.getOrDefault(defID, 0); c < bundle.getCount(); c++) {
+				if (addClothing(defID, false) == null)
+					break;
+				added++;
+			}
+		}
+
+		return added;
+	}
+
 	@Override
 	public JsonObject getDefaultClothingChannelHSV(int defID, int channel) {
 		// Check existence
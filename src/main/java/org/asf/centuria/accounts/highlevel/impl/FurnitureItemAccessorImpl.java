@@ -1,27 +1,24 @@
 package org.asf.centuria.accounts.highlevel.impl;
 
-import java.io.InputStream;
+import java.util.HashMap;
 
 import org.asf.centuria.accounts.PlayerInventory;
 import org.asf.centuria.accounts.highlevel.FurnitureItemAccessor;
+import org.asf.centuria.accounts.highlevel.itemdata.item.CreativeItemBundle;
 import org.asf.centuria.accounts.highlevel.itemdata.item.ItemComponent;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
+import org.asf.centuria.data.GameDataRegistry;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class FurnitureItemAccessorImpl extends FurnitureItemAccessor {
 	private static JsonObject helper;
 	static {
 		try {
 			// Load helper
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("defaultitems/furniturehelper.json");
-			helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject().get("Furniture")
-					.getAsJsonObject();
-			strm.close();
+			helper = GameDataRegistry.getInstance().getResource("defaultitems/furniturehelper.json").getAsJsonObject()
+					.get("Furniture").getAsJsonObject();
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -89,6 +86,25 @@ public class FurnitureItemAccessorImpl extends FurnitureItemAccessor {
 		return cID;
 	}
 
+	@Override
+	public int addMissingFurniture(CreativeItemBundle bundle) {
+		// Count existing items
+		HashMap<Integer, Integer> counts = inventory.getAccessor().getDefIDCounts("102");
+
+		// Add missing items
+		int added = 0;
+		for (int i = 0; i < bundle.size(); i++) {
+			int defID = bundle.getDefID(i);
+			for (int c = counts.getOrDefault(defID, 0); c < bundle.getCount(); c++) {
+				if (addFurniture(defID, false) == null)
+					break;
+				added++;
+			}
+		}
+
+		return added;
+	}
+
 	@Override
 	public JsonObject getDefaultFurnitureChannelHSV(int defID, int channel) {
 		// Check existence
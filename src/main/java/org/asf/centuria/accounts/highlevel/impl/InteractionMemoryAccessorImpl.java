@@ -1,6 +1,10 @@
 package org.asf.centuria.accounts.highlevel.impl;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.asf.centuria.accounts.PlayerInventory;
 import org.asf.centuria.accounts.highlevel.InteractionMemoryAccessor;
@@ -9,18 +13,59 @@ import org.asf.centuria.networking.smartfox.SmartfoxClient;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 public class InteractionMemoryAccessorImpl extends InteractionMemoryAccessor {
 
-	private ArrayList<Integer> changedLevels = new ArrayList<Integer>();
+	// Delay between the first unsaved change and writing interaction memory to disk
+	private static final long WRITE_DELAY = 30000;
+
+	// Entry types, used as bit flags
+	private static final int HARVEST = 1;
+	private static final int TREASURE = 2;
+	private static final int TASK = 4;
+
+	private static final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread th = new Thread(r, "Interaction Memory Writer");
+		th.setDaemon(true);
+		return th;
+	});
+
+	// Interaction memory of a single object
+	private static class MemoryEntry {
+		public String id;
+		public int types;
+		public int dirtyTypes;
+
+		public int numHarvests;
+		public long lastHarvestTime;
+		public long lastLootTime;
+		public boolean isLooted;
+		public long lastCompletionTime;
+	}
+
+	// Interaction memory of a level, loaded from its inventory object once
+	private static class LevelMemory {
+		public int levelID;
+		public JsonObject object;
+		public HashMap<String, MemoryEntry> entries = new HashMap<String, MemoryEntry>();
+		public ArrayList<MemoryEntry> dirtyEntries = new ArrayList<MemoryEntry>();
+		public boolean changed;
+	}
+
+	private volatile int[] levelIDs = new int[0];
+	private volatile LevelMemory[] levels = new LevelMemory[0];
+	private volatile LevelMemory lastLevel;
+	private boolean writePending;
+	private boolean writeScheduled;
 
 	public InteractionMemoryAccessorImpl(PlayerInventory inventory) {
 		super(inventory);
 	}
 
 	@Override
-	public void prepareLevel(int level) {
+	public synchronized void prepareLevel(int level) {
 		// Check level existence
 		if (!inventory.getAccessor().hasInventoryObject("304", level)) {
 			// Create object
@@ -31,299 +76,346 @@ public class InteractionMemoryAccessorImpl extends InteractionMemoryAccessor {
 					new ItemComponent("DailyQuestInteractable", new JsonObject()) // daily tasks
 			);
 
-			// Mark what files to save
-			addItemToSave("304");
-			if (!changedLevels.contains(level))
-				changedLevels.add(level);
+			// Mark level as changed
+			LevelMemory memory = getLevel(level);
+			if (memory != null)
+				memory.changed = true;
+			scheduleWrite();
 		}
 	}
 
 	@Override
 	public void saveTo(SmartfoxClient client) {
-		// Send changed levels
-		if (changedLevels.size() != 0) {
-			InventoryItemPacket pk = new InventoryItemPacket();
-			JsonArray arr = new JsonArray();
+		JsonArray arr = new JsonArray();
+		synchronized (this) {
+			// Write changes to the level objects
+			for (LevelMemory level : levels) {
+				applyChanges(level);
+				if (level.changed) {
+					// Add level to array
+					arr.add(level.object);
+					level.changed = false;
+				}
+			}
 
-			for (Integer levelID : changedLevels) {
-				// Add level to array
-				arr.add(inventory.getAccessor().findInventoryObject("304", levelID));
+			// Interaction memory is written in batches, all other items are saved right
+			// away
+			String[] items = getItemsToSave();
+			for (String item : items) {
+				if (!item.equals("304"))
+					inventory.setItem(item, inventory.getItem(item));
 			}
+			completedSave();
+			if (writePending)
+				scheduleWrite();
+		}
 
-			// Clear and mark item to save
-			changedLevels.clear();
-			addItemToSave("304");
+		// Send changed levels
+		if (arr.size() != 0) {
+			InventoryItemPacket pk = new InventoryItemPacket();
 			pk.item = arr;
-
-			// Send packet
 			client.sendPacket(pk);
 		}
+	}
+
+	@Override
+	public synchronized void flush() {
+		// Write changes to the level objects
+		for (LevelMemory level : levels)
+			applyChanges(level);
 
 		// Save
-		String[] items = getItemsToSave();
-		for (String item : items)
-			inventory.setItem(item, inventory.getItem(item));
-		completedSave();
+		if (writePending) {
+			writePending = false;
+			inventory.setItem("304", inventory.getItem("304"));
+		}
+	}
+
+	// Schedules writing interaction memory to disk
+	private void scheduleWrite() {
+		writePending = true;
+		if (!writeScheduled) {
+			writeScheduled = true;
+			writer.schedule(() -> {
+				synchronized (this) {
+					writeScheduled = false;
+				}
+				flush();
+			}, WRITE_DELAY, TimeUnit.MILLISECONDS);
+		}
 	}
 
 	@Override
 	public void prepareHarvestItem(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "SocialExpanseInteractable", "interactions");
-			if (!container.has(itemID)) {
-				// Create interaction object
-				JsonObject obj = new JsonObject();
-				obj.addProperty("numHarvests", 0);
-				obj.addProperty("lastHarvestTime", 0);
-				container.add(itemID, obj);
-
-				// Mark what files to save
-				addItemToSave("304");
-				if (!changedLevels.contains(levelID))
-					changedLevels.add(levelID);
-			}
-		}
+		prepareEntry(levelID, itemID, HARVEST);
 	}
 
 	@Override
 	public void prepareTreasureItem(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "TreasureInteractable", "interactions");
-			if (!container.has(itemID)) {
-				// Create interaction object
-				JsonObject obj = new JsonObject();
-				obj.addProperty("lastLootTime", 0);
-				obj.addProperty("isLooted", false);
-				container.add(itemID, obj);
-
-				// Mark what files to save
-				addItemToSave("304");
-				if (!changedLevels.contains(levelID))
-					changedLevels.add(levelID);
-			}
-		}
+		prepareEntry(levelID, itemID, TREASURE);
 	}
 
 	@Override
 	public void prepareDailyTaskEntry(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "DailyQuestInteractable", "dailyQuests");
-			if (!container.has(itemID)) {
-				// Create interaction object
-				JsonObject obj = new JsonObject();
-				obj.addProperty("lastCompletionTime", 0);
-				container.add(itemID, obj);
-
-				// Mark what files to save
-				addItemToSave("304");
-				if (!changedLevels.contains(levelID))
-					changedLevels.add(levelID);
-			}
-		}
+		prepareEntry(levelID, itemID, TASK);
 	}
 
 	@Override
 	public long getLastHarvestTime(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "SocialExpanseInteractable", "interactions");
-			if (container.has(itemID)) {
-				// Return timestamp
-				return container.get(itemID).getAsJsonObject().get("lastHarvestTime").getAsLong();
-			}
-		}
-		return 0;
+		MemoryEntry entry = getEntry(levelID, itemID, HARVEST);
+		return entry != null ? entry.lastHarvestTime : 0;
 	}
 
 	@Override
 	public int getLastHarvestCount(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "SocialExpanseInteractable", "interactions");
-			if (container.has(itemID)) {
-				// Return harvest count
-				return container.get(itemID).getAsJsonObject().get("numHarvests").getAsInt();
-			}
-		}
-		return 0;
+		MemoryEntry entry = getEntry(levelID, itemID, HARVEST);
+		return entry != null ? entry.numHarvests : 0;
 	}
 
 	@Override
-	public void resetHarvestCount(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "SocialExpanseInteractable", "interactions");
-			if (container.has(itemID)) {
-				// update harvest count
-				var obj = container.get(itemID).getAsJsonObject();
-
-				if (obj.has("numHarvests")) {
-					obj.remove("numHarvests");
-				}
-
-				obj.addProperty("numHarvests", 0);
+	public synchronized void resetHarvestCount(int levelID, String itemID) {
+		LevelMemory level = getLevel(levelID);
+		if (level != null) {
+			// Update harvest count
+			MemoryEntry entry = level.entries.get(itemID);
+			if (entry != null && (entry.types & HARVEST) != 0) {
+				entry.numHarvests = 0;
+				markDirty(level, entry, HARVEST);
 			}
-
-			// Mark what files to save
-			addItemToSave("304");
-			if (!changedLevels.contains(levelID))
-				changedLevels.add(levelID);
 		}
 	}
 
 	@Override
 	public long getLastTreasureUnlockTime(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "TreasureInteractable", "interactions");
-			if (container.has(itemID)) {
-				// Return timestamp
-				return container.get(itemID).getAsJsonObject().get("lastLootTime").getAsLong();
-			}
-		}
-		return 0;
+		MemoryEntry entry = getEntry(levelID, itemID, TREASURE);
+		return entry != null ? entry.lastLootTime : 0;
 	}
 
 	@Override
 	public boolean hasTreasureBeenUnlocked(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "TreasureInteractable", "interactions");
-			if (container.has(itemID)) {
-				// return status
-				return container.get(itemID).getAsJsonObject().get("isLooted").getAsBoolean();
-			}
-		}
-		return false;
+		MemoryEntry entry = getEntry(levelID, itemID, TREASURE);
+		return entry != null && entry.isLooted;
 	}
 
 	@Override
 	public long getLastDailyTaskTime(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "DailyQuestInteractable", "dailyQuests");
-			if (container.has(itemID)) {
-				// Return timestamp
-				return container.get(itemID).getAsJsonObject().get("lastCompletionTime").getAsLong();
-			}
-		}
-		return 0;
+		MemoryEntry entry = getEntry(levelID, itemID, TASK);
+		return entry != null ? entry.lastCompletionTime : 0;
 	}
 
-	// Shared utility for memory containers
-	private JsonObject resourceContainerJson(int levelID, String component, String container) {
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Find object
-			JsonObject item = inventory.getAccessor().findInventoryObject("304", levelID).get("components")
-					.getAsJsonObject();
-			if (item.has(component)) {
-				// Create or retrieve the container
-				JsonObject cont = item.get(component).getAsJsonObject();
-				if (!cont.has(container)) {
-					// Create new
-					cont.add(container, new JsonObject());
-
-					// Mark what files to save
-					addItemToSave("304");
-					if (!changedLevels.contains(levelID))
-						changedLevels.add(levelID);
-				}
-
-				// Return container
-				return cont.get(container).getAsJsonObject();
-			} else {
-				// Invalid
-				return null;
-			}
+	@Override
+	public synchronized void harvested(int levelID, String itemID) {
+		LevelMemory level = getLevel(levelID);
+		if (level != null) {
+			MemoryEntry entry = getOrCreateEntry(level, itemID);
+			if ((entry.types & HARVEST) == 0)
+				entry.numHarvests = 0;
+			entry.numHarvests++;
+			entry.lastHarvestTime = System.currentTimeMillis();
+			markDirty(level, entry, HARVEST);
 		}
+	}
 
-		// Invalid
-		return null;
+	@Override
+	public synchronized void unlocked(int levelID, String itemID) {
+		LevelMemory level = getLevel(levelID);
+		if (level != null) {
+			MemoryEntry entry = getOrCreateEntry(level, itemID);
+			entry.lastLootTime = System.currentTimeMillis();
+			entry.isLooted = true;
+			markDirty(level, entry, TREASURE);
+		}
 	}
 
 	@Override
-	public void harvested(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			int harvests = getLastHarvestCount(levelID, itemID);
-
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "SocialExpanseInteractable", "interactions");
-			if (container.has(itemID)) {
-				// Delete old object
-				container.remove(itemID);
+	public synchronized void completedTask(int levelID, String itemID) {
+		LevelMemory level = getLevel(levelID);
+		if (level != null) {
+			MemoryEntry entry = getOrCreateEntry(level, itemID);
+			entry.lastCompletionTime = System.currentTimeMillis();
+			markDirty(level, entry, TASK);
+		}
+	}
+
+	// Creates a empty entry if not present yet
+	private synchronized void prepareEntry(int levelID, String itemID, int type) {
+		LevelMemory level = getLevel(levelID);
+		if (level != null) {
+			MemoryEntry entry = getOrCreateEntry(level, itemID);
+			if ((entry.types & type) == 0) {
+				// Create interaction entry
+				if (type == HARVEST) {
+					entry.numHarvests = 0;
+					entry.lastHarvestTime = 0;
+				} else if (type == TREASURE) {
+					entry.lastLootTime = 0;
+					entry.isLooted = false;
+				} else
+					entry.lastCompletionTime = 0;
+				markDirty(level, entry, type);
 			}
+		}
+	}
 
-			// Create interaction object
-			JsonObject obj = new JsonObject();
-			obj.addProperty("numHarvests", harvests + 1);
-			obj.addProperty("lastHarvestTime", System.currentTimeMillis());
-			container.add(itemID, obj);
+	// Retrieves a entry of the given type
+	private MemoryEntry getEntry(int levelID, String itemID, int type) {
+		LevelMemory level = getLevel(levelID);
+		if (level == null)
+			return null;
+		MemoryEntry entry = level.entries.get(itemID);
+		if (entry == null || (entry.types & type) == 0)
+			return null;
+		return entry;
+	}
 
-			// Mark what files to save
-			addItemToSave("304");
-			if (!changedLevels.contains(levelID))
-				changedLevels.add(levelID);
+	private MemoryEntry getOrCreateEntry(LevelMemory level, String itemID) {
+		MemoryEntry entry = level.entries.get(itemID);
+		if (entry == null) {
+			entry = new MemoryEntry();
+			entry.id = itemID;
+			level.entries.put(itemID, entry);
 		}
+		return entry;
 	}
 
-	@Override
-	public void unlocked(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "TreasureInteractable", "interactions");
-			if (container.has(itemID)) {
-				// Delete old object
-				container.remove(itemID);
+	private void markDirty(LevelMemory level, MemoryEntry entry, int type) {
+		entry.types |= type;
+		if (entry.dirtyTypes == 0)
+			level.dirtyEntries.add(entry);
+		entry.dirtyTypes |= type;
+		level.changed = true;
+		scheduleWrite();
+	}
+
+	// Retrieves the memory of a level, loading it on first use
+	private LevelMemory getLevel(int levelID) {
+		// Most lookups are for the level the player is in
+		LevelMemory last = lastLevel;
+		if (last != null && last.levelID == levelID)
+			return last;
+		int[] ids = levelIDs;
+		for (int i = 0; i < ids.length; i++) {
+			if (ids[i] == levelID) {
+				lastLevel = levels[i];
+				return levels[i];
 			}
+		}
+		return loadLevel(levelID);
+	}
 
-			// Create interaction object
-			JsonObject obj = new JsonObject();
-			obj.addProperty("lastLootTime", System.currentTimeMillis());
-			obj.addProperty("isLooted", true);
-			container.add(itemID, obj);
+	private synchronized LevelMemory loadLevel(int levelID) {
+		for (int i = 0; i < levelIDs.length; i++) {
+			if (levelIDs[i] == levelID)
+				return levels[i];
+		}
 
-			// Mark what files to save
-			addItemToSave("304");
-			if (!changedLevels.contains(levelID))
-				changedLevels.add(levelID);
+		// Find object
+		JsonObject object = inventory.getAccessor().findInventoryObject("304", levelID);
+		if (object == null)
+			return null;
+		LevelMemory level = new LevelMemory();
+		level.levelID = levelID;
+		level.object = object;
+
+		// Load entries
+		JsonObject components = object.get("components").getAsJsonObject();
+		JsonObject harvests = getContainer(components, "SocialExpanseInteractable", "interactions", false);
+		if (harvests != null) {
+			for (String id : harvests.keySet()) {
+				JsonObject obj = harvests.get(id).getAsJsonObject();
+				MemoryEntry entry = getOrCreateEntry(level, id);
+				entry.types |= HARVEST;
+				entry.numHarvests = getInt(obj, "numHarvests");
+				entry.lastHarvestTime = getLong(obj, "lastHarvestTime");
+			}
+		}
+		JsonObject treasures = getContainer(components, "TreasureInteractable", "interactions", false);
+		if (treasures != null) {
+			for (String id : treasures.keySet()) {
+				JsonObject obj = treasures.get(id).getAsJsonObject();
+				MemoryEntry entry = getOrCreateEntry(level, id);
+				entry.types |= TREASURE;
+				entry.lastLootTime = getLong(obj, "lastLootTime");
+				entry.isLooted = obj.has("isLooted") && obj.get("isLooted").getAsBoolean();
+			}
 		}
+		JsonObject tasks = getContainer(components, "DailyQuestInteractable", "dailyQuests", false);
+		if (tasks != null) {
+			for (String id : tasks.keySet()) {
+				JsonObject obj = tasks.get(id).getAsJsonObject();
+				MemoryEntry entry = getOrCreateEntry(level, id);
+				entry.types |= TASK;
+				entry.lastCompletionTime = getLong(obj, "lastCompletionTime");
+			}
+		}
+
+		// Publish
+		int[] ids = new int[levelIDs.length + 1];
+		LevelMemory[] lvls = new LevelMemory[levels.length + 1];
+		System.arraycopy(levelIDs, 0, ids, 0, levelIDs.length);
+		System.arraycopy(levels, 0, lvls, 0, levels.length);
+		ids[levelIDs.length] = levelID;
+		lvls[levels.length] = level;
+		levels = lvls;
+		levelIDs = ids;
+		lastLevel = level;
+		return level;
 	}
 
-	@Override
-	public void completedTask(int levelID, String itemID) {
-		// Check level existence
-		if (inventory.getAccessor().hasInventoryObject("304", levelID)) {
-			// Check item
-			JsonObject container = resourceContainerJson(levelID, "DailyQuestInteractable", "dailyQuests");
-			if (container.has(itemID)) {
-				// Delete old object
-				container.remove(itemID);
+	// Writes changed entries to the level object
+	private void applyChanges(LevelMemory level) {
+		if (level.dirtyEntries.isEmpty())
+			return;
+		JsonObject components = level.object.get("components").getAsJsonObject();
+		for (MemoryEntry entry : level.dirtyEntries) {
+			if ((entry.dirtyTypes & HARVEST) != 0) {
+				JsonObject obj = new JsonObject();
+				obj.addProperty("numHarvests", entry.numHarvests);
+				obj.addProperty("lastHarvestTime", entry.lastHarvestTime);
+				getContainer(components, "SocialExpanseInteractable", "interactions", true).add(entry.id, obj);
 			}
+			if ((entry.dirtyTypes & TREASURE) != 0) {
+				JsonObject obj = new JsonObject();
+				obj.addProperty("lastLootTime", entry.lastLootTime);
+				obj.addProperty("isLooted", entry.isLooted);
+				getContainer(components, "TreasureInteractable", "interactions", true).add(entry.id, obj);
+			}
+			if ((entry.dirtyTypes & TASK) != 0) {
+				JsonObject obj = new JsonObject();
+				obj.addProperty("lastCompletionTime", entry.lastCompletionTime);
+				getContainer(components, "DailyQuestInteractable", "dailyQuests", true).add(entry.id, obj);
+			}
+			entry.dirtyTypes = 0;
+		}
+		level.dirtyEntries.clear();
+		writePending = true;
+	}
 
-			// Create interaction object
-			JsonObject obj = new JsonObject();
-			obj.addProperty("lastCompletionTime", System.currentTimeMillis());
-			container.add(itemID, obj);
-
-			// Mark what files to save
-			addItemToSave("304");
-			if (!changedLevels.contains(levelID))
-				changedLevels.add(levelID);
+	// Shared utility for memory containers
+	private static JsonObject getContainer(JsonObject components, String component, String container,
+			boolean create) {
+		if (!components.has(component)) {
+			if (!create)
+				return null;
+			components.add(component, new JsonObject());
 		}
+		JsonObject cont = components.get(component).getAsJsonObject();
+		if (!cont.has(container)) {
+			if (!create)
+				return null;
+			cont.add(container, new JsonObject());
+		}
+		return cont.get(container).getAsJsonObject();
+	}
+
+	private static long getLong(JsonObject obj, String key) {
+		JsonElement ele = obj.get(key);
+		return ele != null ? ele.getAsLong() : 0;
+	}
+
+	private static int getInt(JsonObject obj, String key) {
+		JsonElement ele = obj.get(key);
+		return ele != null ? ele.getAsInt() : 0;
 	}
 
 }
@@ -556,6 +556,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 		}
 
 		inventory.setItem("201", looks);
+		markObjectChanged("201", activeSancLookId);
 		return true;
 	}
 
@@ -611,6 +612,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 
 		// removed from the items array
 		inventory.setItem("201", looks);
+		markObjectChanged("201", activeSancLookId);
 	}
 
 	@Override
@@ -698,6 +700,8 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 
 		// set house inventory again
 		inventory.setItem("5", houseInvs);
+		if (roomInfos.length != 0)
+			markObjectChanged("5", houseInvId);
 
 		return houseInv.getAsJsonObject();
 	}
@@ -829,6 +833,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 
 		// save the 10
 		inventory.setItem("10", classInv);
+		markObjectChanged("10", newClassInvId);
 	}
 
 	private void copyIslandInv(String oldIslandInvId, String newIslandInvId, long timeStamp) {
@@ -894,6 +899,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 
 		// save the 6
 		inventory.setItem("6", islandInv);
+		markObjectChanged("6", newIslandInvId);
 	}
 
 	private void copyHouseInv(String oldHouseInvId, String newHouseInvId, long timeStamp) {
@@ -959,6 +965,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 
 		// save the 5
 		inventory.setItem("5", houseInv);
+		markObjectChanged("5", newHouseInvId);
 	}
 
 	private void copySancLookInv(JsonArray looks, JsonElement newSancSlot, JsonElement oldSancSlot, String saveName,
@@ -1002,6 +1009,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 
 		// save the 201
 		inventory.setItem("201", looks);
+		markObjectChanged("201", newSancSlot.getAsJsonObject().get("id").getAsString());
 	}
 
 	private JsonObject createSlot(JsonArray items, int islandId, int houseId, int lookDefId, int classId,
@@ -1081,6 +1089,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 
 		classObject.getAsJsonObject().get(InventoryItem.COMPONENTS_PROPERTY_NAME).getAsJsonObject()
 				.add(TimeStampComponent.COMPONENT_NAME, ts);
+		markObjectChanged("10", sancClassInvId);
 
 		// we also need to update the house and island invs of any looks using this
 		// class
@@ -1140,6 +1149,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 						.remove("ts");
 				matchedHouseItem.getAsJsonObject().get(InventoryItem.COMPONENTS_PROPERTY_NAME).getAsJsonObject()
 						.add("ts", ts);
+				markObjectChanged("5", houseInvId);
 			} else {
 				return false;
 			}
@@ -1147,6 +1157,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 			// stamp
 			item.remove("ts");
 			item.add("ts", ts);
+			markObjectChanged("201", item.get("id").getAsString());
 		}
 
 		// save the 10
@@ -1198,6 +1209,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 
 		classObject.getAsJsonObject().get(InventoryItem.COMPONENTS_PROPERTY_NAME).getAsJsonObject()
 				.add(TimeStampComponent.COMPONENT_NAME, ts);
+		markObjectChanged("10", sancClassInvId);
 
 		// we also need to update the house and island invs of any looks using this
 		// class
@@ -1258,6 +1270,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 						.remove("ts");
 				matchedHouseItem.getAsJsonObject().get(InventoryItem.COMPONENTS_PROPERTY_NAME).getAsJsonObject()
 						.add("ts", ts);
+				markObjectChanged("5", houseInvId);
 			} else {
 				return false;
 			}
@@ -1265,6 +1278,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 			// stamp
 			item.remove("ts");
 			item.add("ts", ts);
+			markObjectChanged("201", item.get("id").getAsString());
 		}
 
 		// save the 10
@@ -1344,6 +1358,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 						.remove("ts");
 				matchedHouseItem.getAsJsonObject().get(InventoryItem.COMPONENTS_PROPERTY_NAME).getAsJsonObject()
 						.add("ts", ts);
+				markObjectChanged("5", houseInvId);
 			} else {
 				return false;
 			}
@@ -1351,6 +1366,7 @@ public class SanctuaryAccessorImpl extends SanctuaryAccessor {
 			// stamp
 			item.remove("ts");
 			item.add("ts", ts);
+			markObjectChanged("201", item.get("id").getAsString());
 		}
 
 		// save the 5
@@ -35,6 +35,7 @@ public class TwiggleAccessorImpl extends TwiggleAccessor {
 			twiggleInv.add(newTwiggleItem.toJsonObject());
 
 			inventory.setItem(Integer.toString(InventoryType.Twiggle.invTypeId), twiggleInv);
+			markObjectChanged(Integer.toString(InventoryType.Twiggle.invTypeId), newTwiggleItem.uuid);
 
 			return newTwiggleItem;
 		} catch (Exception exception) {
@@ -97,6 +98,7 @@ public class TwiggleAccessorImpl extends TwiggleAccessor {
 			// remove it
 			twiggleInv.remove(selectedTwiggleElement);
 			inventory.setItem(Integer.toString(InventoryType.Twiggle.invTypeId), twiggleInv);
+			markObjectRemoved(Integer.toString(InventoryType.Twiggle.invTypeId), twiggleInvId);
 
 			return true;
 
@@ -143,7 +145,8 @@ public class TwiggleAccessorImpl extends TwiggleAccessor {
 
 			// save to disk
 			String invId = Integer.toString(InventoryType.Twiggle.invTypeId);
-			inventory.setItem(invId, inventory.getItem(invId));
+			inventory.setItem(invId, twiggleInv);
+			markObjectChanged(invId, selectedTwiggle.uuid);
 
 			return selectedTwiggle;
 
@@ -193,7 +196,8 @@ public class TwiggleAccessorImpl extends TwiggleAccessor {
 
 			// save to disk
 			String invId = Integer.toString(InventoryType.Twiggle.invTypeId);
-			inventory.setItem(invId, inventory.getItem(invId));
+			inventory.setItem(invId, twiggleInv);
+			markObjectChanged(invId, selectedTwiggle.uuid);
 
 			return selectedTwiggle;
 
@@ -262,7 +266,8 @@ public class TwiggleAccessorImpl extends TwiggleAccessor {
 
 		// save to disk
 		String invId = Integer.toString(InventoryType.Twiggle.invTypeId);
-		inventory.setItem(invId, inventory.getItem(invId));
+		inventory.setItem(invId, twiggleInv);
+		markObjectChanged(invId, selectedTwiggle.uuid);
 
 		return selectedTwiggle;
 	}
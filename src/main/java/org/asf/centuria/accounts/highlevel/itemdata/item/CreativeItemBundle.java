@@ -0,0 +1,118 @@
+package org.asf.centuria.accounts.highlevel.itemdata.item;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.asf.centuria.data.GameDataRegistry;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Immutable list of items given to players with the give-all creative
+ * settings, built once from the default item helpers with the creative item
+ * filter already applied
+ */
+public class CreativeItemBundle {
+
+	private static final Set<Integer> creativeItemFilter;
+	private static final CreativeItemBundle clothingBundle;
+	private static final CreativeItemBundle furnitureBundle;
+
+	static {
+		try {
+			// Load filter
+			HashSet<Integer> filter = new HashSet<Integer>();
+			for (String id : loadHelper("creativeitemfilter.json", "Items").keySet())
+				filter.add(Integer.parseInt(id));
+			creativeItemFilter = Collections.unmodifiableSet(filter);
+
+			// Build bundles
+			clothingBundle = new CreativeItemBundle(loadHelper("defaultitems/clothinghelper.json", "Clothing"), 3);
+			furnitureBundle = new CreativeItemBundle(loadHelper("defaultitems/furniturehelper.json", "Furniture"),
+					6);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static JsonObject loadHelper(String resource, String key) throws IOException {
+		return GameDataRegistry.getInstance().getResource(resource).getAsJsonObject().get(key).getAsJsonObject();
+	}
+
+	private final int[] defIDs;
+	private final int count;
+
+	private CreativeItemBundle(JsonObject helper, int count) {
+		this.count = count;
+		this.defIDs = helper.keySet().stream().mapToInt(t -> Integer.parseInt(t))
+				.filter(t -> !creativeItemFilter.contains(t)).toArray();
+	}
+
+	/**
+	 * Retrieves the bundle of all clothing items (3 of each)
+	 * 
+	 * @return CreativeItemBundle instance
+	 */
+	public static CreativeItemBundle getClothingBundle() {
+		return clothingBundle;
+	}
+
+	/**
+	 * Retrieves the bundle of all furniture items (6 of each)
+	 * 
+	 * @return CreativeItemBundle instance
+	 */
+	public static CreativeItemBundle getFurnitureBundle() {
+		return furnitureBundle;
+	}
+
+	/**
+	 * Checks if a item is excluded from creative mode
+	 * 
+	 * @param defID Item defID
+	 * @return True if the item is filtered, false otherwise
+	 */
+	public static boolean isFilteredItem(int defID) {
+		return creativeItemFilter.contains(defID);
+	}
+
+	/**
+	 * Retrieves all items excluded from creative mode
+	 * 
+	 * @return Set of item defIDs
+	 */
+	public static Set<Integer> getFilteredItems() {
+		return creativeItemFilter;
+	}
+
+	/**
+	 * Retrieves the amount of items in this bundle
+	 * 
+	 * @return Item count
+	 */
+	public int size() {
+		return defIDs.length;
+	}
+
+	/**
+	 * Retrieves the item defID at the given index
+	 * 
+	 * @param index Item index
+	 * @return Item defID
+	 */
+	public int getDefID(int index) {
+		return defIDs[index];
+	}
+
+	/**
+	 * Retrieves the amount of each item players should have
+	 * 
+	 * @return Item amount
+	 */
+	public int getCount() {
+		return count;
+	}
+
+}
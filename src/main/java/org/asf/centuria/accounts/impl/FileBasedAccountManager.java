@@ -383,6 +383,11 @@ public class FileBasedAccountManager extends AccountManager {
 			return null;
 	}
 
+	@Override
+	public boolean accountExists(String userID) {
+		return new File("accounts/" + userID).exists();
+	}
+
 	// Salt and hash
 	private static byte[] salt() {
 		byte[] salt = new byte[32];
@@ -8,6 +8,8 @@ import java.util.HashMap;
 
 import org.asf.centuria.accounts.PlayerInventory;
 import org.asf.centuria.accounts.SaveSettings;
+import org.asf.centuria.metrics.MetricsRegistry;
+import org.asf.centuria.metrics.ServerMetrics;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -73,8 +75,11 @@ public class FileBasedPlayerInventory extends PlayerInventory {
 
 		if (new File("inventories/" + id + prefix + "/" + itemID + ".json").exists()) {
 			try {
+				long start = MetricsRegistry.isEnabled() ? System.nanoTime() : 0;
 				String json = Files.readString(Path.of("inventories/" + id + prefix + "/" + itemID + ".json"));
 				JsonElement ele = JsonParser.parseString(json);
+				if (MetricsRegistry.isEnabled())
+					ServerMetrics.inventoryRead(System.nanoTime() - start, json.length());
 				cache.put(itemID, ele);
 
 				// Load into accessor cache
@@ -101,8 +106,13 @@ public class FileBasedPlayerInventory extends PlayerInventory {
 			return;
 
 		cache.put(itemID, itemData);
+		onItemChanged();
 		try {
-			Files.writeString(Path.of("inventories/" + id + prefix + "/" + itemID + ".json"), itemData.toString());
+			long start = MetricsRegistry.isEnabled() ? System.nanoTime() : 0;
+			String json = itemData.toString();
+			Files.writeString(Path.of("inventories/" + id + prefix + "/" + itemID + ".json"), json);
+			if (MetricsRegistry.isEnabled())
+				ServerMetrics.inventoryWritten(System.nanoTime() - start, json.length());
 
 			// Load into accessor cache
 			if (itemData.isJsonArray()) {
@@ -124,6 +134,7 @@ public class FileBasedPlayerInventory extends PlayerInventory {
 		if (!itemID.matches("^[A-Za-z0-9]+"))
 			return;
 
+		onItemChanged();
 		if (cache.containsKey(itemID)) {
 			JsonElement itemData = cache.remove(itemID);
 
@@ -2,7 +2,6 @@ package org.asf.centuria.accounts.impl;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -15,13 +14,18 @@ import org.apache.logging.log4j.MarkerManager;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.CenturiaAccount;
 import org.asf.centuria.accounts.LevelInfo;
+import org.asf.centuria.accounts.PlayerInventory;
+import org.asf.centuria.accounts.impl.leveltypes.LevelCurve;
 import org.asf.centuria.accounts.impl.leveltypes.LevelReward;
 import org.asf.centuria.accounts.impl.leveltypes.LevelRewards;
+import org.asf.centuria.accounts.impl.leveltypes.LevelState;
 import org.asf.centuria.accounts.impl.leveltypes.RewardDefinition;
 import org.asf.centuria.accounts.impl.leveltypes.TriggerInfo;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.levelevents.LevelEventBus;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
+import org.asf.centuria.modules.eventbus.EventBus;
+import org.asf.centuria.modules.events.levels.XpUpdateEvent;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 import org.asf.centuria.packets.xt.gameserver.levels.XpUpdatePacket;
 import org.asf.centuria.packets.xt.gameserver.levels.XpUpdatePacket.CompletedLevel;
@@ -44,6 +48,16 @@ public class LevelManager extends LevelInfo {
 	private static int maxLevel;
 	private static String levelCurveEval;
 	private static LevelRewards rewards;
+	private static LevelCurve curve;
+
+	private LevelState state;
+	private JsonElement stateSource;
+
+	// Pending xp update of the current batch
+	private int batchDepth;
+	private XpUpdatePacket pendingUpdate;
+	private LevelState pendingPrevious;
+	private LevelState pendingCurrent;
 
 	static {
 		try {
@@ -74,6 +88,7 @@ public class LevelManager extends LevelInfo {
 			maxLevel = Integer.valueOf(config.getOrDefault("max-level", "101"));
 			levelCurveEval = config.getOrDefault("level-curve-eval",
 					"(450 + ((level - 1) * 107) + ((totalxp / 100) - ((level - 1) * 32.83662)))");
+			curve = new LevelCurve(levelCurveEval, maxLevel);
 
 			// Load rewards
 			JsonObject rewardsConf;
@@ -82,9 +97,7 @@ public class LevelManager extends LevelInfo {
 				String res = rewardsFile.substring("resource://".length());
 
 				// Load the resource
-				InputStream strm = InventoryItemDownloadPacket.class.getClassLoader().getResourceAsStream(res);
-				rewardsConf = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
-				strm.close();
+				rewardsConf = GameDataRegistry.getInstance().getResource(res).getAsJsonObject();
 			} else {
 				rewardsConf = JsonParser.parseString(Files.readString(Path.of(rewardsFile))).getAsJsonObject();
 			}
@@ -124,9 +137,7 @@ public class LevelManager extends LevelInfo {
 				String res = triggerFile.substring("resource://".length());
 
 				// Load the resource
-				InputStream strm = InventoryItemDownloadPacket.class.getClassLoader().getResourceAsStream(res);
-				triggers = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
-				strm.close();
+				triggers = GameDataRegistry.getInstance().getResource(res).getAsJsonObject();
 			} else {
 				triggers = JsonParser.parseString(Files.readString(Path.of(triggerFile))).getAsJsonObject();
 			}
@@ -170,7 +181,8 @@ public class LevelManager extends LevelInfo {
 					}
 
 					// Add xp
-					event.getPlayer().account.getLevel().addXP(addedXp);
+					if (addedXp != 0)
+						event.getPlayer().account.getLevel().addXP(addedXp);
 				});
 			});
 		} catch (IOException e) {
@@ -182,210 +194,187 @@ public class LevelManager extends LevelInfo {
 		this.account = account;
 	}
 
+	/**
+	 * Retrieves the compiled level curve
+	 * 
+	 * @return LevelCurve instance
+	 */
+	public static LevelCurve getCurve() {
+		return curve;
+	}
+
+	/**
+	 * Retrieves the max level
+	 * 
+	 * @return Max player level
+	 */
+	public static int getMaxLevel() {
+		return maxLevel;
+	}
+
 	@Override
 	public boolean isLevelAvailable() {
 		return true;
 	}
 
-	// Method to create a level object
-	private void createLevelObject() {
-		// Create level object
-		JsonObject levelInfo = new JsonObject();
-
-		// Basics
-		levelInfo.addProperty("totalXp", 0);
-		levelInfo.addProperty("currentLevel", 1);
-		levelInfo.addProperty("currentLevelXp", 0);
-
-		// Evaluate the curve
-		ExpressionBuilder builder = new ExpressionBuilder(levelCurveEval);
-		builder.variables("level", "lastlevel", "totalxp");
-		Expression exp = builder.build();
-		exp.setVariable("level", 1);
-		exp.setVariable("lastlevel", 0);
-		exp.setVariable("totalxp", 0);
-		int levelUpCount = (int) exp.evaluate();
-		if (levelUpCount > 15000)
-			levelUpCount = 15000;
-		levelInfo.addProperty("currentLevelMaxXp", levelUpCount);
-
-		// Save
+	// Method to retrieve the level state, parsed once per level object
+	private LevelState getState() {
+		PlayerInventory inv = account.getSaveSpecificInventory();
+		JsonElement levelInfo = inv.getItem("level");
+		if (levelInfo == null) {
+			// Create level object
+			saveState(new LevelState(1, 0, 0, curve.getLevelupXP(1)));
+			levelInfo = inv.getItem("level");
+		}
+		if (state == null || stateSource != levelInfo) {
+			state = LevelState.parse(levelInfo.getAsJsonObject());
+			stateSource = levelInfo;
+		}
+		return state;
+	}
+
+	// Method to save the level state
+	private void saveState(LevelState newState) {
+		JsonObject levelInfo = newState.toJson();
 		account.getSaveSpecificInventory().setItem("level", levelInfo);
+		state = newState;
+		stateSource = levelInfo;
 	}
 
 	@Override
-	public int getLevel() {
-		// Retrieve level object
-		if (!account.getSaveSpecificInventory().containsItem("level")) {
-			// Create object
-			createLevelObject();
+	public void beginXPBatch() {
+		synchronized (this) {
+			batchDepth++;
 		}
-
-		// Retrieve level
-		JsonObject level = account.getSaveSpecificInventory().getItem("level").getAsJsonObject();
-		return level.get("currentLevel").getAsInt();
 	}
 
 	@Override
-	public int getTotalXP() {
-		// Retrieve level object
-		if (!account.getSaveSpecificInventory().containsItem("level")) {
-			// Create object
-			createLevelObject();
+	public void endXPBatch() {
+		XpUpdatePacket packet;
+		LevelState previous;
+		LevelState current;
+		synchronized (this) {
+			if (batchDepth == 0 || --batchDepth != 0 || pendingUpdate == null)
+				return;
+			packet = pendingUpdate;
+			previous = pendingPrevious;
+			current = pendingCurrent;
+			pendingUpdate = null;
+			pendingPrevious = null;
+			pendingCurrent = null;
 		}
+		broadcastXpUpdate(packet, previous, current);
+	}
 
-		// Retrieve total xp
-		JsonObject level = account.getSaveSpecificInventory().getItem("level").getAsJsonObject();
-		return level.get("totalXp").getAsInt();
+	// Method to send a xp update, merged into the pending update while batching
+	private void sendXpUpdate(XpUpdatePacket packet, LevelState previous, LevelState current) {
+		synchronized (this) {
+			if (batchDepth != 0) {
+				if (pendingUpdate == null) {
+					pendingUpdate = packet;
+					pendingPrevious = previous;
+				} else {
+					pendingUpdate.addedXp += packet.addedXp;
+					pendingUpdate.completedLevels.addAll(packet.completedLevels);
+				}
+				pendingCurrent = current;
+				return;
+			}
+		}
+		broadcastXpUpdate(packet, previous, current);
 	}
 
-	@Override
-	public int getCurrentXP() {
-		// Retrieve level object
-		if (!account.getSaveSpecificInventory().containsItem("level")) {
-			// Create object
-			createLevelObject();
+	// Method to send a xp update to the player's room
+	private void broadcastXpUpdate(XpUpdatePacket packet, LevelState previous, LevelState current) {
+		// Add fields
+		packet.userId = account.getAccountID();
+		packet.previous = new XpUpdatePacket.Level();
+		packet.previous.level = previous.level;
+		packet.previous.levelUpXp = previous.levelUpXp;
+		packet.previous.xp = previous.currentXp;
+		packet.current = new XpUpdatePacket.Level();
+		packet.current.level = current.level;
+		packet.current.levelUpXp = current.levelUpXp;
+		packet.current.xp = current.currentXp;
+		packet.totalXp = current.totalXp;
+
+		// Send packet
+		Player player = account.getOnlinePlayerInstance();
+		if (player != null && player.room != null) {
+			for (Player plr : Centuria.gameServer.getPlayersInRoom(player.room)) {
+				if (plr.roomReady)
+					plr.client.sendPacket(packet);
+			}
+		} else {
+			for (Player plr : Centuria.gameServer.getPlayers()) {
+				if (plr.roomReady && plr.room != null)
+					plr.client.sendPacket(packet);
+			}
 		}
 
-		// Retrieve current xp
-		JsonObject level = account.getSaveSpecificInventory().getItem("level").getAsJsonObject();
-		return level.get("currentLevelXp").getAsInt();
+		// Dispatch event
+		EventBus.getInstance()
+				.dispatchEvent(new XpUpdateEvent(account, player, packet.addedXp, packet.completedLevels.size(),
+						previous.level, previous.currentXp, current.level, current.currentXp, current.totalXp));
 	}
 
 	@Override
-	public int getLevelupXPCount() {
-		// Retrieve level object
-		if (!account.getSaveSpecificInventory().containsItem("level")) {
-			// Create object
-			createLevelObject();
-		}
+	public int getLevel() {
+		return getState().level;
+	}
+
+	@Override
+	public int getTotalXP() {
+		return getState().totalXp;
+	}
+
+	@Override
+	public int getCurrentXP() {
+		return getState().currentXp;
+	}
 
-		// Retrieve current max xp
-		JsonObject level = account.getSaveSpecificInventory().getItem("level").getAsJsonObject();
-		return level.get("currentLevelMaxXp").getAsInt();
+	@Override
+	public int getLevelupXPCount() {
+		return getState().levelUpXp;
 	}
 
 	@Override
 	public void addXP(int xp) {
 		Centuria.logger.debug(MarkerManager.getMarker("LEVELING"), "Add xp: " + xp);
 
-		// Retrieve level object
-		if (!account.getSaveSpecificInventory().containsItem("level")) {
-			// Create object
-			createLevelObject();
-		}
-		JsonObject level = account.getSaveSpecificInventory().getItem("level").getAsJsonObject();
-		int tXP = getTotalXP();
-		int cL = getLevel();
-		int cLUP = getLevelupXPCount();
-		int cXP = getCurrentXP();
+		// Retrieve level state
+		LevelState current = getState();
 
 		// Level cap
-		if (getLevel() >= maxLevel && getCurrentXP() >= getLevelupXPCount())
+		if (current.level >= maxLevel && current.currentXp >= current.levelUpXp)
 			return;
 
 		// Add xp
-		if (cXP + xp < cLUP) {
+		XpUpdatePacket packet = new XpUpdatePacket();
+		packet.addedXp = xp;
+		LevelState newState;
+		if (current.currentXp + xp < current.levelUpXp) {
 			// Regular xp update
-
-			// Add fields
-			XpUpdatePacket packet = new XpUpdatePacket();
-			packet.userId = account.getAccountID();
-			packet.addedXp = xp;
-			packet.previous = new XpUpdatePacket.Level();
-			packet.previous.level = getLevel();
-			packet.previous.levelUpXp = getLevelupXPCount();
-			packet.previous.xp = getCurrentXP();
-
-			// Add xp
-			level.remove("totalXp");
-			level.remove("currentLevelXp");
-			level.addProperty("totalXp", tXP + xp);
-			level.addProperty("currentLevelXp", cXP + xp);
-			account.getSaveSpecificInventory().setItem("level", level);
-
-			// Add new level
-			packet.current = new XpUpdatePacket.Level();
-			packet.current.level = getLevel();
-			packet.current.levelUpXp = getLevelupXPCount();
-			packet.current.xp = getCurrentXP();
-			packet.totalXp = getTotalXP();
-
-			// Send packet
-			String room = null;
-			if (account.getOnlinePlayerInstance() != null) {
-				room = account.getOnlinePlayerInstance().room;
-			}
-			for (Player plr : Centuria.gameServer.getPlayers()) {
-				if (plr.roomReady && plr.room != null && (room == null || plr.room.equals(room))) {
-					plr.client.sendPacket(packet);
-				}
-			}
+			newState = new LevelState(current.level, current.totalXp + xp, current.currentXp + xp,
+					current.levelUpXp);
 		} else {
 			// Level up
-			int newXp = cXP + xp;
-
-			// Add fields
-			XpUpdatePacket packet = new XpUpdatePacket();
-			packet.userId = account.getAccountID();
-			packet.addedXp = xp;
-			packet.previous = new XpUpdatePacket.Level();
-			packet.previous.level = getLevel();
-			packet.previous.levelUpXp = getLevelupXPCount();
-			packet.previous.xp = getCurrentXP();
-			packet.current = new XpUpdatePacket.Level();
-
-			// Add levels
-			int remaining = addLevels(newXp, packet.completedLevels, cL);
-
-			// Add xp
-			int currentLevel = getLevel();
-			level.remove("totalXp");
-			level.remove("currentLevel");
-			level.remove("currentLevelXp");
-			level.remove("currentLevelMaxXp");
-			level.addProperty("totalXp", tXP + xp);
-			int nextLevel = currentLevel + packet.completedLevels.size();
+			int remaining = addLevels(current.currentXp + xp, packet.completedLevels, current);
+			int nextLevel = current.level + packet.completedLevels.size();
 			if (nextLevel > maxLevel)
 				nextLevel = maxLevel;
-			level.addProperty("currentLevel", nextLevel);
-			level.addProperty("currentLevelXp", remaining);
-			// Evaluate the curve
-			ExpressionBuilder builder = new ExpressionBuilder(levelCurveEval);
-			builder.variables("level", "lastlevel", "totalxp");
-			Expression exp = builder.build();
-			exp.setVariable("level", getLevel());
-			exp.setVariable("lastlevel", currentLevel);
-			exp.setVariable("totalxp", getTotalXP());
-			int levelUpCount = (int) exp.evaluate();
-			if (levelUpCount > 15000)
-				levelUpCount = 15000;
-			level.addProperty("currentLevelMaxXp", levelUpCount);
-			account.getSaveSpecificInventory().setItem("level", level);
-
-			// Add new level
-			packet.current = new XpUpdatePacket.Level();
-			packet.current.level = getLevel();
-			packet.current.levelUpXp = getLevelupXPCount();
-			packet.current.xp = getCurrentXP();
-			packet.totalXp = getTotalXP();
-
-			// Send packet
-			String room = null;
-			if (account.getOnlinePlayerInstance() != null) {
-				room = account.getOnlinePlayerInstance().room;
-			}
-			for (Player plr : Centuria.gameServer.getPlayers()) {
-				if (plr.roomReady && plr.room != null && (room == null || plr.room.equals(room))) {
-					plr.client.sendPacket(packet);
-				}
-			}
+			newState = new LevelState(nextLevel, current.totalXp + xp, remaining, curve.getLevelupXP(nextLevel));
 		}
+
+		// Save and send update
+		saveState(newState);
+		sendXpUpdate(packet, current, newState);
 	}
 
-	private int addLevels(int xp, ArrayList<CompletedLevel> output, int currentLevel) {
-		int levelUpCount = getLevelupXPCount();
-		int totXp = getTotalXP();
+	private int addLevels(int xp, ArrayList<CompletedLevel> output, LevelState state) {
+		int currentLevel = state.level;
+		int levelUpCount = state.levelUpXp;
+		int totXp = state.totalXp;
 		int remaining = 0;
 		while (true) {
 			remaining = xp - levelUpCount;
@@ -494,16 +483,8 @@ public class LevelManager extends LevelInfo {
 			// Increase level
 			currentLevel++;
 
-			// Evaluate the curve
-			ExpressionBuilder builder = new ExpressionBuilder(levelCurveEval);
-			builder.variables("level", "lastlevel", "totalxp");
-			Expression exp = builder.build();
-			exp.setVariable("level", currentLevel);
-			exp.setVariable("lastlevel", currentLevel - 1);
-			exp.setVariable("totalxp", totXp);
-			levelUpCount = (int) exp.evaluate();
-			if (levelUpCount > 15000)
-				levelUpCount = 15000;
+			// Find the next level-up xp count
+			levelUpCount = curve.getLevelupXP(currentLevel);
 
 			// Increase
 			totXp += levelUpCount;
@@ -516,7 +497,7 @@ public class LevelManager extends LevelInfo {
 				break;
 		}
 		if (currentLevel > maxLevel)
-			return levelUpCount;
+			return curve.getLevelupXP(maxLevel);
 		return remaining;
 	}
 
@@ -571,195 +552,43 @@ public class LevelManager extends LevelInfo {
 
 	@Override
 	public void removeXP(int xp) {
-		// Add fields
-		XpUpdatePacket packet = new XpUpdatePacket();
-		packet.userId = account.getAccountID();
-		packet.previous = new XpUpdatePacket.Level();
-		packet.previous.level = getLevel();
-		packet.previous.levelUpXp = getLevelupXPCount();
-		packet.previous.xp = getCurrentXP();
-		packet.current = new XpUpdatePacket.Level();
+		LevelState current = getState();
 
 		// Get new xp count
-		if (getCurrentXP() - xp < 0)
-			xp = getCurrentXP();
+		if (current.currentXp - xp < 0)
+			xp = current.currentXp;
+		XpUpdatePacket packet = new XpUpdatePacket();
 		packet.addedXp = -xp;
-		xp = getCurrentXP() - xp;
-
-		// Create level object
-		JsonObject levelInfo = new JsonObject();
-
-		// Basics
-		levelInfo.addProperty("totalXp", getTotalXP());
-		levelInfo.addProperty("currentLevel", getLevel());
-		levelInfo.addProperty("currentLevelXp", xp);
-		levelInfo.addProperty("currentLevelMaxXp", getLevelupXPCount());
 
-		// Save
-		account.getSaveSpecificInventory().setItem("level", levelInfo);
-
-		// Add new level
-		packet.current = new XpUpdatePacket.Level();
-		packet.current.level = getLevel();
-		packet.current.levelUpXp = getLevelupXPCount();
-		packet.current.xp = getCurrentXP();
-		packet.totalXp = getTotalXP();
-
-		// Send packet
-		String room = null;
-		if (account.getOnlinePlayerInstance() != null) {
-			room = account.getOnlinePlayerInstance().room;
-		}
-		for (Player plr : Centuria.gameServer.getPlayers()) {
-			if (plr.roomReady && plr.room != null && (room == null || plr.room.equals(room))) {
-				plr.client.sendPacket(packet);
-			}
-		}
+		// Save and send update
+		LevelState newState = new LevelState(current.level, current.totalXp, current.currentXp - xp,
+				current.levelUpXp);
+		saveState(newState);
+		sendXpUpdate(packet, current, newState);
 	}
 
 	@Override
 	public void setLevel(int level) {
-		// Add fields
+		LevelState current = getState();
 		XpUpdatePacket packet = new XpUpdatePacket();
-		packet.userId = account.getAccountID();
 		packet.addedXp = 0;
-		packet.previous = new XpUpdatePacket.Level();
-		packet.previous.level = getLevel();
-		packet.previous.levelUpXp = getLevelupXPCount();
-		packet.previous.xp = getCurrentXP();
-		packet.current = new XpUpdatePacket.Level();
-
-		// Create level object
-		JsonObject levelInfo = new JsonObject();
-
-		// Evaluate the curve
-		int tXP = 0;
-		int lUpXp = 0;
-		for (int i = 0; i < level; i++) {
-			ExpressionBuilder builder = new ExpressionBuilder(levelCurveEval);
-			builder.variables("level", "lastlevel", "totalxp");
-			Expression exp = builder.build();
-			exp.setVariable("level", i + 1);
-			exp.setVariable("lastlevel", i);
-			exp.setVariable("totalxp", tXP);
-			int levelUpCount = (int) exp.evaluate();
-			if (levelUpCount > 15000)
-				levelUpCount = 15000;
-			tXP += levelUpCount;
-			lUpXp = levelUpCount;
-		}
-
-		// Basics
-		levelInfo.addProperty("totalXp", tXP);
-		levelInfo.addProperty("currentLevel", level);
-		levelInfo.addProperty("currentLevelXp", 0);
-		levelInfo.addProperty("currentLevelMaxXp", lUpXp);
-
-		// Save
-		account.getSaveSpecificInventory().setItem("level", levelInfo);
 
-		// Add new level
-		packet.current = new XpUpdatePacket.Level();
-		packet.current.level = getLevel();
-		packet.current.levelUpXp = getLevelupXPCount();
-		packet.current.xp = getCurrentXP();
-		packet.totalXp = getTotalXP();
-
-		// Send packet
-		String room = null;
-		if (account.getOnlinePlayerInstance() != null) {
-			room = account.getOnlinePlayerInstance().room;
-		}
-		for (Player plr : Centuria.gameServer.getPlayers()) {
-			if (plr.roomReady && plr.room != null && (room == null || plr.room.equals(room))) {
-				plr.client.sendPacket(packet);
-			}
-		}
+		// Save and send update
+		LevelState newState = new LevelState(level, level < 1 ? 0 : curve.getTotalXPForLevel(level + 1), 0,
+				curve.getLevelupXP(level));
+		saveState(newState);
+		sendXpUpdate(packet, current, newState);
 	}
 
 	@Override
 	public void addLevel(int levels) {
-		int xpToAdd = 0;
 		int level = getLevel();
-		int tXP = getTotalXP();
-		for (int i = 0; i < levels; i++) {
-			ExpressionBuilder builder = new ExpressionBuilder(levelCurveEval);
-			builder.variables("level", "lastlevel", "totalxp");
-			Expression exp = builder.build();
-			exp.setVariable("level", level);
-			exp.setVariable("lastlevel", level - 1);
-			exp.setVariable("totalxp", tXP);
-			int levelUpCount = (int) exp.evaluate();
-			if (levelUpCount > 15000)
-				levelUpCount = 15000;
-
-			tXP += levelUpCount;
-			xpToAdd += levelUpCount;
-			level++;
-		}
-
-		addXP(xpToAdd);
+		addXP(curve.getTotalXPForLevel(level + levels) - curve.getTotalXPForLevel(level));
 	}
 
 	@Override
 	public void resetLevelXP() {
-		// Add fields
-		XpUpdatePacket packet = new XpUpdatePacket();
-		packet.userId = account.getAccountID();
-		packet.addedXp = 0;
-		packet.previous = new XpUpdatePacket.Level();
-		packet.previous.level = getLevel();
-		packet.previous.levelUpXp = getLevelupXPCount();
-		packet.previous.xp = getCurrentXP();
-		packet.current = new XpUpdatePacket.Level();
-
-		// Create level object
-		JsonObject levelInfo = new JsonObject();
-
-		// Evaluate the curve
-		int tXP = 0;
-		int lUpXp = 0;
-		int level = getLevel();
-		for (int i = 0; i < level; i++) {
-			ExpressionBuilder builder = new ExpressionBuilder(levelCurveEval);
-			builder.variables("level", "lastlevel", "totalxp");
-			Expression exp = builder.build();
-			exp.setVariable("level", i + 1);
-			exp.setVariable("lastlevel", i);
-			exp.setVariable("totalxp", tXP);
-			int levelUpCount = (int) exp.evaluate();
-			if (levelUpCount > 15000)
-				levelUpCount = 15000;
-			tXP += levelUpCount;
-			lUpXp = levelUpCount;
-		}
-
-		// Basics
-		levelInfo.addProperty("totalXp", tXP);
-		levelInfo.addProperty("currentLevel", level);
-		levelInfo.addProperty("currentLevelXp", 0);
-		levelInfo.addProperty("currentLevelMaxXp", lUpXp);
-
-		// Save
-		account.getSaveSpecificInventory().setItem("level", levelInfo);
-
-		// Add new level
-		packet.current = new XpUpdatePacket.Level();
-		packet.current.level = getLevel();
-		packet.current.levelUpXp = getLevelupXPCount();
-		packet.current.xp = getCurrentXP();
-		packet.totalXp = getTotalXP();
-
-		// Send packet
-		String room = null;
-		if (account.getOnlinePlayerInstance() != null) {
-			room = account.getOnlinePlayerInstance().room;
-		}
-		for (Player plr : Centuria.gameServer.getPlayers()) {
-			if (plr.roomReady && plr.room != null && (room == null || plr.room.equals(room))) {
-				plr.client.sendPacket(packet);
-			}
-		}
+		setLevel(getLevel());
 	}
 
 }
@@ -47,6 +47,14 @@ public class SelectiveInventory extends PlayerInventory {
 		return account.getSaveSpecificInventory().containsItem(itemID);
 	}
 
+	@Override
+	public long getChangeCount() {
+		if (account.getSaveMode() == SaveMode.SINGLE)
+			return account.getSaveSharedInventory().getChangeCount();
+		return account.getSaveSharedInventory().getChangeCount()
+				+ account.getSaveSpecificInventory().getChangeCount();
+	}
+
 	@Override
 	public SaveSettings getSaveSettings() {
 		if (account.getSaveSpecificInventory().containsItem("savesettings"))
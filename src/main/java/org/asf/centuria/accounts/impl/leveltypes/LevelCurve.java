@@ -0,0 +1,89 @@
+package org.asf.centuria.accounts.impl.leveltypes;
+
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+
+// Compiled level curve, evaluated once into a cumulative xp table
+public class LevelCurve {
+	public static final int MAX_LEVELUP_XP = 15000;
+
+	private final String curveEval;
+	private final int[] levelUpXp;
+	private final int[] totalXp;
+
+	public LevelCurve(String curveEval, int maxLevel) {
+		this.curveEval = curveEval;
+
+		// Evaluate the curve once for all levels
+		int levels = Math.max(maxLevel, 1) + 1;
+		levelUpXp = new int[levels + 1];
+		totalXp = new int[levels + 1];
+		Expression exp = build();
+		for (int level = 1; level <= levels; level++) {
+			totalXp[level] = level == 1 ? 0 : totalXp[level - 1] + levelUpXp[level - 1];
+			levelUpXp[level] = evaluate(exp, level, totalXp[level]);
+		}
+	}
+
+	private Expression build() {
+		ExpressionBuilder builder = new ExpressionBuilder(curveEval);
+		builder.variables("level", "lastlevel", "totalxp");
+		return builder.build();
+	}
+
+	private static int evaluate(Expression exp, int level, int totalXp) {
+		exp.setVariable("level", level);
+		exp.setVariable("lastlevel", level - 1);
+		exp.setVariable("totalxp", totalXp);
+		int levelUpCount = (int) exp.evaluate();
+		if (levelUpCount > MAX_LEVELUP_XP)
+			levelUpCount = MAX_LEVELUP_XP;
+		return levelUpCount;
+	}
+
+	/**
+	 * Retrieves the amount of xp needed to complete a level
+	 * 
+	 * @param level Level number
+	 * @return Level-up xp count
+	 */
+	public int getLevelupXP(int level) {
+		if (level < 1)
+			return 0;
+		if (level < levelUpXp.length)
+			return levelUpXp[level];
+
+		// Outside the table, continue the curve
+		Expression exp = build();
+		int last = levelUpXp.length - 1;
+		int tXp = totalXp[last] + levelUpXp[last];
+		int count = 0;
+		for (int i = last + 1; i <= level; i++) {
+			count = evaluate(exp, i, tXp);
+			tXp += count;
+		}
+		return count;
+	}
+
+	/**
+	 * Retrieves the total amount of xp needed to reach a level
+	 * 
+	 * @param level Level number
+	 * @return Total xp count
+	 */
+	public int getTotalXPForLevel(int level) {
+		if (level <= 1)
+			return 0;
+		if (level < totalXp.length)
+			return totalXp[level];
+
+		// Outside the table, continue the curve
+		Expression exp = build();
+		int last = totalXp.length - 1;
+		int tXp = totalXp[last] + levelUpXp[last];
+		for (int i = last + 1; i < level; i++)
+			tXp += evaluate(exp, i, tXp);
+		return tXp;
+	}
+
+}
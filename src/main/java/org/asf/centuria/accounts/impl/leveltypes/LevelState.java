@@ -0,0 +1,32 @@
+package org.asf.centuria.accounts.impl.leveltypes;
+
+import com.google.gson.JsonObject;
+
+// Level state of a save, stored in the 'level' inventory item
+public class LevelState {
+	public final int level;
+	public final int totalXp;
+	public final int currentXp;
+	public final int levelUpXp;
+
+	public LevelState(int level, int totalXp, int currentXp, int levelUpXp) {
+		this.level = level;
+		this.totalXp = totalXp;
+		this.currentXp = currentXp;
+		this.levelUpXp = levelUpXp;
+	}
+
+	public static LevelState parse(JsonObject obj) {
+		return new LevelState(obj.get("currentLevel").getAsInt(), obj.get("totalXp").getAsInt(),
+				obj.get("currentLevelXp").getAsInt(), obj.get("currentLevelMaxXp").getAsInt());
+	}
+
+	public JsonObject toJson() {
+		JsonObject levelInfo = new JsonObject();
+		levelInfo.addProperty("totalXp", totalXp);
+		levelInfo.addProperty("currentLevel", level);
+		levelInfo.addProperty("currentLevelXp", currentXp);
+		levelInfo.addProperty("currentLevelMaxXp", levelUpXp);
+		return levelInfo;
+	}
+}
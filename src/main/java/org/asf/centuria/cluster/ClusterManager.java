@@ -0,0 +1,263 @@
+package org.asf.centuria.cluster;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.MarkerManager;
+import org.asf.centuria.Centuria;
+
+import com.google.gson.JsonObject;
+
+/**
+ * 
+ * Cluster manager - registers a game server node in the player directory,
+ * keeps the directory up to date and selects the node new players are sent to,
+ * there is one instance per node
+ * 
+ */
+public class ClusterManager {
+
+	private static ClusterManager instance;
+
+	// Configuration
+	private PlayerDirectory directory;
+	private boolean balancing;
+	private String nodeID;
+	private String nodeAddress;
+	private long nodeTimeout;
+	private long heartbeatInterval;
+
+	private boolean started;
+
+	/**
+	 * Creates a cluster node
+	 * 
+	 * @param directory         Player directory the node registers in
+	 * @param nodeID            Node ID
+	 * @param nodeAddress       Address handed out to players for this node, empty
+	 *                          to use the discovery address
+	 * @param balancing         True to send new players to the node with the least
+	 *                          players, false to send them to this node
+	 * @param nodeTimeout       Time in milliseconds after which a node that stopped
+	 *                          updating is considered offline
+	 * @param heartbeatInterval Interval of node updates in milliseconds
+	 */
+	public ClusterManager(PlayerDirectory directory, String nodeID, String nodeAddress, boolean balancing,
+			long nodeTimeout, long heartbeatInterval) {
+		this.directory = directory;
+		this.nodeID = nodeID;
+		this.nodeAddress = nodeAddress;
+		this.balancing = balancing;
+		this.nodeTimeout = nodeTimeout;
+		this.heartbeatInterval = heartbeatInterval;
+	}
+
+	/**
+	 * Retrieves the cluster node of this server, configured by cluster.conf
+	 * 
+	 * @return ClusterManager instance
+	 */
+	public static synchronized ClusterManager getInstance() {
+		if (instance != null)
+			return instance;
+
+		// Load configuration
+		HashMap<String, String> properties = new HashMap<String, String>();
+		try {
+			// Create config if needed
+			if (!new File("cluster.conf").exists()) {
+				Files.writeString(Path.of("cluster.conf"),
+						// Director mode, 'local' sends all players to this node, 'balance' sends
+						// them to the node with the least players
+						"director-mode=local\n"
+
+								// Node ID, generated on startup if empty
+								+ "node-id=\n"
+
+								// Address handed out to players for this node, defaults to the discovery
+								// address
+								+ "node-address=\n"
+
+								// Time after which a node that stopped updating is considered offline
+								+ "node-timeout=15000\n"
+
+								// Interval of node updates
+								+ "heartbeat-interval=5000\n");
+			}
+
+			// Load properties
+			for (String line : Files.readAllLines(Path.of("cluster.conf"))) {
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+				String key = line;
+				String value = "";
+				if (key.contains("=")) {
+					value = key.substring(key.indexOf("=") + 1);
+					key = key.substring(0, key.indexOf("="));
+				}
+				properties.put(key, value);
+			}
+		} catch (IOException e) {
+			Centuria.logger.error(MarkerManager.getMarker("CLUSTER"),
+					"Failed to load cluster.conf, load balancing is disabled", e);
+		}
+		String nodeID = properties.getOrDefault("node-id", "");
+		if (nodeID.isEmpty())
+			nodeID = UUID.randomUUID().toString();
+		instance = new ClusterManager(PlayerDirectory.getInstance(), nodeID,
+				properties.getOrDefault("node-address", ""),
+				properties.getOrDefault("director-mode", "local").equals("balance"),
+				Long.parseLong(properties.getOrDefault("node-timeout", "15000")),
+				Long.parseLong(properties.getOrDefault("heartbeat-interval", "5000")));
+		return instance;
+	}
+
+	/**
+	 * Registers this node in the player directory and starts the node updates
+	 */
+	public synchronized void start() {
+		if (started)
+			return;
+		register(Centuria.gameServer == null ? 0 : Centuria.gameServer.getPlayers().length);
+
+		// Start node updates
+		Thread th = new Thread(() -> {
+			while (Centuria.gameServer != null && !Centuria.gameServer.shutdown) {
+				try {
+					Thread.sleep(heartbeatInterval);
+				} catch (InterruptedException e) {
+					break;
+				}
+				try {
+					updateNode(Centuria.gameServer.getPlayers().length);
+				} catch (Exception e) {
+					Centuria.logger.error(MarkerManager.getMarker("CLUSTER"), "Failed to update node " + nodeID, e);
+				}
+			}
+			directory.removeNode(nodeID);
+		}, "Cluster Node Updater");
+		th.setDaemon(true);
+		th.start();
+	}
+
+	/**
+	 * Registers this node in the player directory without starting the node
+	 * updates, the caller publishes the player count through
+	 * {@link #updateNode(int)}
+	 * 
+	 * @param playerCount Amount of players connected to this node
+	 */
+	public synchronized void register(int playerCount) {
+		if (started)
+			return;
+		started = true;
+		if (nodeAddress.isEmpty())
+			nodeAddress = Centuria.discoveryAddress;
+		updateNode(playerCount);
+		Centuria.logger.info(MarkerManager.getMarker("CLUSTER"), "Registered node " + nodeID + " (" + nodeAddress
+				+ "), director mode: " + (balancing ? "balance" : "local"));
+	}
+
+	/**
+	 * Publishes the player count of this node
+	 * 
+	 * @param playerCount Amount of players connected to this node
+	 */
+	public void updateNode(int playerCount) {
+		directory.registerNode(new ClusterNode(nodeID, nodeAddress, playerCount));
+	}
+
+	/**
+	 * Retrieves the ID of this node
+	 * 
+	 * @return Node ID
+	 */
+	public String getNodeID() {
+		return nodeID;
+	}
+
+	/**
+	 * Retrieves all nodes that are online
+	 * 
+	 * @return Array of ClusterNode instances
+	 */
+	public ClusterNode[] getNodes() {
+		return directory.getNodes(nodeTimeout);
+	}
+
+	/**
+	 * Selects the address of the game server new players should connect to
+	 * 
+	 * @return Game server address
+	 */
+	public String selectServerAddress() {
+		if (!balancing || !started)
+			return Centuria.discoveryAddress;
+		ClusterNode node = directory.selectNode(nodeTimeout);
+		if (node == null || node.address == null || node.address.isEmpty())
+			return Centuria.discoveryAddress;
+		return node.address;
+	}
+
+	/**
+	 * Called when a player joins this node
+	 * 
+	 * @param accountID Account ID of the player that joined
+	 */
+	public void playerJoined(String accountID) {
+		if (started)
+			directory.playerOnline(accountID, nodeID);
+	}
+
+	/**
+	 * Called when a player leaves this node
+	 * 
+	 * @param accountID Account ID of the player that left
+	 */
+	public void playerLeft(String accountID) {
+		if (started)
+			directory.playerOffline(accountID, nodeID);
+	}
+
+	/**
+	 * Finds the node of a player that is online on a different node
+	 * 
+	 * @param accountID Player account ID
+	 * @return Node ID or null if the player is offline or connected to this node
+	 */
+	public String findRemotePlayer(String accountID) {
+		if (!started)
+			return null;
+		String node = directory.findPlayer(accountID, nodeTimeout);
+		if (node == null || node.equals(nodeID))
+			return null;
+		return node;
+	}
+
+	/**
+	 * Forwards a message to a different node
+	 * 
+	 * @param node    Target node ID
+	 * @param channel Message channel
+	 * @param payload Message payload
+	 */
+	public void sendMessage(String node, String channel, JsonObject payload) {
+		directory.sendMessage(node, channel, payload);
+	}
+
+	/**
+	 * Registers a handler for messages forwarded to this node
+	 * 
+	 * @param channel Message channel
+	 * @param handler Message handler
+	 */
+	public void registerMessageHandler(String channel, Consumer<JsonObject> handler) {
+		directory.registerMessageHandler(nodeID, channel, handler);
+	}
+
+}
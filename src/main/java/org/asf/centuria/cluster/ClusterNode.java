@@ -0,0 +1,25 @@
+package org.asf.centuria.cluster;
+
+/**
+ * 
+ * Game server node information, registered in the player directory
+ * 
+ */
+public class ClusterNode {
+
+	public String nodeID;
+	public String address;
+	public int playerCount;
+	public long lastUpdate;
+
+	public ClusterNode() {
+	}
+
+	public ClusterNode(String nodeID, String address, int playerCount) {
+		this.nodeID = nodeID;
+		this.address = address;
+		this.playerCount = playerCount;
+		this.lastUpdate = System.currentTimeMillis();
+	}
+
+}
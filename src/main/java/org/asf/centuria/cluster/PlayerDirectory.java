@@ -0,0 +1,103 @@
+package org.asf.centuria.cluster;
+
+import java.util.function.Consumer;
+
+import org.asf.centuria.cluster.impl.LoopbackPlayerDirectory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * 
+ * Player directory - keeps track of the game server nodes and of which node
+ * each online player is connected to, and forwards messages between nodes
+ * 
+ */
+public abstract class PlayerDirectory {
+
+	protected static PlayerDirectory implementation = new LoopbackPlayerDirectory();
+
+	/**
+	 * Retrieves the player directory
+	 * 
+	 * @return PlayerDirectory instance
+	 */
+	public static PlayerDirectory getInstance() {
+		return implementation;
+	}
+
+	/**
+	 * Registers a node or updates its information
+	 * 
+	 * @param node Node information
+	 */
+	public abstract void registerNode(ClusterNode node);
+
+	/**
+	 * Removes a node and all players connected to it
+	 * 
+	 * @param nodeID Node ID
+	 */
+	public abstract void removeNode(String nodeID);
+
+	/**
+	 * Retrieves all nodes that have been updated recently
+	 * 
+	 * @param timeout Time in milliseconds after which a node is considered offline
+	 * @return Array of ClusterNode instances
+	 */
+	public abstract ClusterNode[] getNodes(long timeout);
+
+	/**
+	 * Selects the node with the least players and reserves a player slot on it
+	 * until its next update
+	 * 
+	 * @param timeout Time in milliseconds after which a node is considered offline
+	 * @return ClusterNode instance or null if no nodes are online
+	 */
+	public abstract ClusterNode selectNode(long timeout);
+
+	/**
+	 * Marks a player as online on a node
+	 * 
+	 * @param accountID Player account ID
+	 * @param nodeID    Node ID
+	 */
+	public abstract void playerOnline(String accountID, String nodeID);
+
+	/**
+	 * Marks a player as offline, ignored if the player moved to a different node
+	 * 
+	 * @param accountID Player account ID
+	 * @param nodeID    Node ID
+	 */
+	public abstract void playerOffline(String accountID, String nodeID);
+
+	/**
+	 * Finds the node a player is connected to
+	 * 
+	 * @param accountID Player account ID
+	 * @param timeout   Time in milliseconds after which a node is considered
+	 *                  offline
+	 * @return Node ID or null if the player is not online
+	 */
+	public abstract String findPlayer(String accountID, long timeout);
+
+	/**
+	 * Forwards a message to a node
+	 * 
+	 * @param nodeID  Target node ID
+	 * @param channel Message channel
+	 * @param payload Message payload
+	 */
+	public abstract void sendMessage(String nodeID, String channel, JsonObject payload);
+
+	/**
+	 * Registers a handler for messages forwarded to a node
+	 * 
+	 * @param nodeID  Node ID
+	 * @param channel Message channel
+	 * @param handler Message handler
+	 */
+	public abstract void registerMessageHandler(String nodeID, String channel, Consumer<JsonObject> handler);
+
+}
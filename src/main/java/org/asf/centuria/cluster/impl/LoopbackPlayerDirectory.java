@@ -0,0 +1,104 @@
+package org.asf.centuria.cluster.impl;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.MarkerManager;
+import org.asf.centuria.Centuria;
+import org.asf.centuria.cluster.ClusterNode;
+import org.asf.centuria.cluster.PlayerDirectory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * 
+ * In-process player directory, used by single-process setups and for testing
+ * several nodes within one process
+ * 
+ */
+public class LoopbackPlayerDirectory extends PlayerDirectory {
+
+	private ConcurrentHashMap<String, ClusterNode> nodes = new ConcurrentHashMap<String, ClusterNode>();
+	private ConcurrentHashMap<String, String> players = new ConcurrentHashMap<String, String>();
+	private ConcurrentHashMap<String, Consumer<JsonObject>> handlers = new ConcurrentHashMap<String, Consumer<JsonObject>>();
+
+	@Override
+	public synchronized void registerNode(ClusterNode node) {
+		ClusterNode info = new ClusterNode(node.nodeID, node.address, node.playerCount);
+		nodes.put(info.nodeID, info);
+	}
+
+	@Override
+	public synchronized void removeNode(String nodeID) {
+		nodes.remove(nodeID);
+		players.values().removeIf(t -> t.equals(nodeID));
+	}
+
+	@Override
+	public ClusterNode[] getNodes(long timeout) {
+		long now = System.currentTimeMillis();
+		ArrayList<ClusterNode> online = new ArrayList<ClusterNode>();
+		for (ClusterNode node : nodes.values()) {
+			if (now - node.lastUpdate <= timeout)
+				online.add(node);
+		}
+		return online.toArray(t -> new ClusterNode[t]);
+	}
+
+	@Override
+	public synchronized ClusterNode selectNode(long timeout) {
+		ClusterNode best = null;
+		for (ClusterNode node : getNodes(timeout)) {
+			if (best == null || node.playerCount < best.playerCount
+					|| (node.playerCount == best.playerCount && node.nodeID.compareTo(best.nodeID) < 0))
+				best = node;
+		}
+		if (best == null)
+			return null;
+
+		// Reserve a slot so bursts of logins are spread until the next update
+		best.playerCount++;
+		return new ClusterNode(best.nodeID, best.address, best.playerCount);
+	}
+
+	@Override
+	public void playerOnline(String accountID, String nodeID) {
+		players.put(accountID, nodeID);
+	}
+
+	@Override
+	public void playerOffline(String accountID, String nodeID) {
+		players.remove(accountID, nodeID);
+	}
+
+	@Override
+	public String findPlayer(String accountID, long timeout) {
+		String nodeID = players.get(accountID);
+		if (nodeID == null)
+			return null;
+		ClusterNode node = nodes.get(nodeID);
+		if (node == null || System.currentTimeMillis() - node.lastUpdate > timeout)
+			return null;
+		return nodeID;
+	}
+
+	@Override
+	public void sendMessage(String nodeID, String channel, JsonObject payload) {
+		Consumer<JsonObject> handler = handlers.get(nodeID + "/" + channel);
+		if (handler == null)
+			return;
+		try {
+			handler.accept(payload.deepCopy());
+		} catch (Exception e) {
+			Centuria.logger.error(MarkerManager.getMarker("CLUSTER"),
+					"Failed to handle message " + channel + " on node " + nodeID, e);
+		}
+	}
+
+	@Override
+	public void registerMessageHandler(String nodeID, String channel, Consumer<JsonObject> handler) {
+		handlers.put(nodeID + "/" + channel, handler);
+	}
+
+}
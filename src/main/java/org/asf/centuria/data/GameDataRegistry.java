@@ -0,0 +1,477 @@
+package org.asf.centuria.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.MarkerManager;
+import org.asf.centuria.Centuria;
+import org.asf.centuria.modules.ICenturiaModule;
+import org.asf.centuria.modules.ModuleManager;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+
+/**
+ * 
+ * Game data registry, loads the server's JSON data files and the transformers
+ * of all modules in parallel on startup so the data managers can initialize
+ * from memory. Can optionally keep a pre-parsed binary snapshot of all data
+ * files to skip parsing on the next startup if nothing changed.
+ * 
+ */
+public class GameDataRegistry {
+
+	private static final int SNAPSHOT_MAGIC = 0x43444154;
+	private static final int SNAPSHOT_VERSION = 1;
+	private static final File SNAPSHOT_FILE = new File("cache/gamedata.bin");
+
+	private static final String[] RESOURCES = new String[] { "networkedobjects.json", "objecttransformers/index.json",
+			"resourcecollection.json", "leveling/loothooks.json", "leveling/levelrewards.json",
+			"leveling/leveltriggers.json", "questline.json", "quests.json", "shops.json", "itemdefinitions.json",
+			"bundles.json", "creativeitemfilter.json", "defaultitems/clothinghelper.json",
+			"defaultitems/furniturehelper.json", "minigames/doordye.json", "minigames/whatthehex.json",
+			"minigames/dizzywingdispatch.json" };
+	private static final String[] TRANSFORMER_DIRECTORIES = new String[] { "objecttransformers",
+			"resourcetransformers", "shoptransformers", "leveling" };
+
+	private static GameDataRegistry instance = new GameDataRegistry();
+
+	private ConcurrentHashMap<String, JsonElement> documents = new ConcurrentHashMap<String, JsonElement>();
+	private ConcurrentHashMap<String, Long> loadTimes = new ConcurrentHashMap<String, Long>();
+
+	/**
+	 * Retrieves the game data registry
+	 * 
+	 * @return GameDataRegistry instance
+	 */
+	public static GameDataRegistry getInstance() {
+		return instance;
+	}
+
+	private static class DataSource {
+		public String key;
+		public String resource;
+		public URL url;
+		public byte[] data;
+
+		public DataSource(String resource) {
+			this.key = resource;
+			this.resource = resource;
+		}
+
+		public DataSource(URL url) {
+			this.key = url.toString();
+			this.url = url;
+		}
+
+		public InputStream open() throws IOException {
+			if (url != null)
+				return url.openStream();
+			InputStream strm = GameDataRegistry.class.getClassLoader().getResourceAsStream(resource);
+			if (strm == null)
+				throw new FileNotFoundException(resource);
+			return strm;
+		}
+	}
+
+	/**
+	 * Loads all game data files and module transformers in parallel
+	 * 
+	 * @param useSnapshot True to load from and save to the game data snapshot,
+	 *                    false to always parse the data files
+	 */
+	public void loadAll(boolean useSnapshot) {
+		long start = System.nanoTime();
+		ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+			Thread th = new Thread(r, "Game Data Loader");
+			th.setDaemon(true);
+			return th;
+		});
+
+		try {
+			// Find data files and transformer indexes
+			ArrayList<DataSource> sources = new ArrayList<DataSource>();
+			for (String resource : RESOURCES)
+				sources.add(new DataSource(resource));
+			ArrayList<String> bases = new ArrayList<String>();
+			String serverBase = getBaseURL(Centuria.class);
+			if (serverBase != null)
+				bases.add(serverBase);
+			for (ICenturiaModule module : ModuleManager.getInstance().getAllModules()) {
+				String base = getBaseURL(module.getClass());
+				if (base != null && !bases.contains(base))
+					bases.add(base);
+			}
+			for (String base : bases) {
+				for (String dir : TRANSFORMER_DIRECTORIES)
+					sources.add(new DataSource(new URL(base + dir + "/index.json")));
+			}
+			readAll(pool, sources);
+
+			// Find transformers listed in the indexes
+			ArrayList<DataSource> transformers = new ArrayList<DataSource>();
+			for (DataSource source : sources) {
+				if (source.data == null || !source.key.endsWith("/index.json"))
+					continue;
+				String base = source.key.substring(0, source.key.length() - "index.json".length());
+				for (JsonElement ele : JsonParser.parseString(new String(source.data, StandardCharsets.UTF_8))
+						.getAsJsonArray()) {
+					if (source.url != null)
+						transformers.add(new DataSource(new URL(base + ele.getAsString())));
+					else
+						transformers.add(new DataSource(base + ele.getAsString()));
+				}
+			}
+			readAll(pool, transformers);
+			sources.addAll(transformers);
+			sources.removeIf(t -> t.data == null);
+
+			// Try the snapshot
+			byte[] hash = computeHash(sources);
+			if (useSnapshot && loadSnapshot(hash)) {
+				Centuria.logger.info(MarkerManager.getMarker("GAMEDATA"), "Loaded " + sources.size()
+						+ " game data files from snapshot in " + ((System.nanoTime() - start) / 1000000) + "ms");
+				logLoadTimes();
+				return;
+			}
+
+			// Parse all data files
+			ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+			for (DataSource source : sources) {
+				tasks.add(() -> {
+					long fileStart = System.nanoTime();
+					documents.put(source.key, JsonParser.parseString(new String(source.data, StandardCharsets.UTF_8)));
+					loadTimes.put(source.key, System.nanoTime() - fileStart);
+					return null;
+				});
+			}
+			waitFor(pool.invokeAll(tasks));
+			Centuria.logger.info(MarkerManager.getMarker("GAMEDATA"), "Parsed " + sources.size()
+					+ " game data files in " + ((System.nanoTime() - start) / 1000000) + "ms");
+			logLoadTimes();
+
+			// Save snapshot
+			if (useSnapshot) {
+				try {
+					saveSnapshot(hash);
+				} catch (IOException e) {
+					Centuria.logger.error(MarkerManager.getMarker("GAMEDATA"), "Failed to save game data snapshot", e);
+				}
+			}
+		} catch (IOException | InterruptedException e) {
+			throw new RuntimeException(e);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Initializes data classes that load their data on class initialization,
+	 * should be called after loadAll()
+	 * 
+	 * @param classes Classes to initialize
+	 */
+	public void initialize(Class<?>... classes) {
+		for (Class<?> cls : classes) {
+			long start = System.nanoTime();
+			try {
+				Class.forName(cls.getName(), true, cls.getClassLoader());
+			} catch (ClassNotFoundException e) {
+				throw new RuntimeException(e);
+			}
+			Centuria.logger.debug(MarkerManager.getMarker("GAMEDATA"), "Initialized " + cls.getSimpleName() + " in "
+					+ ((System.nanoTime() - start) / 1000000) + "ms");
+		}
+	}
+
+	/**
+	 * Releases the preloaded documents, data requested after this will be loaded
+	 * on demand
+	 */
+	public void releaseDocuments() {
+		documents.clear();
+	}
+
+	/**
+	 * Retrieves a JSON resource from the server classpath
+	 * 
+	 * @param resource Resource path
+	 * @return JsonElement instance (<b>must not be modified</b>)
+	 * @throws IOException If the resource cannot be loaded
+	 */
+	public JsonElement getResource(String resource) throws IOException {
+		return getDocument(new DataSource(resource));
+	}
+
+	/**
+	 * Retrieves a JSON document by URL (used for module transformers)
+	 * 
+	 * @param url Document URL
+	 * @return JsonElement instance (<b>must not be modified</b>)
+	 * @throws IOException If the document cannot be loaded
+	 */
+	public JsonElement getDocument(URL url) throws IOException {
+		return getDocument(new DataSource(url));
+	}
+
+	private JsonElement getDocument(DataSource source) throws IOException {
+		JsonElement doc = documents.get(source.key);
+		if (doc != null)
+			return doc;
+
+		// Load on demand
+		long start = System.nanoTime();
+		InputStream strm = source.open();
+		try {
+			doc = JsonParser.parseString(new String(strm.readAllBytes(), StandardCharsets.UTF_8));
+		} finally {
+			strm.close();
+		}
+		loadTimes.put(source.key, System.nanoTime() - start);
+		return doc;
+	}
+
+	/**
+	 * Retrieves the load times of all data files
+	 * 
+	 * @return Map of data file paths to load times in nanoseconds
+	 */
+	public Map<String, Long> getLoadTimes() {
+		return Collections.unmodifiableMap(new TreeMap<String, Long>(loadTimes));
+	}
+
+	private void logLoadTimes() {
+		getLoadTimes().forEach((key, time) -> Centuria.logger.info(MarkerManager.getMarker("GAMEDATA"),
+				"  " + key + ": " + String.format("%.2f", time / 1000000d) + "ms"));
+	}
+
+	private static String getBaseURL(Class<?> cls) {
+		try {
+			URL source = cls.getProtectionDomain().getCodeSource().getLocation();
+			File sourceFile = new File(source.toURI());
+			if (sourceFile.isDirectory())
+				return source + (source.toString().endsWith("/") ? "" : "/");
+			else
+				return "jar:" + source + "!/";
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private static void readAll(ExecutorService pool, List<DataSource> sources) throws InterruptedException {
+		ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for (DataSource source : sources) {
+			tasks.add(() -> {
+				try {
+					InputStream strm = source.open();
+					source.data = strm.readAllBytes();
+					strm.close();
+				} catch (IOException e) {
+					// Not present
+				}
+				return null;
+			});
+		}
+		waitFor(pool.invokeAll(tasks));
+	}
+
+	private static void waitFor(List<Future<Void>> futures) throws InterruptedException {
+		for (Future<Void> future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				throw new RuntimeException(e.getCause());
+			}
+		}
+	}
+
+	private static byte[] computeHash(List<DataSource> sources) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			TreeMap<String, byte[]> sorted = new TreeMap<String, byte[]>();
+			for (DataSource source : sources)
+				sorted.put(source.key, source.data);
+			sorted.forEach((key, data) -> {
+				digest.update(key.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+				digest.update(data);
+				digest.update((byte) 0);
+			});
+			return digest.digest();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private boolean loadSnapshot(byte[] hash) {
+		if (!SNAPSHOT_FILE.exists())
+			return false;
+
+		LinkedHashMap<String, JsonElement> docs = new LinkedHashMap<String, JsonElement>();
+		LinkedHashMap<String, Long> times = new LinkedHashMap<String, Long>();
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(SNAPSHOT_FILE), 65536))) {
+			// Check header
+			if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION)
+				return false;
+			byte[] snapshotHash = new byte[in.readInt()];
+			in.readFully(snapshotHash);
+			if (!Arrays.equals(hash, snapshotHash))
+				return false;
+
+			// Read documents
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				long start = System.nanoTime();
+				String key = in.readUTF();
+				docs.put(key, readElement(in));
+				times.put(key, System.nanoTime() - start);
+			}
+		} catch (IOException e) {
+			Centuria.logger.warn(MarkerManager.getMarker("GAMEDATA"), "Failed to read game data snapshot, reparsing",
+					e);
+			return false;
+		}
+
+		documents.putAll(docs);
+		loadTimes.putAll(times);
+		return true;
+	}
+
+	private void saveSnapshot(byte[] hash) throws IOException {
+		SNAPSHOT_FILE.getParentFile().mkdirs();
+		File tmp = new File(SNAPSHOT_FILE.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(tmp), 65536))) {
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeInt(SNAPSHOT_VERSION);
+			out.writeInt(hash.length);
+			out.write(hash);
+			out.writeInt(documents.size());
+			for (Map.Entry<String, JsonElement> doc : documents.entrySet()) {
+				out.writeUTF(doc.getKey());
+				writeElement(out, doc.getValue());
+			}
+		}
+		SNAPSHOT_FILE.delete();
+		if (!tmp.renameTo(SNAPSHOT_FILE))
+			throw new IOException("Failed to move snapshot into place");
+	}
+
+	// Binary element encoding
+	private static final int TYPE_NULL = 0;
+	private static final int TYPE_TRUE = 1;
+	private static final int TYPE_FALSE = 2;
+	private static final int TYPE_NUMBER = 3;
+	private static final int TYPE_STRING = 4;
+	private static final int TYPE_ARRAY = 5;
+	private static final int TYPE_OBJECT = 6;
+
+	private static void writeElement(DataOutputStream out, JsonElement ele) throws IOException {
+		if (ele.isJsonNull()) {
+			out.writeByte(TYPE_NULL);
+		} else if (ele.isJsonPrimitive()) {
+			JsonPrimitive prim = ele.getAsJsonPrimitive();
+			if (prim.isBoolean()) {
+				out.writeByte(prim.getAsBoolean() ? TYPE_TRUE : TYPE_FALSE);
+			} else if (prim.isNumber()) {
+				out.writeByte(TYPE_NUMBER);
+				writeString(out, prim.getAsNumber().toString());
+			} else {
+				out.writeByte(TYPE_STRING);
+				writeString(out, prim.getAsString());
+			}
+		} else if (ele.isJsonArray()) {
+			JsonArray arr = ele.getAsJsonArray();
+			out.writeByte(TYPE_ARRAY);
+			out.writeInt(arr.size());
+			for (JsonElement child : arr)
+				writeElement(out, child);
+		} else {
+			JsonObject obj = ele.getAsJsonObject();
+			out.writeByte(TYPE_OBJECT);
+			out.writeInt(obj.size());
+			for (Map.Entry<String, JsonElement> child : obj.entrySet()) {
+				writeString(out, child.getKey());
+				writeElement(out, child.getValue());
+			}
+		}
+	}
+
+	private static JsonElement readElement(DataInputStream in) throws IOException {
+		int type = in.readUnsignedByte();
+		switch (type) {
+		case TYPE_NULL:
+			return JsonNull.INSTANCE;
+		case TYPE_TRUE:
+			return new JsonPrimitive(true);
+		case TYPE_FALSE:
+			return new JsonPrimitive(false);
+		case TYPE_NUMBER:
+			return new JsonPrimitive(new LazilyParsedNumber(readString(in)));
+		case TYPE_STRING:
+			return new JsonPrimitive(readString(in));
+		case TYPE_ARRAY: {
+			int size = in.readInt();
+			JsonArray arr = new JsonArray(size);
+			for (int i = 0; i < size; i++)
+				arr.add(readElement(in));
+			return arr;
+		}
+		case TYPE_OBJECT: {
+			int size = in.readInt();
+			JsonObject obj = new JsonObject();
+			for (int i = 0; i < size; i++) {
+				String key = readString(in);
+				obj.add(key, readElement(in));
+			}
+			return obj;
+		}
+		default:
+			throw new IOException("Invalid element type in game data snapshot: " + type);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] data = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(data.length);
+		out.write(data);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] data = new byte[in.readInt()];
+		in.readFully(data);
+		return new String(data, StandardCharsets.UTF_8);
+	}
+
+}
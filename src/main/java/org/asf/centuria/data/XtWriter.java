@@ -9,14 +9,14 @@ public class XtWriter {
 
 	public String encode() {
 		boolean first = true;
-		String d = "%xt%";
+		StringBuilder d = new StringBuilder("%xt%");
 		for (String t : objects) {
 			if (!first)
-				d += "%";
-			d += t;
+				d.append('%');
+			d.append(t);
 			first = false;
 		}
-		return d;
+		return d.toString();
 
 	}
 
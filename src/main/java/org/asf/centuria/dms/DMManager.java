@@ -57,6 +57,24 @@ public abstract class DMManager {
 	 */
 	public abstract String[] getDMParticipants(String dmID);
 
+	/**
+	 * Retrieves the summary of a DM (participants, most recent message and last
+	 * activity)
+	 * 
+	 * @param dmID Conversation ID
+	 * @return DMSummary instance or null if the DM does not exist
+	 */
+	public DMSummary getDMSummary(String dmID) {
+		if (!dmExists(dmID))
+			return null;
+		DMSummary summary = new DMSummary();
+		summary.participants = getDMParticipants(dmID);
+		PrivateChatMessage[] messages = getDMHistory(dmID, "");
+		if (messages.length != 0)
+			summary.lastMessage = messages[messages.length - 1];
+		return summary;
+	}
+
 	/**
 	 * Retrieves the messages sent in a DM
 	 * 
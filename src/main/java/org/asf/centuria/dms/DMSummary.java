@@ -0,0 +1,11 @@
+package org.asf.centuria.dms;
+
+public class DMSummary {
+
+	// Conversation summary, kept in memory so conversation listings do not need to
+	// load the full DM
+	public String[] participants;
+	public PrivateChatMessage lastMessage;
+	public long lastActivity;
+
+}
@@ -7,8 +7,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.asf.centuria.dms.DMManager;
+import org.asf.centuria.dms.DMSummary;
 import org.asf.centuria.dms.PrivateChatMessage;
 import org.asf.centuria.social.SocialManager;
 
@@ -20,6 +22,7 @@ import com.google.gson.JsonParser;
 public class FileBasedDMManager extends DMManager {
 
 	private ArrayList<String> activeIDs = new ArrayList<String>();
+	private ConcurrentHashMap<String, DMSummary> summaries = new ConcurrentHashMap<String, DMSummary>();
 
 	@Override
 	public void openDM(String dmID, String[] participants) {
@@ -34,6 +37,7 @@ public class FileBasedDMManager extends DMManager {
 				dm.add("participants", participantObjects);
 				dm.add("messages", new JsonArray());
 				Files.writeString(Path.of("dms/" + UUID.fromString(dmID) + ".json"), dm.toString());
+				summaries.put(UUID.fromString(dmID).toString(), summarize(dm, System.currentTimeMillis()));
 			}
 		} catch (Exception e) {
 		}
@@ -42,6 +46,8 @@ public class FileBasedDMManager extends DMManager {
 	@Override
 	public boolean dmExists(String dmID) {
 		try {
+			if (summaries.containsKey(UUID.fromString(dmID).toString()))
+				return true;
 			return new File("dms/" + UUID.fromString(dmID) + ".json").exists();
 		} catch (Exception e) {
 			return false;
@@ -113,6 +119,7 @@ public class FileBasedDMManager extends DMManager {
 				}
 			activeIDs.add(dmID);
 			Files.writeString(Path.of("dms/" + UUID.fromString(dmID) + ".json"), dm.toString());
+			summaries.put(UUID.fromString(dmID).toString(), summarize(dm, System.currentTimeMillis()));
 			activeIDs.remove(dmID);
 		} catch (IOException e) {
 			if (activeIDs.contains(dmID))
@@ -123,31 +130,70 @@ public class FileBasedDMManager extends DMManager {
 
 	@Override
 	public String[] getDMParticipants(String dmID) {
-		if (!dmExists(dmID))
+		DMSummary summary = getDMSummary(dmID);
+		if (summary == null)
 			throw new IllegalArgumentException("DM not found");
+		return summary.participants.clone();
+	}
+
+	@Override
+	public DMSummary getDMSummary(String dmID) {
+		String id;
+		try {
+			id = UUID.fromString(dmID).toString();
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+
+		// Check index
+		DMSummary summary = summaries.get(id);
+		if (summary != null)
+			return summary;
+		File file = new File("dms/" + id + ".json");
+		if (!file.exists())
+			return null;
 
-		ArrayList<String> participants = new ArrayList<String>();
 		try {
 			// Parse DM
-			FileReader reader = new FileReader("dms/" + UUID.fromString(dmID) + ".json");
+			FileReader reader = new FileReader(file);
 			JsonObject dm = JsonParser.parseReader(reader).getAsJsonObject();
-			JsonArray data = dm.get("participants").getAsJsonArray();
 			reader.close();
 
-			// Add participants
-			for (JsonElement ele : data) {
-				participants.add(ele.getAsString());
-			}
+			// Add to index
+			summary = summarize(dm, file.lastModified());
+			DMSummary old = summaries.putIfAbsent(id, summary);
+			return old != null ? old : summary;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
-		return participants.toArray(t -> new String[t]);
+	}
+
+	// Creates the summary of a DM
+	private static DMSummary summarize(JsonObject dm, long lastActivity) {
+		DMSummary summary = new DMSummary();
+		ArrayList<String> participants = new ArrayList<String>();
+		for (JsonElement ele : dm.get("participants").getAsJsonArray())
+			participants.add(ele.getAsString());
+		summary.participants = participants.toArray(t -> new String[t]);
+		JsonArray messages = dm.get("messages").getAsJsonArray();
+		if (messages.size() != 0) {
+			JsonObject msg = messages.get(messages.size() - 1).getAsJsonObject();
+			PrivateChatMessage message = new PrivateChatMessage();
+			message.content = msg.get("content").getAsString();
+			message.source = msg.get("source").getAsString();
+			message.sentAt = msg.get("sentAt").getAsString();
+			summary.lastMessage = message;
+		}
+		summary.lastActivity = lastActivity;
+		return summary;
 	}
 
 	@Override
 	public void deleteDM(String dmID) {
-		if (dmExists(dmID))
+		if (dmExists(dmID)) {
 			new File("dms/" + UUID.fromString(dmID) + ".json").delete();
+			summaries.remove(UUID.fromString(dmID).toString());
+		}
 	}
 
 	@Override
@@ -174,6 +220,9 @@ public class FileBasedDMManager extends DMManager {
 				}
 			activeIDs.add(dmID);
 			Files.writeString(Path.of("dms/" + UUID.fromString(dmID) + ".json"), dm.toString());
+			DMSummary summary = summaries.get(UUID.fromString(dmID).toString());
+			summaries.put(UUID.fromString(dmID).toString(),
+					summarize(dm, summary != null ? summary.lastActivity : System.currentTimeMillis()));
 			activeIDs.remove(dmID);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
@@ -209,6 +258,9 @@ public class FileBasedDMManager extends DMManager {
 				}
 			activeIDs.add(dmID);
 			Files.writeString(Path.of("dms/" + UUID.fromString(dmID) + ".json"), dm.toString());
+			DMSummary summary = summaries.get(UUID.fromString(dmID).toString());
+			summaries.put(UUID.fromString(dmID).toString(),
+					summarize(dm, summary != null ? summary.lastActivity : System.currentTimeMillis()));
 			activeIDs.remove(dmID);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
@@ -3,11 +3,13 @@ package org.asf.centuria.entities.players;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 
 import org.apache.logging.log4j.MarkerManager;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
+import org.asf.centuria.accounts.PlayerInventory;
 import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.generic.Quaternion;
 import org.asf.centuria.entities.generic.Vector3;
@@ -23,6 +25,7 @@ import org.asf.centuria.interactions.groupobjects.GroupObject;
 import org.asf.centuria.interactions.modules.QuestManager;
 import org.asf.centuria.minigames.AbstractMinigame;
 import org.asf.centuria.networking.gameserver.GameServer;
+import org.asf.centuria.networking.gameserver.InterestManager;
 import org.asf.centuria.networking.smartfox.SmartfoxClient;
 import org.asf.centuria.packets.xt.gameserver.avatar.AvatarObjectInfoPacket;
 import org.asf.centuria.packets.xt.gameserver.object.ObjectDeletePacket;
@@ -117,7 +120,8 @@ public class Player {
 
 				// If the player is ingame, show this player to them
 				Player plr = blockedPlayer.getOnlinePlayerInstance();
-				if (plr != null && roomReady && plr.roomReady && plr.room.equals(room) && plr.levelID == levelID) {
+				if (plr != null && roomReady && plr.roomReady && plr.room.equals(room) && plr.levelID == levelID
+						&& InterestManager.isInRange(this, plr)) {
 					syncTo(plr, WorldObjectMoverNodeType.InitPosition);
 				}
 			}
@@ -183,6 +187,19 @@ public class Player {
 	public boolean questStarted = false;
 	public int questObjective = 0;
 
+	// Cached avatar spawn data
+	private static class AvatarDescriptor {
+		public String lookID;
+		public PlayerInventory inventory;
+		public long sharedChangeCount;
+		public String name;
+
+		public String look;
+		public String displayName;
+	}
+
+	private volatile AvatarDescriptor avatarDescriptor;
+
 	public void destroyAt(Player player) {
 		// Delete character
 		ObjectDeletePacket packet = new ObjectDeletePacket(account.getAccountID());
@@ -199,19 +216,8 @@ public class Player {
 			return; // Do not sync to blocked players
 
 		// Find avatar
-		JsonArray items = account.getSaveSpecificInventory().getItem("avatars").getAsJsonArray();
-		JsonObject lookObj = null;
-		for (JsonElement itm : items) {
-			if (itm.isJsonObject()) {
-				JsonObject obj = itm.getAsJsonObject();
-				if (obj.get("id").getAsString().equals(activeLook)) {
-					lookObj = obj;
-					break;
-				}
-			}
-		}
-
-		if (lookObj != null) {
+		AvatarDescriptor avatar = getAvatarDescriptor();
+		if (avatar != null) {
 			// Spawn player
 			AvatarObjectInfoPacket packet = new AvatarObjectInfoPacket();
 
@@ -229,15 +235,62 @@ public class Player {
 			packet.lastMove.actorActionType = lastAction;
 
 			// Look and name
-			packet.look = lookObj.get("components").getAsJsonObject().get("AvatarLook").getAsJsonObject().get("info")
-					.getAsJsonObject();
-			packet.displayName = GameServer.getPlayerNameWithPrefix(account);
+			packet.encodedLook = avatar.look;
+			packet.displayName = avatar.displayName;
 			packet.unknownValue = 0; // TODO: What is this??
 
 			player.client.sendPacket(packet);
 		}
 	}
 
+	/**
+	 * Clears the cached avatar look and name, call this after changing the active
+	 * look or anything that affects the display name
+	 */
+	public void invalidateAvatarDescriptor() {
+		avatarDescriptor = null;
+	}
+
+	// Retrieves the avatar look and name, rebuilding them only if they changed
+	private AvatarDescriptor getAvatarDescriptor() {
+		AvatarDescriptor avatar = avatarDescriptor;
+		PlayerInventory sharedInv = account.getSaveSharedInventory();
+		PlayerInventory inv = account.getSaveSpecificInventory();
+		if (avatar != null && Objects.equals(avatar.lookID, activeLook) && avatar.inventory == inv
+				&& avatar.sharedChangeCount == sharedInv.getChangeCount()
+				&& avatar.name.equals(account.getDisplayName()))
+			return avatar;
+
+		// Find avatar
+		String lookID = activeLook;
+		long sharedChangeCount = sharedInv.getChangeCount();
+		JsonArray items = inv.getItem("avatars").getAsJsonArray();
+		JsonObject lookObj = null;
+		for (JsonElement itm : items) {
+			if (itm.isJsonObject()) {
+				JsonObject obj = itm.getAsJsonObject();
+				if (obj.get("id").getAsString().equals(lookID)) {
+					lookObj = obj;
+					break;
+				}
+			}
+		}
+		if (lookObj == null)
+			return null;
+
+		// Encode look and name
+		avatar = new AvatarDescriptor();
+		avatar.lookID = lookID;
+		avatar.inventory = inv;
+		avatar.sharedChangeCount = sharedChangeCount;
+		avatar.name = account.getDisplayName();
+		avatar.look = lookObj.get("components").getAsJsonObject().get("AvatarLook").getAsJsonObject().get("info")
+				.getAsJsonObject().toString();
+		avatar.displayName = GameServer.getPlayerNameWithPrefix(account);
+		avatarDescriptor = avatar;
+		return avatar;
+	}
+
 	/**
 	 * Attempts to teleport the player to another player's sanctuary.
 	 * 
@@ -2,6 +2,8 @@ package org.asf.centuria.interactions;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.apache.logging.log4j.MarkerManager;
@@ -92,9 +94,7 @@ public class InteractionManager {
 		ArrayList<String> ids = new ArrayList<String>();
 
 		// Find level objects
-		for (String id : NetworkedObjects.getCollectionIdsForLevel(Integer.toString(levelID))) {
-			NetworkedObjects.getObjects(id).objects.keySet().forEach(t -> ids.add(t));
-		}
+		ids.addAll(NetworkedObjects.getLevelIndex(Integer.toString(levelID)).getObjectIds());
 
 		// Initialize modules
 		modules.forEach(t -> t.prepareWorld(levelID, ids, player));
@@ -104,86 +104,39 @@ public class InteractionManager {
 		player.interactions.addAll(ids);
 	}
 
-	/**
-	 * Initializes networked objects (eg. npcs)
-	 * 
-	 * @param player  Player to send the packets to
-	 * @param ids     Object UUIDs to initialize
-	 * @param levelID Level to find interactions for
-	 */
-	public static void initializeNetworkedObjects(Player player, String[] ids, int levelID) {
-		HashMap<String, NetworkedObject> data = new HashMap<String, NetworkedObject>();
+	// Pre-encoded static parts of the object spawn packets
+	private static class EncodedObject {
+		public String qsEntry;
+		public String stateCommand;
+		public String spawnPrefix;
+		public String spawnSuffix;
+	}
 
-		// Add objects
-		for (String id : ids) {
-			data.put(id, NetworkedObjects.getObject(id));
-		}
+	private static ConcurrentHashMap<String, EncodedObject> encodedObjects = new ConcurrentHashMap<String, EncodedObject>();
 
-		// Send init packet
-		XtWriter packet = new XtWriter();
-		packet.writeString("qs");
-		packet.writeString("-1"); // data prefix
-		packet.writeString("-1036"); // unknown
-		packet.writeString("24"); // unknown
-		packet.writeInt(data.size()); // count
-		for (String id : data.keySet()) {
-			NetworkedObject ent = data.get(id);
-			packet.writeString(id);
-			packet.writeInt(ent.primaryObjectInfo.type);
-			packet.writeInt(ent.primaryObjectInfo.defId);
-		}
-		packet.writeString(""); // data suffix
-		player.client.sendPacket(packet.encode());
-
-		GroupObject[] linearObjects = getActiveSpawnBehaviour().provideCurrent(levelID, player);
-		player.groupOjects.addAll(Stream.of(linearObjects).toList());
-		if (linearObjects.length != 0) {
-			// Init group objects
-			packet = new XtWriter();
-			packet.writeString("qsgo");
+	private static EncodedObject encodeObject(String id, NetworkedObject ent) {
+		EncodedObject enc = new EncodedObject();
+
+		// Object list entry
+		if (ent.primaryObjectInfo != null)
+			enc.qsEntry = id + "%" + ent.primaryObjectInfo.type + "%" + ent.primaryObjectInfo.defId;
+
+		// Set state command
+		if (ent.stateInfo.size() == 0) {
+			XtWriter packet = new XtWriter();
+			packet.writeString("qcmd");
 			packet.writeString("-1"); // data prefix
-			packet.writeLong(linearObjects.length); // count
-			for (GroupObject ent : linearObjects) {
-				packet.writeString(ent.id);
-				packet.writeInt(ent.type);
-			}
+			packet.writeString("1"); // command: set state
+			packet.writeString(id); // interaction ID
+			packet.writeString("0"); // state param 0
+			packet.writeString("0"); // state param 1
+			packet.writeString("1"); // state param 2: set to substate 1
 			packet.writeString(""); // data suffix
-			player.client.sendPacket(packet.encode());
+			enc.stateCommand = packet.encode();
 		}
 
-		// Send qcmd packets
-		for (String id : data.keySet()) {
-			NetworkedObject ent = data.get(id);
-			if (ent.stateInfo.size() == 0) {
-				// Set states
-				packet = new XtWriter();
-				packet.writeString("qcmd");
-				packet.writeString("-1"); // data prefix
-				packet.writeString("1"); // command: set state
-				packet.writeString(id); // interaction ID
-				packet.writeString("0"); // state param 0
-				packet.writeString("0"); // state param 1
-				packet.writeString("1"); // state param 2: set to substate 1
-				packet.writeString(""); // data suffix
-				player.client.sendPacket(packet.encode());
-			}
-		}
-
-		// Initialize objects
-		for (String id : data.keySet()) {
-			NetworkedObject ent = data.get(id);
-			boolean handled = false;
-			for (InteractionModule mod : modules) {
-				if (mod.initializeWorldObjects(player.client, id, ent)) {
-					handled = true;
-					break;
-				}
-			}
-			if (handled)
-				continue;
-
-			// Fallback handler
-			// Spawn object
+		// Fallback spawn packet, the timestamp is inserted on send
+		if (ent.locationInfo != null) {
 			XtWriter wr = new XtWriter();
 			wr.writeString("oi");
 			wr.writeInt(-1); // data prefix
@@ -195,7 +148,9 @@ public class InteractionManager {
 
 			// Object info
 			wr.writeInt(0);
-			wr.writeLong(System.currentTimeMillis() / 1000);
+			enc.spawnPrefix = wr.encode() + "%";
+
+			wr = new XtWriter();
 			wr.writeDouble(ent.locationInfo.position.x);
 			wr.writeDouble(ent.locationInfo.position.y);
 			wr.writeDouble(ent.locationInfo.position.z);
@@ -205,7 +160,94 @@ public class InteractionManager {
 			wr.writeDouble(ent.locationInfo.rotation.w);
 			wr.add("0%0%0%0.0%0%0%0");
 			wr.writeString(""); // data suffix
-			player.client.sendPacket(wr.encode());
+			enc.spawnSuffix = "%" + wr.encode().substring("%xt%".length());
+		}
+
+		return enc;
+	}
+
+	/**
+	 * Initializes networked objects (eg. npcs)
+	 * 
+	 * @param player  Player to send the packets to
+	 * @param ids     Object UUIDs to initialize
+	 * @param levelID Level to find interactions for
+	 */
+	public static void initializeNetworkedObjects(Player player, String[] ids, int levelID) {
+		LinkedHashMap<String, NetworkedObject> data = new LinkedHashMap<String, NetworkedObject>();
+
+		// Add objects
+		for (String id : ids) {
+			data.put(id, NetworkedObjects.getObject(id));
+		}
+
+		// Find pre-encoded objects
+		EncodedObject[] encoded = new EncodedObject[data.size()];
+		int i = 0;
+		for (String id : data.keySet()) {
+			encoded[i++] = encodedObjects.computeIfAbsent(id, t -> encodeObject(t, data.get(t)));
+		}
+
+		// Send everything in one write
+		player.client.beginPacketBatch();
+		try {
+			// Send init packet
+			StringBuilder qs = new StringBuilder();
+			int count = 0;
+			for (EncodedObject enc : encoded) {
+				if (enc.qsEntry != null) {
+					qs.append('%').append(enc.qsEntry);
+					count++;
+				}
+			}
+			qs.insert(0, "%xt%qs%-1%-1036%24%" + count); // data prefix, unknowns and count
+			qs.append('%'); // data suffix
+			player.client.sendPacket(qs.toString());
+
+			GroupObject[] linearObjects = getActiveSpawnBehaviour().provideCurrent(levelID, player);
+			player.groupOjects.addAll(Stream.of(linearObjects).toList());
+			if (linearObjects.length != 0) {
+				// Init group objects
+				XtWriter packet = new XtWriter();
+				packet.writeString("qsgo");
+				packet.writeString("-1"); // data prefix
+				packet.writeLong(linearObjects.length); // count
+				for (GroupObject ent : linearObjects) {
+					packet.writeString(ent.id);
+					packet.writeInt(ent.type);
+				}
+				packet.writeString(""); // data suffix
+				player.client.sendPacket(packet.encode());
+			}
+
+			// Send qcmd packets
+			for (EncodedObject enc : encoded) {
+				if (enc.stateCommand != null)
+					player.client.sendPacket(enc.stateCommand);
+			}
+
+			// Initialize objects
+			String time = Long.toString(System.currentTimeMillis() / 1000);
+			i = 0;
+			for (String id : data.keySet()) {
+				NetworkedObject ent = data.get(id);
+				EncodedObject enc = encoded[i++];
+				boolean handled = false;
+				for (InteractionModule mod : modules) {
+					if (mod.initializeWorldObjects(player.client, id, ent)) {
+						handled = true;
+						break;
+					}
+				}
+				if (handled || enc.spawnPrefix == null)
+					continue;
+
+				// Fallback handler
+				// Spawn object
+				player.client.sendPacket(enc.spawnPrefix + time + enc.spawnSuffix);
+			}
+		} finally {
+			player.client.endPacketBatch();
 		}
 	}
 
@@ -3,13 +3,13 @@ package org.asf.centuria.interactions;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
 
 import org.apache.logging.log4j.MarkerManager;
 import org.asf.centuria.Centuria;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.interactions.dataobjects.LocationInfo;
 import org.asf.centuria.interactions.dataobjects.NetworkedObject;
 import org.asf.centuria.interactions.dataobjects.ObjectCollection;
@@ -21,12 +21,10 @@ import org.asf.centuria.modules.ICenturiaModule;
 import org.asf.centuria.modules.ModuleManager;
 import org.asf.centuria.modules.eventbus.EventBus;
 import org.asf.centuria.modules.events.objects.ObjectDefinitionInitEvent;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class NetworkedObjects {
 
@@ -37,28 +35,23 @@ public class NetworkedObjects {
 	private static HashMap<String, ArrayList<String>> overrideMap = new HashMap<String, ArrayList<String>>();
 	private static HashMap<String, String> objectIdMap = new HashMap<String, String>();
 
+	private static HashMap<String, ObjectIndex> levelIndexes = new HashMap<String, ObjectIndex>();
+	private static HashMap<String, ObjectIndex> overrideIndexes = new HashMap<String, ObjectIndex>();
+
 	public static void init() {
 		if (isReady)
 			return;
 
 		try {
 			// Load the helper
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("networkedobjects.json");
-			JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
-			strm.close();
+			GameDataRegistry registry = GameDataRegistry.getInstance();
+			JsonObject helper = registry.getResource("networkedobjects.json").getAsJsonObject();
 			loadObjects(helper);
 
 			// Load transformers
-			strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("objecttransformers/index.json");
-			JsonArray transformers = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonArray();
-			strm.close();
+			JsonArray transformers = registry.getResource("objecttransformers/index.json").getAsJsonArray();
 			for (JsonElement el : transformers) {
-				strm = InventoryItemDownloadPacket.class.getClassLoader()
-						.getResourceAsStream("objecttransformers/" + el.getAsString());
-				helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
-				strm.close();
+				helper = registry.getResource("objecttransformers/" + el.getAsString()).getAsJsonObject();
 				loadObjects(helper);
 			}
 
@@ -76,9 +69,38 @@ public class NetworkedObjects {
 		EventBus.getInstance()
 				.dispatchEvent(new ObjectDefinitionInitEvent(objects, levelOverrideMap, overrideMap, objectIdMap));
 
+		// Build indexes
+		buildIndexes();
+
 		isReady = true;
 	}
 
+	private static void buildIndexes() {
+		// Index overrides
+		for (String override : overrideMap.keySet()) {
+			overrideIndexes.put(override, new ObjectIndex(getCollectionsFor(overrideMap.get(override))));
+		}
+
+		// Index levels
+		for (String level : levelOverrideMap.keySet()) {
+			ArrayList<String> ids = new ArrayList<String>();
+			for (String override : levelOverrideMap.get(level)) {
+				if (overrideMap.containsKey(override))
+					ids.addAll(overrideMap.get(override));
+			}
+			levelIndexes.put(level, new ObjectIndex(getCollectionsFor(ids)));
+		}
+	}
+
+	private static ObjectCollection[] getCollectionsFor(ArrayList<String> ids) {
+		ArrayList<ObjectCollection> collections = new ArrayList<ObjectCollection>();
+		for (String id : ids) {
+			if (objects.containsKey(id))
+				collections.add(objects.get(id));
+		}
+		return collections.toArray(t -> new ObjectCollection[t]);
+	}
+
 	private static void loadTransformers(Class<?> cls) {
 		URL source = cls.getProtectionDomain().getCodeSource().getLocation();
 
@@ -99,18 +121,17 @@ public class NetworkedObjects {
 
 		try {
 			// Find the transformer document
-			InputStream strm = new URL(baseURL + "objecttransformers/index.json").openStream();
-			JsonArray index = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonArray();
-			strm.close();
+			GameDataRegistry registry = GameDataRegistry.getInstance();
+			JsonArray index = registry.getDocument(new URL(baseURL + "objecttransformers/index.json"))
+					.getAsJsonArray();
 
 			// Load all transformers
 			for (JsonElement ele : index) {
 				try {
 					// Find the transformer document
-					strm = new URL(baseURL + "objecttransformers/" + ele.getAsString()).openStream();
-					JsonObject transformer = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8"))
+					JsonObject transformer = registry
+							.getDocument(new URL(baseURL + "objecttransformers/" + ele.getAsString()))
 							.getAsJsonObject();
-					strm.close();
 
 					// Load transformer
 					loadObjects(transformer);
@@ -296,6 +317,56 @@ public class NetworkedObjects {
 		return overrideMap.get(id).toArray(t -> new String[t]);
 	}
 
+	/**
+	 * Retrieves all level IDs with a precomputed object index
+	 * 
+	 * @return Array of level ID strings
+	 */
+	public static String[] getLevelIds() {
+		return levelIndexes.keySet().toArray(t -> new String[t]);
+	}
+
+	/**
+	 * Retrieves the precomputed object index of a level
+	 * 
+	 * @param levelId Level ID
+	 * @return ObjectIndex instance (empty if the level has no objects)
+	 */
+	public static ObjectIndex getLevelIndex(String levelId) {
+		return levelIndexes.getOrDefault(levelId, ObjectIndex.EMPTY);
+	}
+
+	/**
+	 * Retrieves the precomputed object index of a level override
+	 * 
+	 * @param id Override ID
+	 * @return ObjectIndex instance (empty if the override has no objects)
+	 */
+	public static ObjectIndex getOverrideIndex(String id) {
+		return overrideIndexes.getOrDefault(id, ObjectIndex.EMPTY);
+	}
+
+	/**
+	 * Checks if a object is a NPC
+	 * 
+	 * @param object Object to check
+	 * @return True if the object is a NPC, false otherwise
+	 */
+	public static boolean isNPC(NetworkedObject object) {
+		// Check commands, command 67 is dialogue so then its a NPC
+		for (ArrayList<StateInfo> states : object.stateInfo.values()) {
+			for (StateInfo state : states) {
+				for (ArrayList<StateInfo> sstates : state.branches.values()) {
+					for (StateInfo sstate : sstates) {
+						if (sstate.command.equals("67"))
+							return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Retrieves object collections by ID
 	 * 
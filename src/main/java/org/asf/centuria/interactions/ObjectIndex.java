@@ -0,0 +1,126 @@
+package org.asf.centuria.interactions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.asf.centuria.interactions.dataobjects.NetworkedObject;
+import org.asf.centuria.interactions.dataobjects.ObjectCollection;
+import org.asf.centuria.interactions.groupobjects.GroupObject;
+
+/**
+ * 
+ * Immutable precomputed view of the networked objects of a level or level
+ * override, built once after the object definitions have been loaded
+ * 
+ */
+public class ObjectIndex {
+
+	/**
+	 * Empty object index, used for levels and overrides without objects
+	 */
+	public static final ObjectIndex EMPTY = new ObjectIndex(new ObjectCollection[0]);
+
+	private final List<String> objectIds;
+	private final Set<String> objectIdSet;
+	private final List<String> npcIds;
+	private final Set<String> npcIdSet;
+	private final ObjectCollection groupObjectCollection;
+	private final GroupObject[] groupObjects;
+
+	ObjectIndex(ObjectCollection[] collections) {
+		ArrayList<String> ids = new ArrayList<String>();
+		ArrayList<String> npcs = new ArrayList<String>();
+		ObjectCollection groupCollection = new ObjectCollection();
+		for (ObjectCollection col : collections) {
+			// Index objects
+			for (String id : col.objects.keySet()) {
+				ids.add(id);
+				if (NetworkedObjects.isNPC(col.objects.get(id)))
+					npcs.add(id);
+			}
+
+			// Find group objects
+			if (col.name != null && col.name.endsWith("_GroupLinearObjects"))
+				groupCollection = col;
+		}
+
+		// Build group objects
+		ArrayList<GroupObject> group = new ArrayList<GroupObject>();
+		for (String id : groupCollection.objects.keySet()) {
+			NetworkedObject obj = groupCollection.objects.get(id);
+			if (obj.subObjectInfo == null)
+				continue;
+			GroupObject gobj = new GroupObject();
+			gobj.id = id;
+			gobj.type = obj.subObjectInfo.type;
+			group.add(gobj);
+		}
+
+		objectIds = Collections.unmodifiableList(ids);
+		objectIdSet = Collections.unmodifiableSet(new HashSet<String>(ids));
+		npcIds = Collections.unmodifiableList(npcs);
+		npcIdSet = Collections.unmodifiableSet(new HashSet<String>(npcs));
+		groupObjectCollection = groupCollection;
+		groupObjects = group.toArray(t -> new GroupObject[t]);
+	}
+
+	/**
+	 * Retrieves all object IDs in this index
+	 * 
+	 * @return Unmodifiable list of object UUIDs
+	 */
+	public List<String> getObjectIds() {
+		return objectIds;
+	}
+
+	/**
+	 * Checks if a object is present in this index
+	 * 
+	 * @param id Object UUID
+	 * @return True if present, false otherwise
+	 */
+	public boolean contains(String id) {
+		return objectIdSet.contains(id);
+	}
+
+	/**
+	 * Retrieves all NPC object IDs in this index
+	 * 
+	 * @return Unmodifiable list of object UUIDs
+	 */
+	public List<String> getNPCs() {
+		return npcIds;
+	}
+
+	/**
+	 * Checks if a object in this index is a NPC
+	 * 
+	 * @param id Object UUID
+	 * @return True if the object is a NPC, false otherwise
+	 */
+	public boolean isNPC(String id) {
+		return npcIdSet.contains(id);
+	}
+
+	/**
+	 * Retrieves the group linear object collection (<b>must not be modified</b>)
+	 * 
+	 * @return ObjectCollection instance (empty if not present)
+	 */
+	public ObjectCollection getGroupObjectCollection() {
+		return groupObjectCollection;
+	}
+
+	/**
+	 * Retrieves the group objects of this index
+	 * 
+	 * @return Array of GroupObject instances
+	 */
+	public GroupObject[] getGroupObjects() {
+		return groupObjects.clone();
+	}
+
+}
@@ -27,4 +27,11 @@ public interface ISpawnBehaviourProvider {
 	 * @param id Object ID
 	 */
 	public void onCollect(Player player, String id);
+
+	/**
+	 * Called once the server has loaded its object data, used to prepare spawns
+	 * ahead of the first player
+	 */
+	public default void prepare() {
+	}
 }
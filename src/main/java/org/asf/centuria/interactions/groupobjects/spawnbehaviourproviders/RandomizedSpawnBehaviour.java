@@ -5,13 +5,22 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
+import org.apache.logging.log4j.MarkerManager;
+import org.asf.centuria.Centuria;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.interactions.NetworkedObjects;
+import org.asf.centuria.interactions.ObjectIndex;
 import org.asf.centuria.interactions.dataobjects.NetworkedObject;
 import org.asf.centuria.interactions.dataobjects.ObjectCollection;
 import org.asf.centuria.interactions.dataobjects.StateInfo;
@@ -20,37 +29,30 @@ import org.asf.centuria.util.RandomSelectorUtil;
 
 public class RandomizedSpawnBehaviour implements ISpawnBehaviourProvider {
 
-	private boolean loaded = false;
+	// Time before expiry at which the next rotation is computed
+	private static final long PREPARE_AHEAD = 5 * 60 * 1000;
+
+	// Delay before retrying a failed rotation
+	private static final long RETRY_DELAY = 60 * 1000;
+
+	private volatile boolean started = false;
 	private Random rnd = new Random();
+	private ScheduledExecutorService scheduler;
 
 	private HashMap<String, String> properties = new HashMap<String, String>();
-	private HashMap<Integer, GroupObjectRotation> rotations = new HashMap<Integer, GroupObjectRotation>();
+	private long rotationTime;
+
+	private ConcurrentHashMap<Integer, LevelSpawnData> spawnData = new ConcurrentHashMap<Integer, LevelSpawnData>();
+	private ConcurrentHashMap<Integer, GroupObjectRotation> rotations = new ConcurrentHashMap<Integer, GroupObjectRotation>();
 
 	// Tool to check if a object is not present in the rotation and if it doesnt
 	// overlap
-	private boolean isSafeToSpawn(GroupObject object, GroupObjectRotation rotation) {
-		if (rotation.objects.stream().anyMatch(t -> t.id.equals(object.id)))
+	private boolean isSafeToSpawn(GroupObject object, List<GroupObject> rotation) {
+		if (rotation.stream().anyMatch(t -> t.id.equals(object.id)))
 			return false; // Already present
 
 		// Check overlap
-		NetworkedObject cObject = NetworkedObjects.getObject(object.id);
-		if (cObject.locationInfo != null && cObject.locationInfo.position != null) {
-			for (GroupObject obj : rotation.objects) {
-				NetworkedObject oObject = NetworkedObjects.getObject(obj.id);
-
-				// Check coordinates
-				if (oObject.locationInfo != null && oObject.locationInfo.position != null) {
-					if (cObject.locationInfo.position.x < oObject.locationInfo.position.x + 5
-							&& cObject.locationInfo.position.x > oObject.locationInfo.position.x + -5
-							&& cObject.locationInfo.position.z < oObject.locationInfo.position.z + 5
-							&& cObject.locationInfo.position.z > oObject.locationInfo.position.z + -5) {
-						return false; // Overlap
-					}
-				}
-			}
-		}
-
-		return true;
+		return !overlaps(object, rotation, 5);
 	}
 
 	private boolean overlaps(GroupObject object, List<GroupObject> objects, int distance) {
@@ -75,10 +77,28 @@ public class RandomizedSpawnBehaviour implements ISpawnBehaviourProvider {
 		return false;
 	}
 
+	// Immutable rotation snapshot, replaced as a whole when the rotation expires
 	private static class GroupObjectRotation {
-		public long time;
-		public ArrayList<GroupObject> objects = new ArrayList<GroupObject>();
-		public HashMap<String, String> mapping = new HashMap<String, String>();
+		public final long time;
+		public final GroupObject[] objects;
+		public final Map<String, String> mapping;
+
+		public GroupObjectRotation(long time, List<GroupObject> objects, Map<String, String> mapping) {
+			this.time = time;
+			this.objects = objects.toArray(t -> new GroupObject[t]);
+			this.mapping = Collections.unmodifiableMap(new HashMap<String, String>(mapping));
+		}
+	}
+
+	// Spawn candidates of a level, computed once per level
+	private static class LevelSpawnData {
+		public GroupObject[] lockpicks;
+		public GroupObject[] waystonePaths;
+		public GroupObject[] digspots;
+		public GroupObject[] lockedChests;
+
+		public HashMap<String, List<GroupObject>> digspotObjects = new HashMap<String, List<GroupObject>>();
+		public HashMap<String, GroupObject[]> chestObjects = new HashMap<String, GroupObject[]>();
 	}
 
 	@Override
@@ -87,339 +107,417 @@ public class RandomizedSpawnBehaviour implements ISpawnBehaviourProvider {
 	}
 
 	@Override
-	public GroupObject[] provideCurrent(int levelID, Player plr) {
-		boolean update = true;
+	public void prepare() {
+		start();
+	}
+
+	// Loads the configuration and computes the first rotation of each level
+	private synchronized void start() {
+		if (started)
+			return;
 
 		// Load config
-		if (!loaded) {
-			try {
-				// Create config if needed
-				if (!new File("spawning.conf").exists()) {
-					try {
-						// Create config
-						Files.writeString(Path.of("spawning.conf"),
-								// Rotation interval
-								"rotation-hours=3\n"
+		try {
+			// Create config if needed
+			if (!new File("spawning.conf").exists()) {
+				try {
+					// Create config
+					Files.writeString(Path.of("spawning.conf"),
+							// Rotation interval
+							"rotation-hours=3\n"
 
-										// Minimal chest count
-										+ "lockedchests-min=18\n"
+									// Minimal chest count
+									+ "lockedchests-min=18\n"
 
-										// Maximal chest count
-										+ "lockedchests-max=20\n"
+									// Maximal chest count
+									+ "lockedchests-max=20\n"
 
-										// Digspot minimal count
-										+ "digspots-min=6\n"
+									// Digspot minimal count
+									+ "digspots-min=6\n"
 
-										// Digspot maximal count
-										+ "digspots-max=8\n"
+									// Digspot maximal count
+									+ "digspots-max=8\n"
 
-										// Minimal lockpick count
-										+ "lockpicks-min=11\n"
+									// Minimal lockpick count
+									+ "lockpicks-min=11\n"
 
-										// Maximal lockpick count
-										+ "lockpicks-max=15\n"
+									// Maximal lockpick count
+									+ "lockpicks-max=15\n"
 
-										// Minimal waystone path count
-										+ "waystone-paths-min=3\n"
+									// Minimal waystone path count
+									+ "waystone-paths-min=3\n"
 
-										// lockpicks waystone path count
-										+ "waystone-paths-max=4\n");
-					} catch (IOException e) {
-						throw new RuntimeException(e);
-					}
+									// lockpicks waystone path count
+									+ "waystone-paths-max=4\n");
+				} catch (IOException e) {
+					throw new RuntimeException(e);
 				}
+			}
 
-				// Load properties
-				for (String line : Files.readAllLines(Path.of("spawning.conf"))) {
-					if (line.isEmpty() || line.startsWith("#"))
-						continue;
-					String key = line;
-					String value = "";
-					if (key.contains("=")) {
-						value = key.substring(key.indexOf("=") + 1);
-						key = key.substring(0, key.indexOf("="));
-					}
-					properties.put(key, value);
+			// Load properties
+			for (String line : Files.readAllLines(Path.of("spawning.conf"))) {
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+				String key = line;
+				String value = "";
+				if (key.contains("=")) {
+					value = key.substring(key.indexOf("=") + 1);
+					key = key.substring(0, key.indexOf("="));
 				}
-			} catch (IOException e) {
-				throw new RuntimeException(e);
+				properties.put(key, value);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		rotationTime = Integer.parseInt(properties.getOrDefault("rotation-hours", "3")) * 60l * 60l * 1000l;
+
+		// Start scheduler
+		scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread th = new Thread(r, "Spawn Rotation Scheduler");
+			th.setDaemon(true);
+			return th;
+		});
+
+		// Create first rotations
+		long start = System.currentTimeMillis();
+		int levels = 0;
+		for (String id : NetworkedObjects.getLevelIds()) {
+			int levelID;
+			try {
+				levelID = Integer.parseInt(id);
+			} catch (NumberFormatException e) {
+				continue;
+			}
+			if (NetworkedObjects.getLevelIndex(id).getGroupObjectCollection().objects.isEmpty())
+				continue;
+			try {
+				publish(levelID, createRotation(levelID, start));
+				levels++;
+			} catch (RuntimeException e) {
+				Centuria.logger.error(MarkerManager.getMarker("SpawnRotation"),
+						"Failed to create spawn rotation for level " + levelID, e);
 			}
-			loaded = true;
 		}
+		Centuria.logger.info(MarkerManager.getMarker("SpawnRotation"), "Created spawn rotations for " + levels
+				+ " levels in " + (System.currentTimeMillis() - start) + "ms");
+		started = true;
+	}
 
-		// Check rotation
-		int rotationHours = Integer.parseInt(properties.getOrDefault("rotation-hours", "3"));
-		if (rotations.containsKey(levelID)
-				&& rotations.get(levelID).time + (rotationHours * 60 * 60 * 1000) > System.currentTimeMillis()) {
-			update = false;
+	// Makes a rotation active and schedules the creation of the next one
+	private void publish(int levelID, GroupObjectRotation rotation) {
+		rotations.put(levelID, rotation);
+		long expiry = rotation.time + rotationTime;
+		long delay = Math.max(0, expiry - PREPARE_AHEAD - System.currentTimeMillis());
+		scheduler.schedule(() -> prepareNext(levelID, expiry), delay, TimeUnit.MILLISECONDS);
+	}
+
+	// Creates the rotation starting at the given time and publishes it once that
+	// time is reached
+	private void prepareNext(int levelID, long time) {
+		try {
+			GroupObjectRotation next = createRotation(levelID, time);
+			long delay = Math.max(0, time - System.currentTimeMillis());
+			scheduler.schedule(() -> publish(levelID, next), delay, TimeUnit.MILLISECONDS);
+		} catch (RuntimeException e) {
+			Centuria.logger.error(MarkerManager.getMarker("SpawnRotation"),
+					"Failed to create spawn rotation for level " + levelID + ", retrying", e);
+			scheduler.schedule(() -> prepareNext(levelID, Math.max(time, System.currentTimeMillis())), RETRY_DELAY,
+					TimeUnit.MILLISECONDS);
 		}
+	}
+
+	// Finds the spawn candidates of a level
+	private LevelSpawnData loadSpawnData(int levelID) {
+		ObjectIndex index = NetworkedObjects.getLevelIndex(Integer.toString(levelID));
+		ObjectCollection linearObjects = index.getGroupObjectCollection();
+		GroupObject[] objects = index.getGroupObjects();
+		LevelSpawnData data = new LevelSpawnData();
+
+		// Find lockpicks
+		data.lockpicks = Stream.of(objects).filter(t -> {
+			NetworkedObject nObj = NetworkedObjects.getObject(t.id);
+			if (nObj.primaryObjectInfo != null && nObj.primaryObjectInfo.type == 1
+					&& nObj.primaryObjectInfo.defId == 6965)
+				return true;
+			return false;
+		}).toArray(t -> new GroupObject[t]);
 
-		// Rotate if needed
-		if (update) {
-			// Retrieve all objects
-			ObjectCollection linearObjects = new ObjectCollection();
-			for (String override : NetworkedObjects.getOverridesFor(Integer.toString(levelID))) {
-				for (String col : NetworkedObjects.getCollectionIdsForOverride(override)) {
-					ObjectCollection objects = NetworkedObjects.getObjects(col);
-					if (objects.name.endsWith("_GroupLinearObjects")) {
-						linearObjects = objects;
+		// Find waystone paths
+		data.waystonePaths = Stream.of(objects).filter(t -> {
+			NetworkedObject nObj = NetworkedObjects.getObject(t.id);
+			if (nObj.primaryObjectInfo != null && nObj.primaryObjectInfo.type == 1
+					&& nObj.primaryObjectInfo.defId == 3579 && nObj.subObjectInfo != null
+					&& nObj.subObjectInfo.type == 5 && nObj.subObjectInfo.defId == 0)
+				return true;
+			return false;
+		}).toArray(t -> new GroupObject[t]);
+
+		// Find dig spots
+		data.digspots = Stream.of(objects).filter(t -> {
+			NetworkedObject nObj = NetworkedObjects.getObject(t.id);
+			if (nObj.primaryObjectInfo != null && nObj.primaryObjectInfo.type == 7
+					&& nObj.primaryObjectInfo.defId == 0 && nObj.subObjectInfo != null
+					&& nObj.subObjectInfo.type == 6 && nObj.subObjectInfo.defId == 0)
+				return true;
+			return false;
+		}).toArray(t -> new GroupObject[t]);
+
+		// Find related interactables of the dig spots
+		for (GroupObject digspot : data.digspots) {
+			ArrayList<GroupObject> related = new ArrayList<GroupObject>();
+			for (String objId : linearObjects.objects.keySet()) {
+				NetworkedObject nObj = linearObjects.objects.get(objId);
+
+				// Check states
+				for (ArrayList<StateInfo> states : nObj.stateInfo.values()) {
+					boolean found = false;
+					for (StateInfo state : states) {
+						if (state.command.equals("35") && state.params.length == 2
+								&& state.params[1].equals(digspot.id)) {
+							found = true;
+							break;
+						}
+					}
+					if (found) {
+						GroupObject obj = new GroupObject();
+						obj.id = objId;
+						obj.type = nObj.subObjectInfo.type;
+						related.add(obj);
 					}
 				}
 			}
-			final ObjectCollection oF = linearObjects;
-			GroupObject[] objects = linearObjects.objects.keySet().stream().map(t -> {
-				GroupObject obj = new GroupObject();
-				obj.id = t;
-				obj.type = oF.objects.get(t).subObjectInfo.type;
-				return obj;
-			}).toArray(t -> new GroupObject[t]);
-
-			// Create rotation spawn memory object
-			GroupObjectRotation newRot = new GroupObjectRotation();
-			newRot.time = System.currentTimeMillis();
-
-			//
-			// Spawn lockpicks
-			//
-
-			int minLockpicks = Integer.parseInt(properties.getOrDefault("lockpicks-min", "8"));
-			int maxLockpicks = Integer.parseInt(properties.getOrDefault("lockpicks-max", "11"));
-			int lockpicksToSpawn = rnd.nextInt(minLockpicks, maxLockpicks + 1);
-
-			// Find lockpicks
-			GroupObject[] lockpicks = Stream.of(objects).filter(t -> {
-				NetworkedObject nObj = NetworkedObjects.getObject(t.id);
-				if (nObj.primaryObjectInfo != null && nObj.primaryObjectInfo.type == 1
-						&& nObj.primaryObjectInfo.defId == 6965)
-					return true;
-				return false;
-			}).toArray(t -> new GroupObject[t]);
-
-			// Select lockpicks
-			int remainingLockpickObjects = lockpicks.length;
-			int distanceBetweenLockpicks = (remainingLockpickObjects - lockpicksToSpawn);
-			distanceBetweenLockpicks = (int) ((100d / (double) remainingLockpickObjects)
-					* (double) distanceBetweenLockpicks);
-			for (int i = 0; i < lockpicksToSpawn && remainingLockpickObjects > 0; i++) {
-				// Create list of possible spawns
-				ArrayList<GroupObject> safeToSpawn = new ArrayList<GroupObject>();
-				for (GroupObject lockpick : lockpicks) {
-					if (!overlaps(lockpick, newRot.objects, distanceBetweenLockpicks)
-							&& isSafeToSpawn(lockpick, newRot))
-						safeToSpawn.add(lockpick);
-				}
+			data.digspotObjects.put(digspot.id, related);
+		}
 
-				// Spawn
-				if (safeToSpawn.size() != 0) {
-					GroupObject lockpick = RandomSelectorUtil.selectRandom(safeToSpawn);
-					newRot.objects.add(lockpick);
-					remainingLockpickObjects--;
-				}
+		// Find chests
+		GroupObject[] lockedChests = Stream.of(objects).filter(t -> {
+			NetworkedObject nObj = NetworkedObjects.getObject(t.id);
+			if (nObj.primaryObjectInfo != null && nObj.primaryObjectInfo.type == 1
+					&& nObj.primaryObjectInfo.defId == 4984 && nObj.subObjectInfo != null
+					&& nObj.subObjectInfo.type == 0 && nObj.subObjectInfo.defId == 0)
+				return true;
+			return false;
+		}).toArray(t -> new GroupObject[t]);
+
+		//
+		// Okay tricky mess time
+		//
+		// There is no way to know, other than via deduction, what interactions are
+		// related
+		//
+		// Usually its: interaction (main), use lockpick, gamesuccess
+		// We are following that chain here to add the chest child objects
+		//
+		NetworkedObject[] objs = linearObjects.objects.values().toArray(t -> new NetworkedObject[t]);
+		String[] keys = linearObjects.objects.keySet().toArray(t -> new String[t]);
+		HashMap<String, Integer> keyIndex = new HashMap<String, Integer>();
+		for (int i = 0; i < keys.length; i++)
+			keyIndex.put(keys[i], i);
+		ArrayList<GroupObject> chests = new ArrayList<GroupObject>();
+		for (GroupObject chest : lockedChests) {
+			// Find index
+			Integer i2 = keyIndex.get(chest.id);
+
+			// Find objects
+			if (i2 == null || i2 + 2 >= objs.length || !objs[i2 + 1].objectName.equals("Use Lockpick")
+					|| !objs[i2 + 2].objectName.equals("GameSuccess")) {
+				Centuria.logger.error(MarkerManager.getMarker("SpawnRotation"),
+						"Chest failed to load: " + chest.id + ", chart deduction was incorrect!");
+				continue;
 			}
+			NetworkedObject useLockpick = objs[i2 + 1];
+			NetworkedObject gameSuccess = objs[i2 + 2];
+
+			// Add objects
+			GroupObject lockpickObj = new GroupObject();
+			lockpickObj.id = keys[i2 + 1];
+			lockpickObj.type = useLockpick.subObjectInfo.type;
+			GroupObject successObj = new GroupObject();
+			successObj.id = keys[i2 + 2];
+			successObj.type = gameSuccess.subObjectInfo.type;
+			data.chestObjects.put(chest.id, new GroupObject[] { lockpickObj, successObj });
+			chests.add(chest);
+		}
+		data.lockedChests = chests.toArray(t -> new GroupObject[t]);
 
-			//
-			// Spawn waystones
-			//
-
-			int minWaystonePaths = Integer.parseInt(properties.getOrDefault("waystone-paths-min", "3"));
-			int maxWaystonePaths = Integer.parseInt(properties.getOrDefault("waystone-paths-max", "4"));
-			int waystonePathsToSpawn = rnd.nextInt(minWaystonePaths, maxWaystonePaths + 1);
-
-			// Find waystone paths
-			GroupObject[] waystonePaths = Stream.of(objects).filter(t -> {
-				NetworkedObject nObj = NetworkedObjects.getObject(t.id);
-				if (nObj.primaryObjectInfo != null && nObj.primaryObjectInfo.type == 1
-						&& nObj.primaryObjectInfo.defId == 3579 && nObj.subObjectInfo != null
-						&& nObj.subObjectInfo.type == 5 && nObj.subObjectInfo.defId == 0)
-					return true;
-				return false;
-			}).toArray(t -> new GroupObject[t]);
-
-			// Select waystone paths
-			int remainingWaystonePaths = waystonePaths.length;
-			int distanceWaystonePaths = (remainingWaystonePaths - waystonePathsToSpawn);
-			distanceWaystonePaths = (int) (((100d / (double) remainingWaystonePaths) * (double) distanceWaystonePaths)
-					* 1.5);
-			ArrayList<GroupObject> waystones = new ArrayList<GroupObject>();
-			for (int i = 0; i < waystonePathsToSpawn && remainingWaystonePaths > 0; i++) {
-				// Create list of possible spawns
-				ArrayList<GroupObject> safeToSpawn = new ArrayList<GroupObject>();
-				for (GroupObject waystonePath : waystonePaths) {
-					if (!overlaps(waystonePath, waystones, distanceWaystonePaths)
-							&& isSafeToSpawn(waystonePath, newRot))
-						safeToSpawn.add(waystonePath);
-				}
+		return data;
+	}
 
-				// Spawn
-				if (safeToSpawn.size() != 0) {
-					GroupObject waystonePath = RandomSelectorUtil.selectRandom(safeToSpawn);
-					newRot.objects.add(waystonePath);
-					remainingWaystonePaths--;
-					waystones.add(waystonePath);
-				}
+	// Creates a new rotation for a level
+	private GroupObjectRotation createRotation(int levelID, long time) {
+		LevelSpawnData data = spawnData.computeIfAbsent(levelID, this::loadSpawnData);
+
+		// Create rotation spawn memory
+		ArrayList<GroupObject> rotation = new ArrayList<GroupObject>();
+		HashMap<String, String> mapping = new HashMap<String, String>();
+
+		//
+		// Spawn lockpicks
+		//
+
+		int minLockpicks = Integer.parseInt(properties.getOrDefault("lockpicks-min", "8"));
+		int maxLockpicks = Integer.parseInt(properties.getOrDefault("lockpicks-max", "11"));
+		int lockpicksToSpawn = rnd.nextInt(minLockpicks, maxLockpicks + 1);
+
+		// Select lockpicks
+		GroupObject[] lockpicks = data.lockpicks;
+		int remainingLockpickObjects = lockpicks.length;
+		int distanceBetweenLockpicks = (remainingLockpickObjects - lockpicksToSpawn);
+		distanceBetweenLockpicks = (int) ((100d / (double) remainingLockpickObjects)
+				* (double) distanceBetweenLockpicks);
+		for (int i = 0; i < lockpicksToSpawn && remainingLockpickObjects > 0; i++) {
+			// Create list of possible spawns
+			ArrayList<GroupObject> safeToSpawn = new ArrayList<GroupObject>();
+			for (GroupObject lockpick : lockpicks) {
+				if (!overlaps(lockpick, rotation, distanceBetweenLockpicks) && isSafeToSpawn(lockpick, rotation))
+					safeToSpawn.add(lockpick);
 			}
 
-			//
-			// Spawn dig spots
-			//
-
-			int minDigspots = Integer.parseInt(properties.getOrDefault("digspot-min", "6"));
-			int maxDigspots = Integer.parseInt(properties.getOrDefault("digspot-max", "8"));
-			int digspotsToSpawn = rnd.nextInt(minDigspots, maxDigspots + 1);
-
-			// Find dig spots
-			GroupObject[] digspots = Stream.of(objects).filter(t -> {
-				NetworkedObject nObj = NetworkedObjects.getObject(t.id);
-				if (nObj.primaryObjectInfo != null && nObj.primaryObjectInfo.type == 7
-						&& nObj.primaryObjectInfo.defId == 0 && nObj.subObjectInfo != null
-						&& nObj.subObjectInfo.type == 6 && nObj.subObjectInfo.defId == 0)
-					return true;
-				return false;
-			}).toArray(t -> new GroupObject[t]);
-
-			// Select dig spots
-			int remainingDigspots = digspots.length;
-			int distanceDigspots = (remainingDigspots - digspotsToSpawn);
-			distanceDigspots = (int) (((100d / (double) remainingDigspots) * (double) distanceDigspots) / 1.7d);
-			ArrayList<GroupObject> spawnedDigspots = new ArrayList<GroupObject>();
-			for (int i = 0; i < digspotsToSpawn && remainingDigspots > 0; i++) {
-				// Create list of possible spawns
-				ArrayList<GroupObject> safeToSpawn = new ArrayList<GroupObject>();
-				for (GroupObject digspot : digspots) {
-					if (!overlaps(digspot, spawnedDigspots, distanceDigspots) && isSafeToSpawn(digspot, newRot))
-						safeToSpawn.add(digspot);
-				}
+			// Spawn
+			if (safeToSpawn.size() != 0) {
+				GroupObject lockpick = RandomSelectorUtil.selectRandom(safeToSpawn);
+				rotation.add(lockpick);
+				remainingLockpickObjects--;
+			}
+		}
 
-				// Spawn
-				if (safeToSpawn.size() != 0) {
-					GroupObject digspot = RandomSelectorUtil.selectRandom(safeToSpawn);
-					newRot.objects.add(digspot);
-					remainingDigspots--;
-					spawnedDigspots.add(digspot);
-
-					// Find related interactables
-					for (String objId : linearObjects.objects.keySet()) {
-						NetworkedObject nObj = linearObjects.objects.get(objId);
-
-						// Check states
-						for (ArrayList<StateInfo> states : nObj.stateInfo.values()) {
-							boolean found = false;
-							for (StateInfo state : states) {
-								if (state.command.equals("35") && state.params.length == 2
-										&& state.params[1].equals(digspot.id)) {
-									found = true;
-									break;
-								}
-							}
-							if (found) {
-								GroupObject obj = new GroupObject();
-								obj.id = objId;
-								obj.type = nObj.subObjectInfo.type;
-								newRot.objects.add(obj);
-							}
-						}
-					}
-				}
+		//
+		// Spawn waystones
+		//
+
+		int minWaystonePaths = Integer.parseInt(properties.getOrDefault("waystone-paths-min", "3"));
+		int maxWaystonePaths = Integer.parseInt(properties.getOrDefault("waystone-paths-max", "4"));
+		int waystonePathsToSpawn = rnd.nextInt(minWaystonePaths, maxWaystonePaths + 1);
+
+		// Select waystone paths
+		GroupObject[] waystonePaths = data.waystonePaths;
+		int remainingWaystonePaths = waystonePaths.length;
+		int distanceWaystonePaths = (remainingWaystonePaths - waystonePathsToSpawn);
+		distanceWaystonePaths = (int) (((100d / (double) remainingWaystonePaths) * (double) distanceWaystonePaths)
+				* 1.5);
+		ArrayList<GroupObject> waystones = new ArrayList<GroupObject>();
+		for (int i = 0; i < waystonePathsToSpawn && remainingWaystonePaths > 0; i++) {
+			// Create list of possible spawns
+			ArrayList<GroupObject> safeToSpawn = new ArrayList<GroupObject>();
+			for (GroupObject waystonePath : waystonePaths) {
+				if (!overlaps(waystonePath, waystones, distanceWaystonePaths)
+						&& isSafeToSpawn(waystonePath, rotation))
+					safeToSpawn.add(waystonePath);
 			}
 
-			//
-			// Spawn chests
-			//
-
-			int minChests = Integer.parseInt(properties.getOrDefault("lockedchests-min", "18"));
-			int maxChests = Integer.parseInt(properties.getOrDefault("lockedchests-max", "20"));
-			int chestsToSpawn = rnd.nextInt(minChests, maxChests + 1);
-
-			// Find chests
-			GroupObject[] lockedChests = Stream.of(objects).filter(t -> {
-				NetworkedObject nObj = NetworkedObjects.getObject(t.id);
-				if (nObj.primaryObjectInfo != null && nObj.primaryObjectInfo.type == 1
-						&& nObj.primaryObjectInfo.defId == 4984 && nObj.subObjectInfo != null
-						&& nObj.subObjectInfo.type == 0 && nObj.subObjectInfo.defId == 0)
-					return true;
-				return false;
-			}).toArray(t -> new GroupObject[t]);
-
-			// Select chests
-			int remainingChests = lockedChests.length;
-			int distanceChests = (remainingChests - chestsToSpawn);
-			distanceChests = (int) (((100d / (double) remainingChests) * (double) distanceChests) / 1.7d);
-			ArrayList<GroupObject> chests = new ArrayList<GroupObject>();
-			for (int i = 0; i < chestsToSpawn && remainingChests > 0; i++) {
-				// Create list of possible spawns
-				ArrayList<GroupObject> safeToSpawn = new ArrayList<GroupObject>();
-				for (GroupObject chest : lockedChests) {
-					if (!overlaps(chest, chests, distanceChests) && isSafeToSpawn(chest, newRot))
-						safeToSpawn.add(chest);
-				}
+			// Spawn
+			if (safeToSpawn.size() != 0) {
+				GroupObject waystonePath = RandomSelectorUtil.selectRandom(safeToSpawn);
+				rotation.add(waystonePath);
+				remainingWaystonePaths--;
+				waystones.add(waystonePath);
+			}
+		}
 
-				// Spawn
-				if (safeToSpawn.size() != 0) {
-					GroupObject chest = RandomSelectorUtil.selectRandom(safeToSpawn);
-					newRot.objects.add(chest);
-					remainingChests--;
-					chests.add(chest);
-
-					//
-					// Okay tricky mess time
-					//
-					// There is no way to know, other than via deduction, what interactions are
-					// related
-					//
-					// Usually its: interaction (main), use lockpick, gamesuccess
-					// We are following that chain here to add the chest child objects
-					//
-
-					// Find index
-					NetworkedObject obj = linearObjects.objects.get(chest.id);
-					NetworkedObject[] objs = linearObjects.objects.values().toArray(t -> new NetworkedObject[t]);
-					String[] keys = linearObjects.objects.keySet().toArray(t -> new String[t]);
-					int i2 = 0;
-					for (NetworkedObject o : objs) {
-						if (o == obj)
-							break;
-						i2++;
-					}
+		//
+		// Spawn dig spots
+		//
+
+		int minDigspots = Integer.parseInt(properties.getOrDefault("digspot-min", "6"));
+		int maxDigspots = Integer.parseInt(properties.getOrDefault("digspot-max", "8"));
+		int digspotsToSpawn = rnd.nextInt(minDigspots, maxDigspots + 1);
+
+		// Select dig spots
+		GroupObject[] digspots = data.digspots;
+		int remainingDigspots = digspots.length;
+		int distanceDigspots = (remainingDigspots - digspotsToSpawn);
+		distanceDigspots = (int) (((100d / (double) remainingDigspots) * (double) distanceDigspots) / 1.7d);
+		ArrayList<GroupObject> spawnedDigspots = new ArrayList<GroupObject>();
+		for (int i = 0; i < digspotsToSpawn && remainingDigspots > 0; i++) {
+			// Create list of possible spawns
+			ArrayList<GroupObject> safeToSpawn = new ArrayList<GroupObject>();
+			for (GroupObject digspot : digspots) {
+				if (!overlaps(digspot, spawnedDigspots, distanceDigspots) && isSafeToSpawn(digspot, rotation))
+					safeToSpawn.add(digspot);
+			}
 
-					// Find objects
-					NetworkedObject useLockpick = objs[i2 + 1];
-					if (!useLockpick.objectName.equals("Use Lockpick"))
-						throw new RuntimeException(
-								"Chest failed to load: " + chest.id + ", chart deduction was incorrect!");
-					NetworkedObject gameSuccess = objs[i2 + 2];
-					if (!gameSuccess.objectName.equals("GameSuccess"))
-						throw new RuntimeException(
-								"Chest failed to load: " + chest.id + ", chart deduction was incorrect!");
-
-					// Add objects
-					GroupObject gobj = new GroupObject();
-					gobj.id = keys[i2 + 1];
-					gobj.type = useLockpick.subObjectInfo.type;
-					newRot.objects.add(gobj);
-					gobj = new GroupObject();
-					gobj.id = keys[i2 + 2];
-					gobj.type = gameSuccess.subObjectInfo.type;
-					newRot.objects.add(gobj);
-
-					// Mapping
-					newRot.mapping.put(chest.id, keys[i2 + 2]);
-				}
+			// Spawn
+			if (safeToSpawn.size() != 0) {
+				GroupObject digspot = RandomSelectorUtil.selectRandom(safeToSpawn);
+				rotation.add(digspot);
+				remainingDigspots--;
+				spawnedDigspots.add(digspot);
+
+				// Add related interactables
+				rotation.addAll(data.digspotObjects.get(digspot.id));
+			}
+		}
+
+		//
+		// Spawn chests
+		//
+
+		int minChests = Integer.parseInt(properties.getOrDefault("lockedchests-min", "18"));
+		int maxChests = Integer.parseInt(properties.getOrDefault("lockedchests-max", "20"));
+		int chestsToSpawn = rnd.nextInt(minChests, maxChests + 1);
+
+		// Select chests
+		GroupObject[] lockedChests = data.lockedChests;
+		int remainingChests = lockedChests.length;
+		int distanceChests = (remainingChests - chestsToSpawn);
+		distanceChests = (int) (((100d / (double) remainingChests) * (double) distanceChests) / 1.7d);
+		ArrayList<GroupObject> chests = new ArrayList<GroupObject>();
+		for (int i = 0; i < chestsToSpawn && remainingChests > 0; i++) {
+			// Create list of possible spawns
+			ArrayList<GroupObject> safeToSpawn = new ArrayList<GroupObject>();
+			for (GroupObject chest : lockedChests) {
+				if (!overlaps(chest, chests, distanceChests) && isSafeToSpawn(chest, rotation))
+					safeToSpawn.add(chest);
+			}
+
+			// Spawn
+			if (safeToSpawn.size() != 0) {
+				GroupObject chest = RandomSelectorUtil.selectRandom(safeToSpawn);
+				rotation.add(chest);
+				remainingChests--;
+				chests.add(chest);
+
+				// Add chest child objects
+				GroupObject[] children = data.chestObjects.get(chest.id);
+				rotation.add(children[0]);
+				rotation.add(children[1]);
+
+				// Mapping
+				mapping.put(chest.id, children[1].id);
 			}
+		}
+
+		return new GroupObjectRotation(time, rotation, mapping);
+	}
 
-			// Apply rotation
-			if (!rotations.containsKey(levelID) || rotations.get(levelID).time < newRot.time)
-				rotations.put(levelID, newRot);
+	@Override
+	public GroupObject[] provideCurrent(int levelID, Player plr) {
+		// Make sure the rotations exist, normally done on server startup
+		if (!started)
+			start();
+
+		// Find rotation
+		GroupObjectRotation rot = rotations.get(levelID);
+		if (rot == null) {
+			// Level without a prepared rotation, create it once
+			rot = rotations.computeIfAbsent(levelID, id -> {
+				GroupObjectRotation newRot = createRotation(id, System.currentTimeMillis());
+				long expiry = newRot.time + rotationTime;
+				scheduler.schedule(() -> prepareNext(id, expiry),
+						Math.max(0, expiry - PREPARE_AHEAD - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+				return newRot;
+			});
 		}
 
 		// Return objects
-		GroupObjectRotation rot = rotations.get(levelID);
-		return rot.objects.stream().filter(t -> {
+		GroupObjectRotation current = rot;
+		return Stream.of(current.objects).filter(t -> {
 			// Check if its still valid in this rotation
 			if (plr.account.getSaveSpecificInventory().getInteractionMemory().hasTreasureBeenUnlocked(levelID,
-					rot.mapping.getOrDefault(t.id, t.id))) {
+					current.mapping.getOrDefault(t.id, t.id))) {
 				long lastUnlock = plr.account.getSaveSpecificInventory().getInteractionMemory()
-						.getLastTreasureUnlockTime(levelID, rot.mapping.getOrDefault(t.id, t.id));
-				if (lastUnlock < System.currentTimeMillis() + (rotationHours * 60 * 60 * 1000) || lastUnlock < rot.time)
+						.getLastTreasureUnlockTime(levelID, current.mapping.getOrDefault(t.id, t.id));
+				if (lastUnlock < System.currentTimeMillis() + rotationTime || lastUnlock < current.time)
 					return false;
 			}
 			return true;
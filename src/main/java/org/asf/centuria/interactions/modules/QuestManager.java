@@ -1,6 +1,5 @@
 package org.asf.centuria.interactions.modules;
 
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -10,16 +9,15 @@ import org.apache.logging.log4j.MarkerManager;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.CenturiaAccount;
 import org.asf.centuria.accounts.highlevel.itemdata.item.ItemComponent;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.interactions.InteractionManager;
 import org.asf.centuria.interactions.NetworkedObjects;
 import org.asf.centuria.interactions.dataobjects.NetworkedObject;
-import org.asf.centuria.interactions.dataobjects.ObjectCollection;
 import org.asf.centuria.interactions.dataobjects.StateInfo;
 import org.asf.centuria.interactions.modules.quests.QuestDefinition;
 import org.asf.centuria.interactions.modules.quests.QuestObjective;
 import org.asf.centuria.interactions.modules.quests.QuestTask;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemRemovedPacket;
 import org.asf.centuria.packets.xt.gameserver.quests.QuestCommandPacket;
@@ -28,7 +26,6 @@ import org.asf.centuria.packets.xt.gameserver.quests.QuestGenericLinearQuestComp
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class QuestManager extends InteractionModule {
 
@@ -43,17 +40,15 @@ public class QuestManager extends InteractionModule {
 	static {
 		try {
 			// Load the quest map
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader().getResourceAsStream("questline.json");
-			JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
+			GameDataRegistry registry = GameDataRegistry.getInstance();
+			JsonObject helper = registry.getResource("questline.json").getAsJsonObject();
 			JsonObject quests = helper.get("QuestMap").getAsJsonObject();
 			for (String key : quests.keySet()) {
 				questMap.put(key, quests.get(key).getAsString());
 			}
-			strm.close();
 
 			// Load quest definitions
-			strm = InventoryItemDownloadPacket.class.getClassLoader().getResourceAsStream("quests.json");
-			helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
+			helper = registry.getResource("quests.json").getAsJsonObject();
 			quests = helper.get("Quests").getAsJsonObject();
 			for (String key : quests.keySet()) {
 				JsonObject def = quests.get(key).getAsJsonObject();
@@ -84,7 +79,6 @@ public class QuestManager extends InteractionModule {
 				}
 				questDefinitions.put(key, quest);
 			}
-			strm.close();
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -170,32 +164,14 @@ public class QuestManager extends InteractionModule {
 					|| (levelID == 2364 && quest.questLocation == 2)
 					|| (levelID == 25280 && quest.questLocation == -1)) {
 				// Load objects
-				String[] collections = NetworkedObjects
-						.getCollectionIdsForOverride(Integer.toString(quest.levelOverrideID));
-				for (String id : collections) {
-					ObjectCollection objs = NetworkedObjects.getObjects(id);
-					for (String uuid : objs.objects.keySet()) {
-						ids.add(uuid);
-					}
-				}
+				ids.addAll(NetworkedObjects.getOverrideIndex(Integer.toString(quest.levelOverrideID)).getObjectIds());
 			}
 		}
 	}
 
 	// For checking if a object is a NPC
 	public static boolean isNPC(NetworkedObject object) {
-		// Check commands, command 3 is dialogue so then its a NPC
-		for (ArrayList<StateInfo> states : object.stateInfo.values()) {
-			for (StateInfo state : states) {
-				for (ArrayList<StateInfo> sstates : state.branches.values()) {
-					for (StateInfo sstate : sstates) {
-						if (sstate.command.equals("67"))
-							return true;
-					}
-				}
-			}
-		}
-		return false;
+		return NetworkedObjects.isNPC(object);
 	}
 
 	@Override
@@ -218,16 +194,9 @@ public class QuestManager extends InteractionModule {
 					return true;
 				}
 
-				// Load objects
-				String[] collections = NetworkedObjects
-						.getCollectionIdsForOverride(Integer.toString(quest.levelOverrideID));
-				for (String colID : collections) {
-					ObjectCollection objs = NetworkedObjects.getObjects(colID);
-					for (String uuid : objs.objects.keySet()) {
-						if (uuid.equals(id))
-							return true;
-					}
-				}
+				// Check objects
+				if (NetworkedObjects.getOverrideIndex(Integer.toString(quest.levelOverrideID)).contains(id))
+					return true;
 
 				if (object.primaryObjectInfo != null && object.primaryObjectInfo.type == 31
 						&& object.subObjectInfo != null) {
@@ -510,24 +479,15 @@ public class QuestManager extends InteractionModule {
 
 	private static void reloadObjects(Player player, QuestDefinition quest) {
 		// Update objects
-		String[] collections = NetworkedObjects.getCollectionIdsForOverride(Integer.toString(quest.levelOverrideID));
-		for (String colID : collections) {
-			ObjectCollection objs = NetworkedObjects.getObjects(colID);
-			for (String key : objs.objects.keySet()) {
-				NetworkedObject obj = objs.objects.get(key);
-
-				// Update quest NPCs
-				if (isNPC(obj)) {
-					// Update
-					QuestCommandPacket cmd = new QuestCommandPacket();
-					cmd.type = 1;
-					cmd.id = key;
-					cmd.params.add(Integer.toString(player.questObjective));
-					cmd.params.add("1");
-					cmd.params.add("1");
-					player.client.sendPacket(cmd);
-				}
-			}
+		for (String key : NetworkedObjects.getOverrideIndex(Integer.toString(quest.levelOverrideID)).getNPCs()) {
+			// Update quest NPCs
+			QuestCommandPacket cmd = new QuestCommandPacket();
+			cmd.type = 1;
+			cmd.id = key;
+			cmd.params.add(Integer.toString(player.questObjective));
+			cmd.params.add("1");
+			cmd.params.add("1");
+			player.client.sendPacket(cmd);
 		}
 	}
 
@@ -2,17 +2,17 @@ package org.asf.centuria.interactions.modules;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.apache.logging.log4j.MarkerManager;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.highlevel.ItemAccessor;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.interactions.NetworkedObjects;
@@ -31,18 +31,14 @@ import org.asf.centuria.levelevents.LevelEventBus;
 import org.asf.centuria.modules.ICenturiaModule;
 import org.asf.centuria.modules.ModuleManager;
 import org.asf.centuria.networking.smartfox.SmartfoxClient;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
-import org.asf.centuria.util.RandomSelectorUtil;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class ResourceCollectionModule extends InteractionModule {
 
-	private static Random rnd = new Random();
 	private static HashMap<String, ResourceDefinition> resources = new HashMap<String, ResourceDefinition>();
 	private static HashMap<String, HarvestTable> harvestTables = new HashMap<String, HarvestTable>();
 	private static HashMap<String, LootTable> lootTables = new HashMap<String, LootTable>();
@@ -180,11 +176,9 @@ public class ResourceCollectionModule extends InteractionModule {
 	private static void initCollection() {
 		try {
 			// Load the vanilla resource data
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("resourcecollection.json");
-			JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
+			GameDataRegistry registry = GameDataRegistry.getInstance();
+			JsonObject helper = registry.getResource("resourcecollection.json").getAsJsonObject();
 			importObjectsIntoMemory(helper);
-			strm.close();
 
 			// Load transformers
 			loadTransformers(ResourceCollectionModule.class);
@@ -194,11 +188,13 @@ public class ResourceCollectionModule extends InteractionModule {
 				loadTransformers(module.getClass());
 			}
 
+			// Compile reward selectors
+			harvestTables.values().forEach(t -> t.compile());
+			lootTables.values().forEach(t -> t.compile());
+
 			// Load level hooks
-			strm = InventoryItemDownloadPacket.class.getClassLoader().getResourceAsStream("leveling/loothooks.json");
-			helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
+			helper = registry.getResource("leveling/loothooks.json").getAsJsonObject();
 			importLevelHooks(helper);
-			strm.close();
 
 			// Load module transformers
 			for (ICenturiaModule module : ModuleManager.getInstance().getAllModules()) {
@@ -229,18 +225,15 @@ public class ResourceCollectionModule extends InteractionModule {
 
 		try {
 			// Find the transformer document
-			InputStream strm = new URL(baseURL + "leveling/index.json").openStream();
-			JsonArray index = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonArray();
-			strm.close();
+			GameDataRegistry registry = GameDataRegistry.getInstance();
+			JsonArray index = registry.getDocument(new URL(baseURL + "leveling/index.json")).getAsJsonArray();
 
 			// Load all transformers
 			for (JsonElement ele : index) {
 				try {
 					// Find the transformer document
-					strm = new URL(baseURL + "leveling/" + ele.getAsString()).openStream();
-					JsonObject transformer = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8"))
+					JsonObject transformer = registry.getDocument(new URL(baseURL + "leveling/" + ele.getAsString()))
 							.getAsJsonObject();
-					strm.close();
 
 					// Load transformer
 					importLevelHooks(transformer);
@@ -274,18 +267,17 @@ public class ResourceCollectionModule extends InteractionModule {
 
 		try {
 			// Find the transformer document
-			InputStream strm = new URL(baseURL + "resourcetransformers/index.json").openStream();
-			JsonArray index = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonArray();
-			strm.close();
+			GameDataRegistry registry = GameDataRegistry.getInstance();
+			JsonArray index = registry.getDocument(new URL(baseURL + "resourcetransformers/index.json"))
+					.getAsJsonArray();
 
 			// Load all transformers
 			for (JsonElement ele : index) {
 				try {
 					// Find the transformer document
-					strm = new URL(baseURL + "resourcetransformers/" + ele.getAsString()).openStream();
-					JsonObject transformer = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8"))
+					JsonObject transformer = registry
+							.getDocument(new URL(baseURL + "resourcetransformers/" + ele.getAsString()))
 							.getAsJsonObject();
-					strm.close();
 
 					// Load transformer
 					importObjectsIntoMemory(transformer);
@@ -447,22 +439,15 @@ public class ResourceCollectionModule extends InteractionModule {
 				if (harvested < def.interactionsBeforeDespawn) {
 					HarvestTable table = harvestTables.get(Integer.toString(def.lootTableId));
 					if (table != null) {
-						// Find reward
-						HashMap<HarvestReward, Integer> options = new HashMap<HarvestReward, Integer>();
-						table.rewards.forEach(t -> {
-							options.put(t, t.weight);
-						});
-
 						// XP info
 						EventInfo ev = new EventInfo();
 						ev.event = "levelevents.harvest";
 
-						HarvestReward reward = RandomSelectorUtil.selectWeighted(options);
+						// Find reward
+						HarvestReward reward = table.selectReward();
 						if (reward != null) {
 							// Give reward
-							int count = rnd.nextInt(reward.maxCount + 1);
-							while (count < reward.minCount)
-								count = rnd.nextInt(reward.maxCount + 1);
+							int count = selectCount(reward.minCount, reward.maxCount);
 							player.account.getSaveSpecificInventory().getItemAccessor(player)
 									.add(Integer.parseInt(reward.itemId), count);
 
@@ -576,6 +561,14 @@ public class ResourceCollectionModule extends InteractionModule {
 		return -1;
 	}
 
+	// Selects a reward count between the minimal and maximal count, both inclusive
+	private static int selectCount(int minCount, int maxCount) {
+		int min = Math.max(minCount, 0);
+		if (maxCount <= min)
+			return min;
+		return ThreadLocalRandom.current().nextInt(min, maxCount + 1);
+	}
+
 	/**
 	 * Selects loot from a loot table
 	 * 
@@ -586,20 +579,12 @@ public class ResourceCollectionModule extends InteractionModule {
 		LootTable table = lootTables.get(lootTableId);
 		if (table != null) {
 			// Find reward
-			HashMap<LootReward, Integer> options = new HashMap<LootReward, Integer>();
-			table.rewards.forEach(t -> {
-				options.put(t, t.weight);
-			});
-			LootReward reward = RandomSelectorUtil.selectWeighted(options);
+			LootReward reward = table.selectReward();
 			if (reward != null) {
 				// Retrieve reward
 				LootInfo info = new LootInfo();
-				if (reward.itemId != null) {
-					int count = rnd.nextInt(reward.maxCount + 1);
-					while (count < reward.minCount)
-						count = rnd.nextInt(reward.maxCount + 1);
-					info.count = count;
-				}
+				if (reward.itemId != null)
+					info.count = selectCount(reward.minCount, reward.maxCount);
 				info.reward = reward;
 				return info;
 			}
@@ -3,10 +3,34 @@ package org.asf.centuria.interactions.modules.resourcecollection.tables;
 import java.util.ArrayList;
 
 import org.asf.centuria.interactions.modules.resourcecollection.rewards.HarvestReward;
+import org.asf.centuria.util.WeightedSelector;
 
 public class HarvestTable {
 
 	public String objectName;
 	public ArrayList<HarvestReward> rewards = new ArrayList<HarvestReward>();
 
+	private WeightedSelector<HarvestReward> selector;
+
+	/**
+	 * Compiles the reward selector, needs to be called after changing the rewards
+	 */
+	public void compile() {
+		selector = new WeightedSelector<HarvestReward>(new ArrayList<HarvestReward>(rewards), t -> t.weight);
+	}
+
+	/**
+	 * Selects a random reward by weight
+	 * 
+	 * @return HarvestReward instance or null
+	 */
+	public HarvestReward selectReward() {
+		WeightedSelector<HarvestReward> selector = this.selector;
+		if (selector == null) {
+			compile();
+			selector = this.selector;
+		}
+		return selector.select();
+	}
+
 }
@@ -3,10 +3,34 @@ package org.asf.centuria.interactions.modules.resourcecollection.tables;
 import java.util.ArrayList;
 
 import org.asf.centuria.interactions.modules.resourcecollection.rewards.LootReward;
+import org.asf.centuria.util.WeightedSelector;
 
 public class LootTable {
 
 	public String objectName;
 	public ArrayList<LootReward> rewards = new ArrayList<LootReward>();
 
+	private WeightedSelector<LootReward> selector;
+
+	/**
+	 * Compiles the reward selector, needs to be called after changing the rewards
+	 */
+	public void compile() {
+		selector = new WeightedSelector<LootReward>(new ArrayList<LootReward>(rewards), t -> t.weight);
+	}
+
+	/**
+	 * Selects a random reward by weight
+	 * 
+	 * @return LootReward instance or null
+	 */
+	public LootReward selectReward() {
+		WeightedSelector<LootReward> selector = this.selector;
+		if (selector == null) {
+			compile();
+			selector = this.selector;
+		}
+		return selector.select();
+	}
+
 }
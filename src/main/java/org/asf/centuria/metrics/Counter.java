@@ -0,0 +1,39 @@
+package org.asf.centuria.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 
+ * Counter metric - a value that only goes up
+ * 
+ */
+public class Counter {
+
+	private LongAdder value = new LongAdder();
+
+	/**
+	 * Increases the counter by one
+	 */
+	public void increment() {
+		value.increment();
+	}
+
+	/**
+	 * Increases the counter
+	 * 
+	 * @param amount Amount to add
+	 */
+	public void add(long amount) {
+		value.add(amount);
+	}
+
+	/**
+	 * Retrieves the counter value
+	 * 
+	 * @return Counter value
+	 */
+	public long get() {
+		return value.sum();
+	}
+
+}
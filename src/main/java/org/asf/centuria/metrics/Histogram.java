@@ -0,0 +1,122 @@
+package org.asf.centuria.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 
+ * Histogram metric - records values into log-linear buckets (16 buckets per
+ * power of two, about 6% precision) so percentiles can be computed without
+ * keeping samples
+ * 
+ */
+public class Histogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+	private static final int BUCKETS = ((63 - SUB_BUCKET_BITS) << SUB_BUCKET_BITS) + SUB_BUCKETS;
+
+	private long scale;
+	private AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private LongAdder count = new LongAdder();
+	private LongAdder sum = new LongAdder();
+	private AtomicLong max = new AtomicLong();
+
+	/**
+	 * Creates a histogram
+	 * 
+	 * @param scale Recorded values per exported unit, eg. 1000000000 to export
+	 *              nanoseconds as seconds
+	 */
+	public Histogram(long scale) {
+		this.scale = scale;
+	}
+
+	/**
+	 * Records a value
+	 * 
+	 * @param value Value to record, negative values are recorded as 0
+	 */
+	public void record(long value) {
+		if (value < 0)
+			value = 0;
+		buckets.incrementAndGet(bucketOf(value));
+		count.increment();
+		sum.add(value);
+		if (value > max.get())
+			max.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Retrieves the amount of recorded values
+	 * 
+	 * @return Value count
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Retrieves the sum of all recorded values in the exported unit
+	 * 
+	 * @return Value sum
+	 */
+	public double getSum() {
+		return (double) sum.sum() / scale;
+	}
+
+	/**
+	 * Retrieves the highest recorded value in the exported unit
+	 * 
+	 * @return Highest value
+	 */
+	public double getMax() {
+		return (double) max.get() / scale;
+	}
+
+	/**
+	 * Computes a quantile in the exported unit
+	 * 
+	 * @param quantile Quantile between 0 and 1
+	 * @return Upper bound of the bucket containing the quantile
+	 */
+	public double getQuantile(double quantile) {
+		long[] snapshot = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = buckets.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0)
+			return 0;
+
+		// Find the bucket
+		long target = Math.max(1, (long) Math.ceil(total * quantile));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= target)
+				return (double) Math.min(upperBoundOf(i), max.get()) / scale;
+		}
+		return (double) max.get() / scale;
+	}
+
+	private static int bucketOf(long value) {
+		if (value < LINEAR_LIMIT)
+			return (int) value;
+		int exp = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return ((exp - SUB_BUCKET_BITS) << SUB_BUCKET_BITS) + SUB_BUCKETS + sub;
+	}
+
+	private static long upperBoundOf(int bucket) {
+		if (bucket < LINEAR_LIMIT)
+			return bucket;
+		int exp = ((bucket - SUB_BUCKETS) >> SUB_BUCKET_BITS) + SUB_BUCKET_BITS;
+		int sub = (bucket - SUB_BUCKETS) & (SUB_BUCKETS - 1);
+		return ((long) (SUB_BUCKETS + sub + 1) << (exp - SUB_BUCKET_BITS)) - 1;
+	}
+
+}
@@ -0,0 +1,18 @@
+package org.asf.centuria.metrics;
+
+/**
+ * 
+ * Metrics collector - writes metrics that are computed when the metrics are
+ * scraped, eg. player counts
+ * 
+ */
+public interface MetricsCollector {
+
+	/**
+	 * Called to write the metrics of this collector
+	 * 
+	 * @param writer Metrics writer
+	 */
+	public void collect(MetricsWriter writer);
+
+}
@@ -0,0 +1,229 @@
+package org.asf.centuria.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.MarkerManager;
+import org.asf.centuria.Centuria;
+
+/**
+ * 
+ * Metrics registry - keeps the counters and histograms of the server and
+ * writes them for the scrape endpoint, instrumented code should check
+ * {@link #isEnabled()} before measuring anything, metrics stay disabled until
+ * {@link #loadConfig()} is called
+ * 
+ */
+public class MetricsRegistry {
+
+	// Configuration
+	private static boolean enabled;
+	private static String scrapePath = "/centuria/metrics";
+	private static String scrapeToken = "";
+	private static boolean jvmMetrics = true;
+
+	// Metrics
+	private static ConcurrentSkipListMap<String, MetricFamily> families = new ConcurrentSkipListMap<>();
+	private static CopyOnWriteArrayList<MetricsCollector> collectors = new CopyOnWriteArrayList<MetricsCollector>();
+
+	private static class MetricFamily {
+		public String name;
+		public String help;
+		public boolean histogram;
+		public ConcurrentSkipListMap<String, LabeledMetric> metrics = new ConcurrentSkipListMap<>();
+	}
+
+	private static class LabeledMetric {
+		public String[] labels;
+		public Object metric;
+	}
+
+	/**
+	 * Loads metrics.conf, creating it if needed
+	 */
+	public static void loadConfig() {
+		// Load configuration
+		HashMap<String, String> properties = new HashMap<String, String>();
+		try {
+			// Create config if needed
+			if (!new File("metrics.conf").exists()) {
+				Files.writeString(Path.of("metrics.conf"),
+						// Enables metrics collection, measurements are skipped when disabled
+						"enabled=false\n"
+
+								// Path of the scrape endpoint on the API server
+								+ "scrape-path=/centuria/metrics\n"
+
+								// Bearer token required to read the metrics, empty to allow anyone
+								+ "scrape-token=\n"
+
+								// Includes memory, thread and garbage collection metrics
+								+ "jvm-metrics=true\n");
+			}
+
+			// Load properties
+			for (String line : Files.readAllLines(Path.of("metrics.conf"))) {
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+				String key = line;
+				String value = "";
+				if (key.contains("=")) {
+					value = key.substring(key.indexOf("=") + 1);
+					key = key.substring(0, key.indexOf("="));
+				}
+				properties.put(key, value);
+			}
+		} catch (IOException e) {
+			Centuria.logger.error(MarkerManager.getMarker("METRICS"),
+					"Failed to load metrics.conf, metrics are disabled", e);
+		}
+		enabled = properties.getOrDefault("enabled", "false").equals("true");
+		scrapePath = properties.getOrDefault("scrape-path", "/centuria/metrics");
+		scrapeToken = properties.getOrDefault("scrape-token", "");
+		jvmMetrics = properties.getOrDefault("jvm-metrics", "true").equals("true");
+	}
+
+	/**
+	 * Checks if metrics are collected
+	 * 
+	 * @return True if enabled, false otherwise
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Checks if JVM metrics are collected
+	 * 
+	 * @return True if enabled, false otherwise
+	 */
+	public static boolean isJvmMetricsEnabled() {
+		return jvmMetrics;
+	}
+
+	/**
+	 * Retrieves the path of the scrape endpoint
+	 * 
+	 * @return Scrape endpoint path
+	 */
+	public static String getScrapePath() {
+		return scrapePath;
+	}
+
+	/**
+	 * Retrieves the token required to read the metrics
+	 * 
+	 * @return Scrape token or an empty string if no token is required
+	 */
+	public static String getScrapeToken() {
+		return scrapeToken;
+	}
+
+	/**
+	 * Retrieves or creates a counter
+	 * 
+	 * @param name   Metric name
+	 * @param help   Metric description
+	 * @param labels Label names and values, eg. "room", "123"
+	 * @return Counter instance
+	 */
+	public static Counter counter(String name, String help, String... labels) {
+		return (Counter) getMetric(name, help, false, labels, t -> new Counter());
+	}
+
+	/**
+	 * Retrieves or creates a histogram
+	 * 
+	 * @param name   Metric name
+	 * @param help   Metric description
+	 * @param scale  Recorded values per exported unit, eg. 1000000000 to export
+	 *               nanoseconds as seconds
+	 * @param labels Label names and values, eg. "room", "123"
+	 * @return Histogram instance
+	 */
+	public static Histogram histogram(String name, String help, long scale, String... labels) {
+		return (Histogram) getMetric(name, help, true, labels, t -> new Histogram(scale));
+	}
+
+	private static Object getMetric(String name, String help, boolean histogram, String[] labels,
+			Function<String, Object> constructor) {
+		MetricFamily family = families.get(name);
+		if (family == null) {
+			family = families.computeIfAbsent(name, t -> {
+				MetricFamily fam = new MetricFamily();
+				fam.name = name;
+				fam.help = help;
+				fam.histogram = histogram;
+				return fam;
+			});
+		}
+		if (family.histogram != histogram)
+			throw new IllegalArgumentException("Metric " + name + " is already registered with a different type");
+
+		// Find the metric
+		String key = labels.length == 0 ? "" : String.join("\0", labels);
+		LabeledMetric metric = family.metrics.get(key);
+		if (metric == null) {
+			metric = family.metrics.computeIfAbsent(key, t -> {
+				LabeledMetric m = new LabeledMetric();
+				m.labels = labels.clone();
+				m.metric = constructor.apply(name);
+				return m;
+			});
+		}
+		return metric.metric;
+	}
+
+	/**
+	 * Registers a metrics collector
+	 * 
+	 * @param collector Collector to call when the metrics are scraped
+	 */
+	public static void registerCollector(MetricsCollector collector) {
+		collectors.add(collector);
+	}
+
+	/**
+	 * Writes all metrics
+	 * 
+	 * @return Metrics in the Prometheus text exposition format
+	 */
+	public static String scrape() {
+		MetricsWriter writer = new MetricsWriter();
+
+		// Registered metrics
+		for (MetricFamily family : families.values()) {
+			for (LabeledMetric metric : family.metrics.values()) {
+				if (family.histogram)
+					writer.writeSummary(family.name, family.help, (Histogram) metric.metric, metric.labels);
+				else
+					writer.writeCounter(family.name, family.help, ((Counter) metric.metric).get(), metric.labels);
+			}
+
+			// Highest values
+			if (family.histogram) {
+				for (LabeledMetric metric : family.metrics.values())
+					writer.writeGauge(family.name + "_max", "Highest value of " + family.name,
+							((Histogram) metric.metric).getMax(), metric.labels);
+			}
+		}
+
+		// Collectors
+		for (MetricsCollector collector : collectors) {
+			try {
+				collector.collect(writer);
+			} catch (Exception e) {
+				Centuria.logger.error(MarkerManager.getMarker("METRICS"), "Metrics collector failed", e);
+			}
+		}
+
+		return writer.toString();
+	}
+
+}
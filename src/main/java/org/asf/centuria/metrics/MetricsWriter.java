@@ -0,0 +1,104 @@
+package org.asf.centuria.metrics;
+
+/**
+ * 
+ * Metrics writer - writes metrics in the Prometheus text exposition format,
+ * samples of a metric need to be written after each other
+ * 
+ */
+public class MetricsWriter {
+
+	private static final double[] QUANTILES = new double[] { 0.5, 0.9, 0.99, 0.999 };
+
+	private StringBuilder output = new StringBuilder();
+	private String lastFamily;
+
+	/**
+	 * Writes a counter sample
+	 * 
+	 * @param name   Metric name
+	 * @param help   Metric description
+	 * @param value  Counter value
+	 * @param labels Label names and values, eg. "room", "123"
+	 */
+	public void writeCounter(String name, String help, double value, String... labels) {
+		writeHeader(name, help, "counter");
+		writeSample(name, labels, null, value);
+	}
+
+	/**
+	 * Writes a gauge sample
+	 * 
+	 * @param name   Metric name
+	 * @param help   Metric description
+	 * @param value  Gauge value
+	 * @param labels Label names and values, eg. "room", "123"
+	 */
+	public void writeGauge(String name, String help, double value, String... labels) {
+		writeHeader(name, help, "gauge");
+		writeSample(name, labels, null, value);
+	}
+
+	/**
+	 * Writes the quantiles, sum and count of a histogram as summary sample
+	 * 
+	 * @param name      Metric name
+	 * @param help      Metric description
+	 * @param histogram Histogram to write
+	 * @param labels    Label names and values, eg. "room", "123"
+	 */
+	public void writeSummary(String name, String help, Histogram histogram, String... labels) {
+		writeHeader(name, help, "summary");
+		for (double quantile : QUANTILES)
+			writeSample(name, labels, Double.toString(quantile), histogram.getQuantile(quantile));
+		writeSample(name + "_sum", labels, null, histogram.getSum());
+		writeSample(name + "_count", labels, null, histogram.getCount());
+	}
+
+	private void writeHeader(String name, String help, String type) {
+		if (name.equals(lastFamily))
+			return;
+		lastFamily = name;
+		output.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n"))
+				.append('\n');
+		output.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+	}
+
+	private void writeSample(String name, String[] labels, String quantile, double value) {
+		output.append(name);
+		if (labels.length != 0 || quantile != null) {
+			output.append('{');
+			boolean first = true;
+			for (int i = 0; i + 1 < labels.length; i += 2) {
+				if (!first)
+					output.append(',');
+				first = false;
+				output.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+			}
+			if (quantile != null) {
+				if (!first)
+					output.append(',');
+				output.append("quantile=\"").append(quantile).append('"');
+			}
+			output.append('}');
+		}
+		output.append(' ');
+		if (value == (long) value)
+			output.append((long) value);
+		else
+			output.append(value);
+		output.append('\n');
+	}
+
+	private static String escape(String value) {
+		if (value == null)
+			return "";
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	@Override
+	public String toString() {
+		return output.toString();
+	}
+
+}
@@ -0,0 +1,310 @@
+package org.asf.centuria.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+
+import org.apache.logging.log4j.MarkerManager;
+import org.asf.centuria.Centuria;
+import org.asf.centuria.cluster.ClusterManager;
+import org.asf.centuria.cluster.ClusterNode;
+import org.asf.centuria.entities.players.Player;
+import org.asf.centuria.networking.chatserver.ChatClient;
+import org.asf.centuria.networking.chatserver.ChatServer;
+import org.asf.centuria.networking.gameserver.GameServer;
+import org.asf.centuria.networking.gameserver.InterestManager;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * 
+ * Server metrics - measurement calls used by the server code and the
+ * collectors for player, chat, cluster and JVM metrics
+ * 
+ */
+public class ServerMetrics {
+
+	private static final long NANOSECONDS = 1000000000;
+
+	private static boolean started;
+
+	// Common metrics
+	private static Counter packetsUnhandled = MetricsRegistry.counter("centuria_packets_unhandled_total",
+			"Game packets no handler accepted");
+	private static Counter packetsSent = MetricsRegistry.counter("centuria_packets_sent_total",
+			"Game packets sent to clients");
+	private static Counter bytesSent = MetricsRegistry.counter("centuria_packet_bytes_sent_total",
+			"Game packet bytes sent to clients");
+	private static Histogram batchSizes = MetricsRegistry.histogram("centuria_packet_batch_size",
+			"Game packets queued in a batch before it was sent", 1);
+	private static Histogram inventoryReads = MetricsRegistry.histogram("centuria_inventory_read_seconds",
+			"Time taken to read inventory items from disk", NANOSECONDS);
+	private static Histogram inventoryWrites = MetricsRegistry.histogram("centuria_inventory_write_seconds",
+			"Time taken to write inventory items to disk", NANOSECONDS);
+	private static Counter inventoryReadBytes = MetricsRegistry.counter("centuria_inventory_read_bytes_total",
+			"Inventory bytes read from disk");
+	private static Counter inventoryWriteBytes = MetricsRegistry.counter("centuria_inventory_write_bytes_total",
+			"Inventory bytes written to disk");
+	private static Counter roomMessages = MetricsRegistry.counter("centuria_chat_messages_total",
+			"Chat messages sent", "type", "room");
+	private static Counter privateMessages = MetricsRegistry.counter("centuria_chat_messages_total",
+			"Chat messages sent", "type", "private");
+	private static Counter roomRecipients = MetricsRegistry.counter("centuria_chat_message_recipients_total",
+			"Room members chat messages were sent to", "type", "room");
+	private static Counter privateRecipients = MetricsRegistry.counter("centuria_chat_message_recipients_total",
+			"Room members chat messages were sent to", "type", "private");
+
+	// Metrics per packet type and HTTP processor, cached so the registry is only
+	// searched the first time a type is seen
+	private static ConcurrentHashMap<String, TimedMetric> packetMetrics = new ConcurrentHashMap<>();
+	private static ConcurrentHashMap<String, TimedMetric> chatPacketMetrics = new ConcurrentHashMap<>();
+	private static ConcurrentHashMap<String, TimedMetric> httpMetrics = new ConcurrentHashMap<>();
+
+	private static class TimedMetric {
+		public Counter count;
+		public Histogram time;
+
+		public TimedMetric(String name, String help, String histogramName, String histogramHelp, String label,
+				String value) {
+			count = MetricsRegistry.counter(name, help, label, value);
+			time = MetricsRegistry.histogram(histogramName, histogramHelp, NANOSECONDS, label, value);
+		}
+
+		public void record(long duration) {
+			count.increment();
+			time.record(duration);
+		}
+	}
+
+	/**
+	 * Registers the server and JVM metric collectors, does nothing if metrics are
+	 * disabled
+	 */
+	public static synchronized void start() {
+		if (!MetricsRegistry.isEnabled() || started)
+			return;
+		started = true;
+		MetricsRegistry.registerCollector(ServerMetrics::collectServer);
+		if (MetricsRegistry.isJvmMetricsEnabled()) {
+			MetricsRegistry.registerCollector(ServerMetrics::collectJvm);
+
+			// Record garbage collection pauses
+			for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+				if (!(gc instanceof NotificationEmitter))
+					continue;
+				((NotificationEmitter) gc).addNotificationListener((notification, handback) -> {
+					if (!notification.getType()
+							.equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION))
+						return;
+					GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo
+							.from((CompositeData) notification.getUserData());
+					MetricsRegistry.histogram("centuria_gc_pause_seconds", "Duration of garbage collections", 1000,
+							"collector", info.getGcName(), "action", info.getGcAction())
+							.record(info.getGcInfo().getDuration());
+				}, null, null);
+			}
+		}
+		Centuria.logger.info(MarkerManager.getMarker("METRICS"),
+				"Metrics enabled, scrape endpoint: " + MetricsRegistry.getScrapePath());
+		if (MetricsRegistry.getScrapeToken().isEmpty()) {
+			Centuria.logger.warn(MarkerManager.getMarker("METRICS"), "No scrape-token is set in metrics.conf, anyone "
+					+ "with access to the API server can read the metrics, including room and cluster node details");
+		}
+	}
+
+	/**
+	 * Records a handled game packet
+	 * 
+	 * @param type     Packet type
+	 * @param duration Handler duration in nanoseconds
+	 */
+	public static void packetHandled(String type, long duration) {
+		TimedMetric metric = packetMetrics.get(type);
+		if (metric == null) {
+			metric = packetMetrics.computeIfAbsent(type,
+					t -> new TimedMetric("centuria_packets_received_total", "Game packets handled",
+							"centuria_packet_handler_seconds", "Time taken to handle game packets", "type", t));
+		}
+		metric.record(duration);
+	}
+
+	/**
+	 * Records a game packet no handler accepted
+	 */
+	public static void packetUnhandled() {
+		packetsUnhandled.increment();
+	}
+
+	/**
+	 * Records game packets sent to a client
+	 * 
+	 * @param packets Packet count
+	 * @param bytes   Payload size
+	 */
+	public static void packetsSent(int packets, int bytes) {
+		packetsSent.add(packets);
+		bytesSent.add(bytes);
+	}
+
+	/**
+	 * Records a packet batch that was sent
+	 * 
+	 * @param packets Amount of packets in the batch
+	 */
+	public static void batchSent(int packets) {
+		batchSizes.record(packets);
+	}
+
+	/**
+	 * Records a handled chat packet
+	 * 
+	 * @param type     Packet type
+	 * @param duration Handler duration in nanoseconds
+	 */
+	public static void chatPacketHandled(String type, long duration) {
+		TimedMetric metric = chatPacketMetrics.get(type);
+		if (metric == null) {
+			metric = chatPacketMetrics.computeIfAbsent(type,
+					t -> new TimedMetric("centuria_chat_packets_received_total", "Chat packets handled",
+							"centuria_chat_packet_handler_seconds", "Time taken to handle chat packets", "type", t));
+		}
+		metric.record(duration);
+	}
+
+	/**
+	 * Records a chat message
+	 * 
+	 * @param privateRoom True if the message was sent in a DM, false for room chat
+	 * @param recipients  Amount of clients in the room the message was sent in
+	 */
+	public static void chatMessageSent(boolean privateRoom, int recipients) {
+		if (privateRoom) {
+			privateMessages.increment();
+			privateRecipients.add(recipients);
+		} else {
+			roomMessages.increment();
+			roomRecipients.add(recipients);
+		}
+	}
+
+	/**
+	 * Records a inventory item read from disk
+	 * 
+	 * @param duration Read duration in nanoseconds
+	 * @param bytes    Item size
+	 */
+	public static void inventoryRead(long duration, long bytes) {
+		inventoryReads.record(duration);
+		inventoryReadBytes.add(bytes);
+	}
+
+	/**
+	 * Records a inventory item written to disk
+	 * 
+	 * @param duration Write duration in nanoseconds
+	 * @param bytes    Item size
+	 */
+	public static void inventoryWritten(long duration, long bytes) {
+		inventoryWrites.record(duration);
+		inventoryWriteBytes.add(bytes);
+	}
+
+	/**
+	 * Records a HTTP request
+	 * 
+	 * @param processor Path of the processor that handled the request
+	 * @param duration  Processing duration in nanoseconds
+	 */
+	public static void httpRequest(String processor, long duration) {
+		TimedMetric metric = httpMetrics.get(processor);
+		if (metric == null) {
+			metric = httpMetrics.computeIfAbsent(processor,
+					t -> new TimedMetric("centuria_http_requests_total", "HTTP requests processed",
+							"centuria_http_request_seconds", "Time taken to process HTTP requests", "processor", t));
+		}
+		metric.record(duration);
+	}
+
+	private static void collectServer(MetricsWriter writer) {
+		// Players
+		GameServer gameServer = Centuria.gameServer;
+		if (gameServer != null) {
+			writer.writeGauge("centuria_players_online", "Players connected to the game server",
+					gameServer.getPlayers().length);
+			for (String room : gameServer.getActiveRooms()) {
+				Player[] players = gameServer.getPlayersInRoom(room);
+				writer.writeGauge("centuria_room_players", "Players in each room", players.length, "room", room);
+			}
+		}
+
+		// Area of interest management
+		writer.writeCounter("centuria_interest_updates_sent_total", "Movement updates sent by interest management",
+				InterestManager.getUpdatesSent());
+		writer.writeCounter("centuria_interest_updates_throttled_total",
+				"Movement updates skipped for players outside the update radius",
+				InterestManager.getUpdatesThrottled());
+		writer.writeCounter("centuria_interest_updates_culled_total",
+				"Movement updates not sent to players outside view range", InterestManager.getUpdatesCulled());
+		writer.writeCounter("centuria_interest_spawns_total", "Players spawned when coming into view range",
+				InterestManager.getSpawns());
+		writer.writeCounter("centuria_interest_despawns_total", "Players despawned when leaving view range",
+				InterestManager.getDespawns());
+
+		// Chat
+		ChatServer chatServer = Centuria.chatServer;
+		if (chatServer != null) {
+			ChatClient[] clients = chatServer.getClients();
+			long queued = 0;
+			int maxQueued = 0;
+			for (ChatClient client : clients) {
+				int size = client.getSendQueueSize();
+				queued += size;
+				maxQueued = Math.max(maxQueued, size);
+			}
+			writer.writeGauge("centuria_chat_clients", "Clients connected to the chat server", clients.length);
+			writer.writeGauge("centuria_chat_send_queue_size", "Chat packets waiting to be sent", queued);
+			writer.writeGauge("centuria_chat_send_queue_max", "Largest send queue of a single chat client", maxQueued);
+			for (int i = 0; i < chatServer.getShardCount(); i++) {
+				writer.writeGauge("centuria_chat_shard_rooms", "Chat rooms with members owned by each shard",
+						chatServer.getShard(i).getRoomCount(), "shard", Integer.toString(i));
+			}
+		}
+
+		// Cluster
+		for (ClusterNode node : ClusterManager.getInstance().getNodes()) {
+			writer.writeGauge("centuria_cluster_node_players", "Players on each cluster node", node.playerCount,
+					"node", node.nodeID, "address", node.address == null ? "" : node.address);
+		}
+	}
+
+	private static void collectJvm(MetricsWriter writer) {
+		// Memory
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		writer.writeGauge("jvm_memory_used_bytes", "Used memory", memory.getHeapMemoryUsage().getUsed(), "area",
+				"heap");
+		writer.writeGauge("jvm_memory_used_bytes", "Used memory", memory.getNonHeapMemoryUsage().getUsed(), "area",
+				"nonheap");
+		writer.writeGauge("jvm_memory_committed_bytes", "Committed memory", memory.getHeapMemoryUsage().getCommitted(),
+				"area", "heap");
+		writer.writeGauge("jvm_memory_committed_bytes", "Committed memory",
+				memory.getNonHeapMemoryUsage().getCommitted(), "area", "nonheap");
+		writer.writeGauge("jvm_memory_max_bytes", "Maximum heap size", memory.getHeapMemoryUsage().getMax(), "area",
+				"heap");
+
+		// Threads
+		writer.writeGauge("jvm_threads", "Live threads", ManagementFactory.getThreadMXBean().getThreadCount());
+
+		// Garbage collection totals
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+			writer.writeCounter("jvm_gc_collections_total", "Garbage collections", gc.getCollectionCount(),
+					"collector", gc.getName());
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+			writer.writeCounter("jvm_gc_collection_seconds_total", "Time spent in garbage collection",
+					gc.getCollectionTime() / 1000d, "collector", gc.getName());
+	}
+
+}
@@ -1,9 +1,12 @@
 package org.asf.centuria.minigames;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.asf.centuria.Centuria;
 import org.asf.centuria.data.XtReader;
@@ -19,8 +22,44 @@ import org.asf.centuria.packets.xt.gameserver.minigame.MinigameMessagePacket;
  */
 public abstract class AbstractMinigame {
 
-	private boolean messagesInitialized = false;
-	private HashMap<String, Method> minigameMessageHandlers = new HashMap<String, Method>();
+	// Message handlers, shared by all instances of a minigame type
+	private static class MessageHandler {
+		public MethodHandle handle;
+		public MinigameMessageStats stats;
+	}
+
+	private static ConcurrentHashMap<Class<?>, HashMap<String, MessageHandler>> messageHandlers = new ConcurrentHashMap<Class<?>, HashMap<String, MessageHandler>>();
+
+	private HashMap<String, MessageHandler> minigameMessageHandlers;
+
+	private static HashMap<String, MessageHandler> buildHandlers(Class<? extends AbstractMinigame> type) {
+		HashMap<String, MessageHandler> handlers = new HashMap<String, MessageHandler>();
+		MethodType handlerType = MethodType.methodType(void.class, AbstractMinigame.class, Player.class,
+				XtReader.class);
+		for (Method mth : type.getMethods()) {
+			if (mth.isAnnotationPresent(MinigameMessage.class)) {
+				// Check params
+				if (mth.getParameterCount() == 2 && mth.getParameters()[0].getType().isAssignableFrom(Player.class)
+						&& mth.getParameters()[1].getType().isAssignableFrom(XtReader.class)
+						&& !Modifier.isStatic(mth.getModifiers()) && !Modifier.isAbstract(mth.getModifiers())) {
+					try {
+						mth.setAccessible(true);
+						MinigameMessage msgI = (MinigameMessage) mth.getAnnotation(MinigameMessage.class);
+
+						// Create handler
+						MessageHandler handler = new MessageHandler();
+						handler.handle = MethodHandles.lookup().unreflect(mth).asType(handlerType);
+						handler.stats = new MinigameMessageStats(type, msgI.value());
+						handlers.put(msgI.value(), handler);
+					} catch (Exception e) {
+						Centuria.logger.error("Failed to register minigame message: " + mth.getName() + " (minigame: "
+								+ type.getSimpleName() + ")", e);
+					}
+				}
+			}
+		}
+		return handlers;
+	}
 
 	/**
 	 * Handles minigame message
@@ -29,40 +68,43 @@ public abstract class AbstractMinigame {
 	 * @param message Minigame message to handle
 	 */
 	public void handleMessage(Player player, MinigameMessagePacket message) {
-		if (!messagesInitialized) {
-			messagesInitialized = true;
-			for (Method mth : getClass().getMethods()) {
-				if (mth.isAnnotationPresent(MinigameMessage.class)) {
-					// Check params
-					if (mth.getParameterCount() == 2 && mth.getParameters()[0].getType().isAssignableFrom(Player.class)
-							&& mth.getParameters()[1].getType().isAssignableFrom(XtReader.class)
-							&& !Modifier.isStatic(mth.getModifiers()) && !Modifier.isAbstract(mth.getModifiers())) {
-						try {
-							mth.setAccessible(true);
-							MinigameMessage msgI = (MinigameMessage) mth.getAnnotation(MinigameMessage.class);
-							minigameMessageHandlers.put(msgI.value(), mth);
-						} catch (Exception e) {
-							Centuria.logger.error("Failed to register minigame message: " + mth.getName()
-									+ " (minigame: " + getClass().getSimpleName() + ")", e);
-						}
-					}
-				}
-			}
-		}
+		if (minigameMessageHandlers == null)
+			minigameMessageHandlers = messageHandlers.computeIfAbsent(getClass(),
+					t -> buildHandlers(getClass()));
 
 		// Find handler
-		if (minigameMessageHandlers.containsKey(message.command)) {
+		MessageHandler handler = minigameMessageHandlers.get(message.command);
+		if (handler != null) {
 			XtReader rd = new XtReader(message.data);
+			long start = System.nanoTime();
+			boolean failed = false;
 			try {
-				minigameMessageHandlers.get(message.command).invoke(this, player, rd);
-			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+				handler.handle.invokeExact(this, player, rd);
+			} catch (Error e) {
+				failed = true;
+				throw e;
+			} catch (Throwable e) {
+				failed = true;
 				Centuria.logger.error("Minigame error! (minigame: " + getClass().getSimpleName() + ")", e);
+			} finally {
+				handler.stats.record(System.nanoTime() - start, failed);
 			}
 		} else
 			Centuria.logger.error("No minigame message handler for: " + message.command + " (minigame: "
 					+ getClass().getSimpleName() + ", data: " + message.data + ")");
 	}
 
+	/**
+	 * Retrieves the message timing counters of all minigame types that have
+	 * received messages
+	 * 
+	 * @return Array of MinigameMessageStats instances
+	 */
+	public static MinigameMessageStats[] getMessageStats() {
+		return messageHandlers.values().stream().flatMap(t -> t.values().stream()).map(t -> t.stats)
+				.toArray(t -> new MinigameMessageStats[t]);
+	}
+
 	/**
 	 * Instantiates the game
 	 * 
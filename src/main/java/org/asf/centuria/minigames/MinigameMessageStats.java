@@ -0,0 +1,110 @@
+package org.asf.centuria.minigames;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 
+ * Timing counters for a minigame message handler
+ * 
+ */
+public class MinigameMessageStats {
+
+	private Class<? extends AbstractMinigame> minigame;
+	private String command;
+
+	private LongAdder invocations = new LongAdder();
+	private LongAdder failures = new LongAdder();
+	private LongAdder totalTime = new LongAdder();
+	private AtomicLong maxTime = new AtomicLong();
+
+	MinigameMessageStats(Class<? extends AbstractMinigame> minigame, String command) {
+		this.minigame = minigame;
+		this.command = command;
+	}
+
+	void record(long time, boolean failed) {
+		invocations.increment();
+		if (failed)
+			failures.increment();
+		totalTime.add(time);
+		maxTime.accumulateAndGet(time, Math::max);
+	}
+
+	/**
+	 * Retrieves the minigame type
+	 * 
+	 * @return Minigame class
+	 */
+	public Class<? extends AbstractMinigame> getMinigame() {
+		return minigame;
+	}
+
+	/**
+	 * Retrieves the message command
+	 * 
+	 * @return Message command string
+	 */
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Retrieves the amount of times the handler was called
+	 * 
+	 * @return Invocation count
+	 */
+	public long getInvocations() {
+		return invocations.sum();
+	}
+
+	/**
+	 * Retrieves the amount of times the handler threw an exception
+	 * 
+	 * @return Failure count
+	 */
+	public long getFailures() {
+		return failures.sum();
+	}
+
+	/**
+	 * Retrieves the total time spent in the handler
+	 * 
+	 * @return Total time in nanoseconds
+	 */
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	/**
+	 * Retrieves the longest time spent in a single handler call
+	 * 
+	 * @return Max time in nanoseconds
+	 */
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	/**
+	 * Retrieves the average time spent in the handler
+	 * 
+	 * @return Average time in nanoseconds
+	 */
+	public long getAverageTime() {
+		long count = invocations.sum();
+		if (count == 0)
+			return 0;
+		return totalTime.sum() / count;
+	}
+
+	/**
+	 * Resets the counters
+	 */
+	public void reset() {
+		invocations.reset();
+		failures.reset();
+		totalTime.reset();
+		maxTime.set(0);
+	}
+
+}
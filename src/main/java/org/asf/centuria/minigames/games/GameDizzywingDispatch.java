@@ -1,27 +1,22 @@
 package org.asf.centuria.minigames.games;
 
-import java.util.Queue;
 import java.util.Random;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 import org.asf.centuria.Centuria;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.data.XtReader;
 import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.entities.uservars.UserVarValue;
 import org.asf.centuria.minigames.AbstractMinigame;
 import org.asf.centuria.minigames.MinigameMessage;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 import org.asf.centuria.packets.xt.gameserver.minigame.MinigameCurrencyPacket;
 import org.asf.centuria.packets.xt.gameserver.minigame.MinigameMessagePacket;
@@ -35,7 +30,6 @@ import org.joml.Vector2i;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class GameDizzywingDispatch extends AbstractMinigame{
 
@@ -57,10 +51,8 @@ public class GameDizzywingDispatch extends AbstractMinigame{
         // Load level info
 		try {
 			// Load all level info into a JsonObject
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("minigames/dizzywingdispatch.json");
-			JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
-			strm.close();
+			JsonObject helper = GameDataRegistry.getInstance().getResource("minigames/dizzywingdispatch.json")
+					.getAsJsonObject();
 
 			// Seperate the level data by Json key
 			specialOrders = helper.getAsJsonArray("specialOrders");
@@ -305,21 +297,17 @@ public class GameDizzywingDispatch extends AbstractMinigame{
                     }
 
                     // Add clothing and eggs to the board if the respective objectives are given
-                    for(int y = gridSize.y-1; y >= 0; y--){
-                        for(int x = gridSize.x-1; x >= 0; x--){
-                            Vector2i curr = new Vector2i(x, y);
-                            GridCell currCell = getCell(curr);
-    
-                            if(!currCell.isBoosted()) {
-                                if(currCell.getTileType() != TileType.HatOrPurse && 
-                                    !currCell.isBoosted() && clothing > 0){
+                    for(int y = GRID_SIZE-1; y >= 0; y--){
+                        for(int x = GRID_SIZE-1; x >= 0; x--){
+                            int curr = index(x, y);
+
+                            if(booster(curr) == BOOSTER_NONE) {
+                                if(tileType(curr) != TILE_HAT && clothing > 0){
 
-                                    currCell.setTileType(TileType.HatOrPurse);
-                                    setCell(curr, currCell);
+                                    grid[curr] = packCell(TILE_HAT, BOOSTER_NONE, hasHealth(curr) ? 1 : 0);
                                     clothing--;
-                                } else if(currCell.getHealth() == 0 && !currCell.isBoosted() && eggs > 0){
-                                    currCell.setHealth(1);
-                                    setCell(curr, currCell);
+                                } else if(!hasHealth(curr) && eggs > 0){
+                                    grid[curr] |= HEALTH_BIT;
                                     eggs--;
                                 }
                             }
@@ -402,6 +390,11 @@ public class GameDizzywingDispatch extends AbstractMinigame{
 
                                 if(sumWeight < randNo && randNo <= sumWeight+reward.get("weight").getAsInt()){
 
+                                    // replays run without a player
+                                    if(player == null){
+                                        break;
+                                    }
+
                                     String lootTableDefID = reward.get("lootTableDefID").getAsString();
                                     Centuria.logger.debug(lootTableDefID, "lootTableDefId");
                                     LootInfo chosenReward = ResourceCollectionModule.getLootReward(lootTableDefID);
@@ -481,13 +474,9 @@ public class GameDizzywingDispatch extends AbstractMinigame{
             private void trackEggsAndClothing(){   // called to keep track of remaining eggs and clothing
                 if(isObjective(LevelObjectiveType.EggsLeft)){
                     int numberOfEggs = 0;
-                    for(int x = 0; x < gridSize.x; x++){
-                        for(int y = 0; y < gridSize.y; y++){
-                            Vector2i curr = new Vector2i(x, y);
-
-                            if(getCell(curr).getHealth() > 0) {
-                                numberOfEggs++;
-                            }
+                    for(int i = 0; i < GRID_CELLS; i++){
+                        if(hasHealth(i)) {
+                            numberOfEggs++;
                         }
                     }
                     updateObjectiveRemaining(LevelObjectiveType.EggsLeft, numberOfEggs);
@@ -495,13 +484,9 @@ public class GameDizzywingDispatch extends AbstractMinigame{
 
                 if(isObjective(LevelObjectiveType.ClothingLeft)){
                     int numberOfClothing = 0;
-                    for(int x = 0; x < gridSize.x; x++){
-                        for(int y = 0; y < gridSize.y; y++){
-                            Vector2i curr = new Vector2i(x, y);
-
-                            if(getCell(curr).getTileType() == TileType.HatOrPurse) {
-                                numberOfClothing++;
-                            }
+                    for(int i = 0; i < GRID_CELLS; i++){
+                        if(tileType(i) == TILE_HAT) {
+                            numberOfClothing++;
                         }
                     }
                     updateObjectiveRemaining(LevelObjectiveType.ClothingLeft, numberOfClothing);
@@ -618,17 +603,100 @@ public class GameDizzywingDispatch extends AbstractMinigame{
 
         // class fields
 
-        // game board data
-        private GridCell[][] grid;
-        private Vector2i gridSize;
+        // the board is square
+        private static final int GRID_SIZE = 9;
+        private static final int GRID_CELLS = GRID_SIZE * GRID_SIZE;
+
+        // packed cell layout: bits 0-3 are the tile type, bits 4-6 the booster type and bit 7 the egg health
+        private static final int TILE_MASK = 0x0F;
+        private static final int BOOSTER_SHIFT = 4;
+        private static final int BOOSTER_MASK = 0x70;
+        private static final int HEALTH_BIT = 0x80;
+
+        private static final TileType[] TILE_TYPES = TileType.values();
+        private static final BoosterType[] BOOSTER_TYPES = BoosterType.values();
+
+        private static final int TILE_HAT = TileType.HatOrPurse.ordinal();
+        private static final int TILE_NONE = TileType.None.ordinal();
+        private static final byte EMPTY_CELL = (byte) TILE_NONE;
+
+        private static final int BOOSTER_NONE = BoosterType.None.ordinal();
+        private static final int BOOSTER_HORIZONTAL = BoosterType.BuzzyBirdHorizontal.ordinal();
+        private static final int BOOSTER_VERTICAL = BoosterType.BuzzyBirdVertical.ordinal();
+        private static final int BOOSTER_BOOM = BoosterType.BoomBird.ordinal();
+        private static final int BOOSTER_PEACOCK = BoosterType.PrismPeacock.ordinal();
+
+        // puzzle objectives incremented when a bird is cleared, indexed by tile type
+        private static final PuzzleObjectiveType[][] CLEAR_OBJECTIVES = {
+            { PuzzleObjectiveType.ClearAquaBirds, PuzzleObjectiveType.ClearAquaBirds_SingleGame },
+            { PuzzleObjectiveType.ClearBlueBirds, PuzzleObjectiveType.ClearBlueBirds_SingleGame },
+            { PuzzleObjectiveType.ClearGreenBirds, PuzzleObjectiveType.ClearGreenBirds_SingleGame },
+            { PuzzleObjectiveType.ClearPinkBirds, PuzzleObjectiveType.ClearPinkBirds_SingleGame },
+            { PuzzleObjectiveType.ClearPurpleBirds, PuzzleObjectiveType.ClearPurpleBirds_SingleGame },
+            { PuzzleObjectiveType.ClearRedBirds, PuzzleObjectiveType.ClearRedBirds_SingleGame },
+            { PuzzleObjectiveType.ClearWhiteBirds, PuzzleObjectiveType.ClearWhiteBirds_SingleGame },
+            { PuzzleObjectiveType.ClearYellowBirds, PuzzleObjectiveType.ClearYellowBirds_SingleGame }
+        };
+        private static final PuzzleObjectiveType[][] PEACOCK_CLEAR_OBJECTIVES = {
+            { PuzzleObjectiveType.ClearedWithPeacockAqua, PuzzleObjectiveType.ClearedWithPeacockAqua_SingleGame },
+            { PuzzleObjectiveType.ClearedWithPeacockBlue, PuzzleObjectiveType.ClearedWithPeacockBlue_SingleGame },
+            { PuzzleObjectiveType.ClearedWithPeacockGreen, PuzzleObjectiveType.ClearedWithPeacockGreen_SingleGame },
+            { PuzzleObjectiveType.ClearedWithPeacockPink, PuzzleObjectiveType.ClearedWithPeacockPink_SingleGame },
+            { PuzzleObjectiveType.ClearedWithPeacockPurple, PuzzleObjectiveType.ClearedWithPeacockPurple_SingleGame },
+            { PuzzleObjectiveType.ClearedWithPeacockRed, PuzzleObjectiveType.ClearedWithPeacockRed_SingleGame },
+            { PuzzleObjectiveType.ClearedWithPeacockWhite, PuzzleObjectiveType.ClearedWithPeacockWhite_SingleGame },
+            { PuzzleObjectiveType.ClearedWithPeacockYellow, PuzzleObjectiveType.ClearedWithPeacockYellow_SingleGame }
+        };
+
+        // byte values of every packed cell, for the checksum and the board string
+        private static final byte[] CHECKSUM_VALUES = new byte[256];
+        private static final byte[] BASE64_STRING_VALUES = new byte[256];
+        private static final char[] BASE64_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+        static {
+            for (int cell = 0; cell < 256; cell++) {
+                int tile = cell & TILE_MASK;
+                int booster = (cell & BOOSTER_MASK) >> BOOSTER_SHIFT;
+                int health = (cell & HEALTH_BIT) != 0 ? 1 : 0;
+
+                // level of emulation accuracy uncertain
+                if (booster != BOOSTER_NONE) {
+                    CHECKSUM_VALUES[cell] = (byte) (20 + tile);
+                } else {
+                    CHECKSUM_VALUES[cell] = (byte) (tile * 2 + health);
+                }
+
+                if (tile == TILE_HAT) {
+                    BASE64_STRING_VALUES[cell] = 18;
+                } else if (booster == BOOSTER_PEACOCK) {
+                    BASE64_STRING_VALUES[cell] = 88;
+                } else {
+                    BASE64_STRING_VALUES[cell] = (byte) ((booster == BOOSTER_NONE ? 2 : 1) * tile + health + booster * 20);
+                }
+            }
+        }
+
+        // game board data, cells are stored column by column (index = x * GRID_SIZE + y)
+        private byte[] grid = new byte[GRID_CELLS];
+
+        // used by the flood fill algorithm, 81-bit boards split over two longs
+        private long toVisitLow;
+        private long toVisitHigh;
+        private long visitedLow;
+        private long visitedHigh;
+        private int[] matchType = new int[GRID_CELLS];
+        private int[] floodFillQueue = new int[GRID_CELLS * 4 + 1];
+        private int[] connectedNodes = new int[GRID_CELLS];
 
-        // used by the flood fill algorithm
-        private boolean toVisit[][];
-        private boolean visited[][];
+        // used by the booster combos that spread over a whole color
+        private int[] comboTargets = new int[GRID_CELLS];
+
+        // used when rearranging or hashing the board
+        private byte[] boardBuffer = new byte[GRID_CELLS];
 
         // used to generate new tiles
         private List<TileType> spawnTiles;
-        
+
         // source of all randomness in the game
         private Random randomizer;
 
@@ -642,7 +710,6 @@ public class GameDizzywingDispatch extends AbstractMinigame{
         private Player player;
 
         public GameState(Player Player){
-            gridSize = new Vector2i(9, 9);
             spawnTiles = new ArrayList<TileType>(Arrays.asList(
             TileType.GreenBird,
             TileType.PurpleBird,
@@ -660,119 +727,76 @@ public class GameDizzywingDispatch extends AbstractMinigame{
 
         // functions related to accessing or modifying game tiles
 
+        private int index(int x, int y){
+            return x * GRID_SIZE + y;
+        }
+
+        private boolean inBounds(int x, int y){
+            return x >= 0 && x < GRID_SIZE && y >= 0 && y < GRID_SIZE;
+        }
+
+        private int tileType(int index){
+            return grid[index] & TILE_MASK;
+        }
+
+        private int booster(int index){
+            return (grid[index] & BOOSTER_MASK) >> BOOSTER_SHIFT;
+        }
+
+        private boolean hasHealth(int index){
+            return (grid[index] & HEALTH_BIT) != 0;
+        }
+
+        private byte packCell(int tileType, int booster, int health){
+            return (byte) (tileType | (booster << BOOSTER_SHIFT) | (health > 0 ? HEALTH_BIT : 0));
+        }
+
+        // returns a copy of a tile, changes need to be written back with setCell
         public GridCell getCell(Vector2i pos)
         {
-            if (pos.x >= 0 && pos.x < gridSize.x && pos.y >= 0 && pos.y < gridSize.y)
+            if (inBounds(pos.x, pos.y))
             {
-                return grid[pos.x][pos.y];
+                int i = index(pos.x, pos.y);
+                return new GridCell(hasHealth(i) ? 1 : 0, TILE_TYPES[tileType(i)], BOOSTER_TYPES[booster(i)]);
             }
             return null;
         }
 
         public void setCell(Vector2i pos, GridCell cell){
-            if (pos.x >= 0 && pos.x < gridSize.x && pos.y >= 0 && pos.y < gridSize.y && cell != null)
+            if (inBounds(pos.x, pos.y) && cell != null)
             {
-                grid[pos.x][pos.y] = cell;
+                grid[index(pos.x, pos.y)] = packCell(cell.TileType.ordinal(), cell.Booster.ordinal(), cell.tileHealth);
             }
         }
 
-        // template function with one less argument to avoid errors
-        private void clearCell(Vector2i pos, boolean isScore, boolean forceClear){
-            clearCell(pos, isScore, forceClear, false);
+        private void clearCell(int x, int y, boolean isScore, boolean forceClear){
+            clearCell(x, y, isScore, forceClear, false);
         }
 
-        private void clearCell(Vector2i pos, boolean isScore, boolean forceClear, boolean isClearedByPeacock){
-            
-            if (getCell(pos) == null) {
+        private void clearCell(int x, int y, boolean isScore, boolean forceClear, boolean isClearedByPeacock){
+
+            if (!inBounds(x, y)) {
                 return;
             }
-            
-            switch(getCell(pos).getTileType()){
-                case RedBird:
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearRedBirds);
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearRedBirds_SingleGame);
-                    break;
-                case BlueBird:
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearBlueBirds);
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearBlueBirds_SingleGame);
-                    break;
-                case GreenBird:
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearGreenBirds);
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearGreenBirds_SingleGame);
-                    break;
-                case YellowBird:
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearYellowBirds);
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearYellowBirds_SingleGame);
-                    break;
-                case PinkBird:
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearPinkBirds);
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearPinkBirds_SingleGame);
-                    break;
-                case SnowyBird:
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearWhiteBirds);
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearWhiteBirds_SingleGame);
-                    break;
-                case PurpleBird:
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearPurpleBirds);
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearPurpleBirds_SingleGame);
-                    break;
-                case AquaBird:
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearAquaBirds);
-                    puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearAquaBirds_SingleGame);
-                    break;
-                case None:
-                    break;
-                default:
-                    break;
-            }
-            if(isClearedByPeacock){
-                switch(getCell(pos).getTileType()){
-                    case RedBird:
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockRed);
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockRed_SingleGame);
-                        break;
-                    case BlueBird:
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockBlue);
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockBlue_SingleGame);
-                        break;
-                    case GreenBird:
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockGreen);
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockGreen_SingleGame);
-                        break;
-                    case YellowBird:
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockYellow);
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockYellow_SingleGame);
-                        break;
-                    case PinkBird:
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockPink);
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockPink_SingleGame);
-                        break;
-                    case SnowyBird:
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockWhite);
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockWhite_SingleGame);
-                        break;
-                    case PurpleBird:
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockPurple);
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockPurple_SingleGame);
-                        break;
-                    case AquaBird:
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockAqua);
-                        puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ClearedWithPeacockAqua_SingleGame);
-                        break;
-                    case None:
-                        break;
-                    default:
-                        break;
+
+            int i = index(x, y);
+            int tile = tileType(i);
+            if(tile < CLEAR_OBJECTIVES.length){
+                puzzleObjectives.incrementPuzzleTemp(CLEAR_OBJECTIVES[tile][0]);
+                puzzleObjectives.incrementPuzzleTemp(CLEAR_OBJECTIVES[tile][1]);
+                if(isClearedByPeacock){
+                    puzzleObjectives.incrementPuzzleTemp(PEACOCK_CLEAR_OBJECTIVES[tile][0]);
+                    puzzleObjectives.incrementPuzzleTemp(PEACOCK_CLEAR_OBJECTIVES[tile][1]);
                 }
             }
 
             if(forceClear){
-                setCell(pos, new GridCell(0, TileType.None, BoosterType.None));
+                grid[i] = EMPTY_CELL;
                 return;
-            } else if(getCell(pos).getHealth() > 0) {
-                breakEggTile(pos);
-            } else if(getCell(pos).getTileType() != TileType.HatOrPurse && getCell(pos).getBooster() != BoosterType.PrismPeacock) {
-                setCell(pos, new GridCell(0, TileType.None, BoosterType.None));
+            } else if(hasHealth(i)) {
+                breakEggTile(x, y);
+            } else if(tile != TILE_HAT && booster(i) != BOOSTER_PEACOCK) {
+                grid[i] = EMPTY_CELL;
             }
 
             if(isScore) {
@@ -780,77 +804,72 @@ public class GameDizzywingDispatch extends AbstractMinigame{
                 dizzyBirdMeter += 30;
             }
 
-            switch (getCell(pos).getBooster()) {
-                case BuzzyBirdHorizontal: 
-                    buzzyBirdHorizontalBehaviour(pos, 1);
-                    break;
-                case BuzzyBirdVertical: 
-                    buzzyBirdVerticalBehaviour(pos, 1);
-                    break;
-                case BoomBird: 
-                    boomBirdBehaviour(pos, 3);
-                    break;
-                default:
-                    
-                    break;
+            int booster = booster(i);
+            if(booster == BOOSTER_HORIZONTAL){
+                buzzyBirdHorizontalBehaviour(x, y, 1);
+            } else if(booster == BOOSTER_VERTICAL){
+                buzzyBirdVerticalBehaviour(x, y, 1);
+            } else if(booster == BOOSTER_BOOM){
+                boomBirdBehaviour(x, y, 3);
             }
         }
 
-        private void breakEggTile(Vector2i pos){
-            GridCell eggTile = getCell(pos);
-            if(eggTile != null){
-                eggTile.setHealth(0);
-                setCell(pos, eggTile);
-                levelObjectives.trackEggsAndClothing();
+        // egg progress is counted again whenever it is read, so this only changes the tile
+        private void breakEggTile(int x, int y){
+            if(inBounds(x, y)){
+                grid[index(x, y)] &= ~HEALTH_BIT;
             }
         }
 
-        private void clearGrid(){
-            grid = new GridCell[gridSize.x][gridSize.y];
-        }
-        
 
         // functions that generate some type of string representation of the game board
 
         public int calculateBoardChecksum() // level of emulation accuracy uncertain
         {
-            byte[] inArray = new byte[gridSize.x * gridSize.y];
-            
-            for(int x = 0; x < gridSize.x; x++){
-                for(int y = 0; y < gridSize.y; y++){
-                    inArray[x + gridSize.x * y] = gridCellByteValueForChecksum(new Vector2i(x, y));
+            byte[] inArray = boardBuffer;
+            for(int x = 0; x < GRID_SIZE; x++){
+                for(int y = 0; y < GRID_SIZE; y++){
+                    inArray[x + GRID_SIZE * y] = CHECKSUM_VALUES[grid[index(x, y)] & 0xFF];
                 }
             }
 
             //Board checksum algorithm!
-            String string1 = Base64.getEncoder().encodeToString(inArray);
-            String string2 = currentGameUUID.toString();
-            String string3 = ((Integer)(moveCount)).toString();
-            return (string1 + string2 + string3).hashCode();
-        }
-
-        private byte gridCellByteValueForChecksum(Vector2i pos) // level of emulation accuracy uncertain
-        {
-            int byteValue = 0;
-            GridCell cell = getCell(pos);
-
-            int tileTypeValue = cell.getTileType().ordinal();
-
-            if (cell.isBoosted()) {
-                byteValue += (cell.isBoosted() ? 1 : 0) * 20 + tileTypeValue;
-            } else {
-                byteValue += tileTypeValue * 2 + cell.tileHealth;
+            // This is the hash code of the base64 board string, the game UUID and the move count joined together,
+            // computed without building the strings
+            int hash = 0;
+            for(int i = 0; i < inArray.length; i += 3){
+                int bits = (inArray[i] & 0xFF) << 16;
+                if(i + 1 < inArray.length) bits |= (inArray[i + 1] & 0xFF) << 8;
+                if(i + 2 < inArray.length) bits |= inArray[i + 2] & 0xFF;
+                hash = 31 * hash + BASE64_CHARS[(bits >> 18) & 63];
+                hash = 31 * hash + BASE64_CHARS[(bits >> 12) & 63];
+                hash = 31 * hash + (i + 1 < inArray.length ? BASE64_CHARS[(bits >> 6) & 63] : '=');
+                hash = 31 * hash + (i + 2 < inArray.length ? BASE64_CHARS[bits & 63] : '=');
             }
-
-            return (byte)byteValue;
+            for(int i = 0; i < currentGameUUID.length(); i++){
+                hash = 31 * hash + currentGameUUID.charAt(i);
+            }
+            long moves = moveCount;
+            if(moves < 0){
+                hash = 31 * hash + '-';
+                moves = -moves;
+            }
+            long digit = 1;
+            while(digit * 10 <= moves){
+                digit *= 10;
+            }
+            for(; digit > 0; digit /= 10){
+                hash = 31 * hash + (char) ('0' + (moves / digit) % 10);
+            }
+            return hash;
         }
 
         public String toBase64String(){
-            byte[] inArray = new byte[gridSize.x * gridSize.y];
-            
-            for(int x = 0; x < gridSize.x; x++){
-                for(int y = 0; y < gridSize.y; y++){
-                    inArray[x + gridSize.x * y] = gridCellByteValueForBase64String(new Vector2i(x, y));
+            byte[] inArray = boardBuffer;
+
+            for(int x = 0; x < GRID_SIZE; x++){
+                for(int y = 0; y < GRID_SIZE; y++){
+                    inArray[x + GRID_SIZE * y] = BASE64_STRING_VALUES[grid[index(x, y)] & 0xFF];
                 }
             }
 
@@ -859,20 +878,7 @@ public class GameDizzywingDispatch extends AbstractMinigame{
 
         public byte gridCellByteValueForBase64String(Vector2i pos)
         {
-            int byteValue = 0;
-            GridCell cell = getCell(pos);
-
-            if(cell.TileType == TileType.HatOrPurse){
-                byteValue = 18;
-            } else if (cell.Booster == BoosterType.PrismPeacock){
-                byteValue = 88;
-            } else {
-                byteValue += ((cell.Booster == BoosterType.None ? 2 : 1) * cell.TileType.ordinal() + (cell.tileHealth == 0 ? 0 : 1));
-                byteValue += cell.Booster.ordinal() * 20;
-            }
-            
-            
-            return (byte)byteValue;
+            return BASE64_STRING_VALUES[grid[index(pos.x, pos.y)] & 0xFF];
         }
 
 
@@ -881,24 +887,24 @@ public class GameDizzywingDispatch extends AbstractMinigame{
         private void initializeGameBoard() // level of emulation accuracy uncertain
         {
 
-            clearGrid();
+            Arrays.fill(grid, EMPTY_CELL);
             List<TileType> shuffledSpawnTiles = new ArrayList<TileType>(spawnTiles);
 
-            for (int y = 0; y < gridSize.y; y++)
+            for (int y = 0; y < GRID_SIZE; y++)
             {
-                for (int x = 0; x < gridSize.x; x++)
+                for (int x = 0; x < GRID_SIZE; x++)
                 {
                     Collections.shuffle(shuffledSpawnTiles, randomizer);
 
                     for (TileType spawnTile : shuffledSpawnTiles)
                     {
+                        int tile = spawnTile.ordinal();
+
                         // checks so that matches don't naturally form
-                        if ((x < 2 || !(getCell(new Vector2i(x - 1, y)).TileType == spawnTile) || 
-                            !(getCell(new Vector2i(x - 2, y)).TileType == spawnTile)) && 
-                            (y < 2 || !(getCell(new Vector2i(x, y - 1)).TileType == spawnTile) || 
-                            !(getCell(new Vector2i(x, y - 2)).TileType == spawnTile)))
+                        if ((x < 2 || tileType(index(x - 1, y)) != tile || tileType(index(x - 2, y)) != tile) &&
+                            (y < 2 || tileType(index(x, y - 1)) != tile || tileType(index(x, y - 2)) != tile))
                         {
-                            setCell(new Vector2i(x, y), new GridCell(0, spawnTile, BoosterType.None));
+                            grid[index(x, y)] = (byte) tile;
                             break;
                         }
                     }
@@ -908,26 +914,26 @@ public class GameDizzywingDispatch extends AbstractMinigame{
 
         // used by the scramble tiles command
         public void scrambleTiles() {
-            List<GridCell> scrambledTiles = new ArrayList<>();
 
-            for(int x = 0; x < gridSize.x; x++){
-                for(int y = 0; y < gridSize.y; y++){  
-                    Vector2i curr = new Vector2i(x, y);
-                    scrambledTiles.add(getCell(curr));
-                }
-            }
+            // the tiles are collected column by column and placed back row by row
+            byte[] scrambledTiles = boardBuffer;
+            System.arraycopy(grid, 0, scrambledTiles, 0, GRID_CELLS);
 
-            Collections.shuffle(scrambledTiles, randomizer);
+            // same swaps as Collections.shuffle so the randomizer stays in step
+            for(int i = GRID_CELLS; i > 1; i--){
+                int j = randomizer.nextInt(i);
+                byte tile = scrambledTiles[i - 1];
+                scrambledTiles[i - 1] = scrambledTiles[j];
+                scrambledTiles[j] = tile;
+            }
 
-            int tileNumber = 0;
-            for(GridCell tile : scrambledTiles){
-                setCell(new Vector2i(tileNumber % gridSize.y, tileNumber / gridSize.y), tile);
-                tileNumber++;
+            for(int tileNumber = 0; tileNumber < GRID_CELLS; tileNumber++){
+                grid[index(tileNumber % GRID_SIZE, tileNumber / GRID_SIZE)] = scrambledTiles[tileNumber];
             }
 
             while(true){ // copied over from the calculateMoves function
 
-                boolean isMatches = findAndClearMatches(new Vector2i(-1, -1), new Vector2i(-1, -1)); // blank input
+                boolean isMatches = findAndClearMatches(-1, -1); // blank input
                 fillGaps();
                 clearHats();
                 fillGaps(); // replace tiles marked as having being cleared
@@ -938,13 +944,12 @@ public class GameDizzywingDispatch extends AbstractMinigame{
 
             }
         }
-    
+
         private void clearHats() { // level of emulation accuracy uncertain
-            for(int x = 0; x < gridSize.x; x++){
-                for(int y = 0; y < gridSize.y; y++){ // for each column
-                    Vector2i curr = new Vector2i(x, y);
-                    if(getCell(curr).getTileType() == TileType.HatOrPurse){
-                        clearCell(curr, false, true);
+            for(int x = 0; x < GRID_SIZE; x++){
+                for(int y = 0; y < GRID_SIZE; y++){ // for each column
+                    if(tileType(index(x, y)) == TILE_HAT){
+                        clearCell(x, y, false, true);
                     } else {
                         break;
                     }
@@ -952,26 +957,30 @@ public class GameDizzywingDispatch extends AbstractMinigame{
             }
 
             fillGaps();
-            levelObjectives.trackEggsAndClothing();
         }
 
         public void fillGaps(){ // called whenever tiles have been removed, it shifts down tiles suspended midair and generates new ones
-            for(int x = 0; x < gridSize.x; x++){
+            for(int x = 0; x < GRID_SIZE; x++){
+                int column = x * GRID_SIZE;
                 int noGapsInColumn = 0;
-                for(int y = 0; y < gridSize.y; y++){ // for each column
-                    GridCell currCell = getCell(new Vector2i(x, y));
-                    if(currCell.TileType == TileType.None && currCell.Booster == BoosterType.None){
+                for(int y = 0; y < GRID_SIZE; y++){ // for each column
+                    byte currCell = grid[column + y];
+                    if((currCell & (TILE_MASK | BOOSTER_MASK)) == TILE_NONE){
                         noGapsInColumn++;
                     } else {
-                        setCell(new Vector2i(x, y - noGapsInColumn), currCell); // move all the tiles down to eliminate gaps
+                        grid[column + y - noGapsInColumn] = currCell; // move all the tiles down to eliminate gaps
                     }
                 }
-                for(int y = gridSize.y; y >= gridSize.y-noGapsInColumn; y--){
-                    setCell(new Vector2i(x, y), new GridCell(0, spawnTiles.get(randomizer.nextInt(spawnTiles.size())), BoosterType.None)); // now fill the gaps
+                for(int y = GRID_SIZE; y >= GRID_SIZE-noGapsInColumn; y--){
+                    // a tile is also rolled for the row above the board, it is discarded
+                    int tile = spawnTiles.get(randomizer.nextInt(spawnTiles.size())).ordinal();
+                    if(y < GRID_SIZE){
+                        grid[column + y] = (byte) tile; // now fill the gaps
+                    }
                 }
             }
         }
-       
+
 
 
         // functions related to responding to a move from the player
@@ -981,139 +990,128 @@ public class GameDizzywingDispatch extends AbstractMinigame{
 
             moveCount++;
             levelObjectives.trackMoves();
-            
-            matchComboScore = 0;
 
-            if(pos2.y != -1){   // if given two tiles as input
+            matchComboScore = 0;
 
-                GridCell cell1 = getCell(pos1); // swap the tiles
-                setCell(pos1, getCell(pos2));
-                setCell(pos2, cell1);
+            int x1 = pos1.x;
+            int y1 = pos1.y;
+            int x2 = pos2.x;
+            int y2 = pos2.y;
+            if(!inBounds(x1, y1) || (y2 != -1 && !inBounds(x2, y2))){
+                return; // not a tile on the board
+            }
 
-/*
-                while(findAndClearMatches(pos1, pos2)){ // for as long as there are still matches on the game board
+            if(y2 != -1){   // if given two tiles as input
 
-                    fillGaps();
-                    clearHats();
+                int i1 = index(x1, y1); // swap the tiles
+                int i2 = index(x2, y2);
+                byte cell1 = grid[i1];
+                grid[i1] = grid[i2];
+                grid[i2] = cell1;
 
-                }
-*/
-                floodFillClearVisited();    // reset the visited array
-    
                 // Guarantee pos1 to have a more powerful or as powerful booster as pos2
-                if(getCell(pos2).getBooster().ordinal() > getCell(pos1).getBooster().ordinal()){
-                    Vector2i temp = pos1;
-                    pos1 = pos2;
-                    pos2 = temp;
+                if(booster(i2) > booster(i1)){
+                    int temp = x1;
+                    x1 = x2;
+                    x2 = temp;
+                    temp = y1;
+                    y1 = y2;
+                    y2 = temp;
+                    temp = i1;
+                    i1 = i2;
+                    i2 = temp;
                 }
-    
-                if(getCell(pos1).isBoosted() && getCell(pos2).isBoosted()){ // booster combo behaviours
-                    
-                    if((getCell(pos2).getBooster() == BoosterType.BuzzyBirdHorizontal || 
-                        getCell(pos2).getBooster() == BoosterType.BuzzyBirdVertical) &&
-                        getCell(pos1).getBooster() == BoosterType.BoomBird){    // Buzzy bird and boom bird
-    
-                        ComboBuzzyBoomBirdBehaviour(pos1, pos2);
-                        
-                    } else if (getCell(pos1).getBooster() == BoosterType.BoomBird &&
-                        getCell(pos2).getBooster() == BoosterType.BoomBird){    // Boom bird and boom bird
-                        
-                        ComboBoomBoomBirdBehaviour(pos1, pos2);
-                        
-                    } else if ((getCell(pos1).getBooster() == BoosterType.BuzzyBirdHorizontal || 
-                        getCell(pos1).getBooster() == BoosterType.BuzzyBirdVertical) &&
-                        (getCell(pos2).getBooster() == BoosterType.BuzzyBirdHorizontal || 
-                        getCell(pos2).getBooster() == BoosterType.BuzzyBirdVertical)){  // Buzzy bird and buzzy bird
-                        
-                        ComboBuzzyBuzzyBirdBehaviour(pos1, pos2);
-    
-                    } else if (getCell(pos1).getBooster() == BoosterType.PrismPeacock &&
-                        (getCell(pos2).getBooster() == BoosterType.BuzzyBirdHorizontal || 
-                        getCell(pos2).getBooster() == BoosterType.BuzzyBirdVertical)){  // Prism peacock and buzzy bird
-    
-                        ComboPrismBuzzyBirdBehaviour(pos1, pos2);
-    
-                    } else if (getCell(pos1).getBooster() == BoosterType.PrismPeacock &&
-                        (getCell(pos2).getBooster() == BoosterType.BoomBird)){  // Prism peacock and boom bird
-    
-                        ComboPrismBoomBirdBehaviour(pos1, pos2);
-    
-                    } else if (getCell(pos1).getBooster() == BoosterType.PrismPeacock &&
-                        getCell(pos1).getBooster() == BoosterType.PrismPeacock){    // Prism peacock and prism peacock
-                        
-                        ComboPrismPrismPeacockBehaviour(pos1, pos2);
+
+                int booster1 = booster(i1);
+                int booster2 = booster(i2);
+                boolean isBuzzy1 = booster1 == BOOSTER_HORIZONTAL || booster1 == BOOSTER_VERTICAL;
+                boolean isBuzzy2 = booster2 == BOOSTER_HORIZONTAL || booster2 == BOOSTER_VERTICAL;
+
+                if(booster1 != BOOSTER_NONE && booster2 != BOOSTER_NONE){ // booster combo behaviours
+
+                    if(isBuzzy2 && booster1 == BOOSTER_BOOM){    // Buzzy bird and boom bird
+
+                        ComboBuzzyBoomBirdBehaviour(x1, y1, x2, y2);
+
+                    } else if (booster1 == BOOSTER_BOOM && booster2 == BOOSTER_BOOM){    // Boom bird and boom bird
+
+                        ComboBoomBoomBirdBehaviour(x1, y1, x2, y2);
+
+                    } else if (isBuzzy1 && isBuzzy2){  // Buzzy bird and buzzy bird
+
+                        ComboBuzzyBuzzyBirdBehaviour(x1, y1, x2, y2);
+
+                    } else if (booster1 == BOOSTER_PEACOCK && isBuzzy2){  // Prism peacock and buzzy bird
+
+                        ComboPrismBuzzyBirdBehaviour(x1, y1, x2, y2);
+
+                    } else if (booster1 == BOOSTER_PEACOCK && booster2 == BOOSTER_BOOM){  // Prism peacock and boom bird
+
+                        ComboPrismBoomBirdBehaviour(x1, y1, x2, y2);
+
+                    } else if (booster1 == BOOSTER_PEACOCK){    // Prism peacock and prism peacock
+
+                        ComboPrismPrismPeacockBehaviour(x1, y1, x2, y2);
                     }
-    
-                } else if(getCell(pos1).isBoosted() && !getCell(pos2).isBoosted()){    // single booster behaviours
-                    
-                    switch (getCell(pos1).getBooster()) {
-                        case BuzzyBirdHorizontal: 
-                            buzzyBirdHorizontalBehaviour(pos1, 1);
-                            break;
-                        case BuzzyBirdVertical: 
-                            buzzyBirdVerticalBehaviour(pos1, 1);
-                            break;
-                        case BoomBird: 
-                            boomBirdBehaviour(pos1, 3);
-                            break;
-                        case PrismPeacock: 
-                            prismPeacockBehaviour(pos1, getCell(pos2).getTileType());
-                            break;
-                        default:
-                            break;
+
+                } else if(booster1 != BOOSTER_NONE){    // single booster behaviours
+
+                    if(booster1 == BOOSTER_HORIZONTAL){
+                        buzzyBirdHorizontalBehaviour(x1, y1, 1);
+                    } else if(booster1 == BOOSTER_VERTICAL){
+                        buzzyBirdVerticalBehaviour(x1, y1, 1);
+                    } else if(booster1 == BOOSTER_BOOM){
+                        boomBirdBehaviour(x1, y1, 3);
+                    } else if(booster1 == BOOSTER_PEACOCK){
+                        prismPeacockBehaviour(x1, y1, tileType(i2));
                     }
                 }
 
             } else {    // only one tile as input
 
-                switch (getCell(pos1).getBooster()) {
-                    case BuzzyBirdHorizontal: 
-                        buzzyBirdHorizontalBehaviour(pos1, 1);
-                        break;
-                    case BuzzyBirdVertical: 
-                        buzzyBirdVerticalBehaviour(pos1, 1);
-                        break;
-                    case BoomBird: 
-                        boomBirdBehaviour(pos1, 3);
-                        break;
-                    default:
-                        break;
+                int booster1 = booster(index(x1, y1));
+                if(booster1 == BOOSTER_HORIZONTAL){
+                    buzzyBirdHorizontalBehaviour(x1, y1, 1);
+                } else if(booster1 == BOOSTER_VERTICAL){
+                    buzzyBirdVerticalBehaviour(x1, y1, 1);
+                } else if(booster1 == BOOSTER_BOOM){
+                    boomBirdBehaviour(x1, y1, 3);
                 }
 
             }
 
-            while(findAndClearMatches(pos1, pos2)){ // for as long as there are still matches on the game board
+            int swap1 = inBounds(x1, y1) ? index(x1, y1) : -1;
+            int swap2 = inBounds(x2, y2) ? index(x2, y2) : -1;
+            while(findAndClearMatches(swap1, swap2)){ // for as long as there are still matches on the game board
 
                 fillGaps();
                 clearHats();
 
             }
-                
+
         }
 
         // identifies continuous lines of tiles with the same color, main function called by calculateMove
-        public boolean findAndClearMatches(Vector2i pos1, Vector2i pos2){ // Returns true if a match is found.
+        private boolean findAndClearMatches(int swap1, int swap2){ // Returns true if a match is found.
 
             floodFillClearVisited();
-            
-            boolean isMatch = false;
 
-            Map<Vector2i, Integer> matchType = new HashMap<>();
+            boolean isMatch = false;
 
             // find all vertical matches
-            for(int x = 0; x < gridSize.x; x++){
+            for(int x = 0; x < GRID_SIZE; x++){
                 int sameTiles = 1;
-                for(int y = 0; y < gridSize.y; y++){ // for each column
-                    if(floodFillIsNeighbourCell(new Vector2i(x, y), new Vector2i(x, y+1), false)){ // keep track of number of tiles with the same tile type next to each other
+                for(int y = 0; y < GRID_SIZE; y++){ // for each column
+                    if(y + 1 < GRID_SIZE && floodFillIsNeighbourCell(index(x, y), index(x, y+1))){ // keep track of number of tiles with the same tile type next to each other
                         sameTiles++;
                     } else if (sameTiles > 2) {
                         isMatch = true;
-                        
+
                         for(int backtrack = y-sameTiles+1; backtrack <= y; backtrack++){
-                            Vector2i back = new Vector2i(x, backtrack);
+                            int back = index(x, backtrack);
 
                             floodFillSetToVisit(back);
-                            matchType.put(back, sameTiles);
+                            matchType[back] = sameTiles;
                         }
                         sameTiles = 1;
                     } else {
@@ -1121,21 +1119,21 @@ public class GameDizzywingDispatch extends AbstractMinigame{
                     }
                 }
             }
-            
+
             // find all horizontal matches
-            for(int y = 0; y < gridSize.y; y++){ // for each row
+            for(int y = 0; y < GRID_SIZE; y++){ // for each row
                 int sameTiles = 1;
-                for(int x = 0; x < gridSize.x; x++){
-                if(floodFillIsNeighbourCell(new Vector2i(x+1, y), new Vector2i(x, y), false)){ // keep track of number of tiles with the same tile type next to each other
+                for(int x = 0; x < GRID_SIZE; x++){
+                    if(x + 1 < GRID_SIZE && floodFillIsNeighbourCell(index(x+1, y), index(x, y))){ // keep track of number of tiles with the same tile type next to each other
                         sameTiles++;
                     } else if (sameTiles > 2) {
                         isMatch = true;
-                        
+
                         for(int backtrack = x-sameTiles+1; backtrack <= x; backtrack++){
-                            Vector2i back = new Vector2i(backtrack, y);
+                            int back = index(backtrack, y);
 
                             floodFillSetToVisit(back);
-                            matchType.put(back, sameTiles);
+                            matchType[back] = sameTiles;
                         }
                         sameTiles = 1;
                     } else {
@@ -1145,13 +1143,9 @@ public class GameDizzywingDispatch extends AbstractMinigame{
             }
 
             // clear all matches
-            for(int x = 0; x < gridSize.x; x++){
-                for(int y = 0; y < gridSize.y; y++){
-                    Vector2i curr = new Vector2i(x, y);
-
-                    if(floodFillGetVisited(curr)) {
-                        floodFill(curr, matchType.get(curr), pos1, pos2);
-                    }
+            for(int i = 0; i < GRID_CELLS; i++){
+                if(floodFillGetVisited(i)) {
+                    floodFill(i, matchType[i], swap1, swap2);
                 }
             }
 
@@ -1159,73 +1153,74 @@ public class GameDizzywingDispatch extends AbstractMinigame{
         }
 
         // a breadth-first search algorithm designed to clear matches and place a booster tile (doesn't always place in correct position)
-        public void floodFill(Vector2i pos, int matchType, Vector2i swap1, Vector2i swap2){
-            
-            TileType refType = getCell(pos).getTileType();
-            BoosterType refBooster = BoosterType.None;
-            
-            List<Vector2i> connectedNodes = new LinkedList<>();
-            Queue<Vector2i> floodFillQueue = new LinkedList<>();
-            floodFillQueue.add(pos);
+        private void floodFill(int pos, int matchType, int swap1, int swap2){
+
+            int refType = tileType(pos);
+            int refBooster = BOOSTER_NONE;
+
+            int connected = 0;
+            int queueHead = 0;
+            int queueTail = 0;
+            floodFillQueue[queueTail++] = pos;
 
             int matchTileSize = matchType;
 
-            while(!floodFillQueue.isEmpty()){
-                Vector2i curr = floodFillQueue.poll();
+            while(queueHead < queueTail){
+                int curr = floodFillQueue[queueHead++];
 
-                if(getCell(curr) == null) continue;
                 if(!floodFillGetVisited(curr)) continue;
-                if(getCell(pos).getTileType() != getCell(curr).getTileType()) continue;
-                //if(getCell(pos).getBooster() != getCell(curr).getBooster()) continue;
-                //if(getCell(pos).getHealth() > 0 && getCell(curr).getHealth() > 0) continue;
+                if(refType != tileType(curr)) continue;
 
                 floodFillSetVisited(curr);
-                connectedNodes.add(curr);
-                
-                floodFillQueue.add(new Vector2i(curr.x-1, curr.y));
-                floodFillQueue.add(new Vector2i(curr.x+1, curr.y));
-                floodFillQueue.add(new Vector2i(curr.x, curr.y-1));
-                floodFillQueue.add(new Vector2i(curr.x, curr.y+1));
-                
+                connectedNodes[connected++] = curr;
+
+                // neighbours outside the board are never queued
+                int x = curr / GRID_SIZE;
+                int y = curr % GRID_SIZE;
+                if(x > 0) floodFillQueue[queueTail++] = curr - GRID_SIZE;
+                if(x < GRID_SIZE - 1) floodFillQueue[queueTail++] = curr + GRID_SIZE;
+                if(y > 0) floodFillQueue[queueTail++] = curr - 1;
+                if(y < GRID_SIZE - 1) floodFillQueue[queueTail++] = curr + 1;
+
 
                 // detect tiles connected to other tiles in an L or T shape
 
                 int horizontalConnections = 0;
                 int verticalConnections = 0;
 
-                if(floodFillIsNeighbourCell(curr, new Vector2i(curr.x-1, curr.y), true)) horizontalConnections++; 
-                if(floodFillIsNeighbourCell(curr, new Vector2i(curr.x+1, curr.y), true)) horizontalConnections++; 
-                if(floodFillIsNeighbourCell(curr, new Vector2i(curr.x, curr.y-1), true)) verticalConnections++; 
-                if(floodFillIsNeighbourCell(curr, new Vector2i(curr.x, curr.y+1), true)) verticalConnections++; 
+                if(x > 0 && floodFillIsMatchedNeighbour(curr, curr - GRID_SIZE)) horizontalConnections++;
+                if(x < GRID_SIZE - 1 && floodFillIsMatchedNeighbour(curr, curr + GRID_SIZE)) horizontalConnections++;
+                if(y > 0 && floodFillIsMatchedNeighbour(curr, curr - 1)) verticalConnections++;
+                if(y < GRID_SIZE - 1 && floodFillIsMatchedNeighbour(curr, curr + 1)) verticalConnections++;
 
-                if(((horizontalConnections == 1 && verticalConnections == 1) || 
-                    (horizontalConnections == 2 && verticalConnections == 1) || 
+                if(((horizontalConnections == 1 && verticalConnections == 1) ||
+                    (horizontalConnections == 2 && verticalConnections == 1) ||
                     (horizontalConnections == 1 && verticalConnections == 2)) &&
                     matchTileSize != 5) {   // do not change to boom bird if a prism peacock would form
                         matchTileSize = 6;
                     }
             }
-            
+
             // keep track of puzzle objectives
-            if(getCell(pos).getTileType() != TileType.None){
+            if(refType != TILE_NONE){
                 switch(matchTileSize) {
                     case 3:
                         scoreCombo(30);
                         break;
                     case 4:
-                        refBooster = randomizer.nextInt(2) == 0 ? BoosterType.BuzzyBirdHorizontal : BoosterType.BuzzyBirdVertical;
+                        refBooster = randomizer.nextInt(2) == 0 ? BOOSTER_HORIZONTAL : BOOSTER_VERTICAL;
                         scoreCombo(150);
                         puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.MakeFlyers);
                         puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.MakeFlyers_SingleGame);
                         break;
                     case 5:
-                        refBooster = BoosterType.PrismPeacock;
+                        refBooster = BOOSTER_PEACOCK;
                         scoreCombo(150);
                         puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.MakePeacocks);
                         puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.MakePeacocks_SingleGame);
                         break;
                     case 6:
-                        refBooster = BoosterType.BoomBird;
+                        refBooster = BOOSTER_BOOM;
                         scoreCombo(150);
                         puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.MakeBombBirds);
                         puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.MakeBombBirds_SingleGame);
@@ -1233,7 +1228,7 @@ public class GameDizzywingDispatch extends AbstractMinigame{
                     default:
                         break;
                 }
-                
+
                 if(matchTileSize > 3){ // I am not sure what type of goal "Hatch Powerups" is
                     puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.HatchPowerups);
                     puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.HatchPowerups_SingleGame);
@@ -1241,80 +1236,98 @@ public class GameDizzywingDispatch extends AbstractMinigame{
             }
 
 
-           
-            for(Vector2i node : connectedNodes){
-                clearCell(node, false, false);
 
-                breakEggTile(new Vector2i(node.x-1, node.y));   // break the eggs surrounding a match
-                breakEggTile(new Vector2i(node.x+1, node.y));
-                breakEggTile(new Vector2i(node.x, node.y-1));
-                breakEggTile(new Vector2i(node.x, node.y+1));
+            for(int n = 0; n < connected; n++){
+                int x = connectedNodes[n] / GRID_SIZE;
+                int y = connectedNodes[n] % GRID_SIZE;
+                clearCell(x, y, false, false);
+
+                breakEggTile(x-1, y);   // break the eggs surrounding a match
+                breakEggTile(x+1, y);
+                breakEggTile(x, y-1);
+                breakEggTile(x, y+1);
             }
 
-            if(refBooster != BoosterType.None){
+            if(refBooster != BOOSTER_NONE){
 
-                if(refBooster == BoosterType.PrismPeacock){
-                    refType = TileType.None;
+                if(refBooster == BOOSTER_PEACOCK){
+                    refType = TILE_NONE;
                 }
 
-                if(connectedNodes.contains(swap1)){
-                    setCell(swap1, new GridCell(0, refType, refBooster));
-                } else if(connectedNodes.contains(swap2)){
-                    setCell(swap2, new GridCell(0, refType, refBooster));
+                byte boosterCell = packCell(refType, refBooster, 0);
+                if(contains(connectedNodes, connected, swap1)){
+                    grid[swap1] = boosterCell;
+                } else if(contains(connectedNodes, connected, swap2)){
+                    grid[swap2] = boosterCell;
                 } else {
-                    setCell(pos, new GridCell(0, refType, refBooster));
+                    grid[pos] = boosterCell;
                 }
             }
 
         }
 
-        // flood fill helper functions
-        public boolean floodFillIsNeighbourCell(Vector2i pos1, Vector2i pos2, boolean checkMatch){
-            GridCell cell1 = getCell(pos1);
-            GridCell cell2 = getCell(pos2);
-
-            if(cell1 == null || cell2 == null || cell1.getTileType() == TileType.HatOrPurse || cell2.getTileType() == TileType.HatOrPurse){
-                return false;
-            } else if (cell1.getTileType() == cell2.getTileType()){
-                         //!cell1.isBoosted() && !cell2.isBoosted() &&
-                         //cell1.getHealth() == 0 && cell1.getHealth() == 0
-                
-                return checkMatch ? floodFillGetToVisit(pos2) && floodFillGetToVisit(pos2) : true;
+        private boolean contains(int[] indexes, int count, int index){
+            for(int i = 0; i < count; i++){
+                if(indexes[i] == index){
+                    return true;
+                }
             }
-
             return false;
         }
 
+        // flood fill helper functions
+        // prism peacocks have no color, a line of them used to count as a match that could never be cleared
+        private boolean floodFillIsNeighbourCell(int pos1, int pos2){
+            int tile = tileType(pos1);
+            return tile != TILE_HAT && tile != TILE_NONE && tile == tileType(pos2);
+        }
+
+        private boolean floodFillIsMatchedNeighbour(int pos1, int pos2){
+            return floodFillIsNeighbourCell(pos1, pos2) && floodFillGetToVisit(pos2);
+        }
+
         // false = don't visit this cell/cell has been visited
         // true = visit this cell/cell has not been visited
-        public void floodFillSetToVisit(Vector2i pos){
-            toVisit[pos.x][pos.y] = true;
-            visited[pos.x][pos.y] = true;
+        // cells 0-63 are stored in the low board, 64-80 in the high board (shifts only use the low 6 bits)
+        private void floodFillSetToVisit(int pos){
+            if(pos < 64){
+                toVisitLow |= 1L << pos;
+                visitedLow |= 1L << pos;
+            } else {
+                toVisitHigh |= 1L << pos;
+                visitedHigh |= 1L << pos;
+            }
+        }
+
+        private boolean floodFillGetToVisit(int pos){
+            return ((pos < 64 ? toVisitLow : toVisitHigh) & (1L << pos)) != 0;
         }
 
         public boolean floodFillGetToVisit(Vector2i pos){ // also returns true if uninitialized
-            if (pos.x >= 0 && pos.x < gridSize.x && pos.y >= 0 && pos.y < gridSize.y)
+            if (inBounds(pos.x, pos.y))
             {
-                return toVisit[pos.x][pos.y];
+                return floodFillGetToVisit(index(pos.x, pos.y));
             }
             return false;
         }
 
-        public void floodFillSetVisited(Vector2i pos){
-            visited[pos.x][pos.y] = false;
+        private void floodFillSetVisited(int pos){
+            if(pos < 64){
+                visitedLow &= ~(1L << pos);
+            } else {
+                visitedHigh &= ~(1L << pos);
+            }
         }
 
-        public boolean floodFillGetVisited(Vector2i pos){
-            if (pos.x >= 0 && pos.x < gridSize.x && pos.y >= 0 && pos.y < gridSize.y)
-            {
-                return visited[pos.x][pos.y];
-            }
-            return false;
+        private boolean floodFillGetVisited(int pos){
+            return ((pos < 64 ? visitedLow : visitedHigh) & (1L << pos)) != 0;
         }
 
-        public void floodFillClearVisited(){
-            toVisit = new boolean[gridSize.x][gridSize.y];
-            visited = new boolean[gridSize.x][gridSize.y];
+        private void floodFillClearVisited(){
+            toVisitLow = 0;
+            toVisitHigh = 0;
+            visitedLow = 0;
+            visitedHigh = 0;
         }
 
 
@@ -1322,179 +1335,154 @@ public class GameDizzywingDispatch extends AbstractMinigame{
         // functions that define booster tile behaviours, as in how they clear surrounding tiles
 
         // template function to avoid errors
-        private void buzzyBirdHorizontalBehaviour(Vector2i pos, int size){
-            buzzyBirdHorizontalBehaviour(pos, size, false);
+        private void buzzyBirdHorizontalBehaviour(int posX, int posY, int size){
+            buzzyBirdHorizontalBehaviour(posX, posY, size, false);
         }
 
-        private void buzzyBirdHorizontalBehaviour(Vector2i pos, int size, boolean isClearedByPeacock) {
-            
-            clearCell(pos, false, true);
+        private void buzzyBirdHorizontalBehaviour(int posX, int posY, int size, boolean isClearedByPeacock) {
+
+            clearCell(posX, posY, false, true);
 
             int d = Math.floorDiv(size, 2);
-            
-            for(int y = pos.y-d; y <= pos.y+d; y++){
-                for(int x = 0; x < gridSize.x; x++){
-                    Vector2i curr = new Vector2i(x, y);
-                    if(getCell(curr) != null){
-                        if(getCell(curr).getBooster() != BoosterType.BuzzyBirdHorizontal){  // two buzzy birds in the same direction results in an X instead
-                            clearCell(curr, true, false, isClearedByPeacock);
-                        } else {
-                            clearCell(curr, true, true, isClearedByPeacock);
-                            buzzyBirdVerticalBehaviour(curr, 1);
-                        }
+
+            for(int y = Math.max(posY-d, 0); y <= posY+d && y < GRID_SIZE; y++){
+                for(int x = 0; x < GRID_SIZE; x++){
+                    if(booster(index(x, y)) != BOOSTER_HORIZONTAL){  // two buzzy birds in the same direction results in an X instead
+                        clearCell(x, y, true, false, isClearedByPeacock);
+                    } else {
+                        clearCell(x, y, true, true, isClearedByPeacock);
+                        buzzyBirdVerticalBehaviour(x, y, 1);
                     }
                 }
             }
             fillGaps();
         }
 
-        private void buzzyBirdVerticalBehaviour(Vector2i pos, int size){
-            buzzyBirdVerticalBehaviour(pos, size, false);
+        private void buzzyBirdVerticalBehaviour(int posX, int posY, int size){
+            buzzyBirdVerticalBehaviour(posX, posY, size, false);
         }
 
-        private void buzzyBirdVerticalBehaviour(Vector2i pos, int size, boolean isClearedByPeacock) {
-            
-            clearCell(pos, false, true);
-            
+        private void buzzyBirdVerticalBehaviour(int posX, int posY, int size, boolean isClearedByPeacock) {
+
+            clearCell(posX, posY, false, true);
+
             int d = Math.floorDiv(size, 2);
-            
-            for(int x = pos.x-d; x <= pos.x+d; x++){
-                for(int y = 0; y < gridSize.y; y++){
-                    Vector2i curr = new Vector2i(x, y);
-                    if(getCell(curr) != null){
-                        if(getCell(curr).getBooster() != BoosterType.BuzzyBirdVertical){
-                            clearCell(curr, true, false, isClearedByPeacock);
-                        } else {
-                            clearCell(curr, true, true, isClearedByPeacock);
-                            buzzyBirdHorizontalBehaviour(curr, 1);
-                        }
+
+            for(int x = Math.max(posX-d, 0); x <= posX+d && x < GRID_SIZE; x++){
+                for(int y = 0; y < GRID_SIZE; y++){
+                    if(booster(index(x, y)) != BOOSTER_VERTICAL){
+                        clearCell(x, y, true, false, isClearedByPeacock);
+                    } else {
+                        clearCell(x, y, true, true, isClearedByPeacock);
+                        buzzyBirdHorizontalBehaviour(x, y, 1);
                     }
                 }
             }
             fillGaps();
         }
-        
-        private void boomBirdBehaviour(Vector2i pos, int size) {
-            
-            clearCell(pos, false, true);    // sometimes the original booster needs to be removed to prevent an infinte loop
 
-            int d = Math.floorDiv(size, 2);
+        private void boomBirdBehaviour(int posX, int posY, int size) {
 
-            for(int x = pos.x-d; x <= pos.x+d; x++){
-                for(int y = pos.y-d; y <= pos.y+d; y++){
+            clearCell(posX, posY, false, true);    // sometimes the original booster needs to be removed to prevent an infinte loop
 
-                    Vector2i curr = new Vector2i(x, y);
+            int d = Math.floorDiv(size, 2);
 
-                    if(x != pos.x && y != pos.y) {
-                        clearCell(curr, true, false);
+            for(int x = posX-d; x <= posX+d; x++){
+                for(int y = posY-d; y <= posY+d; y++){
+                    if(x != posX && y != posY) {
+                        clearCell(x, y, true, false);
                     }
                 }
             }
             fillGaps();
-            for(int x = pos.x-d; x <= pos.x+d; x++){
-                for(int y = pos.y-d-1; y <= pos.y+d-1; y++){
-                    Vector2i curr = new Vector2i(x, y);
-                    clearCell(curr, true, false);
+            for(int x = posX-d; x <= posX+d; x++){
+                for(int y = posY-d-1; y <= posY+d-1; y++){
+                    clearCell(x, y, true, false);
                 }
             }
             fillGaps();
         }
 
-        private void prismPeacockBehaviour(Vector2i pos, TileType refType) {
+        private void prismPeacockBehaviour(int posX, int posY, int refType) {
 
-            clearCell(pos, false, true);
+            clearCell(posX, posY, false, true);
 
-            for(int y = 0; y < gridSize.y; y++){
-                for(int x = 0; x < gridSize.x; x++){
-                    Vector2i curr = new Vector2i(x, y);
-                    GridCell currCell = getCell(curr);
-
-                    if(currCell.TileType == refType && !currCell.isBoosted()) {
-                        clearCell(curr, true, false, true);
+            for(int y = 0; y < GRID_SIZE; y++){
+                for(int x = 0; x < GRID_SIZE; x++){
+                    int i = index(x, y);
+                    if(tileType(i) == refType && booster(i) == BOOSTER_NONE) {
+                        clearCell(x, y, true, false, true);
                     }
                 }
             }
             fillGaps();
         }
 
-        private void ComboPrismPrismPeacockBehaviour(Vector2i pos1, Vector2i pos2) {
-            clearCell(pos1, false, true);
-            clearCell(pos2, false, true);
+        private void ComboPrismPrismPeacockBehaviour(int pos1X, int pos1Y, int pos2X, int pos2Y) {
+            clearCell(pos1X, pos1Y, false, true);
+            clearCell(pos2X, pos2Y, false, true);
 
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboPeacockPeacock);
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboPeacockPeacock_SingleGame);
 
-            for(int x = 0; x < gridSize.x; x++){
-                for(int y = 0; y < gridSize.y; y++){
-                    Vector2i curr = new Vector2i(x, y);
-                    clearCell(curr, true, false, true);
+            for(int x = 0; x < GRID_SIZE; x++){
+                for(int y = 0; y < GRID_SIZE; y++){
+                    clearCell(x, y, true, false, true);
                 }
             }
 
             fillGaps();
         }
 
-        private void ComboPrismBoomBirdBehaviour(Vector2i pos1, Vector2i pos2) {
-            TileType refType = getCell(pos2).TileType;
-   
-            clearCell(pos1, false, true);
-            clearCell(pos2, true, true);
+        private void ComboPrismBoomBirdBehaviour(int pos1X, int pos1Y, int pos2X, int pos2Y) {
+            int refType = tileType(index(pos2X, pos2Y));
+
+            clearCell(pos1X, pos1Y, false, true);
+            clearCell(pos2X, pos2Y, true, true);
 
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboBombPeacock);
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboBombPeacock_SingleGame);
-   
-            List<Vector2i> newBoomBirds = new ArrayList<>();
-   
-            for(int x = 0; x < gridSize.x; x++){
-                for(int y = 0; y < gridSize.y; y++){
-                    Vector2i curr = new Vector2i(x, y);
-                    GridCell currCell = getCell(curr);
-   
-                    if(currCell.getTileType() == refType && !currCell.isBoosted()) {
-                        currCell.setBooster(BoosterType.BoomBird);  // presumably no need to check for tile health
-                        setCell(curr, currCell);
-                        newBoomBirds.add(curr);
-                    }
+
+            int newBoomBirds = 0;
+
+            for(int i = 0; i < GRID_CELLS; i++){
+                if(tileType(i) == refType && booster(i) == BOOSTER_NONE) {
+                    grid[i] = packCell(refType, BOOSTER_BOOM, hasHealth(i) ? 1 : 0);  // presumably no need to check for tile health
+                    comboTargets[newBoomBirds++] = i;
                 }
             }
-   
+
             int d = Math.floorDiv(3, 2);
-   
-            for (Vector2i pos : newBoomBirds) {     // first explosions
-            
-                for(int x = pos.x-d; x <= pos.x+d; x++){
-                    for(int y = pos.y-d; y <= pos.y+d; y++){
-      
-                        Vector2i curr = new Vector2i(x, y);
-      
-                        if(getCell(curr) != null && !newBoomBirds.contains(curr) && getCell(curr).getTileType() != TileType.None) {
-                            clearCell(curr, true, false, true);
+
+            for (int n = 0; n < newBoomBirds; n++) {     // first explosions
+                int posX = comboTargets[n] / GRID_SIZE;
+                int posY = comboTargets[n] % GRID_SIZE;
+
+                for(int x = posX-d; x <= posX+d; x++){
+                    for(int y = posY-d; y <= posY+d; y++){
+                        if(inBounds(x, y) && !contains(comboTargets, newBoomBirds, index(x, y)) && tileType(index(x, y)) != TILE_NONE) {
+                            clearCell(x, y, true, false, true);
                         }
                     }
                 }
             }
             fillGaps();
-   
-            newBoomBirds.clear();
-   
-            for(int x = 0; x < gridSize.x; x++){
-                for(int y = 0; y < gridSize.y; y++){
-                    Vector2i curr = new Vector2i(x, y);
-                    GridCell currCell = getCell(curr);
-   
-                    if(currCell.getTileType() == refType && currCell.getBooster() == BoosterType.BoomBird) {
-                        newBoomBirds.add(curr);
-                    }
+
+            newBoomBirds = 0;
+
+            for(int i = 0; i < GRID_CELLS; i++){
+                if(tileType(i) == refType && booster(i) == BOOSTER_BOOM) {
+                    comboTargets[newBoomBirds++] = i;
                 }
             }
-   
-            for (Vector2i pos : newBoomBirds) {    // second explosions
-            
-                for(int x = pos.x-d; x <= pos.x+d; x++){
-                    for(int y = pos.y-d; y <= pos.y+d; y++){
-      
-                        Vector2i curr = new Vector2i(x, y);
-                        clearCell(curr, true, true, true);
+
+            for (int n = 0; n < newBoomBirds; n++) {    // second explosions
+                int posX = comboTargets[n] / GRID_SIZE;
+                int posY = comboTargets[n] % GRID_SIZE;
+
+                for(int x = posX-d; x <= posX+d; x++){
+                    for(int y = posY-d; y <= posY+d; y++){
+                        clearCell(x, y, true, true, true);
                     }
                 }
             }
@@ -1502,65 +1490,63 @@ public class GameDizzywingDispatch extends AbstractMinigame{
             fillGaps();
         }
 
-        private void ComboPrismBuzzyBirdBehaviour(Vector2i pos1, Vector2i pos2) {
-            TileType refType = getCell(pos2).TileType;
-   
-            clearCell(pos1, false, true);
-            clearCell(pos2, true, true);
+        private void ComboPrismBuzzyBirdBehaviour(int pos1X, int pos1Y, int pos2X, int pos2Y) {
+            int refType = tileType(index(pos2X, pos2Y));
+
+            clearCell(pos1X, pos1Y, false, true);
+            clearCell(pos2X, pos2Y, true, true);
 
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboFlyerPeacock);
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboFlyerPeacock_SingleGame);
-   
-            List<Vector2i> newBuzzyBirds = new ArrayList<>();
-   
-            for(int x = 0; x < gridSize.x; x++){
-                for(int y = 0; y < gridSize.y; y++){
-                    Vector2i curr = new Vector2i(x, y);
-   
-                    if(getCell(curr).getTileType() == refType && !getCell(curr).isBoosted()) {
-                        newBuzzyBirds.add(curr);
-                    }
+
+            int newBuzzyBirds = 0;
+
+            for(int i = 0; i < GRID_CELLS; i++){
+                if(tileType(i) == refType && booster(i) == BOOSTER_NONE) {
+                    comboTargets[newBuzzyBirds++] = i;
                 }
             }
-   
-            for (Vector2i newBuzzyBird : newBuzzyBirds) {
+
+            for (int n = 0; n < newBuzzyBirds; n++) {
+                int posX = comboTargets[n] / GRID_SIZE;
+                int posY = comboTargets[n] % GRID_SIZE;
                 boolean coinflip = randomizer.nextInt(2) == 1;
-                
+
                 if(coinflip) {
-                    buzzyBirdHorizontalBehaviour(newBuzzyBird, 1, true);
+                    buzzyBirdHorizontalBehaviour(posX, posY, 1, true);
                 } else {
-                    buzzyBirdVerticalBehaviour(newBuzzyBird, 1, true);
+                    buzzyBirdVerticalBehaviour(posX, posY, 1, true);
                 }
             }
         }
 
-        private void ComboBuzzyBuzzyBirdBehaviour(Vector2i pos1, Vector2i pos2) {
-            clearCell(pos1, false, true);
-            clearCell(pos2, true, true);
-            
-            buzzyBirdHorizontalBehaviour(pos1, 1);
-            buzzyBirdVerticalBehaviour(pos1, 1);
+        private void ComboBuzzyBuzzyBirdBehaviour(int pos1X, int pos1Y, int pos2X, int pos2Y) {
+            clearCell(pos1X, pos1Y, false, true);
+            clearCell(pos2X, pos2Y, true, true);
+
+            buzzyBirdHorizontalBehaviour(pos1X, pos1Y, 1);
+            buzzyBirdVerticalBehaviour(pos1X, pos1Y, 1);
 
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboFlyerFlyer);
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboFlyerFlyer_SingleGame);
         }
 
-        private void ComboBoomBoomBirdBehaviour(Vector2i pos1, Vector2i pos2) {
-            clearCell(pos1, false, true);
-            clearCell(pos2, true, true);
-            
-            boomBirdBehaviour(pos1, 5);
+        private void ComboBoomBoomBirdBehaviour(int pos1X, int pos1Y, int pos2X, int pos2Y) {
+            clearCell(pos1X, pos1Y, false, true);
+            clearCell(pos2X, pos2Y, true, true);
+
+            boomBirdBehaviour(pos1X, pos1Y, 5);
 
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboBombBomb);
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboBombBomb_SingleGame);
         }
 
-        private void ComboBuzzyBoomBirdBehaviour(Vector2i pos1, Vector2i pos2) {
-            clearCell(pos1, false, true);
-            clearCell(pos2, true, true);
-      
-            buzzyBirdHorizontalBehaviour(pos1, 3);
-            buzzyBirdVerticalBehaviour(pos1, 3);
+        private void ComboBuzzyBoomBirdBehaviour(int pos1X, int pos1Y, int pos2X, int pos2Y) {
+            clearCell(pos1X, pos1Y, false, true);
+            clearCell(pos2X, pos2Y, true, true);
+
+            buzzyBirdHorizontalBehaviour(pos1X, pos1Y, 3);
+            buzzyBirdVerticalBehaviour(pos1X, pos1Y, 3);
 
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboFlyerBomb);
             puzzleObjectives.incrementPuzzleTemp(PuzzleObjectiveType.ComboFlyerBomb_SingleGame);
@@ -1763,6 +1749,26 @@ public class GameDizzywingDispatch extends AbstractMinigame{
 	public void onExit(Player plr) {
 	}
 
+    /**
+     * Creates a new game board, the game UUID seeds the board randomizer
+     * 
+     * @param gameUUID Game UUID string
+     * @param player   Player receiving level rewards, null to skip rewards (used by replays)
+     */
+    public void newGameState(String gameUUID, Player player) {
+        currentGameUUID = gameUUID;
+        gameState = new GameState(player);
+    }
+
+    /**
+     * Retrieves the current game score
+     * 
+     * @return Score value
+     */
+    public int getScore() {
+        return score;
+    }
+
     @MinigameMessage("startGame")
     public void startGame(Player player, XtReader rd){
 
@@ -1773,8 +1779,7 @@ public class GameDizzywingDispatch extends AbstractMinigame{
         puzzleObjectives.resetSavedGameUserVar(player);
         
         // The GUID is used as the seed for the random number generator.
-        currentGameUUID = UUID.randomUUID().toString();
-        gameState = new GameState(player);
+        newGameState(UUID.randomUUID().toString(), player);
 
         // the format of the minigame message response packet
         XtWriter mmData = new XtWriter();
@@ -1850,8 +1855,7 @@ public class GameDizzywingDispatch extends AbstractMinigame{
         puzzleObjectives.loadSavedGameUserVar(player);
 
         // The GUID is used as the seed for the random number generator.
-        currentGameUUID = UUID.randomUUID().toString();
-        gameState = new GameState(player);
+        newGameState(UUID.randomUUID().toString(), player);
 
         // the format of the minigame message response packet
         XtWriter mmData = new XtWriter();
@@ -1,12 +1,13 @@
 package org.asf.centuria.minigames.games;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
 import org.asf.centuria.Centuria;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.data.XtReader;
 import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.players.Player;
@@ -18,16 +19,14 @@ import org.asf.centuria.levelevents.LevelEvent;
 import org.asf.centuria.levelevents.LevelEventBus;
 import org.asf.centuria.minigames.AbstractMinigame;
 import org.asf.centuria.minigames.MinigameMessage;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
+import org.asf.centuria.minigames.games.entities.doordye.DoDLevelInfo;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 import org.asf.centuria.packets.xt.gameserver.minigame.MinigameCurrencyPacket;
 import org.asf.centuria.packets.xt.gameserver.minigame.MinigameMessagePacket;
 import org.asf.centuria.packets.xt.gameserver.minigame.MinigamePrizePacket;
-import org.asf.centuria.util.CombinationSum;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class GameDoOrDye extends AbstractMinigame {
 
@@ -53,6 +52,34 @@ public class GameDoOrDye extends AbstractMinigame {
 	private ArrayList<RewardData> rewardsThreeStars = new ArrayList<RewardData>();
 	private HashMap<Integer, Integer> timeBonuses = new HashMap<Integer, Integer>();
 
+	private static List<DoDLevelInfo> levels;
+
+	static {
+		// Load level info
+		try {
+			// Load the helper
+			JsonObject helper = GameDataRegistry.getInstance().getResource("minigames/doordye.json")
+					.getAsJsonObject();
+
+			// Load all levels
+			ArrayList<DoDLevelInfo> levels = new ArrayList<DoDLevelInfo>();
+			for (JsonElement ele : helper.get("Levels").getAsJsonArray())
+				levels.add(new DoDLevelInfo(ele.getAsJsonObject()));
+			GameDoOrDye.levels = Collections.unmodifiableList(levels);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Retrieves the Do Or Dye level definitions
+	 * 
+	 * @return Unmodifiable list of levels
+	 */
+	public static List<DoDLevelInfo> getLevels() {
+		return levels;
+	}
+
 	private void addLoot(LootInfo reward, ArrayList<RewardData> rewards) {
 		if (reward.reward.referencedTableId != null) {
 			// Find referenced table
@@ -102,83 +129,59 @@ public class GameDoOrDye extends AbstractMinigame {
 		rewardsThreeStars.clear();
 		timeBonuses.clear();
 
-		// load level def from json
-		try {
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("minigames/doordye.json");
-			JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject()
-					.get("Levels").getAsJsonArray().get(level).getAsJsonObject();
-			strm.close();
-
-			int codeLength = helper.get("length").getAsInt();
-			int colors = helper.get("colors").getAsInt();
-			boolean allowRepeatColors = helper.get("allowRepeat").getAsBoolean();
-			startingIngredientCount = helper.get("ingredientCount").getAsInt();
-			scorePerIngredient = helper.get("score").getAsInt();
-			scoreOneStar = helper.get("oneStarScore").getAsInt();
-			scoreTwoStars = helper.get("twoStarScore").getAsInt();
-			scoreThreeStars = helper.get("threeStarScore").getAsInt();
-
-			// Load time bonuses
-			JsonObject bonuses = helper.get("timeBonus").getAsJsonObject();
-			for (String bonus : bonuses.keySet()) {
-				timeBonuses.put(Integer.parseInt(bonus), bonuses.get(bonus).getAsInt());
-			}
-
-			// Load rewards
-			int rewardIndex = 0;
-			for (JsonElement ele : helper.get("reward").getAsJsonArray()) {
-				int reward = ele.getAsInt();
-				ArrayList<RewardData> rewardList = null;
-				switch (rewardIndex) {
-				case 0:
-					rewardList = rewardsOneStar;
-					break;
-				case 1:
-					rewardList = rewardsTwoStars;
-					break;
-				case 2:
-					rewardList = rewardsThreeStars;
-					break;
-				}
-				rewardIndex++;
-
-				// load reward
-				LootInfo loot = ResourceCollectionModule.getLootReward(Integer.toString(reward));
-				if (loot != null)
-					addLoot(loot, rewardList);
+		// Find level
+		if (level < 0 || level >= levels.size()) {
+			Centuria.logger.warn("Player " + plr.account.getDisplayName() + " tried to start invalid Do Or Dye level "
+					+ level);
+			return;
+		}
+		DoDLevelInfo info = levels.get(level);
+		startingIngredientCount = info.ingredientCount;
+		scorePerIngredient = info.scorePerIngredient;
+		scoreOneStar = info.scoreOneStar;
+		scoreTwoStars = info.scoreTwoStars;
+		scoreThreeStars = info.scoreThreeStars;
+		timeBonuses.putAll(info.timeBonuses);
+		availableDyes.addAll(info.availableDyes);
+
+		// Load rewards, rolled for each start
+		for (int i = 0; i < info.rewardTables.size() && i < 3; i++) {
+			ArrayList<RewardData> rewardList = null;
+			switch (i) {
+			case 0:
+				rewardList = rewardsOneStar;
+				break;
+			case 1:
+				rewardList = rewardsTwoStars;
+				break;
+			case 2:
+				rewardList = rewardsThreeStars;
+				break;
 			}
 
-			// load available dyes from sum
-			int[] arr = { 1, 2, 4, 8, 16, 32, 64, 128, 256 };
-			List<List<Integer>> result = new ArrayList<>();
-			result = CombinationSum.Sum(arr, colors);
-			List<Integer> finalResult = result.get(0);
+			// load reward
+			LootInfo loot = ResourceCollectionModule.getLootReward(info.rewardTables.get(i));
+			if (loot != null)
+				addLoot(loot, rewardList);
+		}
 
-			for (int i = 0; i < finalResult.size(); i++) {
-				CodeColor color = CodeColor.valueOf(finalResult.get(i));
-				availableDyes.add(color);
+		// generate solution
+		if (info.allowRepeatColors) {
+			while (solution.size() < info.codeLength) {
+				int index = (int) (Math.random() * availableDyes.size());
+				solution.add(availableDyes.get(index));
 			}
-
-			// generate solution
-			if (allowRepeatColors) {
-				while (solution.size() < codeLength) {
-					int index = (int) (Math.random() * availableDyes.size());
+		} else {
+			ArrayList<CodeColor> used = new ArrayList<CodeColor>();
+			while (solution.size() < info.codeLength) {
+				int index = (int) (Math.random() * availableDyes.size());
+				if (used.contains(availableDyes.get(index)) == false) {
 					solution.add(availableDyes.get(index));
-				}
-			} else {
-				ArrayList<CodeColor> used = new ArrayList<CodeColor>();
-				while (solution.size() < codeLength) {
-					int index = (int) (Math.random() * availableDyes.size());
-					if (used.contains(availableDyes.get(index)) == false) {
-						solution.add(availableDyes.get(index));
-						used.add(availableDyes.get(index));
-					}
+					used.add(availableDyes.get(index));
 				}
 			}
-			Centuria.logger.debug("solution: " + solution);
-		} catch (IOException e) {
 		}
+		Centuria.logger.debug("solution: " + solution);
 
 		// add to screen
 		for (int i = 0; i < availableDyes.size(); i++) {
@@ -2,7 +2,6 @@ package org.asf.centuria.minigames.games;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -236,6 +235,51 @@ public class GameKinoParlor extends AbstractMinigame {
 			Sword, Mask, Helmet, Crown
 		}
 
+		// Win rate and lane dice indexes of the best lane configuration, for every
+		// sequence of six dice faces (two bits per die)
+		static final float[] faceWinRates = new float[1 << 12];
+		static final int[][][] faceLanes = new int[1 << 12][][];
+
+		static {
+			QueensDuelDiceFace[] faces = QueensDuelDiceFace.values();
+			for (int code = 0; code < faceWinRates.length; code++) {
+				QueensDuelDiceFace[] rolledFaces = new QueensDuelDiceFace[6];
+				for (int i = 0; i < 6; i++)
+					rolledFaces[i] = faces[(code >> (i * 2)) & 3];
+
+				// Find best lanes
+				List<List<QueensDuelDiceFace>> laneConfig = bestLaneConfiguration(rolledFaces);
+				float totalWinRate = 0;
+				for (List<QueensDuelDiceFace> bestLane : laneConfig) {
+					totalWinRate += binomcdf[getLaneScore(bestLane)];
+				}
+				faceWinRates[code] = totalWinRate / laneConfig.size();
+
+				// convert the lane configuration into dice indices
+				int[][] lanes = new int[][] { { 9, 9, 9, 9 }, { 9, 9, 9, 9 }, { 9, 9, 9, 9 } };
+				boolean[] used = new boolean[6];
+				for (int i = 0; i < laneConfig.size(); i++) {
+
+					List<QueensDuelDiceFace> lane = laneConfig.get(i);
+					Collections.sort(lane, Collections.reverseOrder());
+
+					for (int j = 0; j < lane.size(); j++) {
+
+						QueensDuelDiceFace selectedFace = lane.get(j);
+
+						for (int k = 0; k < rolledFaces.length; k++) {
+							if (!used[k] && rolledFaces[k] == selectedFace) {
+								lanes[i][j] = k;
+								used[k] = true;
+								break;
+							}
+						}
+					}
+				}
+				faceLanes[code] = lanes;
+			}
+		}
+
 		public QueensDuel() {
 			playersRoll = new int[6]; // each element is a digit representing a dice face
 			kinosRoll = new int[6];
@@ -251,7 +295,7 @@ public class GameKinoParlor extends AbstractMinigame {
 			return Arrays.asList(0);
 		}
 
-		private int getDiceFaceScore(QueensDuelDiceFace face) {
+		private static int getDiceFaceScore(QueensDuelDiceFace face) {
 			switch (face) {
 			case Crown:
 				return 3;
@@ -267,17 +311,16 @@ public class GameKinoParlor extends AbstractMinigame {
 		}
 
 		private int getLaneScore(int[] lane, int[] rolls) {
-			List<QueensDuelDiceFace> laneToFaces = new ArrayList<>();
+			int score = 0;
 			for (int face : lane) {
 				if (face != 9) {
-					laneToFaces.add(diceFaces[rolls[face] - 1]);
+					score += getDiceFaceScore(diceFaces[rolls[face] - 1]);
 				}
 			}
-
-			return getLaneScore(laneToFaces);
+			return score;
 		}
 
-		private int getLaneScore(List<QueensDuelDiceFace> lane) {
+		private static int getLaneScore(List<QueensDuelDiceFace> lane) {
 			int score = 0;
 			for (QueensDuelDiceFace face : lane) {
 				score += getDiceFaceScore(face);
@@ -285,14 +328,14 @@ public class GameKinoParlor extends AbstractMinigame {
 			return score;
 		}
 
-		private float getBinomcdfDiff(List<QueensDuelDiceFace> lane, QueensDuelDiceFace newFace) {
+		private static float getBinomcdfDiff(List<QueensDuelDiceFace> lane, QueensDuelDiceFace newFace) {
 			int prevScore = getLaneScore(lane);
 			int newScore = prevScore + getDiceFaceScore(newFace);
 
 			return binomcdf[newScore] - binomcdf[prevScore];
 		}
 
-		private boolean canAddToLane(List<QueensDuelDiceFace> lane, QueensDuelDiceFace newFace) {
+		private static boolean canAddToLane(List<QueensDuelDiceFace> lane, QueensDuelDiceFace newFace) {
 			if (newFace != QueensDuelDiceFace.Sword) {
 				return !(lane.contains(QueensDuelDiceFace.Crown) || lane.contains(QueensDuelDiceFace.Helmet)
 						|| lane.contains(QueensDuelDiceFace.Mask));
@@ -301,22 +344,20 @@ public class GameKinoParlor extends AbstractMinigame {
 			}
 		}
 
-		private float absoluteWinRate(int[] rolls) {
-			List<List<QueensDuelDiceFace>> bestLanes = bestLaneConfiguration(rolls);
-
-			float totalWinRate = 0;
-			for (List<QueensDuelDiceFace> bestLane : bestLanes) {
-				totalWinRate += binomcdf[getLaneScore(bestLane)];
+		private static int getFaceCode(int[] rolls) {
+			int code = 0;
+			for (int i = 0; i < 6; i++) {
+				code |= diceFaces[rolls[i] - 1].ordinal() << (i * 2);
 			}
+			return code;
+		}
 
-			return totalWinRate / bestLanes.size();
+		private float absoluteWinRate(int[] rolls) {
+			return faceWinRates[getFaceCode(rolls)];
 		}
 
-		private List<List<QueensDuelDiceFace>> bestLaneConfiguration(int[] rolls) {
-			List<QueensDuelDiceFace> rolledFaces = new ArrayList<>();
-			for (int roll : rolls) {
-				rolledFaces.add(diceFaces[roll - 1]);
-			}
+		private static List<List<QueensDuelDiceFace>> bestLaneConfiguration(QueensDuelDiceFace[] faces) {
+			QueensDuelDiceFace[] rolledFaces = faces.clone();
 
 			List<List<QueensDuelDiceFace>> lanes = new ArrayList<>();
 			lanes.add(new ArrayList<>());
@@ -331,11 +372,11 @@ public class GameKinoParlor extends AbstractMinigame {
 
 				boolean allDiceDeployed = true;
 
-				for (int f = 0; f < rolledFaces.size(); f++) {
+				for (int f = 0; f < rolledFaces.length; f++) {
 					for (int l = 0; l < lanes.size(); l++) {
 
 						List<QueensDuelDiceFace> lane = lanes.get(l);
-						QueensDuelDiceFace rolledFace = rolledFaces.get(f);
+						QueensDuelDiceFace rolledFace = rolledFaces[f];
 
 						if (rolledFace != null && canAddToLane(lane, rolledFace)
 								&& getBinomcdfDiff(lane, rolledFace) > highestBinomcdfDiff) {
@@ -354,11 +395,8 @@ public class GameKinoParlor extends AbstractMinigame {
 				}
 
 				if (faceIndex != -1 && laneIndex != -1) {
-					Centuria.logger.debug(Integer.toString(laneIndex) + " " + rolledFaces.get(faceIndex).toString()
-							+ " " + Float.toString(highestBinomcdfDiff));
-
-					lanes.get(laneIndex).add(rolledFaces.get(faceIndex));
-					rolledFaces.set(faceIndex, null);
+					lanes.get(laneIndex).add(rolledFaces[faceIndex]);
+					rolledFaces[faceIndex] = null;
 				}
 
 			}
@@ -369,7 +407,6 @@ public class GameKinoParlor extends AbstractMinigame {
 		private void generateKinosMove() {
 
 			kinosRoll = new int[6];
-			kinosLanes = new int[][] { { 9, 9, 9, 9 }, { 9, 9, 9, 9 }, { 9, 9, 9, 9 } };
 
 			int[] kinosFirstRoll = new int[6];
 			int[] kinosSecondRoll = new int[6];
@@ -390,11 +427,10 @@ public class GameKinoParlor extends AbstractMinigame {
 			// exponential time complexity
 			float highestAbsWinRate = 0;
 			for (int i = 0; i < 64; i++) { // 2^6
-				BitSet reroll = BitSet.valueOf(new long[i]);
 				int[] kinosCurrChoice = new int[6];
 
 				for (int j = 0; j < 6; j++) {
-					if (reroll.get(j)) {
+					if ((i & (1 << j)) != 0) {
 						kinosCurrChoice[j] = kinosSecondRoll[j];
 					} else {
 						kinosCurrChoice[j] = kinosFirstRoll[j];
@@ -408,36 +444,10 @@ public class GameKinoParlor extends AbstractMinigame {
 				}
 			}
 
-			// convert the lane configuration into a string containing dice indices
-			List<List<QueensDuelDiceFace>> laneConfig = bestLaneConfiguration(kinosRoll);
-			for (List<QueensDuelDiceFace> lane : laneConfig) {
-				Centuria.logger.debug("new lane");
-				for (QueensDuelDiceFace face : lane) {
-					Centuria.logger.debug(face.toString());
-				}
-			}
-
-			int[] remainingKinoDice = kinosRoll.clone();
-
-			for (int i = 0; i < laneConfig.size(); i++) {
-
-				List<QueensDuelDiceFace> lane = laneConfig.get(i);
-				Collections.sort(lane, Collections.reverseOrder());
-
-				for (int j = 0; j < lane.size(); j++) {
-
-					QueensDuelDiceFace selectedFace = lane.get(j);
-
-					for (int k = 0; k < remainingKinoDice.length; k++) {
-						if (remainingKinoDice[k] != -1 && diceFaces[remainingKinoDice[k] - 1] == selectedFace) {
-							kinosLanes[i][j] = k;
-							remainingKinoDice[k] = -1;
-							break;
-						}
-					}
-				}
-			}
-
+			// look up the lane configuration as dice indices
+			int[][] lanes = faceLanes[getFaceCode(kinosRoll)];
+			kinosLanes = new int[][] { lanes[0].clone(), lanes[1].clone(), lanes[2].clone() };
+			Centuria.logger.debug("kino lanes: " + Arrays.deepToString(kinosLanes));
 		}
 
 		private String intArrayToString(int[] arr) {
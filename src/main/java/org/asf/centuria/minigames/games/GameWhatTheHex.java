@@ -1,12 +1,15 @@
 package org.asf.centuria.minigames.games;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 import org.apache.logging.log4j.MarkerManager;
 import org.asf.centuria.Centuria;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.data.XtReader;
 import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.players.Player;
@@ -20,7 +23,6 @@ import org.asf.centuria.minigames.MinigameMessage;
 import org.asf.centuria.minigames.games.entities.whatthehex.WTHLevelInfo;
 import org.asf.centuria.minigames.games.entities.whatthehex.WTHRewardInfo;
 import org.asf.centuria.minigames.games.enums.whatthehex.RewardType;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 import org.asf.centuria.packets.xt.gameserver.minigame.MinigameCurrencyPacket;
 import org.asf.centuria.packets.xt.gameserver.minigame.MinigameMessagePacket;
@@ -29,7 +31,6 @@ import org.asf.centuria.packets.xt.gameserver.minigame.MinigamePrizePacket;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 /**
  * 
@@ -50,10 +51,8 @@ public class GameWhatTheHex extends AbstractMinigame {
 		// Load level info
 		try {
 			// Load the helper
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("minigames/whatthehex.json");
-			JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
-			strm.close();
+			JsonObject helper = GameDataRegistry.getInstance().getResource("minigames/whatthehex.json")
+					.getAsJsonObject();
 
 			// Load all levels
 			JsonArray levels = helper.get("Levels").getAsJsonArray();
@@ -78,6 +77,7 @@ public class GameWhatTheHex extends AbstractMinigame {
 
 				GameWhatTheHex.levels.add(level);
 			}
+			GameWhatTheHex.levels.trimToSize();
 		} catch (IOException e) {
 			// This is very bad, should not start allow the server to continue otherwise
 			// things will break HARD
@@ -183,6 +183,83 @@ public class GameWhatTheHex extends AbstractMinigame {
 			// 36
 			new int[] { 3, -3 } };
 
+	// Board index by coordinates, offset by 3 on both axes
+	private static final int[] boardLookup = new int[7 * 7];
+
+	// Cells covered by each rune rotation, relative to the placement point
+	private static final int[][][] rotationOffsets = new int[][][] {
+			// 0
+			{ { 0, 0 } },
+			// 1
+			{ { 0, 0 }, { 0, 1 } },
+			// 2
+			{ { 1, 0 }, { 0, 0 } },
+			// 3
+			{ { 0, 0 }, { 1, -1 } },
+			// 4
+			{ { 0, 1 }, { 0, 0 }, { 0, -1 } },
+			// 5
+			{ { 1, 0 }, { 0, 0 }, { -1, 0 } },
+			// 6
+			{ { -1, 1 }, { 0, 0 }, { 1, -1 } },
+			// 7
+			{ { -1, 0 }, { 0, 0 }, { 1, -1 } },
+			// 8
+			{ { -1, 1 }, { 0, 0 }, { 1, 0 } },
+			// 9
+			{ { 1, 0 }, { 0, 0 }, { 0, -1 } },
+			// 10
+			{ { -1, 1 }, { 0, 0 }, { 0, -1 } },
+			// 11
+			{ { 0, 1 }, { 0, 0 }, { 1, -1 } },
+			// 12
+			{ { 0, 1 }, { 0, 0 }, { -1, 0 } },
+			// 13
+			{ { 0, 1 }, { 0, 0 }, { 1, 0 } } };
+
+	// Board indexes of every placement that fits on the board, per rotation
+	private static final int[][][] rotationPlacements = new int[rotationOffsets.length][][];
+
+	static {
+		// Build coordinate lookup
+		Arrays.fill(boardLookup, boardIndex.length);
+		for (int i = 0; i < boardIndex.length; i++)
+			boardLookup[(boardIndex[i][0] + 3) * 7 + boardIndex[i][1] + 3] = i;
+
+		// Build placements
+		for (int rotation = 0; rotation < rotationOffsets.length; rotation++) {
+			ArrayList<int[]> placements = new ArrayList<int[]>();
+			for (int[] coordinates : boardIndex) {
+				int[] cells = new int[rotationOffsets[rotation].length];
+				boolean fits = true;
+				for (int i = 0; i < cells.length; i++) {
+					cells[i] = findBoardIndex(coordinates[0] + rotationOffsets[rotation][i][0],
+							coordinates[1] + rotationOffsets[rotation][i][1]);
+					if (cells[i] >= boardIndex.length)
+						fits = false;
+				}
+				if (fits)
+					placements.add(cells);
+			}
+			rotationPlacements[rotation] = placements.toArray(new int[0][]);
+		}
+	}
+
+	private static int findBoardIndex(int x, int y) {
+		if (x < -3 || x > 3 || y < -3 || y > 3)
+			return boardIndex.length;
+		return boardLookup[(x + 3) * 7 + y + 3];
+	}
+
+	/**
+	 * Retrieves the What The Hex level definitions
+	 * 
+	 * @return Unmodifiable list of levels
+	 */
+	public static List<WTHLevelInfo> getLevels() {
+		return Collections.unmodifiableList(levels);
+	}
+
 	private ArrayList<Element> elements = new ArrayList<Element>();
 	private Random rnd = new Random();
 	private int lastRandomInt = 0;
@@ -205,24 +282,14 @@ public class GameWhatTheHex extends AbstractMinigame {
 
 	// Tool to get the board index of a point
 	public int getBoardIndex(int x, int y) {
-		int p = 0;
-		for (int[] coordinates : boardIndex) {
-			if (coordinates[0] == x && coordinates[1] == y)
-				return p;
-			p++;
-		}
-		return p;
+		return findBoardIndex(x, y);
 	}
 
 	// Tool to get the coordinates of a board index
 	public int[] getCoordinates(int index) {
-		int p = 0;
-		for (int[] coordinates : boardIndex) {
-			if (p == index)
-				return coordinates;
-			p++;
-		}
-		return null;
+		if (index < 0 || index >= boardIndex.length)
+			return null;
+		return boardIndex[index];
 	}
 
 	// Utility to make spawning easier
@@ -828,172 +895,20 @@ public class GameWhatTheHex extends AbstractMinigame {
 	}
 
 	private boolean canPlace(int rotation) {
-		for (int[] coordinates : boardIndex) {
-			if (canPlace(coordinates[0], coordinates[1], rotation))
+		for (int[] cells : rotationPlacements[rotation]) {
+			boolean free = true;
+			for (int cell : cells) {
+				if (board[cell] != 0) {
+					free = false;
+					break;
+				}
+			}
+			if (free)
 				return true;
 		}
 		return false;
 	}
 
-	private boolean canPlace(int x, int y, int rotation) {
-		switch (rotation) {
-		case 0: {
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			break;
-		}
-		case 1: {
-			if (this.getBoardIndex(x, y) >= 37 || this.getBoardIndex(x, y + 1) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y + 1)] != 0)
-				return false;
-			break;
-		}
-		case 2: {
-			if (this.getBoardIndex(x + 1, y) >= 37 || this.getBoardIndex(x, y) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x + 1, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			break;
-		}
-		case 3: {
-			if (this.getBoardIndex(x + 1, y - 1) >= 37 || this.getBoardIndex(x, y) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x + 1, y - 1)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			break;
-		}
-		case 4: {
-			if (this.getBoardIndex(x, y + 1) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x, y - 1) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x, y + 1)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y - 1)] != 0)
-				return false;
-			break;
-		}
-		case 5: {
-			if (this.getBoardIndex(x + 1, y) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x - 1, y) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x + 1, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x - 1, y)] != 0)
-				return false;
-			break;
-		}
-		case 6: {
-			if (this.getBoardIndex(x - 1, y + 1) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x + 1, y - 1) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x - 1, y + 1)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x + 1, y - 1)] != 0)
-				return false;
-			break;
-		}
-		case 7: {
-			if (this.getBoardIndex(x - 1, y) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x + 1, y - 1) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x - 1, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x + 1, y - 1)] != 0)
-				return false;
-			break;
-		}
-		case 8: {
-			if (this.getBoardIndex(x - 1, y + 1) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x + 1, y) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x - 1, y + 1)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x + 1, y)] != 0)
-				return false;
-			break;
-		}
-		case 9: {
-			if (this.getBoardIndex(x + 1, y) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x, y - 1) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x + 1, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y - 1)] != 0)
-				return false;
-			break;
-		}
-		case 10: {
-			if (this.getBoardIndex(x - 1, y + 1) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x, y - 1) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x - 1, y + 1)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y - 1)] != 0)
-				return false;
-			break;
-		}
-		case 11: {
-			if (this.getBoardIndex(x, y + 1) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x + 1, y - 1) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x, y + 1)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x + 1, y - 1)] != 0)
-				return false;
-			break;
-		}
-		case 12: {
-			if (this.getBoardIndex(x, y + 1) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x - 1, y) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x, y + 1)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x - 1, y)] != 0)
-				return false;
-			break;
-		}
-		case 13: {
-			if (this.getBoardIndex(x, y + 1) >= 37 || this.getBoardIndex(x, y) >= 37
-					|| this.getBoardIndex(x + 1, y) >= 37)
-				return false;
-			if (board[this.getBoardIndex(x, y + 1)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x, y)] != 0)
-				return false;
-			if (board[this.getBoardIndex(x + 1, y)] != 0)
-				return false;
-			break;
-		}
-		}
-
-		return true;
-	}
-
 	// Cyclone code to compress runes
 	private int compressRunes(int x, int y, byte type, ArrayList<Integer> checked) {
 		int res = 0;
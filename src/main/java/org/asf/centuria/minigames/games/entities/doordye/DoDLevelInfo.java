@@ -0,0 +1,62 @@
+package org.asf.centuria.minigames.games.entities.doordye;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.asf.centuria.enums.minigames.CodeColor;
+import org.asf.centuria.util.CombinationSum;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+// Parsed Do Or Dye level, shared by all game instances
+public class DoDLevelInfo {
+
+	private static final int[] COLOR_VALUES = { 1, 2, 4, 8, 16, 32, 64, 128, 256 };
+
+	public final int codeLength;
+	public final boolean allowRepeatColors;
+	public final int ingredientCount;
+	public final int scorePerIngredient;
+
+	public final int scoreOneStar;
+	public final int scoreTwoStars;
+	public final int scoreThreeStars;
+
+	public final Map<Integer, Integer> timeBonuses;
+	public final List<String> rewardTables;
+	public final List<CodeColor> availableDyes;
+
+	public DoDLevelInfo(JsonObject info) {
+		codeLength = info.get("length").getAsInt();
+		allowRepeatColors = info.get("allowRepeat").getAsBoolean();
+		ingredientCount = info.get("ingredientCount").getAsInt();
+		scorePerIngredient = info.get("score").getAsInt();
+		scoreOneStar = info.get("oneStarScore").getAsInt();
+		scoreTwoStars = info.get("twoStarScore").getAsInt();
+		scoreThreeStars = info.get("threeStarScore").getAsInt();
+
+		// Load time bonuses
+		HashMap<Integer, Integer> bonuses = new HashMap<Integer, Integer>();
+		JsonObject bonusInfo = info.get("timeBonus").getAsJsonObject();
+		for (String bonus : bonusInfo.keySet())
+			bonuses.put(Integer.parseInt(bonus), bonusInfo.get(bonus).getAsInt());
+		timeBonuses = Collections.unmodifiableMap(bonuses);
+
+		// Load reward tables (one, two and three stars)
+		ArrayList<String> rewards = new ArrayList<String>();
+		for (JsonElement ele : info.get("reward").getAsJsonArray())
+			rewards.add(Integer.toString(ele.getAsInt()));
+		rewardTables = Collections.unmodifiableList(rewards);
+
+		// Load available dyes from the color sum
+		ArrayList<CodeColor> dyes = new ArrayList<CodeColor>();
+		for (int color : CombinationSum.Sum(COLOR_VALUES, info.get("colors").getAsInt()).get(0))
+			dyes.add(CodeColor.valueOf(color));
+		availableDyes = Collections.unmodifiableList(dyes);
+	}
+
+}
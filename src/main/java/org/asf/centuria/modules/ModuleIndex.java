@@ -0,0 +1,163 @@
+package org.asf.centuria.modules;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.MarkerManager;
+import org.asf.centuria.Centuria;
+
+/**
+ * 
+ * Persisted index of the module classes found in each module file, used to
+ * skip scanning module files that have not changed since the last start
+ * 
+ */
+class ModuleIndex {
+
+	private static final File INDEX_FILE = new File("cache/modules.bin");
+	private static final int INDEX_MAGIC = 0x434d4958; // CMIX
+	private static final int INDEX_VERSION = 1;
+
+	// Index entry of a module file
+	static class Entry {
+		public String hash;
+		public List<String> moduleClasses;
+	}
+
+	private ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+	/**
+	 * Loads the index, returns a empty index if it is missing or unreadable
+	 * 
+	 * @return ModuleIndex instance
+	 */
+	static ModuleIndex load() {
+		ModuleIndex index = new ModuleIndex();
+		if (!INDEX_FILE.exists())
+			return index;
+
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(INDEX_FILE), 65536))) {
+			// Check header
+			if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION)
+				return index;
+
+			// Read entries
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String path = in.readUTF();
+				Entry entry = new Entry();
+				entry.hash = in.readUTF();
+				int classes = in.readInt();
+				entry.moduleClasses = new ArrayList<String>();
+				for (int i2 = 0; i2 < classes; i2++)
+					entry.moduleClasses.add(in.readUTF());
+				index.entries.put(path, entry);
+			}
+		} catch (IOException e) {
+			Centuria.logger.warn(MarkerManager.getMarker("MODULES"), "Failed to read module index, rescanning", e);
+			index.entries.clear();
+		}
+		return index;
+	}
+
+	/**
+	 * Saves the index
+	 * 
+	 * @throws IOException If saving fails
+	 */
+	void save() throws IOException {
+		INDEX_FILE.getParentFile().mkdirs();
+		File tmp = new File(INDEX_FILE.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+			out.writeInt(INDEX_MAGIC);
+			out.writeInt(INDEX_VERSION);
+			out.writeInt(entries.size());
+			for (String path : entries.keySet()) {
+				Entry entry = entries.get(path);
+				out.writeUTF(path);
+				out.writeUTF(entry.hash);
+				out.writeInt(entry.moduleClasses.size());
+				for (String cls : entry.moduleClasses)
+					out.writeUTF(cls);
+			}
+		}
+		INDEX_FILE.delete();
+		if (!tmp.renameTo(INDEX_FILE))
+			throw new IOException("Failed to move module index into place");
+	}
+
+	/**
+	 * Retrieves the module classes of a module file
+	 * 
+	 * @param path Module file path
+	 * @param hash Current module file hash
+	 * @return List of module class names or null if the file is not indexed or
+	 *         has changed
+	 */
+	List<String> get(String path, String hash) {
+		Entry entry = entries.get(path);
+		if (entry == null || !entry.hash.equals(hash))
+			return null;
+		return entry.moduleClasses;
+	}
+
+	/**
+	 * Stores the module classes of a module file
+	 * 
+	 * @param path          Module file path
+	 * @param hash          Module file hash
+	 * @param moduleClasses Module class names
+	 */
+	void put(String path, String hash, List<String> moduleClasses) {
+		Entry entry = new Entry();
+		entry.hash = hash;
+		entry.moduleClasses = moduleClasses;
+		entries.put(path, entry);
+	}
+
+	/**
+	 * Removes all entries of files that are no longer present
+	 * 
+	 * @param paths Paths of all present module files
+	 * @return True if entries were removed, false otherwise
+	 */
+	boolean retainAll(Collection<String> paths) {
+		return entries.keySet().retainAll(paths);
+	}
+
+	/**
+	 * Computes the hash of a module file
+	 * 
+	 * @param file Module file
+	 * @return Hash string
+	 * @throws IOException If reading the file fails
+	 */
+	static String computeHash(File file) throws IOException {
+		try (InputStream strm = new FileInputStream(file)) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[65536];
+			int read;
+			while ((read = strm.read(buffer)) != -1)
+				digest.update(buffer, 0, read);
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
@@ -3,19 +3,29 @@ package org.asf.centuria.modules;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
-import org.asf.cyan.fluid.bytecode.FluidClassPool;
-import org.asf.cyan.fluid.bytecode.sources.LoaderClassSourceProvider;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.modules.eventbus.EventBus;
-import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.ClassReader;
 
 public class ModuleManager {
 
@@ -41,7 +51,9 @@ public class ModuleManager {
 
 	// Module loading
 	private URLClassLoader moduleLoader = null;
-	private FluidClassPool modulePool = FluidClassPool.createEmpty();
+	private static final String MODULE_TYPE = ICenturiaModule.class.getTypeName().replace(".", "/");
+	private static final String[] NO_HEADER = new String[0];
+	private ConcurrentHashMap<String, String[]> classHeaders = new ConcurrentHashMap<String, String[]>();
 
 	// Init
 	private boolean init = false;
@@ -61,6 +73,8 @@ public class ModuleManager {
 
 		// Log init message
 		Centuria.logger.info("Preparing to load modules...");
+		long start = System.currentTimeMillis();
+		long phase = start;
 
 		// Prepare the modules folder
 		File modules = new File("modules");
@@ -70,25 +84,15 @@ public class ModuleManager {
 		// Prepare source collection
 		ArrayList<URL> sources = new ArrayList<URL>();
 
-		// Add default sources to the class pool
-		modulePool.addSource(new LoaderClassSourceProvider(ClassLoader.getSystemClassLoader()));
-		modulePool.addSource(new LoaderClassSourceProvider(Thread.currentThread().getContextClassLoader()));
-
-		// Add the complete classpath to the pool
+		// Add the complete classpath to the sources
 		Centuria.logger.info("Importing java classpath...");
 		for (String path : System.getProperty("java.class.path").split(File.pathSeparator)) {
 			if (path.equals("."))
 				continue;
 
-			// Load as file
-			File f = new File(path);
-
-			// Convert to URL and add
-			sources.add(f.toURI().toURL());
-
 			try {
-				// Import to the module class pool
-				modulePool.addSource(f.toURI().toURL());
+				// Convert to URL and add
+				sources.add(new File(path).toURI().toURL());
 			} catch (MalformedURLException e) {
 				// Log failure
 				Centuria.logger.error("Failed to load class path entry " + path + ": " + e.getClass().getSimpleName()
@@ -97,8 +101,40 @@ public class ModuleManager {
 			}
 		}
 
+		// Add module jars
+		File[] moduleFiles = modules.listFiles(t -> !t.isDirectory());
+		Arrays.sort(moduleFiles);
+		for (File jar : moduleFiles)
+			sources.add(jar.toURI().toURL());
+
 		// Prepare the module class loader
 		moduleLoader = new URLClassLoader(sources.toArray(t -> new URL[t]), getClass().getClassLoader());
+		Centuria.logger.info("Prepared class path in " + (System.currentTimeMillis() - phase) + "ms");
+		phase = System.currentTimeMillis();
+
+		// Index module files, only scanning files that changed since the last start
+		Centuria.logger.info("Indexing module files...");
+		ModuleIndex index = ModuleIndex.load();
+		List<String> moduleClassNames = indexModuleFiles(index, moduleFiles);
+		Centuria.logger.info("Indexed " + moduleFiles.length + " module files in "
+				+ (System.currentTimeMillis() - phase) + "ms");
+		phase = System.currentTimeMillis();
+
+		// Load module classes
+		ArrayList<Class<? extends ICenturiaModule>> moduleClasses = new ArrayList<Class<? extends ICenturiaModule>>();
+		Centuria.logger.info("Loading module classes...");
+		for (String name : moduleClassNames) {
+			try {
+				// Load the module class
+				Centuria.logger.info("Loading module class: " + name);
+				@SuppressWarnings("unchecked")
+				Class<? extends ICenturiaModule> modCls = (Class<? extends ICenturiaModule>) moduleLoader
+						.loadClass(name);
+				moduleClasses.add(modCls);
+			} catch (ClassNotFoundException e) {
+				Centuria.logger.error("Module class load failure: " + name);
+			}
+		}
 
 		// Add debug modules if debugMode is enabled
 		if (Centuria.debugMode) {
@@ -107,45 +143,20 @@ public class ModuleManager {
 				for (String mod : System.getProperty("addCpModules").split(":")) {
 					try {
 						Class<?> cls = moduleLoader.loadClass(mod);
-						modulePool.addSource(cls.getProtectionDomain().getCodeSource().getLocation());
-						modulePool.getClassNode(cls.getTypeName());
+						if (ICenturiaModule.class.isAssignableFrom(cls) && !moduleClasses.contains(cls)) {
+							@SuppressWarnings("unchecked")
+							Class<? extends ICenturiaModule> modCls = (Class<? extends ICenturiaModule>) cls;
+							moduleClasses.add(modCls);
+						}
 					} catch (ClassNotFoundException e) {
 						throw new RuntimeException(e);
 					}
 				}
 			}
 		}
-
-		// Load module jars
-		Centuria.logger.info("Loading module files...");
-		for (File jar : modules.listFiles(t -> !t.isDirectory())) {
-			Centuria.logger.info("Loading module: " + jar.getName());
-			ZipInputStream strm = new ZipInputStream(new FileInputStream(jar));
-			modulePool.importArchive(strm);
-			strm.close();
-			sources.add(jar.toURI().toURL());
-		}
-
-		// Prepare the module class loader
-		moduleLoader = new URLClassLoader(sources.toArray(t -> new URL[t]), getClass().getClassLoader());
-
-		// Load module classes
-		ArrayList<Class<? extends ICenturiaModule>> moduleClasses = new ArrayList<Class<? extends ICenturiaModule>>();
-		Centuria.logger.info("Loading module classes...");
-		for (ClassNode cls : modulePool.getLoadedClasses()) {
-			if (isModuleClass(cls)) {
-				try {
-					// Load the module class
-					Centuria.logger.info("Loading module class: " + cls.name.replace("/", "."));
-					@SuppressWarnings("unchecked")
-					Class<? extends ICenturiaModule> modCls = (Class<? extends ICenturiaModule>) moduleLoader
-							.loadClass(cls.name.replace("/", "."));
-					moduleClasses.add(modCls);
-				} catch (ClassNotFoundException e) {
-					Centuria.logger.error("Module class load failure: " + cls.name.replace("/", "."));
-				}
-			}
-		}
+		Centuria.logger.info("Loaded " + moduleClasses.size() + " module classes in "
+				+ (System.currentTimeMillis() - phase) + "ms");
+		phase = System.currentTimeMillis();
 
 		// Load modules
 		Centuria.logger.info("Loading Centuria modules...");
@@ -163,6 +174,10 @@ public class ModuleManager {
 				Centuria.logger.error("Module loading failure: " + mod.getTypeName(), e);
 			}
 		}
+		Centuria.logger
+				.info("Pre-initialized " + this.modules.size() + " modules in " + (System.currentTimeMillis() - phase)
+						+ "ms");
+		phase = System.currentTimeMillis();
 
 		// Initialize modules
 		Centuria.logger.info("Initializing Centuria modules...");
@@ -170,52 +185,137 @@ public class ModuleManager {
 			Centuria.logger.info("Initializing module: " + module.id());
 			module.init();
 		}
+		Centuria.logger.info("Initialized modules in " + (System.currentTimeMillis() - phase) + "ms, module loading took "
+				+ (System.currentTimeMillis() - start) + "ms in total");
+		classHeaders.clear();
 	}
 
-	// Method to determine if a class node is a module class
-	private boolean isModuleClass(ClassNode cls) {
-		// Check interfaces
-		if (cls.interfaces != null) {
-			for (String inter : cls.interfaces) {
+	// Finds the module classes of all module files, in parallel
+	private List<String> indexModuleFiles(ModuleIndex index, File[] moduleFiles) throws IOException {
+		ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+			Thread th = new Thread(r, "Module Scanner");
+			th.setDaemon(true);
+			return th;
+		});
+		AtomicInteger scanned = new AtomicInteger();
+		ArrayList<Future<List<String>>> results = new ArrayList<Future<List<String>>>();
+		ArrayList<String> paths = new ArrayList<String>();
+		try {
+			for (File jar : moduleFiles) {
+				String path = jar.getAbsolutePath();
+				paths.add(path);
+				results.add(pool.submit(() -> {
+					String hash = ModuleIndex.computeHash(jar);
+					List<String> classes = index.get(path, hash);
+					if (classes == null) {
+						// Changed or new, scan the file
+						Centuria.logger.info("Scanning module file: " + jar.getName());
+						classes = scanModuleFile(jar);
+						index.put(path, hash, classes);
+						scanned.incrementAndGet();
+					} else
+						Centuria.logger.info("Module file unchanged: " + jar.getName());
+					return classes;
+				}));
+			}
+
+			// Collect results in file order
+			ArrayList<String> moduleClasses = new ArrayList<String>();
+			for (Future<List<String>> result : results) {
 				try {
-					// Check interface
-					if (checkInterface(modulePool.getClassNode(inter))) {
-						// Its a module
-						return true;
-					}
-				} catch (ClassNotFoundException e) {
+					moduleClasses.addAll(result.get());
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof IOException)
+						throw (IOException) e.getCause();
+					throw new RuntimeException(e.getCause());
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
 				}
 			}
+
+			// Save index
+			boolean removed = index.retainAll(paths);
+			if (scanned.get() != 0 || removed) {
+				try {
+					index.save();
+				} catch (IOException e) {
+					Centuria.logger.error("Failed to save module index", e);
+				}
+			}
+			Centuria.logger.info(
+					"Scanned " + scanned.get() + " module files, " + (moduleFiles.length - scanned.get()) + " cached");
+			return moduleClasses;
+		} finally {
+			pool.shutdown();
 		}
+	}
 
-		// Check supertype
-		if (cls.superName != null && !cls.superName.equals(Object.class.getTypeName().replace(".", "/"))) {
-			try {
-				return isModuleClass(modulePool.getClassNode(cls.superName));
-			} catch (ClassNotFoundException e) {
+	// Finds all module classes in a module file
+	private List<String> scanModuleFile(File jar) throws IOException {
+		// Read class headers
+		LinkedHashMap<String, String[]> headers = new LinkedHashMap<String, String[]>();
+		try (ZipInputStream strm = new ZipInputStream(new FileInputStream(jar))) {
+			ZipEntry entry;
+			while ((entry = strm.getNextEntry()) != null) {
+				if (entry.isDirectory() || !entry.getName().endsWith(".class") || entry.getName().startsWith("META-INF/")
+						|| entry.getName().endsWith("module-info.class"))
+					continue;
+				ClassReader reader = new ClassReader(strm.readAllBytes());
+				headers.put(reader.getClassName(), readHeader(reader));
 			}
 		}
 
-		// Not a module
-		return false;
+		// Find module classes
+		ArrayList<String> moduleClasses = new ArrayList<String>();
+		for (String cls : headers.keySet()) {
+			if (!cls.equals(MODULE_TYPE) && isModuleClass(cls, headers))
+				moduleClasses.add(cls.replace("/", "."));
+		}
+		return moduleClasses;
 	}
 
-	private boolean checkInterface(ClassNode node) {
-		if (node.name.equals(ICenturiaModule.class.getTypeName().replace(".", "/")))
+	// Method to determine if a class is a module class
+	private boolean isModuleClass(String cls, Map<String, String[]> localHeaders) {
+		if (cls.equals(MODULE_TYPE))
 			return true;
-
-		// Check supertype
-		if (node.superName != null && !node.superName.equals(Object.class.getTypeName().replace(".", "/"))) {
-			try {
-				return checkInterface(modulePool.getClassNode(node.superName));
-			} catch (ClassNotFoundException e) {
-			}
+		if (cls.equals("java/lang/Object"))
+			return false;
+
+		// Find the class header
+		String[] header = localHeaders.get(cls);
+		if (header == null)
+			header = classHeaders.computeIfAbsent(cls, this::loadHeader);
+
+		// Check supertype and interfaces
+		for (String type : header) {
+			if (type != null && isModuleClass(type, localHeaders))
+				return true;
 		}
 
-		// Not a subtype of ICenturiaModule
+		// Not a module
 		return false;
 	}
 
+	// Reads a class header from the module class path
+	private String[] loadHeader(String cls) {
+		try (InputStream strm = moduleLoader.getResourceAsStream(cls + ".class")) {
+			if (strm == null)
+				return NO_HEADER;
+			return readHeader(new ClassReader(strm));
+		} catch (IOException e) {
+			return NO_HEADER;
+		}
+	}
+
+	// Supertype followed by all interfaces
+	private static String[] readHeader(ClassReader reader) {
+		String[] interfaces = reader.getInterfaces();
+		String[] header = new String[interfaces.length + 1];
+		header[0] = reader.getSuperName();
+		System.arraycopy(interfaces, 0, header, 1, interfaces.length);
+		return header;
+	}
+
 	//
 	// Module management
 	//
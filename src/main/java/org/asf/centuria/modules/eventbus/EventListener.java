@@ -17,4 +17,18 @@ import java.lang.annotation.Target;
 @Retention(RUNTIME)
 @Target(METHOD)
 public @interface EventListener {
+
+	/**
+	 * Listener priority, listeners with a higher priority are called first
+	 */
+	public int priority() default 0;
+
+	/**
+	 * True to call the listener on the event bus worker threads without blocking
+	 * the dispatching thread. Asynchronous listeners are called after all other
+	 * listeners, only if the event has not been handled, and cannot affect the
+	 * outcome of the event.
+	 */
+	public boolean async() default false;
+
 }
@@ -1,10 +1,20 @@
 package org.asf.centuria.modules.eventbus.impl;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.apache.logging.log4j.MarkerManager;
+import org.asf.centuria.Centuria;
 import org.asf.centuria.modules.eventbus.EventBus;
 import org.asf.centuria.modules.eventbus.EventListener;
 import org.asf.centuria.modules.eventbus.EventObject;
@@ -13,14 +23,33 @@ import org.asf.centuria.modules.eventbus.IEventReceiver;
 
 public class EventBusImpl extends EventBus {
 
-	private HashMap<String, HashMap<Method, IEventReceiver>> listeners = new HashMap<String, HashMap<Method, IEventReceiver>>();
+	private static final Listener[] NO_LISTENERS = new Listener[0];
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, EventObject.class);
+
+	// Compiled listener, bound to its receiver
+	private static class Listener {
+		public MethodHandle invoker;
+		public Method method;
+		public IEventReceiver receiver;
+		public int priority;
+		public boolean async;
+		public long order;
+		public String name;
+	}
+
+	// Listeners per event path, sorted by priority and replaced as a whole on
+	// registration
+	private ConcurrentHashMap<String, Listener[]> listeners = new ConcurrentHashMap<String, Listener[]>();
+	private long registrations;
+	private volatile ExecutorService asyncExecutor;
 
 	@Override
-	public void addEventReceiver(IEventReceiver receiver) {
+	public synchronized void addEventReceiver(IEventReceiver receiver) {
 		// Log subscription
 		System.out.println("Registering all events in " + receiver.getClass().getTypeName() + "...");
 
 		// Loop through the class and register events
+		HashMap<String, ArrayList<Listener>> newListeners = new HashMap<String, ArrayList<Listener>>();
 		for (Method meth : receiver.getClass().getMethods()) {
 			if (meth.isAnnotationPresent(EventListener.class) && Modifier.isPublic(meth.getModifiers())
 					&& !Modifier.isAbstract(meth.getModifiers())) {
@@ -31,35 +60,113 @@ public class EventBusImpl extends EventBus {
 					Class<?> eventType = meth.getParameterTypes()[0];
 					if (eventType.isAnnotationPresent(EventPath.class)) {
 						EventPath info = eventType.getAnnotation(EventPath.class);
+						EventListener listenerInfo = meth.getAnnotation(EventListener.class);
+
+						// Compile listener
+						Listener listener = new Listener();
+						try {
+							meth.setAccessible(true);
+							MethodHandle handle = MethodHandles.lookup().unreflect(meth);
+							if (!Modifier.isStatic(meth.getModifiers()))
+								handle = handle.bindTo(receiver);
+							listener.invoker = handle.asType(INVOKER_TYPE);
+						} catch (IllegalAccessException e) {
+							throw new RuntimeException(e);
+						}
+						listener.method = meth;
+						listener.receiver = receiver;
+						listener.priority = listenerInfo.priority();
+						listener.async = listenerInfo.async();
+						listener.order = registrations++;
+						listener.name = receiver.getClass().getTypeName() + "." + meth.getName();
 
 						// Add listener
-						meth.setAccessible(true);
 						String path = info.value();
-						if (!listeners.containsKey(path))
-							listeners.put(path, new HashMap<Method, IEventReceiver>());
-						listeners.get(path).put(meth, receiver);
+						if (!newListeners.containsKey(path))
+							newListeners.put(path, new ArrayList<Listener>());
+						newListeners.get(path).add(listener);
 					}
 
 				}
 			}
 		}
+
+		// Publish the new listener arrays
+		newListeners.forEach((path, added) -> {
+			ArrayList<Listener> all = new ArrayList<Listener>(
+					Arrays.asList(listeners.getOrDefault(path, NO_LISTENERS)));
+			for (Listener listener : added) {
+				if (all.stream().noneMatch(t -> t.receiver == listener.receiver && t.method.equals(listener.method)))
+					all.add(listener);
+			}
+			all.sort(Comparator.comparingInt((Listener t) -> -t.priority).thenComparingLong(t -> t.order));
+			listeners.put(path, all.toArray(t -> new Listener[t]));
+		});
 	}
 
 	@Override
 	public void dispatchEvent(EventObject event) {
-		if (listeners.containsKey(event.eventPath())) {
-			// Dispatch event
-			HashMap<Method, IEventReceiver> listeners = this.listeners.get(event.eventPath());
-			for (Method mth : listeners.keySet()) {
-				if (event.isHandled())
-					return; // End loop, event was handled
-
-				try {
-					mth.invoke(listeners.get(mth), event);
-				} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-					throw new RuntimeException(e);
+		Listener[] listeners = this.listeners.get(event.eventPath());
+		if (listeners == null)
+			return;
+
+		// Dispatch event
+		boolean hasAsync = false;
+		for (Listener listener : listeners) {
+			if (listener.async) {
+				hasAsync = true;
+				continue;
+			}
+			if (event.isHandled())
+				return; // End loop, event was handled
+
+			try {
+				listener.invoker.invokeExact(event);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		// Dispatch to asynchronous listeners
+		if (hasAsync && !event.isHandled()) {
+			ExecutorService executor = getAsyncExecutor();
+			for (Listener listener : listeners) {
+				if (!listener.async)
+					continue;
+				executor.execute(() -> {
+					try {
+						listener.invoker.invokeExact(event);
+					} catch (Error e) {
+						throw e;
+					} catch (Throwable e) {
+						Centuria.logger.error(MarkerManager.getMarker("EventBus"),
+								"Asynchronous event listener " + listener.name + " failed to handle "
+										+ event.eventPath(),
+								e);
+					}
+				});
+			}
+		}
+	}
+
+	private ExecutorService getAsyncExecutor() {
+		ExecutorService executor = asyncExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = asyncExecutor;
+				if (executor == null) {
+					executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() / 2),
+							r -> {
+								Thread th = new Thread(r, "Event Bus Worker");
+								th.setDaemon(true);
+								return th;
+							});
+					asyncExecutor = executor;
 				}
 			}
 		}
+		return executor;
 	}
 }
@@ -0,0 +1,128 @@
+package org.asf.centuria.modules.events.levels;
+
+import org.asf.centuria.accounts.CenturiaAccount;
+import org.asf.centuria.entities.players.Player;
+import org.asf.centuria.modules.eventbus.EventObject;
+import org.asf.centuria.modules.eventbus.EventPath;
+
+/**
+ *
+ * XP Update Event - called after the xp of a player changed, xp changes made
+ * during a single action are merged into one event
+ *
+ */
+@EventPath("level.xpupdate")
+public class XpUpdateEvent extends EventObject {
+
+	private CenturiaAccount account;
+	private Player player;
+
+	private int addedXp;
+	private int levelsCompleted;
+
+	private int previousLevel;
+	private int previousXp;
+	private int currentLevel;
+	private int currentXp;
+	private int totalXp;
+
+	public XpUpdateEvent(CenturiaAccount account, Player player, int addedXp, int levelsCompleted,
+			int previousLevel, int previousXp, int currentLevel, int currentXp, int totalXp) {
+		this.account = account;
+		this.player = player;
+		this.addedXp = addedXp;
+		this.levelsCompleted = levelsCompleted;
+		this.previousLevel = previousLevel;
+		this.previousXp = previousXp;
+		this.currentLevel = currentLevel;
+		this.currentXp = currentXp;
+		this.totalXp = totalXp;
+	}
+
+	@Override
+	public String eventPath() {
+		return "level.xpupdate";
+	}
+
+	/**
+	 * Retrieves the player account
+	 *
+	 * @return CenturiaAccount instance
+	 */
+	public CenturiaAccount getAccount() {
+		return account;
+	}
+
+	/**
+	 * Retrieves the player instance
+	 *
+	 * @return Player instance or null if the player is offline
+	 */
+	public Player getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Retrieves the amount of xp that was added (negative if xp was removed)
+	 *
+	 * @return Added xp
+	 */
+	public int getAddedXP() {
+		return addedXp;
+	}
+
+	/**
+	 * Retrieves the amount of levels that were completed
+	 *
+	 * @return Completed level count
+	 */
+	public int getLevelsCompleted() {
+		return levelsCompleted;
+	}
+
+	/**
+	 * Retrieves the level before the update
+	 *
+	 * @return Previous player level
+	 */
+	public int getPreviousLevel() {
+		return previousLevel;
+	}
+
+	/**
+	 * Retrieves the level xp before the update
+	 *
+	 * @return Previous level xp
+	 */
+	public int getPreviousXP() {
+		return previousXp;
+	}
+
+	/**
+	 * Retrieves the current level
+	 *
+	 * @return Player level
+	 */
+	public int getCurrentLevel() {
+		return currentLevel;
+	}
+
+	/**
+	 * Retrieves the current level xp
+	 *
+	 * @return Level xp
+	 */
+	public int getCurrentXP() {
+		return currentXp;
+	}
+
+	/**
+	 * Retrieves the total xp
+	 *
+	 * @return Total player xp
+	 */
+	public int getTotalXP() {
+		return totalXp;
+	}
+
+}
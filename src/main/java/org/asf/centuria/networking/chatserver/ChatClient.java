@@ -9,13 +9,20 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.logging.log4j.MarkerManager;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
 import org.asf.centuria.dms.DMManager;
+import org.asf.centuria.dms.DMSummary;
 import org.asf.centuria.entities.players.Player;
+import org.asf.centuria.metrics.MetricsRegistry;
+import org.asf.centuria.metrics.ServerMetrics;
 import org.asf.centuria.modules.eventbus.EventBus;
 import org.asf.centuria.modules.events.chat.ChatLoginEvent;
 import org.asf.centuria.networking.chatserver.networking.AbstractChatPacket;
@@ -34,6 +41,7 @@ public class ChatClient {
 	private CenturiaAccount player;
 	private ArrayList<String> rooms = new ArrayList<String>();
 	private HashMap<String, Boolean> privateChat = new HashMap<String, Boolean>();
+	private boolean stopped;
 
 	private ArrayList<Object> objects = new ArrayList<Object>();
 
@@ -114,8 +122,13 @@ public class ChatClient {
 
 	void stop() {
 		taskThread.stopCleanly();
-		rooms.clear();
-		privateChat.clear();
+		synchronized (rooms) {
+			stopped = true;
+			for (String room : rooms)
+				server.getShard(room).removeMember(room, this);
+			rooms.clear();
+			privateChat.clear();
+		}
 	}
 
 	// Client init
@@ -173,17 +186,33 @@ public class ChatClient {
 			// Load and sanitize dms
 			JsonObject dms = acc.getSaveSharedInventory().getItem("dms").getAsJsonObject();
 			ArrayList<String> toRemove = new ArrayList<String>();
+
+			// Load summaries and check all accounts at once
+			HashMap<String, DMSummary> summaries = new HashMap<String, DMSummary>();
+			HashSet<String> accounts = new HashSet<String>(dms.keySet());
+			for (String user : dms.keySet()) {
+				DMSummary summary = DMManager.getInstance().getDMSummary(dms.get(user).getAsString());
+				if (summary != null) {
+					summaries.put(user, summary);
+					for (String participant : summary.participants) {
+						if (!participant.startsWith("plaintext:"))
+							accounts.add(participant);
+					}
+				}
+			}
+			Set<String> existing = AccountManager.getInstance().findExistingAccounts(accounts);
+
 			for (String user : dms.keySet()) {
 				// Clean DM participants
 				String dmID = dms.get(user).getAsString();
 				int participantC = 0;
-				if (DMManager.getInstance().dmExists(dmID)) {
-					String[] participants = DMManager.getInstance().getDMParticipants(dmID);
-					participantC = participants.length;
-					for (String participant : participants) {
+				DMSummary summary = summaries.get(user);
+				if (summary != null) {
+					participantC = summary.participants.length;
+					for (String participant : summary.participants) {
 						if (!participant.startsWith("plaintext:")) {
 							// Check account
-							if (AccountManager.getInstance().getAccount(participant) == null) {
+							if (!existing.contains(participant)) {
 								participantC--;
 								DMManager.getInstance().removeParticipant(dmID, participant);
 							}
@@ -192,7 +221,7 @@ public class ChatClient {
 				}
 
 				// Check validity
-				if (AccountManager.getInstance().getAccount(user) == null || participantC <= 1) {
+				if (!existing.contains(user) || participantC <= 1) {
 					toRemove.add(user);
 					continue;
 				}
@@ -290,6 +319,32 @@ public class ChatClient {
 
 	// Packet handling code
 	void handle(JsonObject packet) {
+		// Route room packets to the shard that owns the room
+		String room = server.getPacketRoom(packet);
+		if (room != null) {
+			// Wait for the shard so the next packet of this client is not handled
+			// before this one
+			Future<?> handled = server.getShardTransport().route(server.getShardIndex(room), this, packet);
+			try {
+				handled.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				Centuria.logger.error("Error handling chat packet from " + player.getDisplayName() + ": " + packet,
+						e.getCause());
+			}
+			return;
+		}
+		handleLocal(packet);
+	}
+
+	/**
+	 * Handles a packet on the current thread, used by chat shards to handle routed
+	 * packets
+	 * 
+	 * @param packet Packet content
+	 */
+	public void handleLocal(JsonObject packet) {
 		Centuria.logger.debug(MarkerManager.getMarker("CHAT"),
 				"Client to server (user " + player.getDisplayName() + "): " + packet);
 		if (!handlePacket(packet)) {
@@ -305,6 +360,9 @@ public class ChatClient {
 	}
 
 	private boolean handlePacket(JsonObject packet) {
+		boolean measure = MetricsRegistry.isEnabled();
+		long start = measure ? System.nanoTime() : 0;
+
 		// Find packet in registry
 		for (AbstractChatPacket pkt : server.registry) {
 			if (pkt.id().equals(packet.get("cmd").getAsString())) {
@@ -315,8 +373,11 @@ public class ChatClient {
 				res.parse(packet);
 
 				// Handle packet
-				if (res.handle(this))
+				if (res.handle(this)) {
+					if (measure)
+						ServerMetrics.chatPacketHandled(pkt.id(), System.nanoTime() - start);
 					return true; // Packet was handled, lets end the loop
+				}
 			}
 		}
 
@@ -402,6 +463,15 @@ public class ChatClient {
 		return server;
 	}
 
+	/**
+	 * Retrieves the amount of packets waiting to be sent
+	 * 
+	 * @return Send queue size
+	 */
+	public int getSendQueueSize() {
+		return taskThread.getQueueSize();
+	}
+
 	/**
 	 * Checks if the client is still connected
 	 * 
@@ -464,33 +534,27 @@ public class ChatClient {
 	 * @param room Room to leave
 	 */
 	public void leaveRoom(String room) {
-		while (true) {
-			try {
-				if (rooms.contains(room)) {
-					rooms.remove(room);
-					privateChat.remove(room);
-				}
-				break;
-			} catch (ConcurrentModificationException e) {
+		synchronized (rooms) {
+			if (rooms.contains(room)) {
+				rooms.remove(room);
+				privateChat.remove(room);
+				server.getShard(room).removeMember(room, this);
 			}
 		}
 	}
 
 	/**
-	 * Joins a chat room
+	 * Joins a chat room, does nothing once the client has been stopped
 	 * 
 	 * @param room      Room to join
 	 * @param isPrivate True if the room is a private room, false otherwise
 	 */
 	public void joinRoom(String room, boolean isPrivate) {
-		while (true) {
-			try {
-				if (!rooms.contains(room)) {
-					rooms.add(room);
-					privateChat.put(room, isPrivate);
-				}
-				break;
-			} catch (ConcurrentModificationException e) {
+		synchronized (rooms) {
+			if (!stopped && !rooms.contains(room)) {
+				rooms.add(room);
+				privateChat.put(room, isPrivate);
+				server.getShard(room).addMember(room, this);
 			}
 		}
 	}
@@ -5,12 +5,15 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.dms.DMManager;
+import org.asf.centuria.dms.DMSummary;
 import org.asf.centuria.dms.PrivateChatMessage;
 import org.asf.centuria.modules.eventbus.EventBus;
 import org.asf.centuria.modules.events.servers.ChatServerStartupEvent;
@@ -23,6 +26,10 @@ import org.asf.centuria.networking.chatserver.networking.OpenDMPacket;
 import org.asf.centuria.networking.chatserver.networking.PingPacket;
 import org.asf.centuria.networking.chatserver.networking.SendMessage;
 import org.asf.centuria.networking.chatserver.networking.UserConversations;
+import org.asf.centuria.networking.chatserver.shards.ChatShard;
+import org.asf.centuria.networking.chatserver.shards.ChatShardTransport;
+import org.asf.centuria.networking.chatserver.shards.LocalChatShardTransport;
+import org.asf.centuria.social.SocialManager;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonIOException;
@@ -34,8 +41,22 @@ public class ChatServer {
 	private ArrayList<ChatClient> clients = new ArrayList<ChatClient>();
 	ArrayList<AbstractChatPacket> registry = new ArrayList<AbstractChatPacket>();
 
+	// Room shards
+	private ChatShard[] shards;
+	private ChatShardTransport transport;
+
 	public ChatServer(ServerSocket socket) {
+		this(socket, Runtime.getRuntime().availableProcessors());
+	}
+
+	public ChatServer(ServerSocket socket, int shardCount) {
 		server = socket;
+		if (shardCount < 1)
+			shardCount = 1;
+		shards = new ChatShard[shardCount];
+		for (int i = 0; i < shardCount; i++)
+			shards[i] = new ChatShard(i);
+		transport = new LocalChatShardTransport(shardCount);
 		registerPackets();
 	}
 
@@ -74,6 +95,92 @@ public class ChatServer {
 		}
 	}
 
+	/**
+	 * Retrieves the index of the shard that owns a room
+	 * 
+	 * @param room Room ID
+	 * @return Shard index
+	 */
+	public int getShardIndex(String room) {
+		return Math.floorMod(room.hashCode(), shards.length);
+	}
+
+	/**
+	 * Retrieves the shard that owns a room
+	 * 
+	 * @param room Room ID
+	 * @return ChatShard instance
+	 */
+	public ChatShard getShard(String room) {
+		return shards[getShardIndex(room)];
+	}
+
+	/**
+	 * Retrieves a shard by index
+	 * 
+	 * @param index Shard index
+	 * @return ChatShard instance
+	 */
+	public ChatShard getShard(int index) {
+		return shards[index];
+	}
+
+	/**
+	 * Retrieves the amount of shards
+	 * 
+	 * @return Shard count
+	 */
+	public int getShardCount() {
+		return shards.length;
+	}
+
+	/**
+	 * Retrieves the transport used to route room packets to shards
+	 * 
+	 * @return ChatShardTransport instance
+	 */
+	public ChatShardTransport getShardTransport() {
+		return transport;
+	}
+
+	/**
+	 * Replaces the transport used to route room packets to shards
+	 * 
+	 * @param transport New shard transport
+	 */
+	public void setShardTransport(ChatShardTransport transport) {
+		ChatShardTransport old = this.transport;
+		this.transport = transport;
+		old.stop();
+	}
+
+	/**
+	 * Retrieves all clients in a room
+	 * 
+	 * @param room Room ID
+	 * @return Array of ChatClient instances
+	 */
+	public ChatClient[] getRoomClients(String room) {
+		ChatClient[] members = getShard(room).getMembers(room);
+		for (ChatClient cl : members) {
+			if (cl.getPlayer() == null)
+				return Stream.of(members).filter(t -> t.getPlayer() != null).toArray(t -> new ChatClient[t]);
+		}
+		return members;
+	}
+
+	// Finds the room a packet is handled in
+	String getPacketRoom(JsonObject packet) {
+		if (!packet.has("cmd"))
+			return null;
+		String id = packet.get("cmd").getAsString();
+		for (AbstractChatPacket pkt : registry) {
+			if (pkt.id().equals(id))
+				return pkt.affinityRoom(packet);
+		}
+		return null;
+	}
+
 	/**
 	 * Runs the server
 	 */
@@ -180,6 +287,7 @@ public class ChatServer {
 		} catch (IOException e) {
 		}
 		server = null;
+		transport.stop();
 	}
 
 	/**
@@ -209,23 +317,22 @@ public class ChatServer {
 		DMManager manager = DMManager.getInstance();
 
 		// Check type and validity
-		if (!isPrivate || !manager.dmExists(room)) {
+		DMSummary summary = isPrivate ? manager.getDMSummary(room) : null;
+		if (summary == null) {
 			// Build participants object
 			JsonArray members = new JsonArray();
-			for (ChatClient cl : getClients()) {
-				if (cl.isInRoom(room))
-					members.add(cl.getPlayer().getAccountID());
-			}
+			for (ChatClient cl : getRoomClients(room))
+				members.add(cl.getPlayer().getAccountID());
 			roomData.add("participants", members);
 		} else {
 			// Build participants object
 			JsonArray members = new JsonArray();
-			String[] participants = manager.getDMParticipants(room);
+			String[] participants = summary.participants;
 			if (!Stream.of(participants).anyMatch(t -> t.equalsIgnoreCase(requester)))
 				return null;
+			Set<String> existing = AccountManager.getInstance().findExistingAccounts(Arrays.asList(participants));
 			for (String participant : participants) {
-				if (participant.startsWith("plaintext:")
-						|| AccountManager.getInstance().getAccount(participant) != null)
+				if (participant.startsWith("plaintext:") || existing.contains(participant))
 					members.add(participant);
 			}
 
@@ -235,11 +342,16 @@ public class ChatServer {
 				return null;
 			roomData.add("participants", members);
 
-			// Find recent message
-			PrivateChatMessage[] msgs = manager.getDMHistory(room, requester);
-			if (msgs.length != 0) {
+			// Find recent message, only loading the history if the requester blocked the
+			// sender of the last message
+			PrivateChatMessage recent = summary.lastMessage;
+			if (recent != null && SocialManager.getInstance().socialListExists(requester)
+					&& SocialManager.getInstance().getPlayerIsBlocked(requester, recent.source)) {
+				PrivateChatMessage[] msgs = manager.getDMHistory(room, requester);
+				recent = msgs.length != 0 ? msgs[msgs.length - 1] : null;
+			}
+			if (recent != null) {
 				// Add most recent
-				PrivateChatMessage recent = msgs[msgs.length - 1];
 				JsonObject msg = new JsonObject();
 				msg.addProperty("body", recent.content);
 				msg.addProperty("sent_at", recent.sentAt);
@@ -39,4 +39,15 @@ public abstract class AbstractChatPacket {
 	 */
 	public abstract boolean handle(ChatClient client);
 
+	/**
+	 * Retrieves the room a packet belongs to, packets of a room are handled in
+	 * order by the chat shard that owns the room
+	 * 
+	 * @param data Packet content
+	 * @return Room ID or null to handle the packet on the client thread
+	 */
+	public String affinityRoom(JsonObject data) {
+		return null;
+	}
+
 }
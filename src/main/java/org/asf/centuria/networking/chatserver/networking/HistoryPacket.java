@@ -24,6 +24,11 @@ public class HistoryPacket extends AbstractChatPacket {
 		return new HistoryPacket();
 	}
 
+	@Override
+	public String affinityRoom(JsonObject data) {
+		return data.has("conversationId") ? data.get("conversationId").getAsString() : null;
+	}
+
 	@Override
 	public void parse(JsonObject data) {
 		convo = data.get("conversationId").getAsString();
@@ -20,6 +20,11 @@ public class JoinRoomPacket extends AbstractChatPacket {
 		return new JoinRoomPacket();
 	}
 
+	@Override
+	public String affinityRoom(JsonObject data) {
+		return data.has("conversationId") ? data.get("conversationId").getAsString() : null;
+	}
+
 	@Override
 	public void parse(JsonObject data) {
 		room = data.get("conversationId").getAsString();
@@ -13,10 +13,13 @@ import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import org.apache.logging.log4j.MarkerManager;
@@ -24,6 +27,8 @@ import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
 import org.asf.centuria.accounts.highlevel.ItemAccessor;
+import org.asf.centuria.accounts.highlevel.itemdata.item.CreativeItemBundle;
+import org.asf.centuria.cluster.ClusterManager;
 import org.asf.centuria.dms.DMManager;
 import org.asf.centuria.dms.PrivateChatMessage;
 import org.asf.centuria.entities.players.Player;
@@ -31,6 +36,8 @@ import org.asf.centuria.entities.uservars.UserVarValue;
 import org.asf.centuria.enums.objects.WorldObjectMoverNodeType;
 import org.asf.centuria.interactions.modules.QuestManager;
 import org.asf.centuria.ipbans.IpBanManager;
+import org.asf.centuria.metrics.MetricsRegistry;
+import org.asf.centuria.metrics.ServerMetrics;
 import org.asf.centuria.modules.eventbus.EventBus;
 import org.asf.centuria.modules.events.accounts.AccountDisconnectEvent;
 import org.asf.centuria.modules.events.accounts.MiscModerationEvent;
@@ -42,7 +49,9 @@ import org.asf.centuria.modules.events.chatcommands.ModuleCommandSyntaxListEvent
 import org.asf.centuria.modules.events.maintenance.MaintenanceEndEvent;
 import org.asf.centuria.modules.events.maintenance.MaintenanceStartEvent;
 import org.asf.centuria.networking.chatserver.ChatClient;
+import org.asf.centuria.networking.chatserver.ChatServer;
 import org.asf.centuria.networking.gameserver.GameServer;
+import org.asf.centuria.networking.gameserver.InterestManager;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
 import org.asf.centuria.packets.xt.gameserver.room.RoomJoinPacket;
 import org.asf.centuria.social.SocialManager;
@@ -61,6 +70,14 @@ public class SendMessage extends AbstractChatPacket {
 	public static ArrayList<String> clearanceCodes = new ArrayList<String>();
 	private static Random rnd = new Random();
 
+	// Runs commands that wait or go through all accounts, keeps them off the chat
+	// shards
+	private static ExecutorService commandExecutor = Executors.newSingleThreadExecutor(r -> {
+		Thread th = new Thread(r, "Chat Command Executor");
+		th.setDaemon(true);
+		return th;
+	});
+
 	public static String[] getInvalidWords() {
 		ArrayList<String> fullList = new ArrayList<String>();
 		fullList.addAll(muteWords);
@@ -236,6 +253,11 @@ public class SendMessage extends AbstractChatPacket {
 		return new SendMessage();
 	}
 
+	@Override
+	public String affinityRoom(JsonObject data) {
+		return data.has("conversationId") ? data.get("conversationId").getAsString() : null;
+	}
+
 	@Override
 	public void parse(JsonObject data) {
 		message = data.get("message").getAsString();
@@ -394,106 +416,180 @@ public class SendMessage extends AbstractChatPacket {
 
 			// Send to all in room
 			Player cPlayer = gameClient;
-			SocialManager socialManager = SocialManager.getInstance();
-			for (ChatClient cl : client.getServer().getClients()) {
-				if (cl.isInRoom(room)) {
-					if (!socialManager.socialListExists(cl.getPlayer().getAccountID()) || !socialManager
-							.getPlayerIsBlocked(cl.getPlayer().getAccountID(), client.getPlayer().getAccountID())) {
-						// Check limbo player
-						gameClient = cl.getPlayer().getOnlinePlayerInstance();
-						if (gameClient == null || !gameClient.roomReady || gameClient.room == null)
-							continue;
-
-						// Check ghost mode
-						if (cPlayer.ghostMode && !gameClient.hasModPerms && !client.isRoomPrivate(room))
-							continue;
-
-						// Filter
-						String filteredMessage = "";
-
-						// Load filter settings
-						int filterSetting = 0;
-						UserVarValue val = cl.getPlayer().getSaveSpecificInventory().getUserVarAccesor()
-								.getPlayerVarValue(9362, 0);
-						if (val != null)
-							filterSetting = val.value;
-
-						// Check filter
-						for (String word : message.split(" ")) {
-							if (filterSetting != 0) {
-								if (filterWords.contains(word.replaceAll("[^A-Za-z0-9]", "").toLowerCase())) {
-									// Filter it
-									for (String filter : filterWords) {
-										while (word.toLowerCase().contains(filter.toLowerCase())) {
-											String start = word.substring(0,
-													word.toLowerCase().indexOf(filter.toLowerCase()));
-											String rest = word.substring(
-													word.toLowerCase().indexOf(filter.toLowerCase()) + filter.length());
-											String tag = "";
-											for (int i = 0; i < filter.length(); i++) {
-												tag += "#";
-											}
-											word = start + tag + rest;
-										}
-									}
-								}
-							}
+			String sentAt = fmt.format(new Date());
+			boolean privateRoom = client.isRoomPrivate(room);
+			ChatClient[] recipients = client.getServer().getRoomClients(room);
+			for (ChatClient cl : recipients)
+				deliverMessage(cl, room, privateRoom, client.getPlayer().getAccountID(), cPlayer.ghostMode, message,
+						sentAt);
+			if (MetricsRegistry.isEnabled())
+				ServerMetrics.chatMessageSent(privateRoom, recipients.length);
+
+			// Forward DMs to participants connected to other nodes
+			if (privateRoom && manager.dmExists(room))
+				forwardMessage(ClusterManager.getInstance(), client.getServer(), room, manager.getDMParticipants(room),
+						client.getPlayer().getAccountID(), message, sentAt);
+		}
 
-							// check always filtered
-							if (alwaysfilterWords.contains(word.replaceAll("[^A-Za-z0-9]", "").toLowerCase())) {
-								// Filter it
-								for (String filter : alwaysfilterWords) {
-									while (word.toLowerCase().contains(filter.toLowerCase())) {
-										String start = word.substring(0,
-												word.toLowerCase().indexOf(filter.toLowerCase()));
-										String rest = word.substring(
-												word.toLowerCase().indexOf(filter.toLowerCase()) + filter.length());
-										String tag = "";
-										for (int i = 0; i < filter.length(); i++) {
-											tag += "#";
-										}
-										word = start + tag + rest;
-									}
-								}
-							}
+		return true;
+	}
 
-							if (!filteredMessage.isEmpty())
-								filteredMessage += " " + word;
-							else
-								filteredMessage = word;
-						}
+	/**
+	 * Forwards a DM message to the nodes of the participants that are not
+	 * connected to this chat server
+	 * 
+	 * @param cluster      Cluster node of this server
+	 * @param server       Chat server
+	 * @param room         DM conversation ID
+	 * @param participants DM participant account IDs
+	 * @param source       Account ID of the sender
+	 * @param message      Message content
+	 * @param sentAt       Message timestamp
+	 */
+	public static void forwardMessage(ClusterManager cluster, ChatServer server, String room, String[] participants,
+			String source, String message, String sentAt) {
+		HashSet<String> nodes = new HashSet<String>();
+		for (String participant : participants) {
+			if (server.getClient(participant) != null)
+				continue;
+			String node = cluster.findRemotePlayer(participant);
+			if (node != null)
+				nodes.add(node);
+		}
+		if (nodes.isEmpty())
+			return;
+		JsonObject forward = new JsonObject();
+		forward.addProperty("conversationId", room);
+		forward.addProperty("source", source);
+		forward.addProperty("message", message);
+		forward.addProperty("sentAt", sentAt);
+		for (String node : nodes)
+			cluster.sendMessage(node, "chat.dm", forward);
+	}
 
-						// Check if the source blocked this player, if so, prevent them form receiving
-						if (socialManager.getPlayerIsBlocked(client.getPlayer().getAccountID(),
-								cl.getPlayer().getAccountID())) {
-							// Check mod perms
-							String permLevel = "member";
-							if (cl.getPlayer().getSaveSharedInventory().containsItem("permissions")) {
-								permLevel = cl.getPlayer().getSaveSharedInventory().getItem("permissions")
-										.getAsJsonObject().get("permissionLevel").getAsString();
-							}
-							if (!GameServer.hasPerm(permLevel, "moderator"))
-								continue; // Blocked
+	/**
+	 * Delivers a DM message forwarded from a different node to the clients
+	 * connected to this node
+	 * 
+	 * @param server  Chat server
+	 * @param payload Forwarded message
+	 */
+	public static void deliverForwardedMessage(ChatServer server, JsonObject payload) {
+		String room = payload.get("conversationId").getAsString();
+		String source = payload.get("source").getAsString();
+		String message = payload.get("message").getAsString();
+		String sentAt = payload.get("sentAt").getAsString();
+		for (ChatClient cl : server.getRoomClients(room)) {
+			if (cl.isRoomPrivate(room))
+				deliverMessage(cl, room, true, source, false, message, sentAt);
+		}
+	}
+
+	// Delivers a message to a client, applying block lists and the filter settings
+	// of the receiving player
+	private static void deliverMessage(ChatClient cl, String room, boolean privateRoom, String source,
+			boolean sourceGhosted, String message, String sentAt) {
+		SocialManager socialManager = SocialManager.getInstance();
+		if (socialManager.socialListExists(cl.getPlayer().getAccountID())
+				&& socialManager.getPlayerIsBlocked(cl.getPlayer().getAccountID(), source))
+			return;
+
+		// Check limbo player
+		Player gameClient = cl.getPlayer().getOnlinePlayerInstance();
+		if (gameClient == null || !gameClient.roomReady || gameClient.room == null)
+			return;
+
+		// Check ghost mode
+		if (sourceGhosted && !gameClient.hasModPerms && !privateRoom)
+			return;
+
+		// Load filter settings
+		int filterSetting = 0;
+		UserVarValue val = cl.getPlayer().getSaveSpecificInventory().getUserVarAccesor().getPlayerVarValue(9362, 0);
+		if (val != null)
+			filterSetting = val.value;
+
+		// Filter
+		String filteredMessage = filterMessage(message, filterSetting != 0);
+
+		// Check if the source blocked this player, if so, prevent them form receiving
+		if (socialManager.getPlayerIsBlocked(source, cl.getPlayer().getAccountID())) {
+			// Check mod perms
+			String permLevel = "member";
+			if (cl.getPlayer().getSaveSharedInventory().containsItem("permissions")) {
+				permLevel = cl.getPlayer().getSaveSharedInventory().getItem("permissions").getAsJsonObject()
+						.get("permissionLevel").getAsString();
+			}
+			if (!GameServer.hasPerm(permLevel, "moderator"))
+				return; // Blocked
+		}
+
+		// Send response
+		JsonObject res = new JsonObject();
+		res.addProperty("conversationType", privateRoom ? "private" : "room");
+		res.addProperty("conversationId", room);
+		res.addProperty("message", filteredMessage);
+		res.addProperty("source", source);
+		res.addProperty("sentAt", sentAt);
+		res.addProperty("eventId", "chat.postMessage");
+		res.addProperty("success", true);
+
+		// Send message
+		cl.sendPacket(res);
+	}
+
+	/**
+	 * Applies the chat filter to a message
+	 * 
+	 * @param message       Message to filter
+	 * @param filterEnabled True to apply the regular filter, false to only apply
+	 *                      the words that are always filtered
+	 * @return Filtered message
+	 */
+	public static String filterMessage(String message, boolean filterEnabled) {
+		String filteredMessage = "";
+		for (String word : message.split(" ")) {
+			if (filterEnabled) {
+				if (filterWords.contains(word.replaceAll("[^A-Za-z0-9]", "").toLowerCase())) {
+					// Filter it
+					for (String filter : filterWords) {
+						while (word.toLowerCase().contains(filter.toLowerCase())) {
+							String start = word.substring(0, word.toLowerCase().indexOf(filter.toLowerCase()));
+							String rest = word
+									.substring(word.toLowerCase().indexOf(filter.toLowerCase()) + filter.length());
+							String tag = "";
+							for (int i = 0; i < filter.length(); i++) {
+								tag += "#";
+							}
+							word = start + tag + rest;
 						}
+					}
+				}
+			}
 
-						// Send response
-						JsonObject res = new JsonObject();
-						res.addProperty("conversationType", client.isRoomPrivate(room) ? "private" : "room");
-						res.addProperty("conversationId", room);
-						res.addProperty("message", filteredMessage);
-						res.addProperty("source", client.getPlayer().getAccountID());
-						res.addProperty("sentAt", fmt.format(new Date()));
-						res.addProperty("eventId", "chat.postMessage");
-						res.addProperty("success", true);
-
-						// Send message
-						cl.sendPacket(res);
+			// check always filtered
+			if (alwaysfilterWords.contains(word.replaceAll("[^A-Za-z0-9]", "").toLowerCase())) {
+				// Filter it
+				for (String filter : alwaysfilterWords) {
+					while (word.toLowerCase().contains(filter.toLowerCase())) {
+						String start = word.substring(0, word.toLowerCase().indexOf(filter.toLowerCase()));
+						String rest = word
+								.substring(word.toLowerCase().indexOf(filter.toLowerCase()) + filter.length());
+						String tag = "";
+						for (int i = 0; i < filter.length(); i++) {
+							tag += "#";
+						}
+						word = start + tag + rest;
 					}
 				}
 			}
-		}
 
-		return true;
+			if (!filteredMessage.isEmpty())
+				filteredMessage += " " + word;
+			else
+				filteredMessage = word;
+		}
+		return filteredMessage;
 	}
 
 	// Command parser
@@ -1365,7 +1461,7 @@ public class SendMessage extends AbstractChatPacket {
 							GameServer server = (GameServer) plr.client.getServer();
 							for (Player player : server.getPlayers()) {
 								if (plr.room != null && player.room != null && player.room.equals(plr.room)
-										&& player != plr) {
+										&& player != plr && InterestManager.isInRange(plr, player)) {
 									plr.syncTo(player, WorldObjectMoverNodeType.InitPosition);
 									Centuria.logger.debug(MarkerManager.getMarker("WorldReadyPacket"), "Syncing player "
 											+ player.account.getDisplayName() + " to " + plr.account.getDisplayName());
@@ -1720,7 +1816,9 @@ public class SendMessage extends AbstractChatPacket {
 								EventBus.getInstance().dispatchEvent(new AccountDisconnectEvent(plr.account,
 										"Server has been shut down.", DisconnectType.SERVER_SHUTDOWN));
 							}
-							Centuria.updateShutdown();
+
+							// Shut down off the chat shard so other rooms keep running
+							new Thread(() -> Centuria.updateShutdown(), "Update shutdown").start();
 							return true;
 						} else {
 							break;
@@ -1735,8 +1833,12 @@ public class SendMessage extends AbstractChatPacket {
 								EventBus.getInstance().dispatchEvent(new AccountDisconnectEvent(plr.account,
 										"Server has been shut down.", DisconnectType.SERVER_SHUTDOWN));
 							}
-							Centuria.disconnectPlayersForShutdown();
-							System.exit(0);
+
+							// Shut down off the chat shard so other rooms keep running
+							new Thread(() -> {
+								Centuria.disconnectPlayersForShutdown();
+								System.exit(0);
+							}, "Server shutdown").start();
 							return true;
 						} else {
 							break;
@@ -1769,44 +1871,48 @@ public class SendMessage extends AbstractChatPacket {
 								}
 							}
 
-							// Wait a bit
-							int i = 0;
-							while (Stream.of(Centuria.gameServer.getPlayers())
-									.filter(plr -> !plr.account.getSaveSharedInventory().containsItem("permissions")
+							// Wait for the players to leave off the chat shard
+							final String cmdF = cmd;
+							commandExecutor.execute(() -> {
+								// Wait a bit
+								int i = 0;
+								while (Stream.of(Centuria.gameServer.getPlayers())
+										.filter(plr -> !plr.account.getSaveSharedInventory().containsItem("permissions")
+												|| !GameServer.hasPerm(
+														plr.account.getSaveSharedInventory().getItem("permissions")
+																.getAsJsonObject().get("permissionLevel").getAsString(),
+														"admin"))
+										.findFirst().isPresent()) {
+									i++;
+									if (i == 30)
+										break;
+
+									try {
+										Thread.sleep(1000);
+									} catch (InterruptedException e) {
+									}
+								}
+								for (Player plr : Centuria.gameServer.getPlayers()) {
+									if (!plr.account.getSaveSharedInventory().containsItem("permissions")
 											|| !GameServer.hasPerm(
 													plr.account.getSaveSharedInventory().getItem("permissions")
 															.getAsJsonObject().get("permissionLevel").getAsString(),
-													"admin"))
-									.findFirst().isPresent()) {
-								i++;
-								if (i == 30)
-									break;
-
-								try {
-									Thread.sleep(1000);
-								} catch (InterruptedException e) {
-								}
-							}
-							for (Player plr : Centuria.gameServer.getPlayers()) {
-								if (!plr.account.getSaveSharedInventory().containsItem("permissions")
-										|| !GameServer.hasPerm(
-												plr.account.getSaveSharedInventory().getItem("permissions")
-														.getAsJsonObject().get("permissionLevel").getAsString(),
-												"admin")) {
-									// Disconnect from the game server
-									plr.client.disconnect();
-
-									// Disconnect it from the chat server
-									for (ChatClient cl : client.getServer().getClients()) {
-										if (cl.getPlayer().getAccountID().equals(plr.account.getAccountID())) {
-											cl.disconnect();
+													"admin")) {
+										// Disconnect from the game server
+										plr.client.disconnect();
+
+										// Disconnect it from the chat server
+										for (ChatClient cl : client.getServer().getClients()) {
+											if (cl.getPlayer().getAccountID().equals(plr.account.getAccountID())) {
+												cl.disconnect();
+											}
 										}
 									}
 								}
-							}
 
-							// Send message
-							systemMessage("Maintenance mode enabled.", cmd, client);
+								// Send message
+								systemMessage("Maintenance mode enabled.", cmdF, client);
+							});
 							return true;
 						} else {
 							break;
@@ -2088,7 +2194,7 @@ public class SendMessage extends AbstractChatPacket {
 								}
 							} else {
 								final String cmdF = cmd;
-								AccountManager.getInstance().runForAllAccounts(acc -> {
+								commandExecutor.execute(() -> AccountManager.getInstance().runForAllAccounts(acc -> {
 									// Add xp
 									try {
 										int xp = Integer.parseInt(args.get(0));
@@ -2102,7 +2208,7 @@ public class SendMessage extends AbstractChatPacket {
 										systemMessage("Error: " + e, cmdF, client);
 										e.printStackTrace();
 									}
-								});
+								}));
 								return true;
 							}
 
@@ -2145,7 +2251,7 @@ public class SendMessage extends AbstractChatPacket {
 								}
 							} else {
 								final String cmdF = cmd;
-								AccountManager.getInstance().runForAllAccounts(acc -> {
+								commandExecutor.execute(() -> AccountManager.getInstance().runForAllAccounts(acc -> {
 									// Add levels
 									try {
 										int levels = Integer.parseInt(args.get(0));
@@ -2158,7 +2264,7 @@ public class SendMessage extends AbstractChatPacket {
 									} catch (Exception e) {
 										systemMessage("Error: " + e, cmdF, client);
 									}
-								});
+								}));
 								return true;
 							}
 
@@ -2177,7 +2283,7 @@ public class SendMessage extends AbstractChatPacket {
 							}
 
 							final String cmdF = cmd;
-							AccountManager.getInstance().runForAllAccounts(acc -> {
+							commandExecutor.execute(() -> AccountManager.getInstance().runForAllAccounts(acc -> {
 								// Reset level
 								try {
 									acc.getLevel().resetLevelXP();
@@ -2185,7 +2291,7 @@ public class SendMessage extends AbstractChatPacket {
 								} catch (Exception e) {
 									systemMessage("Error: " + e, cmdF, client);
 								}
-							});
+							}));
 
 							return true;
 						}
@@ -2432,20 +2538,12 @@ public class SendMessage extends AbstractChatPacket {
 								return true;
 							}
 
-							// Load filter
-							InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-									.getResourceAsStream("creativeitemfilter.json");
-							JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8"))
-									.getAsJsonObject().get("Items").getAsJsonObject();
-							strm.close();
-
 							// Remove items
 							int removedItems = 0;
-							for (String id : helper.keySet()) {
+							for (int defID : CreativeItemBundle.getFilteredItems()) {
 								// Find how many exist in the inventory
 								ItemAccessor accessor = acc.getSaveSpecificInventory()
 										.getItemAccessor(acc.getOnlinePlayerInstance());
-								int defID = Integer.parseInt(id);
 								int currentCount = accessor.getCountOfItem(defID);
 
 								if (currentCount > 0) {
@@ -0,0 +1,89 @@
+package org.asf.centuria.networking.chatserver.shards;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.asf.centuria.networking.chatserver.ChatClient;
+
+/**
+ * 
+ * Chat shard - owns the member index of the rooms that hash to it, room
+ * packets of these rooms are handled by the shard
+ * 
+ */
+public class ChatShard {
+
+	private static final ChatClient[] NO_CLIENTS = new ChatClient[0];
+
+	private int index;
+	private ConcurrentHashMap<String, ChatClient[]> members = new ConcurrentHashMap<String, ChatClient[]>();
+
+	public ChatShard(int index) {
+		this.index = index;
+	}
+
+	/**
+	 * Retrieves the shard index
+	 * 
+	 * @return Shard index
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Retrieves the clients in a room
+	 * 
+	 * @param room Room ID
+	 * @return Array of ChatClient instances, this is a shared snapshot, do not
+	 *         modify it
+	 */
+	public ChatClient[] getMembers(String room) {
+		return members.getOrDefault(room, NO_CLIENTS);
+	}
+
+	/**
+	 * Retrieves the amount of rooms owned by this shard that have members
+	 * 
+	 * @return Room count
+	 */
+	public int getRoomCount() {
+		return members.size();
+	}
+
+	/**
+	 * Adds a client to a room
+	 * 
+	 * @param room   Room ID
+	 * @param client Client that joined the room
+	 */
+	public synchronized void addMember(String room, ChatClient client) {
+		ChatClient[] current = members.getOrDefault(room, NO_CLIENTS);
+		for (ChatClient cl : current) {
+			if (cl == client)
+				return;
+		}
+		ChatClient[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = client;
+		members.put(room, updated);
+	}
+
+	/**
+	 * Removes a client from a room
+	 * 
+	 * @param room   Room ID
+	 * @param client Client that left the room
+	 */
+	public synchronized void removeMember(String room, ChatClient client) {
+		ChatClient[] current = members.get(room);
+		if (current == null)
+			return;
+		ChatClient[] updated = Stream.of(current).filter(t -> t != client).toArray(t -> new ChatClient[t]);
+		if (updated.length == 0)
+			members.remove(room);
+		else
+			members.put(room, updated);
+	}
+
+}
@@ -0,0 +1,38 @@
+package org.asf.centuria.networking.chatserver.shards;
+
+import java.util.concurrent.Future;
+
+import org.asf.centuria.networking.chatserver.ChatClient;
+
+import com.google.gson.JsonObject;
+
+/**
+ * 
+ * Chat shard transport - delivers room packets from the client connections to
+ * the shard that owns the room
+ * 
+ * Ordering: packets routed to the same shard are handled in the order they
+ * were routed. The client thread waits for the returned future before it
+ * reads the next packet, so all packets of one client, routed or handled on
+ * the client thread, are handled in the order the client sent them.
+ * 
+ */
+public abstract class ChatShardTransport {
+
+	/**
+	 * Routes a packet to a shard, packets routed to the same shard are handled in
+	 * order
+	 * 
+	 * @param shard  Shard index
+	 * @param client Client that sent the packet
+	 * @param packet Packet content
+	 * @return Future that completes once the shard has handled the packet
+	 */
+	public abstract Future<?> route(int shard, ChatClient client, JsonObject packet);
+
+	/**
+	 * Stops the transport
+	 */
+	public abstract void stop();
+
+}
@@ -0,0 +1,55 @@
+package org.asf.centuria.networking.chatserver.shards;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.asf.centuria.Centuria;
+import org.asf.centuria.networking.chatserver.ChatClient;
+
+import com.google.gson.JsonObject;
+
+/**
+ * 
+ * In-process chat shard transport, runs each shard on its own thread
+ * 
+ */
+public class LocalChatShardTransport extends ChatShardTransport {
+
+	private ExecutorService[] shards;
+
+	public LocalChatShardTransport(int shardCount) {
+		shards = new ExecutorService[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			String name = "Chat Shard " + i;
+			shards[i] = Executors.newSingleThreadExecutor(r -> {
+				Thread th = new Thread(r, name);
+				th.setDaemon(true);
+				return th;
+			});
+		}
+	}
+
+	@Override
+	public Future<?> route(int shard, ChatClient client, JsonObject packet) {
+		return shards[shard].submit(() -> {
+			// Drop packets queued before the client disconnected
+			if (!client.isConnected())
+				return;
+			try {
+				client.handleLocal(packet);
+			} catch (Exception e) {
+				if (client.isConnected())
+					Centuria.logger.error(
+							"Error handling chat packet from " + client.getPlayer().getDisplayName() + ": " + packet, e);
+			}
+		});
+	}
+
+	@Override
+	public void stop() {
+		for (ExecutorService shard : shards)
+			shard.shutdown();
+	}
+
+}
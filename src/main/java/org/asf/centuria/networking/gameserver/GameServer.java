@@ -10,18 +10,21 @@ import java.text.SimpleDateFormat;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.ConcurrentModificationException;
-import java.util.HashMap;
 import java.util.Random;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
+import org.asf.centuria.accounts.LevelInfo;
 import org.asf.centuria.accounts.SaveMode;
 import org.asf.centuria.accounts.SaveSettings;
+import org.asf.centuria.cluster.ClusterManager;
 import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.enums.players.OnlineStatus;
@@ -76,38 +79,114 @@ public class GameServer extends BaseSmartfoxServer {
 	public boolean shutdown = false;
 	private Random rnd = new Random();
 	private XmlMapper mapper = new XmlMapper();
-	private HashMap<String, Player> players = new HashMap<String, Player>();
+	private ConcurrentHashMap<String, Player> players = new ConcurrentHashMap<String, Player>();
+	private volatile Player[] playerSnapshot = new Player[0];
+	private static final Player[] NO_PLAYERS = new Player[0];
+	private ConcurrentHashMap<String, Player[]> roomMembers = new ConcurrentHashMap<String, Player[]>();
 
 	public ArrayList<String> vpnIpsV4 = new ArrayList<String>();
 	public ArrayList<String> vpnIpsV6 = new ArrayList<String>();
 
 	public String whitelistFile = null;
 
+	/**
+	 * Retrieves all online players
+	 * 
+	 * @return Array of Player instances, this is a shared snapshot that is replaced
+	 *         when players join or leave, do not modify it
+	 */
 	public Player[] getPlayers() {
-		while (true) {
-			try {
-				return Stream.of(players.values().toArray(t -> new Player[t])).filter(t -> {
-					if (t != null)
-						return true;
-					else {
-						while (true) {
-							try {
-								String[] ids = players.keySet().toArray(t2 -> new String[t2]);
-								for (String id : ids) {
-									if (id == null || players.get(id) == null)
-										players.remove(id);
-								}
-								break;
-							} catch (ConcurrentModificationException e) {
-							}
-						}
-						return false;
-					}
-				}).toArray(t -> new Player[t]);
-			} catch (ConcurrentModificationException e) {
+		return playerSnapshot;
+	}
+
+	/**
+	 * Retrieves all players in a room
+	 * 
+	 * @param room Room ID
+	 * @return Array of Player instances, this is a shared snapshot that is replaced
+	 *         when players enter or leave the room, do not modify it
+	 */
+	public Player[] getPlayersInRoom(String room) {
+		if (room == null)
+			return NO_PLAYERS;
+		return roomMembers.getOrDefault(room, NO_PLAYERS);
+	}
+
+	/**
+	 * Retrieves the IDs of all rooms that have players in them
+	 * 
+	 * @return Array of room IDs
+	 */
+	public String[] getActiveRooms() {
+		return roomMembers.keySet().toArray(t -> new String[t]);
+	}
+
+	/**
+	 * Moves a player into a room, assigns the room field and updates the room
+	 * index
+	 * 
+	 * @param plr  Player to move
+	 * @param room New room ID
+	 */
+	public void setPlayerRoom(Player plr, String room) {
+		synchronized (players) {
+			leaveRoomIndex(plr);
+			plr.room = room;
+			if (room != null && players.get(plr.account.getAccountID()) == plr) {
+				Player[] current = roomMembers.getOrDefault(room, NO_PLAYERS);
+				Player[] members = Arrays.copyOf(current, current.length + 1);
+				members[current.length] = plr;
+				roomMembers.put(room, members);
+			}
+		}
+	}
+
+	// Removes a player from the room index, caller must hold the registry lock
+	private void leaveRoomIndex(Player plr) {
+		if (plr.room == null)
+			return;
+		Player[] current = roomMembers.get(plr.room);
+		if (current == null)
+			return;
+		Player[] members = Stream.of(current).filter(t -> t != plr).toArray(t -> new Player[t]);
+		if (members.length == 0)
+			roomMembers.remove(plr.room);
+		else
+			roomMembers.put(plr.room, members);
+	}
+
+	// Adds a player to the registry, replacing the player with the same ID
+	private void addPlayer(Player plr) {
+		synchronized (players) {
+			Player old = players.put(plr.account.getAccountID(), plr);
+			Player[] current = playerSnapshot;
+			if (old != null) {
+				leaveRoomIndex(old);
+				Player[] snapshot = current.clone();
+				for (int i = 0; i < snapshot.length; i++) {
+					if (snapshot[i] == old)
+						snapshot[i] = plr;
+				}
+				playerSnapshot = snapshot;
+			} else {
+				Player[] snapshot = Arrays.copyOf(current, current.length + 1);
+				snapshot[current.length] = plr;
+				playerSnapshot = snapshot;
 			}
 		}
+		ClusterManager.getInstance().playerJoined(plr.account.getAccountID());
+	}
 
+	// Removes a player from the registry
+	private boolean removePlayer(Player plr) {
+		synchronized (players) {
+			if (!players.remove(plr.account.getAccountID(), plr))
+				return false;
+			leaveRoomIndex(plr);
+			playerSnapshot = Stream.of(playerSnapshot).filter(t -> t != plr).toArray(t -> new Player[t]);
+		}
+		ClusterManager.getInstance().playerLeft(plr.account.getAccountID());
+		return true;
 	}
 
 	@Override
@@ -418,7 +497,7 @@ public class GameServer extends BaseSmartfoxServer {
 		}
 
 		// Add player
-		players.put(plr.account.getAccountID(), plr);
+		addPlayer(plr);
 
 		// Dispatch join event
 		EventBus.getInstance().dispatchEvent(new PlayerJoinEvent(this, plr, acc, client));
@@ -432,8 +511,7 @@ public class GameServer extends BaseSmartfoxServer {
 	 * @param plr Player instance
 	 */
 	protected void playerLeft(Player plr) {
-		if (players.containsKey(plr.account.getAccountID())) {
-			players.remove(plr.account.getAccountID());
+		if (removePlayer(plr)) {
 			Centuria.logger.info("Player disconnected: " + plr.account.getLoginName() + " (was "
 					+ plr.account.getDisplayName() + ")");
 
@@ -441,6 +519,9 @@ public class GameServer extends BaseSmartfoxServer {
 			EventBus.getInstance().dispatchEvent(new PlayerLeaveEvent(this, plr, plr.account, plr.client));
 		}
 
+		// Save interaction memory
+		plr.account.getSaveSpecificInventory().getInteractionMemory().flush();
+
 		// Clear objects
 		plr.respawnItems.clear();
 
@@ -451,9 +532,11 @@ public class GameServer extends BaseSmartfoxServer {
 		}
 
 		// Remove player character from all clients
-		for (Player player : getPlayers()) {
-			if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr) {
-				plr.destroyAt(player);
+		if (!InterestManager.leaveRoom(plr)) {
+			for (Player player : getPlayers()) {
+				if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr) {
+					plr.destroyAt(player);
+				}
 			}
 		}
 
@@ -604,6 +687,23 @@ public class GameServer extends BaseSmartfoxServer {
 		}
 	}
 
+	@Override
+	protected void handle(String data, SmartfoxClient client) throws IOException {
+		if (client.container == null || !(client.container instanceof Player)) {
+			super.handle(data, client);
+			return;
+		}
+
+		// Merge all xp changes caused by this packet into a single update
+		LevelInfo level = ((Player) client.container).account.getLevel();
+		level.beginXPBatch();
+		try {
+			super.handle(data, client);
+		} finally {
+			level.endXPBatch();
+		}
+	}
+
 	@Override
 	protected void onStart() {
 		// Anti-expiry (kicks players who go past token expiry)
@@ -803,15 +903,7 @@ public class GameServer extends BaseSmartfoxServer {
 	 * @return Player instance or null if offline
 	 */
 	public Player getPlayer(String accountID) {
-		while (true) {
-			try {
-				if (players.containsKey(accountID))
-					return players.get(accountID);
-				return null;
-			} catch (Exception e) {
-				continue;
-			}
-		}
+		return players.get(accountID);
 	}
 
 	@Override
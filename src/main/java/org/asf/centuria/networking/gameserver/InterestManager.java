@@ -0,0 +1,520 @@
+package org.asf.centuria.networking.gameserver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.MarkerManager;
+import org.asf.centuria.Centuria;
+import org.asf.centuria.entities.players.Player;
+import org.asf.centuria.enums.objects.WorldObjectMoverNodeType;
+
+/**
+ * 
+ * Area of interest management, only syncs players to each other while they are
+ * near each other, players are spawned when they come into view range and
+ * despawned when they leave it, movement of players outside the update radius
+ * is sent at a reduced rate, the last skipped update is sent once the reduced
+ * rate allows it so far players do not freeze mid-movement
+ * 
+ */
+public class InterestManager {
+
+	// Players are despawned a bit further away than they are spawned so players at
+	// the edge of the view range are not spawned and despawned on every move
+	private static final double DESPAWN_MARGIN = 1.1;
+
+	// Configuration
+	private static boolean enabled;
+	private static double defaultRadius;
+	private static double defaultViewRadius;
+	private static long farUpdateInterval;
+	private static ConcurrentHashMap<Integer, LevelSettings> levelSettings = new ConcurrentHashMap<Integer, LevelSettings>();
+
+	// Statistics
+	private static AtomicLong updatesSent = new AtomicLong();
+	private static AtomicLong updatesThrottled = new AtomicLong();
+	private static AtomicLong updatesCulled = new AtomicLong();
+	private static AtomicLong spawns = new AtomicLong();
+	private static AtomicLong despawns = new AtomicLong();
+
+	// Interest settings of a level
+	private static class LevelSettings {
+		public boolean enabled;
+		public double radius;
+		public double viewRadius;
+	}
+
+	// Spatial grid of a room
+	private static class Room {
+		public String id;
+		public LevelSettings settings;
+		public HashMap<Long, ArrayList<TrackedPlayer>> cells = new HashMap<Long, ArrayList<TrackedPlayer>>();
+		public int members;
+	}
+
+	// Player in a room grid
+	private static class TrackedPlayer {
+		public Player player;
+		public Room room;
+		public long cell;
+
+		// Players in view range and the last time a update of this player was sent to
+		// them
+		public HashMap<TrackedPlayer, Long> inRange = new HashMap<TrackedPlayer, Long>();
+
+		// Last skipped update of this player for each player outside the update
+		// radius
+		public HashMap<TrackedPlayer, Consumer<Player>> pending = new HashMap<TrackedPlayer, Consumer<Player>>();
+	}
+
+	private static ConcurrentHashMap<String, Room> rooms = new ConcurrentHashMap<String, Room>();
+	private static ConcurrentHashMap<Player, TrackedPlayer> players = new ConcurrentHashMap<Player, TrackedPlayer>();
+
+	static {
+		// Load configuration
+		HashMap<String, String> properties = new HashMap<String, String>();
+		try {
+			// Create config if needed
+			if (!new File("interest.conf").exists()) {
+				Files.writeString(Path.of("interest.conf"),
+						// Area of interest management, off by default
+						"enabled=false\n"
+
+								// Radius in which players receive all movement updates
+								+ "radius=60\n"
+
+								// Radius in which players are spawned
+								+ "view-radius=120\n"
+
+								// Interval of movement updates between the radius and view radius
+								+ "far-update-interval=1000\n"
+
+								// Per-level overrides
+								+ "\n# Per-level overrides:\n# level-<id>-enabled=true\n# level-<id>-radius=60\n"
+								+ "# level-<id>-view-radius=120\n");
+			}
+
+			// Load properties
+			for (String line : Files.readAllLines(Path.of("interest.conf"))) {
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+				String key = line;
+				String value = "";
+				if (key.contains("=")) {
+					value = key.substring(key.indexOf("=") + 1);
+					key = key.substring(0, key.indexOf("="));
+				}
+				properties.put(key, value);
+			}
+		} catch (IOException e) {
+			Centuria.logger.error(MarkerManager.getMarker("InterestManager"),
+					"Failed to load interest.conf, area of interest management is disabled", e);
+		}
+		enabled = properties.getOrDefault("enabled", "false").equals("true");
+		defaultRadius = Double.parseDouble(properties.getOrDefault("radius", "60"));
+		defaultViewRadius = Math.max(defaultRadius, Double.parseDouble(properties.getOrDefault("view-radius", "120")));
+		farUpdateInterval = Long.parseLong(properties.getOrDefault("far-update-interval", "1000"));
+
+		// Load level overrides
+		for (String key : properties.keySet()) {
+			if (!key.startsWith("level-"))
+				continue;
+			String setting = key.substring("level-".length());
+			if (!setting.contains("-"))
+				continue;
+			int levelID;
+			try {
+				levelID = Integer.parseInt(setting.substring(0, setting.indexOf("-")));
+			} catch (NumberFormatException e) {
+				continue;
+			}
+			setting = setting.substring(setting.indexOf("-") + 1);
+			LevelSettings settings = levelSettings.computeIfAbsent(levelID, t -> createDefaultSettings());
+			switch (setting) {
+			case "enabled":
+				settings.enabled = properties.get(key).equals("true");
+				break;
+			case "radius":
+				settings.radius = Double.parseDouble(properties.get(key));
+				break;
+			case "view-radius":
+				settings.viewRadius = Double.parseDouble(properties.get(key));
+				break;
+			}
+		}
+		for (LevelSettings settings : levelSettings.values())
+			settings.viewRadius = Math.max(settings.radius, settings.viewRadius);
+
+		// Start the thread sending skipped updates
+		Thread th = new Thread(() -> {
+			while (true) {
+				try {
+					Thread.sleep(Math.max(50, farUpdateInterval / 4));
+				} catch (InterruptedException e) {
+					break;
+				}
+				try {
+					flushPending();
+				} catch (Exception e) {
+					Centuria.logger.error(MarkerManager.getMarker("InterestManager"),
+							"Failed to send skipped movement updates", e);
+				}
+			}
+		}, "Interest Manager Flush");
+		th.setDaemon(true);
+		th.start();
+	}
+
+	private static LevelSettings createDefaultSettings() {
+		LevelSettings settings = new LevelSettings();
+		settings.enabled = enabled;
+		settings.radius = defaultRadius;
+		settings.viewRadius = defaultViewRadius;
+		return settings;
+	}
+
+	private static LevelSettings getSettings(int levelID) {
+		return levelSettings.computeIfAbsent(levelID, t -> createDefaultSettings());
+	}
+
+	/**
+	 * Checks if area of interest management is enabled for a level
+	 * 
+	 * @param levelID Level ID
+	 * @return True if enabled, false otherwise
+	 */
+	public static boolean isEnabled(int levelID) {
+		LevelSettings settings = levelSettings.get(levelID);
+		return settings != null ? settings.enabled : enabled;
+	}
+
+	/**
+	 * Adds a player to the grid of its current room and spawns all players in view
+	 * range, call this after the spawn position of the player is known
+	 * 
+	 * @param plr Player to add
+	 * @return True if the player was added, false if area of interest management is
+	 *         disabled for the level
+	 */
+	public static boolean enterRoom(Player plr) {
+		if (plr.room == null || !isEnabled(plr.levelID))
+			return false;
+		leaveRoom(plr);
+
+		// Add to grid
+		TrackedPlayer tracked = new TrackedPlayer();
+		tracked.player = plr;
+		while (true) {
+			Room room = rooms.computeIfAbsent(plr.room, t -> {
+				Room r = new Room();
+				r.id = t;
+				r.settings = getSettings(plr.levelID);
+				return r;
+			});
+			synchronized (room) {
+				if (rooms.get(room.id) != room)
+					continue; // Room was emptied and removed in the meantime
+				tracked.room = room;
+				tracked.cell = cellOf(plr, room.settings.viewRadius);
+				room.cells.computeIfAbsent(tracked.cell, t -> new ArrayList<TrackedPlayer>()).add(tracked);
+				room.members++;
+				break;
+			}
+		}
+		players.put(plr, tracked);
+
+		// Spawn players in range
+		updateInterest(plr, true);
+		return true;
+	}
+
+	/**
+	 * Removes a player from its room grid and despawns it for all players in view
+	 * range and the other way around
+	 * 
+	 * @param plr Player to remove
+	 * @return True if the player was in a room grid, false otherwise
+	 */
+	public static boolean leaveRoom(Player plr) {
+		TrackedPlayer tracked = players.remove(plr);
+		if (tracked == null)
+			return false;
+
+		// Remove from grid
+		ArrayList<Player> despawn = new ArrayList<Player>();
+		Room room = tracked.room;
+		synchronized (room) {
+			removeFromCell(room, tracked);
+			room.members--;
+			for (TrackedPlayer other : tracked.inRange.keySet()) {
+				other.inRange.remove(tracked);
+				other.pending.remove(tracked);
+				despawn.add(other.player);
+			}
+			tracked.inRange.clear();
+			tracked.pending.clear();
+			if (room.members == 0)
+				rooms.remove(room.id, room);
+		}
+
+		// Despawn
+		for (Player other : despawn) {
+			plr.destroyAt(other);
+			other.destroyAt(plr);
+			despawns.addAndGet(2);
+		}
+		return true;
+	}
+
+	/**
+	 * Updates the grid position of a player after it moved, spawns players that
+	 * came into view range, despawns players that left it and selects the players
+	 * that should receive the movement update
+	 * 
+	 * @param plr       Player that moved
+	 * @param important True if the update should be sent to all players in view
+	 *                  range regardless of the update rate (actions and teleports)
+	 * @return List of players to send the update to or null if the player is not
+	 *         in a room grid
+	 */
+	public static List<Player> updateInterest(Player plr, boolean important) {
+		return updateInterest(plr, important, null);
+	}
+
+	/**
+	 * Updates the grid position of a player after it moved, spawns players that
+	 * came into view range, despawns players that left it and selects the players
+	 * that should receive the movement update
+	 * 
+	 * @param plr       Player that moved
+	 * @param important True if the update should be sent to all players in view
+	 *                  range regardless of the update rate (actions and teleports)
+	 * @param sender    Sends the update to a player, called later for players that
+	 *                  are skipped due to the reduced update rate (may be null)
+	 * @return List of players to send the update to or null if the player is not
+	 *         in a room grid
+	 */
+	public static List<Player> updateInterest(Player plr, boolean important, Consumer<Player> sender) {
+		TrackedPlayer tracked = players.get(plr);
+		if (tracked == null)
+			return null;
+
+		ArrayList<Player> spawn = new ArrayList<Player>();
+		ArrayList<Player> despawn = new ArrayList<Player>();
+		ArrayList<Player> targets = new ArrayList<Player>();
+		Room room = tracked.room;
+		LevelSettings settings = room.settings;
+		double radiusSq = settings.radius * settings.radius;
+		double viewRadiusSq = settings.viewRadius * settings.viewRadius;
+		double despawnRadiusSq = viewRadiusSq * DESPAWN_MARGIN * DESPAWN_MARGIN;
+		long time = System.currentTimeMillis();
+		synchronized (room) {
+			if (players.get(plr) != tracked)
+				return targets; // Left the room in the meantime
+
+			// Move to the new cell
+			long cell = cellOf(plr, settings.viewRadius);
+			if (cell != tracked.cell) {
+				removeFromCell(room, tracked);
+				tracked.cell = cell;
+				room.cells.computeIfAbsent(cell, t -> new ArrayList<TrackedPlayer>()).add(tracked);
+			}
+
+			// Find players that came into view range
+			int cellX = (int) (cell >> 32);
+			int cellZ = (int) cell;
+			for (int x = cellX - 1; x <= cellX + 1; x++) {
+				for (int z = cellZ - 1; z <= cellZ + 1; z++) {
+					ArrayList<TrackedPlayer> members = room.cells.get(cellKey(x, z));
+					if (members == null)
+						continue;
+					for (TrackedPlayer other : members) {
+						if (other != tracked && !tracked.inRange.containsKey(other)
+								&& distanceSq(plr, other.player) <= viewRadiusSq) {
+							tracked.inRange.put(other, time);
+							other.inRange.put(tracked, time);
+							spawn.add(other.player);
+						}
+					}
+				}
+			}
+
+			// Find players that left view range and the players to send the update to
+			var it = tracked.inRange.entrySet().iterator();
+			while (it.hasNext()) {
+				Map.Entry<TrackedPlayer, Long> ent = it.next();
+				TrackedPlayer other = ent.getKey();
+				double dist = distanceSq(plr, other.player);
+				if (dist > despawnRadiusSq) {
+					it.remove();
+					other.inRange.remove(tracked);
+					other.pending.remove(tracked);
+					tracked.pending.remove(other);
+					despawn.add(other.player);
+				} else if (!spawn.contains(other.player)) {
+					if (important || dist <= radiusSq || time - ent.getValue() >= farUpdateInterval) {
+						ent.setValue(time);
+						tracked.pending.remove(other);
+						targets.add(other.player);
+					} else {
+						if (sender != null)
+							tracked.pending.put(other, sender);
+						updatesThrottled.incrementAndGet();
+					}
+				}
+			}
+			updatesCulled.addAndGet(room.members - 1 - tracked.inRange.size());
+		}
+
+		// Spawn and despawn
+		for (Player other : spawn) {
+			plr.syncTo(other, WorldObjectMoverNodeType.InitPosition);
+			other.syncTo(plr, WorldObjectMoverNodeType.InitPosition);
+			spawns.addAndGet(2);
+		}
+		for (Player other : despawn) {
+			plr.destroyAt(other);
+			other.destroyAt(plr);
+			despawns.addAndGet(2);
+		}
+		updatesSent.addAndGet(targets.size());
+		return targets;
+	}
+
+	/**
+	 * Checks if a player is in view range of another player
+	 * 
+	 * @param plr   First player
+	 * @param other Second player
+	 * @return True if the players are in view range of each other or if the first
+	 *         player is not in a room grid, false otherwise
+	 */
+	public static boolean isInRange(Player plr, Player other) {
+		TrackedPlayer tracked = players.get(plr);
+		if (tracked == null)
+			return true;
+		TrackedPlayer otherTracked = players.get(other);
+		if (otherTracked == null)
+			return false;
+		synchronized (tracked.room) {
+			return tracked.inRange.containsKey(otherTracked);
+		}
+	}
+
+	/**
+	 * Retrieves the amount of movement updates sent by area of interest management
+	 * 
+	 * @return Sent update count
+	 */
+	public static long getUpdatesSent() {
+		return updatesSent.get();
+	}
+
+	/**
+	 * Retrieves the amount of movement updates skipped due to the reduced update
+	 * rate of players outside the update radius
+	 * 
+	 * @return Throttled update count
+	 */
+	public static long getUpdatesThrottled() {
+		return updatesThrottled.get();
+	}
+
+	/**
+	 * Retrieves the amount of movement updates not sent to room members outside
+	 * view range
+	 * 
+	 * @return Culled update count
+	 */
+	public static long getUpdatesCulled() {
+		return updatesCulled.get();
+	}
+
+	/**
+	 * Retrieves the amount of spawn packets sent when players came into view range
+	 * 
+	 * @return Spawn count
+	 */
+	public static long getSpawns() {
+		return spawns.get();
+	}
+
+	/**
+	 * Retrieves the amount of despawn packets sent when players left view range
+	 * 
+	 * @return Despawn count
+	 */
+	public static long getDespawns() {
+		return despawns.get();
+	}
+
+	// Sends skipped updates to players that have not received a update of the
+	// moved player for the reduced update interval
+	private static void flushPending() {
+		ArrayList<Player> targets = new ArrayList<Player>();
+		ArrayList<Consumer<Player>> senders = new ArrayList<Consumer<Player>>();
+		long time = System.currentTimeMillis();
+		for (Room room : rooms.values()) {
+			synchronized (room) {
+				for (ArrayList<TrackedPlayer> members : room.cells.values()) {
+					for (TrackedPlayer tracked : members) {
+						if (tracked.pending.isEmpty())
+							continue;
+						var it = tracked.pending.entrySet().iterator();
+						while (it.hasNext()) {
+							Map.Entry<TrackedPlayer, Consumer<Player>> ent = it.next();
+							Long lastSent = tracked.inRange.get(ent.getKey());
+							if (lastSent == null) {
+								it.remove();
+							} else if (time - lastSent >= farUpdateInterval) {
+								it.remove();
+								tracked.inRange.put(ent.getKey(), time);
+								targets.add(ent.getKey().player);
+								senders.add(ent.getValue());
+							}
+						}
+					}
+				}
+			}
+		}
+
+		// Send
+		for (int i = 0; i < targets.size(); i++)
+			senders.get(i).accept(targets.get(i));
+		updatesSent.addAndGet(targets.size());
+	}
+
+	private static void removeFromCell(Room room, TrackedPlayer tracked) {
+		ArrayList<TrackedPlayer> members = room.cells.get(tracked.cell);
+		if (members != null) {
+			members.remove(tracked);
+			if (members.isEmpty())
+				room.cells.remove(tracked.cell);
+		}
+	}
+
+	private static long cellOf(Player plr, double cellSize) {
+		return cellKey((int) Math.floor(plr.lastPos.x / cellSize), (int) Math.floor(plr.lastPos.z / cellSize));
+	}
+
+	private static long cellKey(int x, int z) {
+		return ((long) x << 32) | (z & 0xffffffffL);
+	}
+
+	private static double distanceSq(Player plr, Player other) {
+		double x = plr.lastPos.x - other.lastPos.x;
+		double y = plr.lastPos.y - other.lastPos.y;
+		double z = plr.lastPos.z - other.lastPos.z;
+		return x * x + y * y + z * z;
+	}
+
+}
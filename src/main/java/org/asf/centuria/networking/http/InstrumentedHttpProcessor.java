@@ -0,0 +1,44 @@
+package org.asf.centuria.networking.http;
+
+import java.io.IOException;
+
+import org.asf.centuria.metrics.MetricsRegistry;
+import org.asf.centuria.metrics.ServerMetrics;
+import org.asf.connective.RemoteClient;
+import org.asf.connective.processors.HttpPushProcessor;
+
+/**
+ * 
+ * Base of the server HTTP processors, records request counts and processing
+ * time when metrics are enabled
+ * 
+ */
+public abstract class InstrumentedHttpProcessor extends HttpPushProcessor {
+
+	@Override
+	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+		if (!MetricsRegistry.isEnabled()) {
+			processRequest(path, method, client, contentType);
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			processRequest(path, method, client, contentType);
+		} finally {
+			ServerMetrics.httpRequest(path(), System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Processes the request
+	 * 
+	 * @param path        Request path
+	 * @param method      Request method
+	 * @param client      Remote client
+	 * @param contentType Request body content type
+	 * @throws IOException If processing fails
+	 */
+	protected abstract void processRequest(String path, String method, RemoteClient client, String contentType)
+			throws IOException;
+
+}
@@ -7,18 +7,20 @@ import java.util.stream.Stream;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.networking.chatserver.networking.SendMessage;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.connective.RemoteClient;
 import org.asf.connective.processors.HttpPushProcessor;
 
 import com.google.gson.JsonObject;
 
-public class DisplayNameValidationHandler extends HttpPushProcessor {
+public class DisplayNameValidationHandler extends InstrumentedHttpProcessor {
 
 	private static String[] nameBlacklist = new String[] { "kit", "kitsendragn", "kitsendragon", "fera", "fero",
 			"wwadmin", "ayli", "komodorihero", "wwsam", "blinky", "fer.ocity" };
 
 	@Override
-	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String path, String method, RemoteClient client, String contentType)
+			throws IOException {
 		try {
 			// Get name
 			String name = URLDecoder.decode(getRequest().getRequestPath().substring(path().length() + 1), "UTF-8");
@@ -9,6 +9,7 @@ import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
 import org.asf.centuria.networking.gameserver.GameServer;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.connective.RemoteClient;
 import org.asf.connective.processors.HttpPushProcessor;
 
@@ -17,12 +18,13 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
-public class DisplayNamesRequestHandler extends HttpPushProcessor {
+public class DisplayNamesRequestHandler extends InstrumentedHttpProcessor {
 
 	private static String NIL_UUID = new UUID(0, 0).toString();
 
 	@Override
-	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String path, String method, RemoteClient client, String contentType)
+			throws IOException {
 		try {
 			// Parse body
 			ByteArrayOutputStream strm = new ByteArrayOutputStream();
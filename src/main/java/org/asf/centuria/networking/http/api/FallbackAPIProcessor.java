@@ -14,6 +14,7 @@ import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
 import org.asf.centuria.entities.players.Player;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.centuria.packets.xt.gameserver.room.RoomJoinPacket;
 import org.asf.centuria.social.SocialEntry;
 import org.asf.centuria.social.SocialManager;
@@ -25,12 +26,13 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 
-public class FallbackAPIProcessor extends HttpPushProcessor {
+public class FallbackAPIProcessor extends InstrumentedHttpProcessor {
 
 	public static String KeyID = UUID.randomUUID().toString();
 
 	@Override
-	public void process(String pth, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String pth, String method, RemoteClient client, String contentType)
+			throws IOException {
 		String path = this.getRequestPath();
 		AccountManager manager = AccountManager.getInstance();
 
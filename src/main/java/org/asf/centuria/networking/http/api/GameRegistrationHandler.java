@@ -15,6 +15,7 @@ import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.registration.RegistrationVerificationHelper;
 import org.asf.centuria.accounts.registration.RegistrationVerificationResult;
 import org.asf.centuria.accounts.registration.RegistrationVerificationStatus;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
 import org.asf.connective.RemoteClient;
 import org.asf.connective.processors.HttpPushProcessor;
@@ -22,7 +23,7 @@ import org.asf.connective.processors.HttpPushProcessor;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
-public class GameRegistrationHandler extends HttpPushProcessor {
+public class GameRegistrationHandler extends InstrumentedHttpProcessor {
 
 	private static String[] nameBlacklist = new String[] { "kit", "kitsendragn", "kitsendragon", "fera", "fero",
 			"wwadmin", "ayli", "komodorihero", "wwsam", "blinky", "fer.ocity" };
@@ -73,7 +74,8 @@ public class GameRegistrationHandler extends HttpPushProcessor {
 	}
 
 	@Override
-	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String path, String method, RemoteClient client, String contentType)
+			throws IOException {
 		try {
 			// Parse body
 			ByteArrayOutputStream strm = new ByteArrayOutputStream();
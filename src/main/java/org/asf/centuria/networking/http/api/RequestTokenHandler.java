@@ -1,15 +1,17 @@
 package org.asf.centuria.networking.http.api;
 
 import java.io.IOException;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.connective.RemoteClient;
 import org.asf.connective.processors.HttpPushProcessor;
 
 import com.google.gson.JsonObject;
 
-public class RequestTokenHandler extends HttpPushProcessor {
+public class RequestTokenHandler extends InstrumentedHttpProcessor {
 
 	@Override
-	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String path, String method, RemoteClient client, String contentType)
+			throws IOException {
 		// Hardcoded response as i have no clue how to do this
 		String challenge = "kOLl8r71tG1343qobkIvdJSGuXxUZBQUtHTq7Npe91l51TrpaGLZf4nPIjSCNxniUdpdHvOfcCzV2TQRn5MXab08vwGizt0NiDmzAdWrzQMYDjgTYz7Xqbzqds2LaYTa";
 		String iv = "03KJ2tNeasisn7vI42W49IJpObpQirvu";
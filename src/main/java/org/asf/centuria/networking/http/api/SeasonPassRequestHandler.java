@@ -9,6 +9,7 @@ import java.util.TimeZone;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.centuria.seasonpasses.SeasonPassDefinition;
 import org.asf.centuria.seasonpasses.SeasonPassManager;
 import org.asf.connective.RemoteClient;
@@ -18,10 +19,11 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
-public class SeasonPassRequestHandler extends HttpPushProcessor {
+public class SeasonPassRequestHandler extends InstrumentedHttpProcessor {
 
 	@Override
-	public void process(String pth, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String pth, String method, RemoteClient client, String contentType)
+			throws IOException {
 		try {
 			// Parse JWT payload
 			String token = this.getHeader("Authorization").substring("Bearer ".length());
@@ -7,15 +7,17 @@ import java.util.Base64;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.connective.RemoteClient;
 import org.asf.connective.processors.HttpPushProcessor;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
-public class ChangePasswordHandler extends HttpPushProcessor {
+public class ChangePasswordHandler extends InstrumentedHttpProcessor {
 	@Override
-	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String path, String method, RemoteClient client, String contentType)
+			throws IOException {
 		try {
 			if (!method.equalsIgnoreCase("post")) {
 				this.setResponseStatus(400, "Bad request");
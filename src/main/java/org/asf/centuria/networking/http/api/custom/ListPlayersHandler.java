@@ -6,6 +6,7 @@ import java.util.HashMap;
 
 import org.asf.centuria.Centuria;
 import org.asf.centuria.entities.players.Player;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
 import org.asf.connective.RemoteClient;
 import org.asf.connective.processors.HttpPushProcessor;
@@ -13,9 +14,10 @@ import org.asf.connective.processors.HttpPushProcessor;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
-public class ListPlayersHandler extends HttpPushProcessor {
+public class ListPlayersHandler extends InstrumentedHttpProcessor {
 	@Override
-	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String path, String method, RemoteClient client, String contentType)
+			throws IOException {
 		try {
 			// Load spawn helper
 			JsonObject helper = null;
@@ -7,6 +7,7 @@ import java.util.UUID;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.centuria.networking.http.api.FallbackAPIProcessor;
 import org.asf.connective.RemoteClient;
 import org.asf.connective.processors.HttpPushProcessor;
@@ -14,9 +15,10 @@ import org.asf.connective.processors.HttpPushProcessor;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
-public class LoginRefreshHandler extends HttpPushProcessor {
+public class LoginRefreshHandler extends InstrumentedHttpProcessor {
 	@Override
-	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String path, String method, RemoteClient client, String contentType)
+			throws IOException {
 		try {
 			// Load manager
 			AccountManager manager = AccountManager.getInstance();
@@ -0,0 +1,50 @@
+package org.asf.centuria.networking.http.api.custom;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.asf.centuria.metrics.MetricsRegistry;
+import org.asf.connective.RemoteClient;
+import org.asf.connective.processors.HttpPushProcessor;
+
+public class MetricsHandler extends HttpPushProcessor {
+
+	@Override
+	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+		if (!MetricsRegistry.isEnabled()) {
+			setResponseStatus(404, "Not found");
+			return;
+		}
+
+		// Check token
+		String token = MetricsRegistry.getScrapeToken();
+		if (!token.isEmpty()) {
+			if (!hasHeader("Authorization")
+					|| !MessageDigest.isEqual(getHeader("Authorization").getBytes(StandardCharsets.UTF_8),
+							("Bearer " + token).getBytes(StandardCharsets.UTF_8))) {
+				setResponseStatus(401, "Unauthorized");
+				return;
+			}
+		}
+
+		// Send metrics
+		setResponseContent("text/plain; version=0.0.4; charset=utf-8", MetricsRegistry.scrape());
+	}
+
+	@Override
+	public boolean supportsNonPush() {
+		return true;
+	}
+
+	@Override
+	public HttpPushProcessor createNewInstance() {
+		return new MetricsHandler();
+	}
+
+	@Override
+	public String path() {
+		return MetricsRegistry.getScrapePath();
+	}
+
+}
@@ -12,15 +12,17 @@ import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.AccountManager;
 import org.asf.centuria.accounts.CenturiaAccount;
 import org.asf.centuria.accounts.PlayerInventory;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.connective.RemoteClient;
 import org.asf.connective.processors.HttpPushProcessor;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
-public class PlayerDataDownloadHandler extends HttpPushProcessor {
+public class PlayerDataDownloadHandler extends InstrumentedHttpProcessor {
 	@Override
-	public void process(String pth, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String pth, String method, RemoteClient client, String contentType)
+			throws IOException {
 		try {
 			// Load manager
 			AccountManager manager = AccountManager.getInstance();
@@ -91,6 +93,9 @@ public class PlayerDataDownloadHandler extends HttpPushProcessor {
 				try {
 					ZipOutputStream invZip = new ZipOutputStream(strm);
 
+					// Make sure pending interaction memory is included
+					acc.getSaveSpecificInventory().getInteractionMemory().flush();
+
 					// Add all inventory objects
 					addItemToZip(acc.getSaveSpecificInventory(), "1", invZip);
 					addItemToZip(acc.getSaveSpecificInventory(), "10", invZip);
@@ -2,19 +2,21 @@ package org.asf.centuria.networking.http.director;
 
 import java.io.IOException;
 
-import org.asf.centuria.Centuria;
+import org.asf.centuria.cluster.ClusterManager;
+import org.asf.centuria.networking.http.InstrumentedHttpProcessor;
 import org.asf.connective.RemoteClient;
 import org.asf.connective.processors.HttpPushProcessor;
 
 import com.google.gson.JsonObject;
 
-public class GameServerRequestHandler extends HttpPushProcessor {
+public class GameServerRequestHandler extends InstrumentedHttpProcessor {
 
 	@Override
-	public void process(String path, String method, RemoteClient client, String contentType) throws IOException {
+	protected void processRequest(String path, String method, RemoteClient client, String contentType)
+			throws IOException {
 		// Send response
 		JsonObject response = new JsonObject();
-		response.addProperty("smartfoxServer", Centuria.discoveryAddress); // load discovery address
+		response.addProperty("smartfoxServer", ClusterManager.getInstance().selectServerAddress()); // select node address
 		setResponseContent("text/json", response.toString());
 	}
 
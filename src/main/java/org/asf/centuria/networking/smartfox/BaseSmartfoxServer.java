@@ -5,7 +5,10 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.util.ArrayList;
 import org.asf.centuria.Centuria;
+import org.asf.centuria.metrics.MetricsRegistry;
+import org.asf.centuria.metrics.ServerMetrics;
 import org.asf.centuria.packets.smartfox.ISmartfoxPacket;
+import org.asf.centuria.packets.xt.IXtPacket;
 
 public abstract class BaseSmartfoxServer {
 
@@ -283,6 +286,9 @@ public abstract class BaseSmartfoxServer {
 	 * @return True if handled successfully, false otherwise
 	 */
 	public boolean handlePacket(String packet, SmartfoxClient client) throws IOException {
+		boolean measure = MetricsRegistry.isEnabled();
+		long start = measure ? System.nanoTime() : 0;
+
 		// Find a packet
 		for (ISmartfoxPacket pkt : packets) {
 			if (pkt.canParse(packet)) {
@@ -292,11 +298,18 @@ public abstract class BaseSmartfoxServer {
 					continue; // Apparently this packet doesnt support the payload, odd
 
 				// Handle it
-				if (res.handle(client))
+				if (res.handle(client)) {
+					if (measure)
+						ServerMetrics.packetHandled(
+								res instanceof IXtPacket ? ((IXtPacket<?>) res).id() : res.getClass().getSimpleName(),
+								System.nanoTime() - start);
 					return true; // It was handled, lets return true and end the loop
+				}
 			}
 		}
 
+		if (measure)
+			ServerMetrics.packetUnhandled();
 		return false;
 	}
 
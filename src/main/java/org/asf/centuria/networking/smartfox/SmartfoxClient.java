@@ -81,6 +81,20 @@ public abstract class SmartfoxClient {
 	 */
 	public abstract void sendPacket(String packet);
 
+	/**
+	 * Starts buffering outgoing packets, packets sent after this call are written
+	 * in a single write when endPacketBatch() is called. Calls may be nested.
+	 */
+	public void beginPacketBatch() {
+	}
+
+	/**
+	 * Ends a packet batch started with beginPacketBatch() and writes all buffered
+	 * packets
+	 */
+	public void endPacketBatch() {
+	}
+
 	/**
 	 * Reads a single packet
 	 * 
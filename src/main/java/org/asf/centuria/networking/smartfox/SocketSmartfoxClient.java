@@ -11,6 +11,8 @@ import java.net.Socket;
 import java.util.Base64;
 import java.util.zip.GZIPInputStream;
 
+import org.asf.centuria.metrics.MetricsRegistry;
+import org.asf.centuria.metrics.ServerMetrics;
 import org.asf.centuria.packets.smartfox.ISmartfoxPacket;
 
 public class SocketSmartfoxClient extends SmartfoxClient {
@@ -19,6 +21,9 @@ public class SocketSmartfoxClient extends SmartfoxClient {
 	private BaseSmartfoxServer server;
 
 	private Object sendLock = new Object();
+	private ByteArrayOutputStream batch;
+	private int batchDepth;
+	private int batchPackets;
 
 	InputStream input;
 	OutputStream output;
@@ -72,10 +77,7 @@ public class SocketSmartfoxClient extends SmartfoxClient {
 				String content = packet.build();
 
 				// Send packet
-				byte[] payload = content.getBytes("UTF-8");
-				output.write(payload);
-				output.write(0);
-				output.flush();
+				writePacket(content.getBytes("UTF-8"));
 			} catch (Exception e) {
 			}
 		}
@@ -89,9 +91,54 @@ public class SocketSmartfoxClient extends SmartfoxClient {
 				byte[] payload = packet.getBytes("UTF-8");
 				if (client == null)
 					return;
-				output.write(payload);
-				output.write(0);
+				writePacket(payload);
+			} catch (Exception e) {
+			}
+		}
+	}
+
+	private void writePacket(byte[] payload) throws IOException {
+		if (batch != null) {
+			// Buffer until the batch ends
+			batch.write(payload);
+			batch.write(0);
+			batchPackets++;
+			return;
+		}
+		output.write(payload);
+		output.write(0);
+		output.flush();
+		if (MetricsRegistry.isEnabled())
+			ServerMetrics.packetsSent(1, payload.length + 1);
+	}
+
+	@Override
+	public void beginPacketBatch() {
+		synchronized (sendLock) {
+			if (batchDepth++ == 0) {
+				batch = new ByteArrayOutputStream();
+				batchPackets = 0;
+			}
+		}
+	}
+
+	@Override
+	public void endPacketBatch() {
+		synchronized (sendLock) {
+			if (batchDepth == 0 || --batchDepth != 0)
+				return;
+			byte[] data = batch.toByteArray();
+			batch = null;
+			try {
+				// Send all packets at once
+				if (client == null || data.length == 0)
+					return;
+				output.write(data);
 				output.flush();
+				if (MetricsRegistry.isEnabled()) {
+					ServerMetrics.packetsSent(batchPackets, data.length);
+					ServerMetrics.batchSent(batchPackets);
+				}
 			} catch (Exception e) {
 			}
 		}
@@ -8,6 +8,7 @@ import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.enums.objects.WorldObjectMoverNodeType;
 import org.asf.centuria.networking.gameserver.GameServer;
+import org.asf.centuria.networking.gameserver.InterestManager;
 import org.asf.centuria.networking.smartfox.SmartfoxClient;
 import org.asf.centuria.packets.xt.IXtPacket;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
@@ -104,6 +105,7 @@ public class AvatarLookSavePacket implements IXtPacket<AvatarLookSavePacket> {
 				update.add(lookObj);
 			}
 			plr.account.getSaveSpecificInventory().setItem("avatars", items);
+			plr.invalidateAvatarDescriptor();
 
 			// Prevent double save
 			plr.pendingLookID = null;
@@ -117,7 +119,8 @@ public class AvatarLookSavePacket implements IXtPacket<AvatarLookSavePacket> {
 			// Sync
 			GameServer srv = (GameServer) client.getServer();
 			for (Player player : srv.getPlayers()) {
-				if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr) {
+				if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr
+						&& InterestManager.isInRange(plr, player)) {
 					plr.syncTo(player, WorldObjectMoverNodeType.Move);
 				}
 			}
@@ -9,6 +9,7 @@ import com.google.gson.JsonObject;
 
 public class AvatarObjectInfoPacket extends ObjectInfoPacket {
 	public JsonObject look; // TODO: make into a component (eventually)
+	public String encodedLook; // Pre-encoded look, used instead of look if set
 	public String displayName;
 	public int unknownValue; // TODO: what is this??
 
@@ -47,7 +48,7 @@ public class AvatarObjectInfoPacket extends ObjectInfoPacket {
 		writer.writeInt(lastMove.actorActionType);
 
 		// Look and name
-		writer.writeString(look.toString());
+		writer.writeString(encodedLook != null ? encodedLook : look.toString());
 		writer.writeString(displayName);
 		writer.writeInt(unknownValue);
 
@@ -8,6 +8,7 @@ import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.enums.objects.WorldObjectMoverNodeType;
 import org.asf.centuria.networking.gameserver.GameServer;
+import org.asf.centuria.networking.gameserver.InterestManager;
 import org.asf.centuria.networking.smartfox.SmartfoxClient;
 import org.asf.centuria.packets.xt.IXtPacket;
 
@@ -65,6 +66,7 @@ public class AvatarSelectLookPacket implements IXtPacket<AvatarSelectLookPacket>
 		// Save active look
 		// TODO: only do this if its a primary look
 		plr.account.setActiveLook(plr.activeLook);
+		plr.invalidateAvatarDescriptor();
 
 		// Assign the defID
 		JsonArray items = plr.account.getSaveSpecificInventory().getItem("avatars").getAsJsonArray();
@@ -87,7 +89,8 @@ public class AvatarSelectLookPacket implements IXtPacket<AvatarSelectLookPacket>
 		// Sync
 		GameServer srv = (GameServer) client.getServer();
 		for (Player player : srv.getPlayers()) {
-			if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr) {
+			if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr
+					&& InterestManager.isInRange(plr, player)) {
 				plr.syncTo(player, WorldObjectMoverNodeType.Move);
 			}
 		}
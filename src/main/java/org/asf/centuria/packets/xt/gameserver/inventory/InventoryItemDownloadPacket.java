@@ -1,7 +1,6 @@
 package org.asf.centuria.packets.xt.gameserver.inventory;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.UUID;
 
@@ -10,6 +9,7 @@ import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.InventoryManager;
 import org.asf.centuria.accounts.PlayerInventory;
 import org.asf.centuria.accounts.highlevel.ItemAccessor;
+import org.asf.centuria.accounts.highlevel.itemdata.item.CreativeItemBundle;
 import org.asf.centuria.data.XtReader;
 import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.players.Player;
@@ -19,31 +19,11 @@ import org.asf.centuria.packets.xt.IXtPacket;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class InventoryItemDownloadPacket implements IXtPacket<InventoryItemDownloadPacket> {
 
 	private static final String PACKET_ID = "ilt";
 
-	private static final ArrayList<String> creativeItemFilter = new ArrayList<String>();
-	static {
-		// Load filter
-		try {
-			// Load helper
-			InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-					.getResourceAsStream("creativeitemfilter.json");
-			JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject()
-					.get("Items").getAsJsonObject();
-			strm.close();
-
-			// Register
-			for (String id : helper.keySet())
-				creativeItemFilter.add(id);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
-	}
-
 	private String slot = "";
 
 	@Override
@@ -197,28 +177,8 @@ public class InventoryItemDownloadPacket implements IXtPacket<InventoryItemDownl
 			}
 
 			if (slot.equals("100")) {
-				// Scan clothinghelper and give all clothes
-				try {
-					// Load helper
-					InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-							.getResourceAsStream("defaultitems/clothinghelper.json");
-					JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8"))
-							.getAsJsonObject().get("Clothing").getAsJsonObject();
-					strm.close();
-
-					// Add all clothes (3 of each)
-					for (String id : helper.keySet()) {
-						if (creativeItemFilter.contains(id))
-							continue;
-						if (inv.getClothingAccessor().getClothingCount(Integer.valueOf(id)) < 3) {
-							for (int i = inv.getClothingAccessor().getClothingCount(Integer.valueOf(id)); i < 3; i++) {
-								inv.getClothingAccessor().addClothing(Integer.valueOf(id), false);
-							}
-						}
-					}
-				} catch (IOException e) {
-					throw new RuntimeException(e);
-				}
+				// Give all clothes (3 of each)
+				inv.getClothingAccessor().addMissingClothing(CreativeItemBundle.getClothingBundle());
 
 				// Save changes
 				for (String change : inv.getAccessor().getItemsToSave())
@@ -241,27 +201,8 @@ public class InventoryItemDownloadPacket implements IXtPacket<InventoryItemDownl
 
 		// Furniture
 		if (slot.equals("102") && inv.getSaveSettings().giveAllFurnitureItems) {
-			// Scan furniturehelper and give all furniture
-			try {
-				// Load helper
-				InputStream strm = InventoryItemDownloadPacket.class.getClassLoader()
-						.getResourceAsStream("defaultitems/furniturehelper.json");
-				JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject()
-						.get("Furniture").getAsJsonObject();
-				strm.close();
-
-				// Add all furniture (6 of each)
-				for (String id : helper.keySet()) {
-					if (creativeItemFilter.contains(id))
-						continue;
-					if (inv.getFurnitureAccessor().getFurnitureCount(Integer.valueOf(id)) < 6) {
-						for (int i = inv.getFurnitureAccessor().getFurnitureCount(Integer.valueOf(id)); i < 6; i++) {
-							inv.getFurnitureAccessor().addFurniture(Integer.valueOf(id), false);
-						}
-					}
-				}
-			} catch (IOException e) {
-			}
+			// Give all furniture (6 of each)
+			inv.getFurnitureAccessor().addMissingFurniture(CreativeItemBundle.getFurnitureBundle());
 
 			// Save changes
 			for (String change : inv.getAccessor().getItemsToSave())
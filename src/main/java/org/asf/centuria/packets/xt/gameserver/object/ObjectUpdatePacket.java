@@ -1,6 +1,7 @@
 package org.asf.centuria.packets.xt.gameserver.object;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.asf.centuria.Centuria;
 import org.asf.centuria.data.XtReader;
@@ -9,6 +10,7 @@ import org.asf.centuria.entities.generic.Quaternion;
 import org.asf.centuria.entities.generic.Vector3;
 import org.asf.centuria.entities.players.Player;
 import org.asf.centuria.networking.gameserver.GameServer;
+import org.asf.centuria.networking.gameserver.InterestManager;
 import org.asf.centuria.networking.smartfox.SmartfoxClient;
 import org.asf.centuria.packets.xt.IXtPacket;
 
@@ -187,17 +189,25 @@ public class ObjectUpdatePacket implements IXtPacket<ObjectUpdatePacket> {
 		plr.lastRot = rotation;
 		plr.lastAction = action;
 
-		// Broadcast sync
+		// Broadcast sync, limited to nearby players if area of interest management is
+		// enabled
 		GameServer srv = (GameServer) client.getServer();
-		for (Player player : srv.getPlayers()) {
-			if (player != plr && player.room != null && player.room.equals(plr.room)
-					&& (!plr.ghostMode || player.hasModPerms) && !player.disableSync
-					&& (!plr.syncBlockedPlayers.contains(player.account.getAccountID()) || player.hasModPerms)) {
-				player.client.sendPacket(this);
-			}
-		}
+		Iterable<Player> targets = InterestManager.updateInterest(plr, mode == 0 || mode == 4 || mode == 5,
+				player -> syncTo(plr, player));
+		if (targets == null)
+			targets = Arrays.asList(srv.getPlayers());
+		for (Player player : targets)
+			syncTo(plr, player);
 
 		return true;
 	}
 
+	private void syncTo(Player plr, Player player) {
+		if (player != plr && player.room != null && player.room.equals(plr.room)
+				&& (!plr.ghostMode || player.hasModPerms) && !player.disableSync
+				&& (!plr.syncBlockedPlayers.contains(player.account.getAccountID()) || player.hasModPerms)) {
+			player.client.sendPacket(this);
+		}
+	}
+
 }
@@ -2,6 +2,8 @@ package org.asf.centuria.packets.xt.gameserver.relationship;
 
 import java.io.IOException;
 
+import org.asf.centuria.Centuria;
+import org.asf.centuria.cluster.ClusterManager;
 import org.asf.centuria.data.XtReader;
 import org.asf.centuria.data.XtWriter;
 import org.asf.centuria.entities.players.Player;
@@ -36,7 +38,12 @@ public class RelationshipJumpToPlayerPacket implements IXtPacket<RelationshipJum
 	@Override
 	public boolean handle(SmartfoxClient client) throws IOException {
 		Player player = ((Player) client.container);
-		player.teleportToPlayer(accountID);
+		if (!player.teleportToPlayer(accountID) && ClusterManager.getInstance().findRemotePlayer(accountID) != null) {
+			// The player is connected to a different node, jumping requires a reconnect
+			Centuria.systemMessage(player,
+					"This player is on a different server, you can only jump to them once you are on the same server.",
+					true);
+		}
 		return true;
 	}
 
@@ -24,7 +24,6 @@ import org.asf.centuria.enums.sanctuaries.SanctuaryObjectType;
 import org.asf.centuria.networking.gameserver.GameServer;
 import org.asf.centuria.networking.smartfox.SmartfoxClient;
 import org.asf.centuria.packets.xt.IXtPacket;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -160,23 +159,8 @@ public class SanctuaryUpdatePacket implements IXtPacket<SanctuaryUpdatePacket> {
 		// uhh yeah ok
 		// send il and sanctuaryUpdatePacket response for the main player
 
-		if (additions.size() > 0 || removals.size() > 0) {
-			var il = plr.account.getSaveSpecificInventory().getItem("201");
-			var ilPacket = new InventoryItemPacket();
-			ilPacket.item = il;
-
-			// send IL
-			plr.client.sendPacket(ilPacket);
-		}
-
-		if (roomChanges.size() > 0) {
-			var il = plr.account.getSaveSpecificInventory().getItem("5");
-			var ilPacket = new InventoryItemPacket();
-			ilPacket.item = il;
-
-			// send IL
-			plr.client.sendPacket(ilPacket);
-		}
+		// send IL with the changed look and house objects
+		plr.account.getSaveSpecificInventory().getAccessor().syncChanges(plr, "201", "5");
 
 		// then do this packet
 
@@ -10,7 +10,6 @@ import org.asf.centuria.entities.uservars.UserVarValue;
 import org.asf.centuria.networking.gameserver.GameServer;
 import org.asf.centuria.networking.smartfox.SmartfoxClient;
 import org.asf.centuria.packets.xt.IXtPacket;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 import org.asf.centuria.packets.xt.gameserver.room.RoomJoinPacket;
 import org.asf.centuria.social.SocialManager;
 
@@ -124,36 +123,15 @@ public class SanctuaryUpgradeCompletePacket implements IXtPacket<SanctuaryUpgrad
 	public void sendIlPacket(Player player) {
 		var twiggleAccessor = player.account.getSaveSpecificInventory().getTwiggleAccesor();
 
-		var il = player.account.getSaveSpecificInventory().getItem("201");
-		var ilPacket = new InventoryItemPacket();
-		ilPacket.item = il;
-
-		// send IL
-		player.client.sendPacket(ilPacket);
-
-		il = player.account.getSaveSpecificInventory().getItem("5");
-		ilPacket = new InventoryItemPacket();
-		ilPacket.item = il;
-
-		// send IL
-		player.client.sendPacket(ilPacket);
-
-		il = player.account.getSaveSpecificInventory().getItem("10");
-		ilPacket = new InventoryItemPacket();
-		ilPacket.item = il;
-
-		// send IL
-		player.client.sendPacket(ilPacket);
+		// send IL with the changed look, house and class objects
+		player.account.getSaveSpecificInventory().getAccessor().syncChanges(player, "201", "5", "10");
 
 		if (twiggleAccessor.getTwiggle(twiggleInvId) != null) {
 			twiggleAccessor.clearTwiggleWork(twiggleInvId);
 		}
-		il = player.account.getSaveSpecificInventory().getItem("110");
-		ilPacket = new InventoryItemPacket();
-		ilPacket.item = il;
 
-		// send IL
-		player.client.sendPacket(ilPacket);
+		// send IL with the changed twiggles
+		player.account.getSaveSpecificInventory().getAccessor().syncChanges(player, "110");
 	}
 
 	public void JoinSanctuary(SmartfoxClient client, String sanctuaryOwner) {
@@ -13,7 +13,6 @@ import org.asf.centuria.entities.twiggles.TwiggleWorkParameters;
 import org.asf.centuria.enums.twiggles.TwiggleState;
 import org.asf.centuria.networking.smartfox.SmartfoxClient;
 import org.asf.centuria.packets.xt.IXtPacket;
-import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemPacket;
 import org.asf.centuria.util.SanctuaryWorkCalculator;
 
 import com.google.gson.GsonBuilder;
@@ -169,11 +168,8 @@ public class SanctuaryUpgradeStartPacket implements IXtPacket<SanctuaryUpgradeSt
 					}
 				}
 
-				InventoryItemPacket packet = new InventoryItemPacket();
-				var array = new JsonArray();
-				array.add(updatedTwiggle.toJsonObject());
-				packet.item = array;
-				client.sendPacket(packet);
+				// send IL with the changed twiggles
+				player.account.getSaveSpecificInventory().getAccessor().syncChanges(player, "110");
 
 				this.success = true;
 				client.sendPacket(this);
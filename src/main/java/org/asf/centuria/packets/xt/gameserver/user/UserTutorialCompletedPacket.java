@@ -86,6 +86,7 @@ public class UserTutorialCompletedPacket implements IXtPacket<UserTutorialComple
 			lookObj.add("components", components);
 		}
 		plr.account.getSaveSpecificInventory().setItem("avatars", items);
+		plr.invalidateAvatarDescriptor();
 
 		// Prevent double save
 		plr.pendingLookID = null;
@@ -23,6 +23,7 @@ import org.asf.centuria.modules.eventbus.EventBus;
 import org.asf.centuria.modules.events.levels.LevelJoinEvent;
 import org.asf.centuria.networking.chatserver.ChatClient;
 import org.asf.centuria.networking.gameserver.GameServer;
+import org.asf.centuria.networking.gameserver.InterestManager;
 import org.asf.centuria.networking.smartfox.SmartfoxClient;
 import org.asf.centuria.packets.xt.IXtPacket;
 import org.asf.centuria.packets.xt.gameserver.inventory.InventoryItemDownloadPacket;
@@ -78,16 +79,18 @@ public class WorldReadyPacket implements IXtPacket<WorldReadyPacket> {
 
 		// Remove players
 		GameServer srv = (GameServer) client.getServer();
-		for (Player player : srv.getPlayers()) {
-			if (player.room != null && plr.room != null && player.room.equals(plr.room) && player != plr) {
-				plr.destroyAt(player);
+		if (!InterestManager.leaveRoom(plr)) {
+			for (Player player : srv.getPlayers()) {
+				if (player.room != null && plr.room != null && player.room.equals(plr.room) && player != plr) {
+					plr.destroyAt(player);
+				}
 			}
-		}
 
-		// Remove players
-		for (Player player : srv.getPlayers()) {
-			if (player.room != null && plr.room != null && player.room.equals(plr.room) && player != plr) {
-				player.destroyAt(plr);
+			// Remove players
+			for (Player player : srv.getPlayers()) {
+				if (player.room != null && plr.room != null && player.room.equals(plr.room) && player != plr) {
+					player.destroyAt(plr);
+				}
 			}
 		}
 
@@ -98,7 +101,7 @@ public class WorldReadyPacket implements IXtPacket<WorldReadyPacket> {
 		EventBus.getInstance().dispatchEvent(new LevelJoinEvent(plr.pendingLevelID, plr.pendingRoom, plr));
 
 		// Assign info
-		plr.room = plr.pendingRoom;
+		srv.setPlayerRoom(plr, plr.pendingRoom);
 		plr.levelID = plr.pendingLevelID;
 
 		// Minigame sync
@@ -108,10 +111,13 @@ public class WorldReadyPacket implements IXtPacket<WorldReadyPacket> {
 			plr.targetRot = plr.lastRot;
 		}
 
-		// Send all other players to the current player
+		// Send all other players to the current player, with area of interest
+		// management this is done once the spawn position is known
 		GameServer server = (GameServer) client.getServer();
+		boolean interestManaged = InterestManager.isEnabled(plr.levelID);
 		for (Player player : server.getPlayers()) {
-			if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr) {
+			if (!interestManaged && plr.room != null && player.room != null && player.room.equals(plr.room)
+					&& player != plr) {
 				player.syncTo(plr, WorldObjectMoverNodeType.InitPosition);
 				Centuria.logger.debug(MarkerManager.getMarker("WorldReadyPacket"),
 						"Syncing player " + player.account.getDisplayName() + " to " + plr.account.getDisplayName());
@@ -139,11 +145,13 @@ public class WorldReadyPacket implements IXtPacket<WorldReadyPacket> {
 			InteractionManager.initInteractionsFor(plr, plr.pendingLevelID);
 
 			// Sync spawn
-			for (Player player : server.getPlayers()) {
-				if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr) {
-					plr.syncTo(player, WorldObjectMoverNodeType.InitPosition);
-					Centuria.logger.debug(MarkerManager.getMarker("WorldReadyPacket"),
-							"Syncing spawn " + player.account.getDisplayName() + " to " + plr.account.getDisplayName());
+			if (!InterestManager.enterRoom(plr)) {
+				for (Player player : server.getPlayers()) {
+					if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr) {
+						plr.syncTo(player, WorldObjectMoverNodeType.InitPosition);
+						Centuria.logger.debug(MarkerManager.getMarker("WorldReadyPacket"), "Syncing spawn "
+								+ player.account.getDisplayName() + " to " + plr.account.getDisplayName());
+					}
 				}
 			}
 
@@ -187,11 +195,13 @@ public class WorldReadyPacket implements IXtPacket<WorldReadyPacket> {
 		plr.targetRot = null;
 
 		// Sync spawn
-		for (Player player : server.getPlayers()) {
-			if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr) {
-				plr.syncTo(player, WorldObjectMoverNodeType.InitPosition);
-				Centuria.logger.debug(MarkerManager.getMarker("WorldReadyPacket"),
-						"Syncing spawn " + player.account.getDisplayName() + " to " + plr.account.getDisplayName());
+		if (!InterestManager.enterRoom(plr)) {
+			for (Player player : server.getPlayers()) {
+				if (plr.room != null && player.room != null && player.room.equals(plr.room) && player != plr) {
+					plr.syncTo(player, WorldObjectMoverNodeType.InitPosition);
+					Centuria.logger.debug(MarkerManager.getMarker("WorldReadyPacket"),
+							"Syncing spawn " + player.account.getDisplayName() + " to " + plr.account.getDisplayName());
+				}
 			}
 		}
 
@@ -3,15 +3,19 @@ package org.asf.centuria.shops;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.apache.logging.log4j.MarkerManager;
 import org.asf.centuria.Centuria;
 import org.asf.centuria.accounts.CenturiaAccount;
+import org.asf.centuria.accounts.PlayerInventory;
 import org.asf.centuria.accounts.highlevel.ItemAccessor;
+import org.asf.centuria.data.GameDataRegistry;
 import org.asf.centuria.modules.ICenturiaModule;
 import org.asf.centuria.modules.ModuleManager;
 import org.asf.centuria.shops.info.ShopInfo;
@@ -21,7 +25,6 @@ import org.asf.centuria.shops.info.UncraftingInfo;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
 public class ShopManager {
 
@@ -29,6 +32,16 @@ public class ShopManager {
 	private static HashMap<String, ArrayList<String>> itemShops = new HashMap<String, ArrayList<String>>();
 	private static HashMap<String, UncraftingInfo> uncrafting = new HashMap<String, UncraftingInfo>();
 
+	// Shop view cache
+	private static class ShopView {
+		public String[] contents;
+		public long changeCount;
+		public long validUntil;
+	}
+
+	private static Map<PlayerInventory, HashMap<String, ShopView>> shopViews = Collections
+			.synchronizedMap(new WeakHashMap<PlayerInventory, HashMap<String, ShopView>>());
+
 	private static void loadShopData(JsonObject helper) {
 		JsonObject shopsJson = helper.get("Shops").getAsJsonObject();
 		shopsJson.keySet().forEach((shopId) -> {
@@ -54,7 +67,10 @@ public class ShopManager {
 			// Load enigmas
 			if (shopObject.has("enigmas")) {
 				JsonArray enigmas = shopObject.get("enigmas").getAsJsonArray();
-				enigmas.forEach((id) -> shop.enigmas.add(id.getAsString()));
+				enigmas.forEach((id) -> {
+					if (shop.enigmaSet.add(id.getAsString()))
+						shop.enigmas.add(id.getAsString());
+				});
 			}
 
 			// Load object name if present
@@ -95,6 +111,12 @@ public class ShopManager {
 					JsonObject items = item.get("items").getAsJsonObject();
 					items.keySet().forEach((id) -> itm.items.put(id, items.get(id).getAsInt()));
 
+					// Precompute item inventories
+					itm.itemDefIds = itm.items.keySet().stream().mapToInt(t -> Integer.parseInt(t)).toArray();
+					itm.itemInventories = new String[itm.itemDefIds.length];
+					for (int i = 0; i < itm.itemDefIds.length; i++)
+						itm.itemInventories[i] = ItemAccessor.getInventoryTypeOf(itm.itemDefIds[i]);
+
 					// Add object
 					shop.contents.put(sId, itm);
 				});
@@ -138,9 +160,7 @@ public class ShopManager {
 	static {
 		try {
 			// Load the helper
-			InputStream strm = ShopManager.class.getClassLoader().getResourceAsStream("shops.json");
-			JsonObject helper = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonObject();
-			strm.close();
+			JsonObject helper = GameDataRegistry.getInstance().getResource("shops.json").getAsJsonObject();
 
 			// Load the shops into memory
 			loadShopData(helper);
@@ -177,18 +197,15 @@ public class ShopManager {
 
 		try {
 			// Find the transformer document
-			InputStream strm = new URL(baseURL + "shoptransformers/index.json").openStream();
-			JsonArray index = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8")).getAsJsonArray();
-			strm.close();
+			GameDataRegistry registry = GameDataRegistry.getInstance();
+			JsonArray index = registry.getDocument(new URL(baseURL + "shoptransformers/index.json")).getAsJsonArray();
 
 			// Load all transformers
 			for (JsonElement ele : index) {
 				try {
 					// Find the transformer document
-					strm = new URL(baseURL + "shoptransformers/" + ele.getAsString()).openStream();
-					JsonObject transformer = JsonParser.parseString(new String(strm.readAllBytes(), "UTF-8"))
-							.getAsJsonObject();
-					strm.close();
+					JsonObject transformer = registry
+							.getDocument(new URL(baseURL + "shoptransformers/" + ele.getAsString())).getAsJsonObject();
 
 					// Load transformer
 					loadShopData(transformer);
@@ -278,6 +295,61 @@ public class ShopManager {
 		if (!shops.containsKey(shopId))
 			return new String[0];
 
+		// Check cache
+		PlayerInventory inv = player.getSaveSpecificInventory();
+		HashMap<String, ShopView> views = shopViews.computeIfAbsent(inv, t -> new HashMap<String, ShopView>());
+		synchronized (views) {
+			ShopView view = views.get(shopId);
+			if (view != null && view.changeCount == inv.getChangeCount()
+					&& view.validUntil > System.currentTimeMillis())
+				return view.contents.clone();
+
+			// Build view
+			view = new ShopView();
+			view.contents = buildShopContents(player, shopId);
+			view.changeCount = inv.getChangeCount();
+			view.validUntil = getRestockDeadline(player, shopId);
+			views.put(shopId, view);
+			return view.contents.clone();
+		}
+	}
+
+	/**
+	 * Clears the cached shop views of a player
+	 * 
+	 * @param player Player to clear the shop cache of
+	 */
+	public static void invalidateShopViews(CenturiaAccount player) {
+		shopViews.remove(player.getSaveSpecificInventory());
+	}
+
+	// Finds when the purchase log of a shop resets for a player
+	private static long getRestockDeadline(CenturiaAccount player, String shopId) {
+		int restock = shops.get(shopId).restockTime;
+		if (restock == -1)
+			return Long.MAX_VALUE;
+
+		// Find activation time
+		JsonElement log = player.getSaveSpecificInventory().getItem("purchaselog");
+		if (log == null || !log.getAsJsonObject().has(shopId))
+			return Long.MAX_VALUE;
+		JsonObject shopLog = log.getAsJsonObject().get(shopId).getAsJsonObject();
+		if (!shopLog.has("activationTime"))
+			return Long.MAX_VALUE;
+		return shopLog.get("activationTime").getAsLong() + (long) (restock * 1000);
+	}
+
+	// Checks if a player has all items of a shop item
+	private static boolean hasAllItems(CenturiaAccount player, ShopItem item) {
+		for (int i = 0; i < item.itemDefIds.length; i++) {
+			if (!player.getSaveSpecificInventory().getAccessor().hasInventoryObject(item.itemInventories[i],
+					item.itemDefIds[i]))
+				return false;
+		}
+		return true;
+	}
+
+	private static String[] buildShopContents(CenturiaAccount player, String shopId) {
 		// Store in memory for easy access
 		ShopInfo shop = shops.get(shopId);
 
@@ -285,24 +357,14 @@ public class ShopManager {
 		ArrayList<String> items = new ArrayList<String>();
 		shop.contents.forEach((id, item) -> {
 			// Skip enigma IDs
-			if (shop.enigmas.contains(id))
+			if (shop.enigmaSet.contains(id))
 				return;
-			
-			if (item.stock != -1) {				
+
+			if (item.stock != -1) {
 				// Check mode
 				if (item.stock == 1 && shop.restockTime == -1) {
 					// Only add if not in the player inventory
-
-					boolean hasItems = true;
-					for (String itm : item.items.keySet()) {
-						String inv = ItemAccessor.getInventoryTypeOf(Integer.parseInt(itm));
-						if (!player.getSaveSpecificInventory().getAccessor().hasInventoryObject(inv,
-								Integer.parseInt(itm))) {
-							hasItems = false;
-						}
-					}
-
-					if (hasItems) {
+					if (hasAllItems(player, item)) {
 						// The items are already in the player inventory, so no need to add it to the
 						// shop
 						return;
@@ -330,10 +392,9 @@ public class ShopManager {
 		// Enigma items
 		for (String enigma : shop.enigmas) {
 			// Add enigma if present in the inventory
-			if (player.getSaveSpecificInventory().getAccessor().hasInventoryObject("7", Integer.parseInt(enigma))) {
-				JsonObject obj = player.getSaveSpecificInventory().getAccessor().findInventoryObject("7",
-						Integer.parseInt(enigma));
-
+			JsonObject obj = player.getSaveSpecificInventory().getAccessor().findInventoryObject("7",
+					Integer.parseInt(enigma));
+			if (obj != null) {
 				// Check if its been unraveled
 				JsonObject data = obj.get("components").getAsJsonObject().get("Enigma").getAsJsonObject();
 				if (data.get("activated").getAsBoolean())
@@ -439,16 +500,7 @@ public class ShopManager {
 			if (item.stock == 1 && shop.restockTime == -1) {
 				// Only add if not in the player inventory
 
-				boolean hasItems = true;
-				for (String itm : item.items.keySet()) {
-					String inv = ItemAccessor.getInventoryTypeOf(Integer.parseInt(itm));
-					if (!player.getSaveSpecificInventory().getAccessor().hasInventoryObject(inv,
-							Integer.parseInt(itm))) {
-						hasItems = false;
-					}
-				}
-
-				if (hasItems) {
+				if (hasAllItems(player, item)) {
 					// Out of stock
 					return null;
 				}
@@ -514,6 +566,7 @@ public class ShopManager {
 
 		// Save log
 		player.getSaveSpecificInventory().setItem("purchaselog", log);
+		invalidateShopViews(player);
 	}
 
 	/**
@@ -2,6 +2,7 @@ package org.asf.centuria.shops.info;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 
 public class ShopInfo {
 
@@ -9,5 +10,6 @@ public class ShopInfo {
 	public int restockTime;
 	public HashMap<String, ShopItem> contents = new HashMap<String, ShopItem>();
 	public ArrayList<String> enigmas = new ArrayList<String>();
+	public HashSet<String> enigmaSet = new HashSet<String>();
 
 }
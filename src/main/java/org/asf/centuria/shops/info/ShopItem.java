@@ -11,4 +11,8 @@ public class ShopItem {
 	public HashMap<String, Integer> cost = new HashMap<String, Integer>();
 	public HashMap<String, Integer> eurekaItems = new HashMap<String, Integer>();
 
+	// Precomputed item defIDs and inventory types
+	public int[] itemDefIds = new int[0];
+	public String[] itemInventories = new String[0];
+
 }
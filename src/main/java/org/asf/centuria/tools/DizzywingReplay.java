@@ -0,0 +1,142 @@
+package org.asf.centuria.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.asf.centuria.Centuria;
+import org.asf.centuria.minigames.games.GameDizzywingDispatch;
+import org.joml.Vector2i;
+
+public class DizzywingReplay {
+
+	/**
+	 * Trace recorded with the engine before the board was packed into bytes, used
+	 * by verify if no trace file is given
+	 */
+	public static final String GOLDEN_TRACE = "src/test/resources/dizzywing/replay-trace.txt";
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: record <trace file> [games] [moves]");
+			System.err.println("       verify [trace file]");
+			System.exit(1);
+			return;
+		}
+
+		// The engine logs level-ups
+		if (Centuria.logger == null)
+			Centuria.logger = LogManager.getLogger("CENTURIA");
+
+		switch (args[0]) {
+		case "record": {
+			int games = args.length >= 3 ? Integer.parseInt(args[2]) : 50;
+			int moves = args.length >= 4 ? Integer.parseInt(args[3]) : 500;
+			try (PrintStream out = new PrintStream(new File(args[1]), "UTF-8")) {
+				out.println(games + " " + moves);
+				for (int i = 0; i < games; i++)
+					replay(i, moves, out);
+			}
+			System.out.println("Recorded " + games + " games of " + moves + " moves to " + args[1]);
+			break;
+		}
+		case "verify": {
+			List<String> trace = Files.readAllLines(new File(args.length >= 2 ? args[1] : GOLDEN_TRACE).toPath());
+			String[] header = trace.get(0).split(" ");
+			int games = Integer.parseInt(header[0]);
+			int moves = Integer.parseInt(header[1]);
+
+			// Replay into memory and compare line by line
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			PrintStream out = new PrintStream(buffer, true, "UTF-8");
+			out.println(games + " " + moves);
+			for (int i = 0; i < games; i++)
+				replay(i, moves, out);
+			String[] lines = buffer.toString("UTF-8").split("\r?\n");
+			for (int i = 0; i < Math.max(lines.length, trace.size()); i++) {
+				String expected = i < trace.size() ? trace.get(i) : "<end of trace>";
+				String actual = i < lines.length ? lines[i] : "<end of replay>";
+				if (!expected.equals(actual)) {
+					System.err.println("Mismatch at line " + (i + 1) + ":");
+					System.err.println("  expected: " + expected);
+					System.err.println("  actual:   " + actual);
+					System.exit(1);
+					return;
+				}
+			}
+			System.out.println("Verified " + games + " games of " + moves + " moves, all checksums identical");
+			break;
+		}
+		default:
+			System.err.println("Unknown mode: " + args[0]);
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Plays a seeded game
+	 * 
+	 * @param seed  Game seed, selects the game UUID and the moves
+	 * @param moves Amount of moves to play
+	 * @param out   Output to write one trace line per move to (may be null)
+	 * @return Sum of the board checksums after each move
+	 */
+	public static long replay(int seed, int moves, PrintStream out) {
+		GameDizzywingDispatch game = new GameDizzywingDispatch();
+		game.puzzleObjectives = game.new PuzzleObjectives();
+		String uuid = new UUID(0x44697a7a7957696eL, seed).toString();
+		game.newGameState(uuid, null);
+		if (out != null)
+			out.println("game " + uuid + " " + game.gameState.calculateBoardChecksum() + " "
+					+ game.gameState.toBase64String());
+
+		// Moves come from their own randomizer so the game randomizer stays untouched
+		Random rnd = new Random(seed);
+		long checksum = 0;
+		Vector2i pos1 = new Vector2i();
+		Vector2i pos2 = new Vector2i();
+		for (int i = 0; i < moves; i++) {
+			int action = rnd.nextInt(100);
+			if (action < 2) {
+				// Dizzy bird
+				game.gameState.scrambleTiles();
+			} else {
+				pos1.set(rnd.nextInt(9), rnd.nextInt(9));
+				if (action < 10) {
+					// Single tile
+					pos2.set(-1, -1);
+				} else {
+					// Swap with a neighbour
+					boolean horizontal = rnd.nextBoolean();
+					if (horizontal)
+						pos2.set(pos1.x == 8 ? 7 : pos1.x + 1, pos1.y);
+					else
+						pos2.set(pos1.x, pos1.y == 8 ? 7 : pos1.y + 1);
+				}
+				game.gameState.calculateMove(new Vector2i(pos1), new Vector2i(pos2));
+			}
+
+			int sum = game.gameState.calculateBoardChecksum();
+			boolean nextLevel = game.gameState.isNextLevel();
+			checksum += sum;
+			if (out != null) {
+				StringBuilder line = new StringBuilder();
+				line.append(sum).append(' ').append(game.level).append(' ').append(game.getScore()).append(' ')
+						.append(nextLevel);
+				for (int[] objective : game.gameState.getObjectiveProgress())
+					line.append(' ').append(objective[2]).append(':').append(objective[0]).append('/')
+							.append(objective[1]);
+				line.append(' ').append(game.gameState.toBase64String());
+				out.println(line);
+			}
+		}
+		return checksum;
+	}
+
+}
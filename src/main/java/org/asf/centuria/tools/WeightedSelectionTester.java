@@ -0,0 +1,118 @@
+package org.asf.centuria.tools;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.asf.centuria.data.GameDataRegistry;
+import org.asf.centuria.util.WeightedSelector;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class WeightedSelectionTester {
+
+	public static void main(String[] args) throws IOException {
+		int samples = 200000;
+		if (args.length >= 1)
+			samples = Integer.parseInt(args[0]);
+
+		// Load the weights of all loot and harvest tables
+		JsonObject helper = GameDataRegistry.getInstance().getResource("resourcecollection.json").getAsJsonObject();
+		ArrayList<String> names = new ArrayList<String>();
+		ArrayList<int[]> tables = new ArrayList<int[]>();
+		for (String type : new String[] { "LootTables", "HarvestTables" }) {
+			JsonObject t = helper.get(type).getAsJsonObject();
+			for (String id : t.keySet()) {
+				ArrayList<Integer> weights = new ArrayList<Integer>();
+				for (JsonElement ele : t.get(id).getAsJsonObject().get("rewards").getAsJsonArray())
+					weights.add(ele.getAsJsonObject().get("weight").getAsInt());
+				if (weights.stream().noneMatch(w -> w > 0))
+					continue;
+				names.add(type + "/" + id);
+				tables.add(weights.stream().mapToInt(w -> w).toArray());
+			}
+		}
+		System.out.println("Loaded " + tables.size() + " tables");
+
+		// Compare distributions, using a chi-squared test against the table weights
+		Random rnd = new Random(1234);
+		int failedLegacy = 0;
+		int failedCompiled = 0;
+		for (int i = 0; i < tables.size(); i++) {
+			int[] weights = tables.get(i);
+			List<Integer> indexes = indexes(weights);
+			WeightedSelector<Integer> selector = new WeightedSelector<Integer>(indexes, t -> weights[t]);
+
+			long[] legacyCounts = new long[weights.length];
+			long[] compiledCounts = new long[weights.length];
+			for (int j = 0; j < samples; j++) {
+				legacyCounts[selectLegacy(weights, rnd)]++;
+				compiledCounts[selector.select(rnd)]++;
+			}
+
+			double legacy = chiSquared(weights, legacyCounts, samples);
+			double compiled = chiSquared(weights, compiledCounts, samples);
+			double critical = criticalValue(selector.size() - 1);
+			if (legacy > critical)
+				failedLegacy++;
+			if (compiled > critical) {
+				failedCompiled++;
+				System.out.println("  " + names.get(i) + ": chi-squared " + String.format("%.2f", compiled)
+						+ " exceeds " + String.format("%.2f", critical));
+			}
+		}
+		System.out.println("Distribution test (p=0.001, " + samples + " samples per table): legacy " + failedLegacy
+				+ "/" + tables.size() + " rejected, compiled " + failedCompiled + "/" + tables.size() + " rejected");
+	}
+
+	private static List<Integer> indexes(int[] weights) {
+		ArrayList<Integer> indexes = new ArrayList<Integer>();
+		for (int i = 0; i < weights.length; i++)
+			indexes.add(i);
+		return indexes;
+	}
+
+	// Selection the way RandomSelectorUtil did before, expanding the weights into
+	// a list
+	private static int selectLegacy(int[] weights, Random rnd) {
+		ArrayList<Integer> items = new ArrayList<Integer>();
+		for (int i = 0; i < weights.length; i++) {
+			for (int j = 0; j < weights[i]; j++)
+				items.add(i);
+		}
+		while (true) {
+			int s = rnd.nextInt(items.size() + 1);
+			if (s < items.size())
+				return items.get(s);
+		}
+	}
+
+	private static double chiSquared(int[] weights, long[] counts, int samples) {
+		long total = 0;
+		for (int w : weights)
+			total += Math.max(w, 0);
+		double chi = 0;
+		for (int i = 0; i < weights.length; i++) {
+			if (weights[i] <= 0) {
+				if (counts[i] != 0)
+					return Double.POSITIVE_INFINITY; // Selected a item that should never be selected
+				continue;
+			}
+			double expected = (double) samples * weights[i] / total;
+			chi += (counts[i] - expected) * (counts[i] - expected) / expected;
+		}
+		return chi;
+	}
+
+	// Critical chi-squared value at p=0.001 (Wilson-Hilferty approximation)
+	private static double criticalValue(int degrees) {
+		if (degrees <= 0)
+			return 0;
+		double z = 3.090232;
+		double h = 2d / (9d * degrees);
+		return degrees * Math.pow(1 - h + z * Math.sqrt(h), 3);
+	}
+
+}
@@ -1,16 +1,14 @@
 package org.asf.centuria.util;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class RandomSelectorUtil {
 
-	private static Random rnd = new Random();
-
 	/**
-	 * Selects a item from weight
+	 * Selects a item from weight, use a precompiled WeightedSelector for tables
+	 * that are selected from repeatedly
 	 * 
 	 * @param <T>       Item type
 	 * @param selection Item weight map
@@ -20,23 +18,8 @@ public class RandomSelectorUtil {
 		if (selection.isEmpty())
 			return null; // Invalid
 
-		// Build list
-		ArrayList<T> items = new ArrayList<T>();
-		selection.forEach((itm, weight) -> {
-			for (int i = 0; i < weight; i++)
-				items.add(itm);
-		});
-		if (items.isEmpty())
-			return null; // Invalid
-
-		// Select item
-		while (true) {
-			int s = rnd.nextInt(items.size() + 1);
-			while (s < 0)
-				s = rnd.nextInt(items.size() + 1);
-			if (s < items.size())
-				return items.get(s);
-		}
+		// Compile and select
+		return new WeightedSelector<T>(selection).select();
 	}
 
 	/**
@@ -51,13 +34,7 @@ public class RandomSelectorUtil {
 			return null; // Invalid
 
 		// Select item
-		while (true) {
-			int s = rnd.nextInt(selection.size() + 1);
-			while (s < 0)
-				s = rnd.nextInt(selection.size() + 1);
-			if (s < selection.size())
-				return selection.get(s);
-		}
+		return selection.get(ThreadLocalRandom.current().nextInt(selection.size()));
 	}
 
 }
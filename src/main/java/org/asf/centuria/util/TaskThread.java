@@ -66,6 +66,15 @@ public class TaskThread extends Thread {
 			tasks.add(task);
 	}
 
+	/**
+	 * Retrieves the amount of tasks waiting to run
+	 * 
+	 * @return Task count
+	 */
+	public int getQueueSize() {
+		return tasks.size();
+	}
+
 	/**
 	 * Stops the thread, waits for the current task to finish before exiting
 	 */
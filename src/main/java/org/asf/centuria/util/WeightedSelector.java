@@ -0,0 +1,133 @@
+package org.asf.centuria.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
+
+/**
+ * 
+ * Precompiled weighted random selector (Walker alias table), selects items in
+ * constant time with exactly the same odds as their weights
+ * 
+ * @param <T> Item type
+ * 
+ */
+public class WeightedSelector<T> {
+
+	private final ArrayList<T> items = new ArrayList<T>();
+	private final long[] thresholds;
+	private final int[] aliases;
+	private final long totalWeight;
+
+	/**
+	 * Compiles a selector from a weight map
+	 * 
+	 * @param selection Item weight map, items with a weight of zero or less are
+	 *                  never selected
+	 */
+	public WeightedSelector(Map<T, Integer> selection) {
+		this(new ArrayList<T>(selection.keySet()), t -> selection.get(t));
+	}
+
+	/**
+	 * Compiles a selector from a item list
+	 * 
+	 * @param selection Item list
+	 * @param weight    Function retrieving the weight of a item, items with a
+	 *                  weight of zero or less are never selected
+	 */
+	public WeightedSelector(List<T> selection, ToIntFunction<? super T> weight) {
+		// Find items
+		ArrayList<Long> weights = new ArrayList<Long>();
+		long total = 0;
+		for (T item : selection) {
+			int w = weight.applyAsInt(item);
+			if (w <= 0)
+				continue;
+			items.add(item);
+			weights.add((long) w);
+			total += w;
+		}
+		totalWeight = total;
+
+		// Build the table, each column holds the total weight split between its own
+		// item and one alias
+		int count = items.size();
+		thresholds = new long[count];
+		aliases = new int[count];
+		long[] scaled = new long[count];
+		int[] small = new int[count];
+		int[] large = new int[count];
+		int smallCount = 0;
+		int largeCount = 0;
+		for (int i = 0; i < count; i++) {
+			scaled[i] = weights.get(i) * count;
+			aliases[i] = i;
+			if (scaled[i] < total)
+				small[smallCount++] = i;
+			else
+				large[largeCount++] = i;
+		}
+		while (smallCount > 0 && largeCount > 0) {
+			int s = small[--smallCount];
+			int l = large[--largeCount];
+			thresholds[s] = scaled[s];
+			aliases[s] = l;
+			scaled[l] -= total - scaled[s];
+			if (scaled[l] < total)
+				small[smallCount++] = l;
+			else
+				large[largeCount++] = l;
+		}
+		while (largeCount > 0)
+			thresholds[large[--largeCount]] = total;
+		while (smallCount > 0)
+			thresholds[small[--smallCount]] = total;
+	}
+
+	/**
+	 * Selects a item using the thread-local randomizer
+	 * 
+	 * @return Selected item or null if there are no items to select
+	 */
+	public T select() {
+		return select(ThreadLocalRandom.current());
+	}
+
+	/**
+	 * Selects a item
+	 * 
+	 * @param rnd Randomizer to use
+	 * @return Selected item or null if there are no items to select
+	 */
+	public T select(Random rnd) {
+		if (items.isEmpty())
+			return null;
+		int column = rnd.nextInt(items.size());
+		if (rnd.nextLong(totalWeight) < thresholds[column])
+			return items.get(column);
+		return items.get(aliases[column]);
+	}
+
+	/**
+	 * Retrieves the amount of selectable items
+	 * 
+	 * @return Item count
+	 */
+	public int size() {
+		return items.size();
+	}
+
+	/**
+	 * Retrieves the sum of all item weights
+	 * 
+	 * @return Total weight
+	 */
+	public long getTotalWeight() {
+		return totalWeight;
+	}
+
+}
@@ -0,0 +1,331 @@
+package org.asf.centuria;
+
+import java.io.File;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.asf.centuria.accounts.CenturiaAccount;
+import org.asf.centuria.accounts.LevelInfo;
+import org.asf.centuria.accounts.PlayerInventory;
+import org.asf.centuria.accounts.SaveManager;
+import org.asf.centuria.accounts.SaveMode;
+import org.asf.centuria.accounts.SaveSettings;
+import org.asf.centuria.cluster.ClusterManager;
+import org.asf.centuria.cluster.ClusterNode;
+import org.asf.centuria.cluster.impl.LoopbackPlayerDirectory;
+import org.asf.centuria.entities.players.Player;
+import org.asf.centuria.networking.chatserver.ChatClient;
+import org.asf.centuria.networking.chatserver.ChatServer;
+import org.asf.centuria.networking.chatserver.networking.SendMessage;
+import org.asf.centuria.social.SocialManager;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * 
+ * Cluster harness, runs three nodes on one loopback player directory and checks
+ * node selection, node expiry and DM forwarding between nodes
+ * 
+ * Usage: ClusterHarness, exits with status 1 if a check fails. Creates social
+ * lists for its test players in the working directory and removes them again.
+ * 
+ */
+public class ClusterHarness {
+
+	private static final long NODE_TIMEOUT = 500;
+
+	private static int failures;
+
+	public static void main(String[] args) throws Exception {
+		if (Centuria.logger == null)
+			Centuria.logger = LogManager.getLogger("CENTURIA");
+
+		LoopbackPlayerDirectory directory = new LoopbackPlayerDirectory();
+		ClusterManager nodeA = new ClusterManager(directory, "node-a", "node-a.test", true, NODE_TIMEOUT, 0);
+		ClusterManager nodeB = new ClusterManager(directory, "node-b", "node-b.test", true, NODE_TIMEOUT, 0);
+		ClusterManager nodeC = new ClusterManager(directory, "node-c", "node-c.test", true, NODE_TIMEOUT, 0);
+		nodeA.register(5);
+		nodeB.register(2);
+		nodeC.register(0);
+
+		// Least loaded node
+		check("least loaded node is selected", nodeA.selectServerAddress(), "node-c.test");
+
+		// Let node C expire
+		Thread.sleep(NODE_TIMEOUT + 200);
+		nodeA.updateNode(5);
+		nodeB.updateNode(2);
+		ArrayList<String> live = new ArrayList<String>();
+		for (ClusterNode node : nodeA.getNodes())
+			live.add(node.nodeID);
+		check("expired node is not listed", live.contains("node-c"), false);
+		check("live nodes are listed", live.size(), 2);
+
+		// Selection reserves a slot until the next update, so bursts spread out
+		String[] burst = new String[4];
+		for (int i = 0; i < burst.length; i++)
+			burst[i] = nodeB.selectServerAddress();
+		check("burst skips the expired node and fills node B first", String.join(",", burst),
+				"node-b.test,node-b.test,node-b.test,node-a.test");
+
+		// DM forwarding
+		String sender = UUID.randomUUID().toString();
+		String receiver = UUID.randomUUID().toString();
+		String offline = UUID.randomUUID().toString();
+		String dm = UUID.randomUUID().toString();
+		SocialManager.getInstance().openSocialList(sender);
+		SocialManager.getInstance().openSocialList(receiver);
+		try {
+			nodeA.playerJoined(sender);
+			nodeB.playerJoined(receiver);
+			nodeC.playerJoined(offline);
+
+			// Node B has the receiver in the DM
+			ChatServer chatA = new ChatServer(null, 1);
+			ChatServer chatB = new ChatServer(null, 1);
+			RecordingClient client = new RecordingClient(chatB, receiver);
+			client.joinRoom(dm, true);
+			nodeB.registerMessageHandler("chat.dm", t -> SendMessage.deliverForwardedMessage(chatB, t));
+
+			// Node C must not be reached, it expired
+			int[] expiredDeliveries = new int[1];
+			nodeC.registerMessageHandler("chat.dm", t -> expiredDeliveries[0]++);
+
+			SendMessage.forwardMessage(nodeA, chatA, dm, new String[] { sender, receiver, offline }, sender,
+					"hello from node a", "2026-01-01T00:00:00");
+			check("remote participant node is found", nodeA.findRemotePlayer(receiver), "node-b");
+			check("local participant is not forwarded", nodeA.findRemotePlayer(sender), null);
+			check("DM reaches the participant on node B", client.received.size(), 1);
+			if (client.received.size() == 1) {
+				JsonObject msg = client.received.get(0);
+				check("DM conversation", msg.get("conversationId").getAsString(), dm);
+				check("DM source", msg.get("source").getAsString(), sender);
+				check("DM message", msg.get("message").getAsString(), "hello from node a");
+			}
+			check("expired node receives nothing", expiredDeliveries[0], 0);
+
+			// A player that left is not forwarded to
+			nodeB.playerLeft(receiver);
+			check("player that left is not found", nodeA.findRemotePlayer(receiver), null);
+		} finally {
+			new File("sociallist/" + sender + ".json").delete();
+			new File("sociallist/" + receiver + ".json").delete();
+		}
+
+		if (failures != 0) {
+			System.err.println(failures + " cluster check(s) failed");
+			System.exit(1);
+		}
+		System.out.println("All cluster checks passed");
+		System.exit(0);
+	}
+
+	private static void check(String name, Object actual, Object expected) {
+		boolean pass = expected == null ? actual == null : expected.equals(actual);
+		if (!pass)
+			failures++;
+		System.out.println(
+				(pass ? "PASS " : "FAIL ") + name + (pass ? "" : ": expected " + expected + ", got " + actual));
+	}
+
+	// Chat client without a connection, records the packets sent to it
+	private static class RecordingClient extends ChatClient {
+
+		private CenturiaAccount account;
+		private ArrayList<JsonObject> received = new ArrayList<JsonObject>();
+
+		public RecordingClient(ChatServer server, String accountID) {
+			super(new Socket(), server);
+			account = new TestAccount(accountID);
+		}
+
+		@Override
+		public CenturiaAccount getPlayer() {
+			return account;
+		}
+
+		@Override
+		public void sendPacket(JsonObject packet) {
+			received.add(packet);
+		}
+
+	}
+
+	// In-memory inventory
+	private static class MemoryInventory extends PlayerInventory {
+		private HashMap<String, JsonElement> items = new HashMap<String, JsonElement>();
+		private SaveSettings settings = new SaveSettings();
+
+		@Override
+		public JsonElement getItem(String itemID) {
+			return items.get(itemID);
+		}
+
+		@Override
+		public void setItem(String itemID, JsonElement itemData) {
+			items.put(itemID, itemData);
+		}
+
+		@Override
+		public void deleteItem(String itemID) {
+			items.remove(itemID);
+		}
+
+		@Override
+		public boolean containsItem(String itemID) {
+			return items.containsKey(itemID);
+		}
+
+		@Override
+		public SaveSettings getSaveSettings() {
+			return settings;
+		}
+
+		@Override
+		public void writeSaveSettings() {
+		}
+	}
+
+	// Account of a player that is in a room on the receiving node
+	private static class TestAccount extends CenturiaAccount {
+
+		private String accountID;
+		private MemoryInventory inventory = new MemoryInventory();
+		private Player player = new Player();
+
+		public TestAccount(String accountID) {
+			this.accountID = accountID;
+			player.account = this;
+			player.roomReady = true;
+			player.room = "room_test";
+		}
+
+		@Override
+		public String getLoginName() {
+			return accountID;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return accountID;
+		}
+
+		@Override
+		public String getAccountID() {
+			return accountID;
+		}
+
+		@Override
+		public int getAccountNumericID() {
+			return 0;
+		}
+
+		@Override
+		public boolean isPlayerNew() {
+			return false;
+		}
+
+		@Override
+		public void finishedTutorial() {
+		}
+
+		@Override
+		public boolean updateDisplayName(String name) {
+			return false;
+		}
+
+		@Override
+		public boolean updateLoginName(String name) {
+			return false;
+		}
+
+		@Override
+		public PlayerInventory getSaveSharedInventory() {
+			return inventory;
+		}
+
+		@Override
+		public PlayerInventory getSaveSpecificInventory() {
+			return inventory;
+		}
+
+		@Override
+		public SaveManager getSaveManager() throws IllegalArgumentException {
+			throw new IllegalArgumentException("Not in managed mode");
+		}
+
+		@Override
+		public SaveMode getSaveMode() {
+			return SaveMode.SINGLE;
+		}
+
+		@Override
+		public void migrateSaveDataToManagedMode() throws IllegalArgumentException {
+		}
+
+		@Override
+		public JsonObject getPrivacySettings() {
+			return new JsonObject();
+		}
+
+		@Override
+		public void savePrivacySettings(JsonObject settings) {
+		}
+
+		@Override
+		public String getActiveLook() {
+			return null;
+		}
+
+		@Override
+		public String getActiveSanctuaryLook() {
+			return null;
+		}
+
+		@Override
+		public void setActiveLook(String lookID) {
+		}
+
+		@Override
+		public void setActiveSanctuaryLook(String lookID) {
+		}
+
+		@Override
+		public boolean isRenameRequired() {
+			return false;
+		}
+
+		@Override
+		public void forceNameChange() {
+		}
+
+		@Override
+		public long getLastLoginTime() {
+			return 0;
+		}
+
+		@Override
+		public void login() {
+		}
+
+		@Override
+		public LevelInfo getLevel() {
+			return null;
+		}
+
+		@Override
+		public Player getOnlinePlayerInstance() {
+			return player;
+		}
+
+		@Override
+		public void deleteAccount() {
+		}
+
+	}
+
+}
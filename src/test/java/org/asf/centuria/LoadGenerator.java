@@ -0,0 +1,635 @@
+package org.asf.centuria;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPInputStream;
+
+import javax.net.ssl.SSLSocketFactory;
+
+import org.asf.centuria.data.XtReader;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * 
+ * Headless load generator, connects simulated players to a game and chat
+ * server and reports latency percentiles and throughput of their actions
+ * 
+ * Usage: LoadGenerator [key=value...], run without arguments against a local
+ * test server with the default settings, see {@link #DEFAULTS} for all keys.
+ * Accounts are created on first login, this requires allow-registration=true
+ * on the test server.
+ * 
+ */
+public class LoadGenerator {
+
+	// Default settings, rates are actions per player per minute
+	private static final String[][] DEFAULTS = new String[][] {
+			// Servers
+			{ "api", "http://localhost:6" }, { "director", "" }, { "game-host", "localhost" },
+			{ "game-port", "6968" }, { "chat-port", "6972" }, { "chat-ssl", "true" },
+
+			// Players
+			{ "players", "100" }, { "ramp-up", "30" }, { "duration", "120" }, { "user-prefix", "loadtest" },
+			{ "password", "loadtest" }, { "level", "820" },
+
+			// Action rates
+			{ "move-rate", "300" }, { "inventory-rate", "2" }, { "harvest-rate", "6" }, { "trade-rate", "1" },
+			{ "chat-rate", "4" }, { "inventory-slots", "100,104,111,200,300,302" },
+
+			// Reporting
+			{ "report-interval", "10" } };
+
+	// Latency histogram with 0.1ms buckets up to 10 seconds
+	private static class Recorder {
+		private static final int BUCKETS = 100000;
+
+		public final String name;
+		private AtomicLongArray buckets = new AtomicLongArray(BUCKETS + 1);
+		private AtomicLong count = new AtomicLong();
+		private AtomicLong sent = new AtomicLong();
+		private AtomicLong max = new AtomicLong();
+
+		public Recorder(String name) {
+			this.name = name;
+		}
+
+		public void sent() {
+			sent.incrementAndGet();
+		}
+
+		public void record(long nanos) {
+			long micros = nanos / 1000;
+			buckets.incrementAndGet((int) Math.min(BUCKETS, micros / 100));
+			count.incrementAndGet();
+			max.accumulateAndGet(micros, Math::max);
+		}
+
+		// Percentile in milliseconds
+		public double percentile(double pct) {
+			long total = count.get();
+			if (total == 0)
+				return 0;
+			long target = (long) Math.ceil(total * pct / 100d);
+			long seen = 0;
+			for (int i = 0; i <= BUCKETS; i++) {
+				seen += buckets.get(i);
+				if (seen >= target)
+					return (i + 1) / 10d;
+			}
+			return BUCKETS / 10d;
+		}
+	}
+
+	// Simulated player
+	private class SimulatedPlayer {
+		public int index;
+		public String uuid;
+		public String token;
+		public String room;
+		public String chatRoom;
+		public volatile boolean connected;
+
+		private Socket game;
+		private Socket chat;
+		private OutputStream gameOut;
+		private OutputStream chatOut;
+
+		// Pending requests, answered in order
+		private ConcurrentLinkedQueue<Long> pendingHarvest = new ConcurrentLinkedQueue<Long>();
+		private ConcurrentLinkedQueue<Long> pendingTrade = new ConcurrentLinkedQueue<Long>();
+		private ConcurrentLinkedQueue<Long> pendingChat = new ConcurrentLinkedQueue<Long>();
+
+		// Pending inventory request, the server also sends inventory packets on its
+		// own so only one request is sent at a time and matched by the item types
+		// in the response
+		private Object inventoryLock = new Object();
+		private String pendingInventorySlot;
+		private long pendingInventorySent;
+
+		// World state
+		private CopyOnWriteArrayList<String> objects = new CopyOnWriteArrayList<String>();
+		private double x, y, z;
+		private volatile boolean joined;
+		private volatile boolean entered;
+
+		public SimulatedPlayer(int index) {
+			this.index = index;
+		}
+
+		// Logs in and enters the world
+		public void connect() throws IOException, InterruptedException {
+			// Authenticate
+			JsonObject credentials = new JsonObject();
+			credentials.addProperty("username", setting("user-prefix") + index);
+			credentials.addProperty("password", setting("password"));
+			long start = System.nanoTime();
+			JsonObject res = JsonParser.parseString(request(setting("api") + "/a/authenticate", credentials.toString(), null))
+					.getAsJsonObject();
+			uuid = res.get("uuid").getAsString();
+			token = res.get("auth_token").getAsString();
+
+			// Find server
+			String host = setting("game-host");
+			if (!setting("director").isEmpty())
+				host = JsonParser.parseString(request(setting("director"), null, null)).getAsJsonObject()
+						.get("smartfoxServer").getAsString();
+
+			// Smartfox handshake
+			game = new Socket(host, Integer.parseInt(setting("game-port")));
+			game.setTcpNoDelay(true);
+			gameOut = game.getOutputStream();
+			InputStream gameIn = new BufferedInputStream(game.getInputStream());
+			sendGame("<msg t='sys'><body action='verChk' r='0'><ver v='165' /></body></msg>");
+			readPacket(gameIn);
+			sendGame("<msg t='sys'><body action='rndK' r='-1'></body></msg>");
+			readPacket(gameIn);
+			sendGame("<msg t='sys'><body action='login' r='0'><login z='sbiLogin'><nick><![CDATA[" + uuid
+					+ "%0%0.19.1%9%0%LoadGenerator%0]]></nick><pword><![CDATA[" + token
+					+ "]]></pword></login></body></msg>");
+			JsonObject loginData = JsonParser.parseString(readPacket(gameIn)).getAsJsonObject();
+			int status = loginData.get("b").getAsJsonObject().get("o").getAsJsonObject().get("status").getAsInt();
+			if (status != 1)
+				throw new IOException("Login failed with status " + status);
+			login.record(System.nanoTime() - start);
+
+			// Start game packet handler
+			connected = true;
+			startThread(() -> {
+				try {
+					while (connected)
+						handleGamePacket(readPacket(gameIn));
+				} catch (IOException e) {
+					disconnect();
+				}
+			}, "Game Reader " + index);
+
+			// Join the world
+			start = System.nanoTime();
+			sendGame("%xt%o%rj%-1%" + setting("level") + "%0%");
+			waitFor(() -> joined, 30000);
+			sendGame("%xt%o%wr%-1%" + UUID.randomUUID() + "%");
+			waitFor(() -> entered, 30000);
+			worldJoin.record(System.nanoTime() - start);
+
+			// Connect to chat
+			if (Integer.parseInt(setting("chat-port")) > 0) {
+				chat = setting("chat-ssl").equals("true")
+						? SSLSocketFactory.getDefault().createSocket(host, Integer.parseInt(setting("chat-port")))
+						: new Socket(host, Integer.parseInt(setting("chat-port")));
+				chat.setTcpNoDelay(true);
+				chatOut = chat.getOutputStream();
+				InputStream chatIn = new BufferedInputStream(chat.getInputStream());
+				JsonObject pk = new JsonObject();
+				pk.addProperty("cmd", "sessions.start");
+				pk.addProperty("uuid", uuid);
+				pk.addProperty("auth_token", token);
+				sendChat(pk);
+				JsonObject chatRes = JsonParser.parseString(readPacket(chatIn)).getAsJsonObject();
+				if (!chatRes.has("success") || !chatRes.get("success").getAsBoolean())
+					throw new IOException("Chat login failed");
+				startThread(() -> {
+					try {
+						while (connected)
+							handleChatPacket(JsonParser.parseString(readPacket(chatIn)).getAsJsonObject());
+					} catch (Exception e) {
+						disconnect();
+					}
+				}, "Chat Reader " + index);
+
+				// Join chat room
+				if (chatRoom != null) {
+					pk = new JsonObject();
+					pk.addProperty("cmd", "conversations.addParticipant");
+					pk.addProperty("conversationId", chatRoom);
+					pk.addProperty("participant", uuid);
+					sendChat(pk);
+				}
+			}
+		}
+
+		private void handleGamePacket(String packet) {
+			if (!packet.startsWith("%xt%"))
+				return;
+			XtReader rd = new XtReader(packet);
+			String id = rd.read();
+			rd.read();
+			switch (id) {
+			case "rj": {
+				rd.readBoolean();
+				room = rd.read();
+				rd.read();
+				rd.read();
+				rd.read();
+				chatRoom = rd.read();
+				joined = true;
+				break;
+			}
+			case "oial":
+				entered = true;
+				break;
+			case "oi": {
+				String obj = rd.read();
+				if (objects.size() < 500)
+					objects.add(obj);
+				break;
+			}
+			case "il":
+				completeInventory(rd.read());
+				break;
+			case "oas":
+				complete(pendingHarvest, harvest);
+				break;
+			case "ti": {
+				// Response to our own trade request, requests from others carry the
+				// source player ID and are not marked as successful
+				rd.read();
+				rd.read();
+				if (rd.readBoolean())
+					complete(pendingTrade, trade);
+				break;
+			}
+			case "tif":
+				complete(pendingTrade, trade);
+				break;
+			}
+		}
+
+		private void handleChatPacket(JsonObject packet) {
+			if (packet.has("eventId") && packet.get("eventId").getAsString().equals("chat.postMessage")
+					&& packet.has("source") && packet.get("source").getAsString().equals(uuid))
+				complete(pendingChat, chatMessage);
+		}
+
+		private void completeInventory(String payload) {
+			synchronized (inventoryLock) {
+				if (pendingInventorySlot == null)
+					return;
+
+				// Check if all items are in the requested slot
+				JsonElement item;
+				try {
+					GZIPInputStream dc = new GZIPInputStream(
+							new ByteArrayInputStream(Base64.getDecoder().decode(payload)));
+					item = JsonParser.parseString(new String(dc.readAllBytes(), "UTF-8"));
+					dc.close();
+				} catch (Exception e) {
+					return;
+				}
+				if (!item.isJsonArray())
+					return;
+				for (JsonElement itm : item.getAsJsonArray()) {
+					if (!itm.isJsonObject() || !itm.getAsJsonObject().has("type")
+							|| !itm.getAsJsonObject().get("type").getAsString().equals(pendingInventorySlot))
+						return;
+				}
+
+				// Record
+				inventory.record(System.nanoTime() - pendingInventorySent);
+				pendingInventorySlot = null;
+			}
+		}
+
+		private void complete(ConcurrentLinkedQueue<Long> pending, Recorder recorder) {
+			Long sent = pending.poll();
+			if (sent != null)
+				recorder.record(System.nanoTime() - sent);
+		}
+
+		// Actions
+
+		public void move() throws IOException {
+			ThreadLocalRandom rnd = ThreadLocalRandom.current();
+			x += rnd.nextDouble(-1, 1);
+			z += rnd.nextDouble(-1, 1);
+			sendGame(String.format(Locale.US, "%%xt%%o%%ou%%-1%%2%%%f%%%f%%%f%%0%%0%%1%%0%%0%%0%%1%%4.0%%", x, y,
+					z));
+			movement.sent();
+		}
+
+		public void requestInventory() throws IOException {
+			String[] slots = setting("inventory-slots").split(",");
+			String slot = slots[ThreadLocalRandom.current().nextInt(slots.length)];
+			synchronized (inventoryLock) {
+				// Wait for the previous request unless it timed out
+				if (pendingInventorySlot != null
+						&& System.nanoTime() - pendingInventorySent < TimeUnit.SECONDS.toNanos(10))
+					return;
+				pendingInventorySlot = slot;
+				pendingInventorySent = System.nanoTime();
+			}
+			sendGame("%xt%o%ilt%-1%" + slot + "%");
+			inventory.sent();
+		}
+
+		public void harvest() throws IOException {
+			if (objects.isEmpty())
+				return;
+			String target = objects.get(ThreadLocalRandom.current().nextInt(objects.size()));
+			pendingHarvest.add(System.nanoTime());
+			sendGame("%xt%o%oas%-1%" + target + "%");
+			sendGame("%xt%o%oaf%-1%" + target + "%1%");
+			harvest.sent();
+		}
+
+		public void trade() throws IOException {
+			SimulatedPlayer other = players.get(ThreadLocalRandom.current().nextInt(players.size()));
+			if (other == this || !other.connected || other.room == null || !other.room.equals(room))
+				return;
+			pendingTrade.add(System.nanoTime());
+			sendGame("%xt%o%ti%-1%" + other.uuid + "%");
+			sendGame("%xt%o%tic%-1%");
+			trade.sent();
+		}
+
+		public void chat() {
+			if (chatOut == null || chatRoom == null)
+				return;
+			JsonObject pk = new JsonObject();
+			pk.addProperty("cmd", "chat.postMessage");
+			pk.addProperty("conversationId", chatRoom);
+			pk.addProperty("message", "load test message " + ThreadLocalRandom.current().nextInt(1000));
+			pendingChat.add(System.nanoTime());
+			sendChat(pk);
+			chatMessage.sent();
+		}
+
+		public void keepAlive() throws IOException {
+			sendGame("%xt%o%ka%-1%");
+			if (chatOut != null) {
+				JsonObject pk = new JsonObject();
+				pk.addProperty("cmd", "ping");
+				sendChat(pk);
+			}
+		}
+
+		// Connection
+
+		private void sendGame(String packet) throws IOException {
+			synchronized (gameOut) {
+				gameOut.write(packet.getBytes("UTF-8"));
+				gameOut.write(0);
+				gameOut.flush();
+			}
+		}
+
+		private void sendChat(JsonObject packet) {
+			try {
+				synchronized (chatOut) {
+					chatOut.write(packet.toString().getBytes("UTF-8"));
+					chatOut.flush();
+				}
+			} catch (IOException e) {
+				disconnect();
+			}
+		}
+
+		public void disconnect() {
+			if (!connected)
+				return;
+			connected = false;
+			disconnects.incrementAndGet();
+			try {
+				if (game != null)
+					game.close();
+				if (chat != null)
+					chat.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	private interface Condition {
+		public boolean check();
+	}
+
+	private interface Action {
+		public void run(SimulatedPlayer player) throws IOException;
+	}
+
+	private Map<String, String> settings = new LinkedHashMap<String, String>();
+	private CopyOnWriteArrayList<SimulatedPlayer> players = new CopyOnWriteArrayList<SimulatedPlayer>();
+	private ScheduledExecutorService scheduler;
+
+	private Recorder login = new Recorder("login");
+	private Recorder worldJoin = new Recorder("world join");
+	private Recorder movement = new Recorder("movement");
+	private Recorder inventory = new Recorder("inventory");
+	private Recorder harvest = new Recorder("harvest");
+	private Recorder trade = new Recorder("trade");
+	private Recorder chatMessage = new Recorder("chat");
+	private Recorder[] recorders = new Recorder[] { login, worldJoin, movement, inventory, harvest, trade,
+			chatMessage };
+
+	private AtomicInteger connectFailures = new AtomicInteger();
+	private AtomicInteger disconnects = new AtomicInteger();
+
+	public static void main(String[] args) throws InterruptedException {
+		LoadGenerator generator = new LoadGenerator();
+		for (String[] setting : DEFAULTS)
+			generator.settings.put(setting[0], setting[1]);
+		for (String arg : args) {
+			if (!arg.contains("=")) {
+				System.err.println("Invalid argument: " + arg + ", expected key=value");
+				System.exit(1);
+			}
+			generator.settings.put(arg.substring(0, arg.indexOf("=")), arg.substring(arg.indexOf("=") + 1));
+		}
+		generator.run();
+	}
+
+	private String setting(String key) {
+		return settings.get(key);
+	}
+
+	private void run() throws InterruptedException {
+		int count = Integer.parseInt(setting("players"));
+		long rampUp = Long.parseLong(setting("ramp-up")) * 1000;
+		long duration = Long.parseLong(setting("duration")) * 1000;
+		System.out.println("Load generator settings: " + settings);
+		scheduler = Executors.newScheduledThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), r -> {
+			Thread th = new Thread(r, "Load Generator Scheduler");
+			th.setDaemon(true);
+			return th;
+		});
+
+		// Connect players, spread over the ramp-up time
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < count; i++) {
+			SimulatedPlayer player = new SimulatedPlayer(i);
+			scheduler.schedule(() -> startThread(() -> {
+				try {
+					player.connect();
+					players.add(player);
+					schedule(player, "move-rate", SimulatedPlayer::move);
+					schedule(player, "inventory-rate", SimulatedPlayer::requestInventory);
+					schedule(player, "harvest-rate", SimulatedPlayer::harvest);
+					schedule(player, "trade-rate", SimulatedPlayer::trade);
+					schedule(player, "chat-rate", SimulatedPlayer::chat);
+					scheduleEvery(player, 10000, SimulatedPlayer::keepAlive);
+				} catch (Exception e) {
+					connectFailures.incrementAndGet();
+					System.err.println("Player " + player.index + " failed to connect: " + e);
+					player.disconnect();
+				}
+			}, "Player Connector " + player.index), count <= 1 ? 0 : rampUp * i / (count - 1), TimeUnit.MILLISECONDS);
+		}
+
+		// Report until the duration ends
+		long interval = Long.parseLong(setting("report-interval")) * 1000;
+		long end = start + rampUp + duration;
+		while (System.currentTimeMillis() < end) {
+			Thread.sleep(Math.min(interval, Math.max(1, end - System.currentTimeMillis())));
+			report(System.currentTimeMillis() - start);
+		}
+
+		// Disconnect
+		scheduler.shutdownNow();
+		for (SimulatedPlayer player : players)
+			player.disconnect();
+		System.out.println();
+		System.out.println("Final results:");
+		report(System.currentTimeMillis() - start);
+		System.exit(0);
+	}
+
+	// Schedules a action at a rate per minute with random jitter
+	private void schedule(SimulatedPlayer player, String rateKey, Action action) {
+		double perMinute = Double.parseDouble(setting(rateKey));
+		if (perMinute <= 0)
+			return;
+		long interval = (long) (60000d / perMinute);
+		scheduler.schedule(() -> repeat(player, interval, action),
+				ThreadLocalRandom.current().nextLong(Math.max(1, interval)), TimeUnit.MILLISECONDS);
+	}
+
+	private void scheduleEvery(SimulatedPlayer player, long interval, Action action) {
+		scheduler.scheduleAtFixedRate(() -> {
+			if (!player.connected)
+				throw new IllegalStateException("Disconnected"); // Cancels the task
+			try {
+				action.run(player);
+			} catch (IOException e) {
+				player.disconnect();
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	private void repeat(SimulatedPlayer player, long interval, Action action) {
+		if (!player.connected)
+			return;
+		try {
+			action.run(player);
+		} catch (IOException e) {
+			player.disconnect();
+			return;
+		}
+
+		// Next run with +-20% jitter so players do not synchronize
+		long next = (long) (interval * (0.8 + new Random().nextDouble() * 0.4));
+		scheduler.schedule(() -> repeat(player, interval, action), Math.max(1, next), TimeUnit.MILLISECONDS);
+	}
+
+	private void report(long elapsed) {
+		double seconds = elapsed / 1000d;
+		int online = 0;
+		for (SimulatedPlayer player : players) {
+			if (player.connected)
+				online++;
+		}
+		System.out.println(String.format(Locale.US, "[%.0fs] players online: %d, connect failures: %d, disconnects: %d",
+				seconds, online, connectFailures.get(), disconnects.get()));
+		System.out.println(String.format(Locale.US, "  %-10s %10s %10s %10s %9s %9s %9s %9s %9s", "action", "sent",
+				"answered", "per sec", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+		for (Recorder rec : recorders) {
+			long sent = Math.max(rec.sent.get(), rec.count.get());
+			System.out.println(String.format(Locale.US, "  %-10s %10d %10d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f",
+					rec.name, sent, rec.count.get(), sent / seconds, rec.percentile(50), rec.percentile(90),
+					rec.percentile(99), rec.percentile(99.9), rec.max.get() / 1000d));
+		}
+	}
+
+	// Utilities
+
+	private static void startThread(Runnable task, String name) {
+		Thread th = new Thread(null, task, name, 256 * 1024);
+		th.setDaemon(true);
+		th.start();
+	}
+
+	private static void waitFor(Condition condition, long timeout) throws IOException, InterruptedException {
+		long start = System.currentTimeMillis();
+		while (!condition.check()) {
+			if (System.currentTimeMillis() - start > timeout)
+				throw new IOException("Timed out");
+			Thread.sleep(10);
+		}
+	}
+
+	private static String readPacket(InputStream in) throws IOException {
+		ArrayList<Byte> buffer = new ArrayList<Byte>();
+		while (true) {
+			int b = in.read();
+			if (b == -1)
+				throw new IOException("Stream closed");
+			if (b == 0)
+				break;
+			buffer.add((byte) b);
+		}
+		byte[] data = new byte[buffer.size()];
+		for (int i = 0; i < data.length; i++)
+			data[i] = buffer.get(i);
+		String payload = new String(data, "UTF-8");
+
+		// Solve for the XT issue
+		if (payload.startsWith("%xt|n%"))
+			payload = "%xt%" + payload.substring("%xt|n%".length());
+
+		// Compression
+		if (payload.startsWith("$")) {
+			GZIPInputStream dc = new GZIPInputStream(
+					new ByteArrayInputStream(Base64.getDecoder().decode(payload.substring(1))));
+			payload = new String(dc.readAllBytes(), "UTF-8");
+			dc.close();
+		}
+		return payload;
+	}
+
+	private static String request(String url, String body, String token) throws IOException {
+		HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+		if (token != null)
+			conn.addRequestProperty("Authorization", "Bearer " + token);
+		if (body != null) {
+			conn.setDoOutput(true);
+			conn.getOutputStream().write(body.getBytes("UTF-8"));
+		}
+		try (InputStream strm = conn.getInputStream()) {
+			return new String(strm.readAllBytes(), "UTF-8");
+		}
+	}
+
+}